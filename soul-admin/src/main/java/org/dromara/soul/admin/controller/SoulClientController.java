@@ -101,4 +101,15 @@ public class SoulClientController {
     public String registerTarsRpc(@RequestBody final MetaDataDTO metaDataDTO) {
         return soulClientRegisterService.registerTars(metaDataDTO);
     }
+
+    /**
+     * Register grpc string.
+     *
+     * @param metaDataDTO the meta data dto
+     * @return the string
+     */
+    @PostMapping("/grpc-register")
+    public String registerGrpcRpc(@RequestBody final MetaDataDTO metaDataDTO) {
+        return soulClientRegisterService.registerGrpc(metaDataDTO);
+    }
 }
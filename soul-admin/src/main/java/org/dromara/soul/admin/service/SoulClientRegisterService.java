@@ -65,4 +65,12 @@ public interface SoulClientRegisterService {
      * @return the string
      */
     String registerTars(MetaDataDTO metaDataDTO);
+
+    /**
+     * Register grpc string.
+     *
+     * @param metaDataDTO the meta data dto
+     * @return the string
+     */
+    String registerGrpc(MetaDataDTO metaDataDTO);
 }
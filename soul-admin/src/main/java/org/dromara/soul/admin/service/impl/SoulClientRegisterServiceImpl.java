@@ -210,6 +210,25 @@ public class SoulClientRegisterServiceImpl implements SoulClientRegisterService
         return SoulResultMessage.SUCCESS;
     }
 
+    @Override
+    @Transactional
+    public String registerGrpc(final MetaDataDTO dto) {
+        MetaDataDO byPath = metaDataMapper.findByPath(dto.getPath());
+        if (Objects.nonNull(byPath)
+                && (!byPath.getMethodName().equals(dto.getMethodName())
+                || !byPath.getServiceName().equals(dto.getServiceName()))) {
+            return "you path already exist!";
+        }
+        final MetaDataDO exist = metaDataMapper.findByServiceNameAndMethod(dto.getServiceName(), dto.getMethodName());
+        saveOrUpdateMetaData(exist, dto);
+        String selectorId = getString(dto);
+        RuleDO existRule = ruleMapper.findByName(dto.getPath());
+        if (Objects.isNull(exist) || Objects.isNull(existRule)) {
+            registerRule(selectorId, dto.getPath(), dto.getRpcType(), dto.getRuleName());
+        }
+        return SoulResultMessage.SUCCESS;
+    }
+
     private String handlerTarsSelector(final MetaDataDTO metaDataDTO) {
         return getString(metaDataDTO);
     }
@@ -374,6 +393,9 @@ public class SoulClientRegisterServiceImpl implements SoulClientRegisterService
         } else if (RpcTypeEnum.TARS.getName().equals(rpcType)) {
             selectorDTO.setPluginId(getPluginId(PluginEnum.TARS.getName()));
             selectorDTO.setHandle(appName);
+        } else if (RpcTypeEnum.GRPC.getName().equals(rpcType)) {
+            selectorDTO.setPluginId(getPluginId(PluginEnum.GRPC.getName()));
+            selectorDTO.setHandle(appName);
         } else {
             //is divide
             DivideUpstream divideUpstream = buildDivideUpstream(uri);
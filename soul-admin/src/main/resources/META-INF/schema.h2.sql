@@ -120,7 +120,7 @@ CREATE TABLE  IF NOT EXISTS `meta_data` (
   `service_name` varchar(255) NULL DEFAULT NULL COMMENT 'service name',
   `method_name` varchar(255) NULL DEFAULT NULL COMMENT 'method name',
   `parameter_types` varchar(255) NULL DEFAULT NULL COMMENT 'parameter types are provided with multiple parameter types separated by commas',
-  `rpc_ext` varchar(512) NULL DEFAULT NULL COMMENT 'rpc extended information, json format',
+  `rpc_ext` mediumtext NULL COMMENT 'rpc extended information, json format',
   `date_created` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'create time',
   `date_updated` timestamp NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT 'update time',
   `enabled` tinyint(4) NOT NULL DEFAULT 0 COMMENT 'enabled state',
@@ -261,6 +261,8 @@ INSERT INTO `plugin` (`id`, `name`, `role`, `config`, `enabled`, `date_created`,
 INSERT INTO `plugin` (`id`, `name`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('12','resilience4j', '1','0', '2020-11-09 01:19:10', '2020-11-09 01:19:10');
 INSERT INTO `plugin` (`id`, `name`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('13', 'tars', '1','0', '2020-11-09 01:19:10', '2020-11-09 01:19:10');
 INSERT INTO `plugin` (`id`, `name`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('14', 'context_path', '1','0', '2020-11-09 01:19:10', '2020-11-09 01:19:10');
+INSERT INTO `plugin` (`id`, `name`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('15', 'cache', '1','0', '2021-01-20 10:00:00', '2021-01-20 10:00:00');
+INSERT INTO `plugin` (`id`, `name`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('16', 'grpc', '1','0', '2021-02-01 10:00:00', '2021-02-01 10:00:00');
 
 /**default admin user**/
 INSERT INTO `dashboard_user` (`id`, `user_name`, `password`, `role`, `enabled`, `date_created`, `date_updated`) VALUES ('1','admin','jHcpKkiDbbQh7W7hh8yQSA==', '1', '1', '2018-06-23 15:12:22', '2018-06-23 15:12:23');
@@ -327,6 +329,12 @@ INSERT INTO soul_dict (`id`, `type`, `dict_code`, `dict_name`, `dict_value`, `de
 /*insert plugin_handle data for context path*/
 INSERT INTO plugin_handle (`id`,`plugin_id`,`field`,`label`,`data_type`,`type`,`sort`,`date_created`,`date_updated`) VALUES ('29', '14', 'contextPath', 'contextPath', 2, 2, 0, '2020-12-25 16:13:09', '2020-12-25 16:13:09');
 
+/*insert plugin_handle data for cache*/
+INSERT INTO plugin_handle (`id`,`plugin_id`,`field`,`label`,`data_type`,`type`,`sort`,`date_created`,`date_updated`) VALUES ('42', '15', 'ttl', 'ttl (s)', 1, 2, 1, '2021-01-20 10:00:00', '2021-01-20 10:00:00');
+INSERT INTO plugin_handle (`id`,`plugin_id`,`field`,`label`,`data_type`,`type`,`sort`,`date_created`,`date_updated`) VALUES ('43', '15', 'varyHeaders', 'vary headers', 2, 2, 2, '2021-01-20 10:00:00', '2021-01-20 10:00:00');
+INSERT INTO plugin_handle (`id`,`plugin_id`,`field`,`label`,`data_type`,`type`,`sort`,`date_created`,`date_updated`) VALUES ('44', '15', 'varyQuery', 'whether vary by query (true or false)', 2, 2, 3, '2021-01-20 10:00:00', '2021-01-20 10:00:00');
+INSERT INTO plugin_handle (`id`,`plugin_id`,`field`,`label`,`data_type`,`type`,`sort`,`date_created`,`date_updated`) VALUES ('45', '15', 'maxEntrySize', 'max entry size (bytes)', 1, 2, 4, '2021-01-20 10:00:00', '2021-01-20 10:00:00');
+
 /** insert permission role for role */
 INSERT INTO `role` (`id`,`role_name`,`description`,`date_created`,`date_updated`) VALUES ('1346358560427216896', 'super', '超级管理员', '2021-01-05 01:31:10', '2021-01-08 17:00:07');
 
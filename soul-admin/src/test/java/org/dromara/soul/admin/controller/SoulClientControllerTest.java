@@ -164,4 +164,22 @@ public final class SoulClientControllerTest {
         final String result = soulClientController.registerTarsRpc(metaDataDTO);
         assertEquals("result", result);
     }
+
+    @Test
+    public void testRegisterGrpcRpc() {
+        final MetaDataDTO metaDataDTO = new MetaDataDTO();
+        metaDataDTO.setId("id");
+        metaDataDTO.setAppName("appName");
+        metaDataDTO.setContextPath("contextPath");
+        metaDataDTO.setPath("path");
+        metaDataDTO.setRuleName("ruleName");
+        metaDataDTO.setPathDesc("pathDesc");
+        metaDataDTO.setRpcType("rpcType");
+        metaDataDTO.setServiceName("serviceName");
+        metaDataDTO.setMethodName("methodName");
+        metaDataDTO.setParameterTypes("parameterTypes");
+        when(soulClientRegisterService.registerGrpc(any())).thenReturn("result");
+        final String result = soulClientController.registerGrpcRpc(metaDataDTO);
+        assertEquals("result", result);
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.client.grpc;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors;
+import io.grpc.BindableService;
+import io.grpc.protobuf.ProtoServiceDescriptorSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.client.common.utils.OkHttpTools;
+import org.dromara.soul.client.common.utils.RegisterUtils;
+import org.dromara.soul.client.grpc.common.annotation.SoulGrpcClient;
+import org.dromara.soul.client.grpc.common.config.GrpcConfig;
+import org.dromara.soul.client.grpc.common.dto.MetaDataDTO;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The grpc service bean post processor, the descriptor of the service is registered with the meta data.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public class GrpcServiceBeanPostProcessor implements BeanPostProcessor {
+
+    private final GrpcConfig grpcConfig;
+
+    private final ExecutorService executorService;
+
+    private final String url;
+
+    /**
+     * Instantiates a new Grpc service bean post processor.
+     *
+     * @param grpcConfig the grpc config
+     */
+    public GrpcServiceBeanPostProcessor(final GrpcConfig grpcConfig) {
+        if (StringUtils.isAnyBlank(grpcConfig.getContextPath(), grpcConfig.getAdminUrl(), grpcConfig.getIpAndPort())) {
+            throw new RuntimeException("grpc client must config the contextPath, adminUrl and ipAndPort");
+        }
+        this.grpcConfig = grpcConfig;
+        url = grpcConfig.getAdminUrl() + "/soul-client/grpc-register";
+        executorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) throws BeansException {
+        if (bean instanceof BindableService) {
+            executorService.execute(() -> handler((BindableService) bean));
+        }
+        return bean;
+    }
+
+    private void handler(final BindableService serviceBean) {
+        Class<?> clazz = ClassUtils.getUserClass(serviceBean);
+        Object schemaDescriptor = serviceBean.bindService().getServiceDescriptor().getSchemaDescriptor();
+        if (!(schemaDescriptor instanceof ProtoServiceDescriptorSupplier)) {
+            log.warn("the grpc service {} is not generated from proto file, it can not be registered", clazz.getName());
+            return;
+        }
+        Descriptors.ServiceDescriptor service = ((ProtoServiceDescriptorSupplier) schemaDescriptor).getServiceDescriptor();
+        String descriptor = buildDescriptor(service.getFile());
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(clazz)) {
+            SoulGrpcClient soulGrpcClient = method.getAnnotation(SoulGrpcClient.class);
+            if (Objects.isNull(soulGrpcClient)) {
+                continue;
+            }
+            Descriptors.MethodDescriptor grpcMethod = findMethod(service, method.getName());
+            if (Objects.isNull(grpcMethod)) {
+                log.error("can not find the grpc method of {} in service {}", method.getName(), service.getFullName());
+            } else if (grpcMethod.isClientStreaming()) {
+                log.error("the client streaming grpc method {} is not supported", grpcMethod.getFullName());
+            } else {
+                RegisterUtils.doRegister(buildJsonParams(service, grpcMethod, soulGrpcClient, descriptor), url, RpcTypeEnum.GRPC);
+            }
+        }
+    }
+
+    private String buildJsonParams(final Descriptors.ServiceDescriptor service, final Descriptors.MethodDescriptor grpcMethod,
+                                   final SoulGrpcClient soulGrpcClient, final String descriptor) {
+        String path = grpcConfig.getContextPath() + soulGrpcClient.path();
+        String configRuleName = soulGrpcClient.ruleName();
+        String ruleName = ("".equals(configRuleName)) ? path : configRuleName;
+        MetaDataDTO.RpcExt rpcExt = MetaDataDTO.RpcExt.builder()
+                .descriptor(descriptor)
+                .timeout(soulGrpcClient.timeout())
+                .build();
+        MetaDataDTO metaDataDTO = MetaDataDTO.builder()
+                .appName(grpcConfig.getIpAndPort())
+                .serviceName(service.getFullName())
+                .methodName(grpcMethod.getName())
+                .contextPath(grpcConfig.getContextPath())
+                .path(path)
+                .ruleName(ruleName)
+                .pathDesc(soulGrpcClient.desc())
+                .parameterTypes(grpcMethod.getInputType().getFullName())
+                .rpcType(RpcTypeEnum.GRPC.getName())
+                .rpcExt(OkHttpTools.getInstance().getGson().toJson(rpcExt))
+                .enabled(soulGrpcClient.enabled())
+                .build();
+        return OkHttpTools.getInstance().getGson().toJson(metaDataDTO);
+    }
+
+    /**
+     * Find the grpc method of the java method, the java method is named in lower camel case of the grpc method.
+     *
+     * @param service    the service descriptor
+     * @param methodName the java method name
+     * @return the method descriptor, null if absent
+     */
+    static Descriptors.MethodDescriptor findMethod(final Descriptors.ServiceDescriptor service, final String methodName) {
+        return service.getMethods().stream()
+                .filter(method -> StringUtils.remove(method.getName(), '_').equalsIgnoreCase(methodName))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Build the base64 encoded file descriptor set of the proto file, the dependencies are put before the file.
+     *
+     * @param file the proto file
+     * @return the descriptor
+     */
+    static String buildDescriptor(final Descriptors.FileDescriptor file) {
+        Map<String, FileDescriptorProto> protos = new LinkedHashMap<>();
+        collect(file, protos);
+        return Base64.getEncoder().encodeToString(FileDescriptorSet.newBuilder().addAllFile(protos.values()).build().toByteArray());
+    }
+
+    private static void collect(final Descriptors.FileDescriptor file, final Map<String, FileDescriptorProto> protos) {
+        if (protos.containsKey(file.getName())) {
+            return;
+        }
+        file.getDependencies().forEach(dependency -> collect(dependency, protos));
+        protos.put(file.getName(), file.toProto());
+    }
+}
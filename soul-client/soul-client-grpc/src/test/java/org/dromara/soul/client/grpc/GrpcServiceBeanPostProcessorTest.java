@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.client.grpc;
+
+import com.google.protobuf.AnyProto;
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.StructProto;
+import com.google.protobuf.TimestampProto;
+import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.protobuf.ProtoServiceDescriptorSupplier;
+import io.grpc.protobuf.ProtoUtils;
+import io.grpc.stub.ServerCalls;
+import io.grpc.stub.StreamObserver;
+import org.dromara.soul.client.grpc.common.annotation.SoulGrpcClient;
+import org.dromara.soul.client.grpc.common.config.GrpcConfig;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link GrpcServiceBeanPostProcessor}.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcServiceBeanPostProcessorTest {
+
+    private static GrpcServiceBeanPostProcessor grpcServiceBeanPostProcessor;
+
+    private static Descriptors.FileDescriptor commonFile;
+
+    private static Descriptors.FileDescriptor helloFile;
+
+    @BeforeClass
+    public static void init() throws Descriptors.DescriptorValidationException {
+        GrpcConfig grpcConfig = new GrpcConfig();
+        grpcConfig.setAdminUrl("http://localhost:58080");
+        grpcConfig.setAppName("grpc");
+        grpcConfig.setContextPath("/grpc");
+        grpcConfig.setIpAndPort("localhost:58090");
+        grpcServiceBeanPostProcessor = new GrpcServiceBeanPostProcessor(grpcConfig);
+        commonFile = Descriptors.FileDescriptor.buildFrom(FileDescriptorProto.newBuilder()
+                .setName("common.proto")
+                .setPackage("soul.test")
+                .addMessageType(DescriptorProto.newBuilder().setName("Empty"))
+                .build(), new Descriptors.FileDescriptor[0]);
+        helloFile = Descriptors.FileDescriptor.buildFrom(FileDescriptorProto.newBuilder()
+                .setName("hello.proto")
+                .setPackage("soul.test")
+                .addDependency("common.proto")
+                .addService(ServiceDescriptorProto.newBuilder().setName("HelloService")
+                        .addMethod(MethodDescriptorProto.newBuilder().setName("SayHello")
+                                .setInputType(".soul.test.Empty").setOutputType(".soul.test.Empty")))
+                .build(), new Descriptors.FileDescriptor[]{commonFile});
+    }
+
+    @Test
+    public void testPostProcessAfterInitialization() {
+        grpcServiceBeanPostProcessor.postProcessAfterInitialization(new HelloService(), "helloService");
+    }
+
+    @Test
+    public void testPostProcessNormalBean() {
+        grpcServiceBeanPostProcessor.postProcessAfterInitialization(new Object(), "normalBean");
+    }
+
+    @Test
+    public void testFindMethod() {
+        Descriptors.ServiceDescriptor service = helloFile.findServiceByName("HelloService");
+        assertEquals("SayHello", GrpcServiceBeanPostProcessor.findMethod(service, "sayHello").getName());
+        assertNull(GrpcServiceBeanPostProcessor.findMethod(service, "sayBye"));
+    }
+
+    @Test
+    public void testBuildDescriptor() throws Exception {
+        FileDescriptorSet fileDescriptorSet = FileDescriptorSet.parseFrom(Base64.getDecoder().decode(GrpcServiceBeanPostProcessor.buildDescriptor(helloFile)));
+        assertEquals("common.proto,hello.proto", fileDescriptorSet.getFileList().stream().map(FileDescriptorProto::getName).collect(Collectors.joining(",")));
+    }
+
+    @Test
+    public void testBuildDescriptorWithWellKnownTypes() throws Exception {
+        Descriptors.FileDescriptor orderFile = Descriptors.FileDescriptor.buildFrom(FileDescriptorProto.newBuilder()
+                .setName("order.proto")
+                .setPackage("soul.test")
+                .addDependency("google/protobuf/timestamp.proto")
+                .addDependency("google/protobuf/struct.proto")
+                .addDependency("google/protobuf/any.proto")
+                .addMessageType(DescriptorProto.newBuilder().setName("Order")
+                        .addField(field("id", 1, FieldDescriptorProto.Type.TYPE_STRING, null))
+                        .addField(field("created", 2, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Timestamp"))
+                        .addField(field("attributes", 3, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Struct"))
+                        .addField(field("detail", 4, FieldDescriptorProto.Type.TYPE_MESSAGE, ".google.protobuf.Any")))
+                .addService(ServiceDescriptorProto.newBuilder().setName("OrderService")
+                        .addMethod(MethodDescriptorProto.newBuilder().setName("GetOrder")
+                                .setInputType(".soul.test.Order").setOutputType(".soul.test.Order")))
+                .build(), new Descriptors.FileDescriptor[]{TimestampProto.getDescriptor(), StructProto.getDescriptor(), AnyProto.getDescriptor()});
+        String descriptor = GrpcServiceBeanPostProcessor.buildDescriptor(orderFile);
+        FileDescriptorSet fileDescriptorSet = FileDescriptorSet.parseFrom(Base64.getDecoder().decode(descriptor));
+        assertEquals("google/protobuf/timestamp.proto,google/protobuf/struct.proto,google/protobuf/any.proto,order.proto",
+                fileDescriptorSet.getFileList().stream().map(FileDescriptorProto::getName).collect(Collectors.joining(",")));
+        // the rpc_ext used to be varchar(512), the descriptor of a realistic proto is far larger
+        assertTrue(descriptor.length() > 512);
+    }
+
+    private static FieldDescriptorProto.Builder field(final String name, final int number, final FieldDescriptorProto.Type type, final String typeName) {
+        FieldDescriptorProto.Builder field = FieldDescriptorProto.newBuilder().setName(name).setNumber(number)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL).setType(type);
+        return typeName == null ? field : field.setTypeName(typeName);
+    }
+
+    static final class HelloService implements BindableService {
+
+        @SoulGrpcClient(path = "/sayHello", desc = "say hello")
+        public void sayHello(final DynamicMessage request, final StreamObserver<DynamicMessage> responseObserver) {
+            responseObserver.onNext(request);
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public ServerServiceDefinition bindService() {
+            Descriptors.ServiceDescriptor service = helloFile.findServiceByName("HelloService");
+            Descriptors.MethodDescriptor method = service.findMethodByName("SayHello");
+            MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                    .setType(MethodDescriptor.MethodType.UNARY)
+                    .setFullMethodName(MethodDescriptor.generateFullMethodName(service.getFullName(), method.getName()))
+                    .setRequestMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getInputType())))
+                    .setResponseMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getOutputType())))
+                    .build();
+            ServiceDescriptor serviceDescriptor = ServiceDescriptor.newBuilder(service.getFullName())
+                    .setSchemaDescriptor(new ProtoServiceDescriptorSupplier() {
+                        @Override
+                        public Descriptors.FileDescriptor getFileDescriptor() {
+                            return helloFile;
+                        }
+
+                        @Override
+                        public Descriptors.ServiceDescriptor getServiceDescriptor() {
+                            return service;
+                        }
+                    })
+                    .addMethod(methodDescriptor)
+                    .build();
+            return ServerServiceDefinition.builder(serviceDescriptor)
+                    .addMethod(methodDescriptor, ServerCalls.asyncUnaryCall(this::sayHello))
+                    .build();
+        }
+    }
+}
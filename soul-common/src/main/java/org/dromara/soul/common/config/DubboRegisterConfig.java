@@ -36,4 +36,14 @@ public class DubboRegisterConfig implements Serializable {
     private String group;
 
     private String protocol;
+
+    /**
+     * whether the services are invoked asynchronously, so that a slow provider does not block the worker threads.
+     */
+    private Boolean async;
+
+    /**
+     * the max in-flight asynchronous invocations of one service, no limit if it is not positive.
+     */
+    private Integer maxInflight;
 }
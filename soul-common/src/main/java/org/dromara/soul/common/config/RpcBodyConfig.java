@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.config;
+
+import lombok.Data;
+
+import java.io.Serializable;
+
+/**
+ * The config of reading the rpc request body by the body param plugins of dubbo, sofa and tars.
+ *
+ * @author xiaoyu
+ */
+@Data
+public class RpcBodyConfig implements Serializable {
+
+    /**
+     * whether the body is streamed from the pooled buffers with a size limit, the json body of dubbo is bound to the arguments directly.
+     */
+    private boolean streaming;
+
+    /**
+     * the max size of body in bytes, it is checked in the streaming mode.
+     */
+    private long maxSize = 10 * 1024 * 1024;
+}
@@ -79,6 +79,11 @@ public interface Constants {
      */
     String TARS_RPC_RESULT_EMPTY = "tars has not return value!";
 
+    /**
+     * The constant GRPC_RPC_RESULT, the json string of the grpc response.
+     */
+    String GRPC_RPC_RESULT = "grpc_rpc_result";
+
     /**
      * The constant CLIENT_RESPONSE_RESULT_TYPE.
      */
@@ -99,6 +104,16 @@ public interface Constants {
      */
     String HTTP_RETRY = "httpRetry";
 
+    /**
+     * The constant HTTP_TIMEOUTS, the {@link org.dromara.soul.common.dto.convert.HttpTimeouts} of the rule.
+     */
+    String HTTP_TIMEOUTS = "httpTimeouts";
+
+    /**
+     * The constant ACCESS_LOG, the selector and rule of the request which is access logged.
+     */
+    String ACCESS_LOG = "accessLog";
+
     /**
      * Original response Content-Type attribute name.
      */
@@ -109,11 +124,26 @@ public interface Constants {
      */
     String HTTP_URL = "httpUrl";
 
+    /**
+     * The constant HTTP_TARGET.
+     */
+    String HTTP_TARGET = "httpTarget";
+
+    /**
+     * The constant HTTP_TARGET_RESELECTOR.
+     */
+    String HTTP_TARGET_RESELECTOR = "httpTargetReselector";
+
     /**
      * The constant DUBBO_PARAMS.
      */
     String DUBBO_PARAMS = "dubbo_params";
 
+    /**
+     * The constant DUBBO_BOUND_PARAMS, the parameter types and arguments bound from the streamed json body.
+     */
+    String DUBBO_BOUND_PARAMS = "dubbo_bound_params";
+
     /**
      * The constant SOFA_PARAMS.
      */
@@ -124,6 +154,11 @@ public interface Constants {
      */
     String TARS_PARAMS = "tars_params";
 
+    /**
+     * The constant GRPC_PARAMS.
+     */
+    String GRPC_PARAMS = "grpc_params";
+
     /**
      * The constant DECODE.
      */
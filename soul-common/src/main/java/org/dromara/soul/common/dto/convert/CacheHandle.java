@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.common.dto.convert;
+
+import lombok.Data;
+
+/**
+ * this is response cache plugin handle.
+ *
+ * @author xiaoyu
+ */
+@Data
+public class CacheHandle {
+
+    /**
+     * the time to live of the cached response, in seconds.
+     */
+    private long ttl = 60;
+
+    /**
+     * the request headers the cached response varies by, separated by comma.
+     */
+    private String varyHeaders;
+
+    /**
+     * whether the cached response varies by the query string.
+     */
+    private boolean varyQuery = true;
+
+    /**
+     * the max body size of one cached response, in bytes, the larger responses are not cached.
+     */
+    private int maxEntrySize = 256 * 1024;
+}
@@ -70,4 +70,37 @@ public class DivideUpstream implements Serializable {
      */
     private int warmup;
 
+    /**
+     * the availability zone, optional.
+     */
+    private String zone;
+
+    /**
+     * the region, optional.
+     */
+    private String region;
+
+    /**
+     * the startup timestamp which the upstream has finished warming up for, the weight is stable if it equals to timestamp.
+     */
+    @ToString.Exclude
+    private transient volatile long warmedUpTimestamp;
+
+    /**
+     * the normalized uri, it is computed when the upstream is cached and never serialized.
+     */
+    @ToString.Exclude
+    private transient UpstreamUri upstreamUri;
+
+    /**
+     * Gets the normalized uri, parse it if the upstream is not cached.
+     *
+     * @return the upstream uri
+     */
+    public UpstreamUri getUpstreamUri() {
+        if (upstreamUri == null) {
+            upstreamUri = UpstreamUri.of(protocol, upstreamUrl);
+        }
+        return upstreamUri;
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.dto.convert;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The structured http target of one request, it is put into the exchange attributes by the divide plugin.
+ *
+ * @author xiaoyu
+ */
+public final class HttpTarget {
+
+    private static final String PATH_CHARS = "-._~!$&'()*+,;=:@/";
+
+    private static final String QUERY_CHARS = PATH_CHARS + "?";
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    private final UpstreamUri upstreamUri;
+
+    private final String path;
+
+    private final String rawQuery;
+
+    private String uri;
+
+    /**
+     * Instantiates a new Http target.
+     *
+     * @param upstreamUri the upstream uri
+     * @param path        the request path, without the base path of upstream
+     * @param rawQuery    the raw query, maybe null
+     */
+    public HttpTarget(final UpstreamUri upstreamUri, final String path, final String rawQuery) {
+        this.upstreamUri = upstreamUri;
+        this.path = StringUtils.defaultString(path);
+        this.rawQuery = rawQuery;
+    }
+
+    /**
+     * Route the same request to another upstream.
+     *
+     * @param other the upstream uri of another upstream
+     * @return the http target
+     */
+    public HttpTarget withUpstreamUri(final UpstreamUri other) {
+        return new HttpTarget(other, path, rawQuery);
+    }
+
+    /**
+     * Gets upstream uri.
+     *
+     * @return the upstream uri
+     */
+    public UpstreamUri getUpstreamUri() {
+        return upstreamUri;
+    }
+
+    /**
+     * Gets scheme.
+     *
+     * @return the scheme
+     */
+    public String getScheme() {
+        return upstreamUri.getScheme();
+    }
+
+    /**
+     * Whether the upstream speaks http/2.
+     *
+     * @return the boolean
+     */
+    public boolean isHttp2() {
+        return upstreamUri.isHttp2();
+    }
+
+    /**
+     * Gets host.
+     *
+     * @return the host
+     */
+    public String getHost() {
+        return upstreamUri.getHost();
+    }
+
+    /**
+     * Gets port.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return upstreamUri.getPort();
+    }
+
+    /**
+     * Gets the full path, include the base path of upstream.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        return upstreamUri.getBasePath().isEmpty() ? path : upstreamUri.getBasePath() + path;
+    }
+
+    /**
+     * Gets raw query.
+     *
+     * @return the raw query
+     */
+    public String getRawQuery() {
+        return rawQuery;
+    }
+
+    /**
+     * Build the uri string once, with an exactly sized buffer.
+     *
+     * @return the uri string
+     */
+    public String toUriString() {
+        if (uri == null) {
+            String baseUri = upstreamUri.getBaseUri();
+            boolean hasQuery = StringUtils.isNotEmpty(rawQuery);
+            int length = baseUri.length() + path.length() + (hasQuery ? rawQuery.length() + 1 : 0);
+            StringBuilder builder = new StringBuilder(length).append(baseUri).append(path);
+            if (hasQuery) {
+                builder.append('?').append(rawQuery);
+            }
+            uri = builder.toString();
+        }
+        return uri;
+    }
+
+    /**
+     * To uri, the characters which are illegal in the path and query are escaped,
+     * and the escaped octets such as {@code %2F} are kept as they are, so they are never encoded twice.
+     *
+     * @return the uri
+     */
+    public URI toUri() {
+        String escapedPath = escape(path, PATH_CHARS);
+        return URI.create(StringUtils.isEmpty(rawQuery) ? upstreamUri.getBaseUri() + escapedPath : upstreamUri.getBaseUri() + escapedPath + "?" + escape(rawQuery, QUERY_CHARS));
+    }
+
+    @Override
+    public String toString() {
+        return toUriString();
+    }
+
+    private static String escape(final String value, final String allowed) {
+        int index = 0;
+        while (index < value.length() && isAllowed(value, index, allowed)) {
+            index++;
+        }
+        if (index == value.length()) {
+            return value;
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 16).append(value, 0, index);
+        while (index < value.length()) {
+            if (isAllowed(value, index, allowed)) {
+                builder.append(value.charAt(index++));
+                continue;
+            }
+            int codePoint = value.codePointAt(index);
+            for (byte b : new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8)) {
+                builder.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+            }
+            index += Character.charCount(codePoint);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isAllowed(final String value, final int index, final String allowed) {
+        char c = value.charAt(index);
+        if (c == '%') {
+            return index + 2 < value.length() && Character.digit(value.charAt(index + 1), 16) >= 0 && Character.digit(value.charAt(index + 2), 16) >= 0;
+        }
+        return c < 0x80 && (Character.isLetterOrDigit(c) || allowed.indexOf(c) >= 0);
+    }
+}
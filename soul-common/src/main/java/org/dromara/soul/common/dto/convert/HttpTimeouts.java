@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.common.dto.convert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The timeouts of the http request to upstream, built once for a rule.
+ *
+ * @author xiaoyu
+ */
+public final class HttpTimeouts {
+
+    private static final Map<Long, HttpTimeouts> RESPONSE_TIMEOUTS = new ConcurrentHashMap<>();
+
+    private final Duration responseTimeout;
+
+    private final long readIdleTimeout;
+
+    private final long writeIdleTimeout;
+
+    private HttpTimeouts(final long responseTimeout, final long readIdleTimeout, final long writeIdleTimeout) {
+        this.responseTimeout = Duration.ofMillis(responseTimeout);
+        this.readIdleTimeout = Math.max(0, readIdleTimeout);
+        this.writeIdleTimeout = Math.max(0, writeIdleTimeout);
+    }
+
+    /**
+     * Build the timeouts.
+     *
+     * @param responseTimeout  the max time to wait for the response, in millis
+     * @param readIdleTimeout  the max time without reading from the connection, in millis, 0 means no limit
+     * @param writeIdleTimeout the max time of a write to the connection, in millis, 0 means no limit
+     * @return the http timeouts
+     */
+    public static HttpTimeouts of(final long responseTimeout, final long readIdleTimeout, final long writeIdleTimeout) {
+        return new HttpTimeouts(responseTimeout, readIdleTimeout, writeIdleTimeout);
+    }
+
+    /**
+     * The shared timeouts with only the response timeout.
+     *
+     * @param responseTimeout the max time to wait for the response, in millis
+     * @return the http timeouts
+     */
+    public static HttpTimeouts ofResponseTimeout(final long responseTimeout) {
+        HttpTimeouts timeouts = RESPONSE_TIMEOUTS.get(responseTimeout);
+        return Objects.nonNull(timeouts) ? timeouts : RESPONSE_TIMEOUTS.computeIfAbsent(responseTimeout, millis -> of(millis, 0, 0));
+    }
+
+    /**
+     * Gets response timeout.
+     *
+     * @return the response timeout
+     */
+    public Duration getResponseTimeout() {
+        return responseTimeout;
+    }
+
+    /**
+     * Gets read idle timeout in millis, 0 means no limit.
+     *
+     * @return the read idle timeout
+     */
+    public long getReadIdleTimeout() {
+        return readIdleTimeout;
+    }
+
+    /**
+     * Gets write idle timeout in millis, 0 means no limit.
+     *
+     * @return the write idle timeout
+     */
+    public long getWriteIdleTimeout() {
+        return writeIdleTimeout;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.dto.convert;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.io.Serializable;
+
+/**
+ * The normalized base uri of an upstream, parsed once when the upstream is cached.
+ *
+ * @author xiaoyu
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+public final class UpstreamUri implements Serializable {
+
+    private static final String DEFAULT_SCHEME = "http";
+
+    private static final String SCHEME_SEPARATOR = "://";
+
+    private static final String H2 = "h2";
+
+    private static final String H2C = "h2c";
+
+    private static final int HTTP_PORT = 80;
+
+    private static final int HTTPS_PORT = 443;
+
+    /**
+     * scheme, such as http or https.
+     */
+    private final String scheme;
+
+    /**
+     * whether the upstream speaks http/2, over tls (h2) or cleartext with prior knowledge (h2c).
+     */
+    private final boolean http2;
+
+    /**
+     * host.
+     */
+    private final String host;
+
+    /**
+     * port, the default port of the scheme if not present.
+     */
+    private final int port;
+
+    /**
+     * the path prefix of the upstream url, empty if not present.
+     */
+    private final String basePath;
+
+    /**
+     * scheme://authority/basePath.
+     */
+    private final String baseUri;
+
+    private UpstreamUri(final String scheme, final boolean http2, final String host, final int port, final String basePath, final String baseUri) {
+        this.scheme = scheme;
+        this.http2 = http2;
+        this.host = host;
+        this.port = port;
+        this.basePath = basePath;
+        this.baseUri = baseUri;
+    }
+
+    /**
+     * Parse the protocol and upstream url of {@link DivideUpstream}.
+     *
+     * @param protocol    the protocol, such as http:// , h2:// or h2c:// for http/2, blank means http
+     * @param upstreamUrl the upstream url, such as localhost:8080
+     * @return the upstream uri
+     */
+    public static UpstreamUri of(final String protocol, final String upstreamUrl) {
+        String scheme = StringUtils.isBlank(protocol) ? DEFAULT_SCHEME : StringUtils.removeEnd(protocol.trim(), SCHEME_SEPARATOR);
+        boolean http2 = H2.equalsIgnoreCase(scheme) || H2C.equalsIgnoreCase(scheme);
+        if (http2) {
+            scheme = H2.equalsIgnoreCase(scheme) ? "https" : DEFAULT_SCHEME;
+        }
+        String address = StringUtils.trimToEmpty(upstreamUrl);
+        int slash = address.indexOf('/');
+        String authority = slash < 0 ? address : address.substring(0, slash);
+        String basePath = slash < 0 ? "" : StringUtils.removeEnd(address.substring(slash), "/");
+        String host = authority;
+        int port = defaultPort(scheme);
+        int colon = authority.lastIndexOf(':');
+        if (colon > authority.lastIndexOf(']')) {
+            host = authority.substring(0, colon);
+            port = NumberUtils.toInt(authority.substring(colon + 1), port);
+        }
+        return new UpstreamUri(scheme, http2, host, port, basePath, scheme + SCHEME_SEPARATOR + authority + basePath);
+    }
+
+    /**
+     * Is https.
+     *
+     * @return true if the scheme is https or wss
+     */
+    public boolean isSecure() {
+        return "https".equalsIgnoreCase(scheme) || "wss".equalsIgnoreCase(scheme);
+    }
+
+    private static int defaultPort(final String scheme) {
+        return "https".equalsIgnoreCase(scheme) || "wss".equalsIgnoreCase(scheme) ? HTTPS_PORT : HTTP_PORT;
+    }
+}
@@ -21,6 +21,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.constant.RuleHandleConstants;
+import org.dromara.soul.common.dto.convert.HttpTimeouts;
 import org.dromara.soul.common.dto.convert.rule.RuleHandle;
 
 /**
@@ -48,10 +49,57 @@ public class DivideRuleHandle implements RuleHandle {
      */
     private long timeout = Constants.TIME_OUT;
 
+    /**
+     * the max time without reading from the upstream connection, in millis, 0 means no limit.
+     */
+    private long readIdleTimeout;
+
+    /**
+     * the max time of a write to the upstream connection, in millis, 0 means no limit.
+     */
+    private long writeIdleTimeout;
+
+    /**
+     * whether the concurrent identical GET and HEAD requests share one upstream exchange.
+     */
+    private boolean singleFlight;
+
+    /**
+     * the request headers telling identical requests apart in single flight, separated by comma.
+     */
+    private String singleFlightHeaders;
+
+    /**
+     * the max count of requests waiting for one upstream exchange.
+     */
+    private int singleFlightMaxWaiters = 256;
+
+    /**
+     * the max body size of a shared response in bytes, the waiters of a larger response go to upstream by themselves.
+     */
+    private int singleFlightMaxBodySize = 1024 * 1024;
+
+    /**
+     * the timeouts built from this handle, it is not serialized.
+     */
+    private transient HttpTimeouts httpTimeouts;
+
     @Override
     public RuleHandle createDefault(final String path) {
         this.loadBalance = RuleHandleConstants.DEFAULT_LOAD_BALANCE.getName();
         this.retry = RuleHandleConstants.DEFAULT_RETRY;
         return this;
     }
+
+    /**
+     * Gets the http timeouts, they are built once for this handle.
+     *
+     * @return the http timeouts
+     */
+    public HttpTimeouts getHttpTimeouts() {
+        if (httpTimeouts == null) {
+            httpTimeouts = HttpTimeouts.of(timeout, readIdleTimeout, writeIdleTimeout);
+        }
+        return httpTimeouts;
+    }
 }
@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.constant.RuleHandleConstants;
 import org.dromara.soul.common.dto.convert.rule.RuleHandle;
 
 /**
@@ -45,6 +46,12 @@ public class SpringCloudRuleHandle implements RuleHandle {
      */
     private long timeout = Constants.TIME_OUT;
 
+    /**
+     * the load balance of the cached service instances.
+     * {@linkplain org.dromara.soul.common.enums.LoadBalanceEnum}
+     */
+    private String loadBalance = RuleHandleConstants.DEFAULT_LOAD_BALANCE.getName();
+
     @Override
     public RuleHandle createDefault(final String path) {
         this.path = path;
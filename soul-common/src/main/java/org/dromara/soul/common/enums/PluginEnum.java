@@ -81,6 +81,11 @@ public enum PluginEnum {
      */
     RESILIENCE4J(45, 0, "resilience4j"),
 
+    /**
+     * Response cache plugin enum.
+     */
+    CACHE(48, 0, "cache"),
+
     /**
      * Divide plugin enum.
      */
@@ -111,6 +116,11 @@ public enum PluginEnum {
      */
     TARS(60, 0, "tars"),
 
+    /**
+     * Grpc plugin enum.
+     */
+    GRPC(60, 0, "grpc"),
+
     /**
      * Monitor plugin enum.
      */
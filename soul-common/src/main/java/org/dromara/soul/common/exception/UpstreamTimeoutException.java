@@ -0,0 +1,37 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.common.exception;
+
+/**
+ * The upstream did not respond in time. There is only one stackless instance shared by all the timeouts,
+ * and it never records the suppressed exceptions, so it costs nothing to raise.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamTimeoutException extends RuntimeException {
+
+    /**
+     * The shared instance.
+     */
+    public static final UpstreamTimeoutException INSTANCE = new UpstreamTimeoutException();
+
+    private static final long serialVersionUID = -4313562389264158471L;
+
+    private UpstreamTimeoutException() {
+        super("Response took longer than timeout", null, false, false);
+    }
+}
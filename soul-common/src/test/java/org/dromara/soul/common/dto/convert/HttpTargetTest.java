@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.dto.convert;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test case for {@link HttpTarget}.
+ *
+ * @author xiaoyu
+ */
+public final class HttpTargetTest {
+
+    @Test
+    public void testToUriString() {
+        HttpTarget target = new HttpTarget(UpstreamUri.of(null, "localhost:8080/ctx"), "/order/findById", "id=1&name=a%20b");
+        assertEquals("http", target.getScheme());
+        assertEquals("localhost", target.getHost());
+        assertEquals(8080, target.getPort());
+        assertEquals("/ctx/order/findById", target.getPath());
+        assertEquals("id=1&name=a%20b", target.getRawQuery());
+        assertEquals("http://localhost:8080/ctx/order/findById?id=1&name=a%20b", target.toUriString());
+        assertSame(target.toUriString(), target.toUriString());
+    }
+
+    @Test
+    public void testWithoutQuery() {
+        HttpTarget target = new HttpTarget(UpstreamUri.of("http://", "localhost:8080"), null, null);
+        assertEquals("http://localhost:8080", target.toUriString());
+    }
+
+    @Test
+    public void testToUri() {
+        HttpTarget target = new HttpTarget(UpstreamUri.of("http://", "localhost:8080"), "/a b", "name=a%20b");
+        assertEquals("http://localhost:8080/a%20b?name=a%20b", target.toUri().toASCIIString());
+    }
+
+    @Test
+    public void testToUriWithEncodedPath() {
+        HttpTarget target = new HttpTarget(UpstreamUri.of("http://", "localhost:8080/ctx"), "/files/a%2Fb/100%", "name=a%20b&q=x y");
+        assertEquals("http://localhost:8080/ctx/files/a%2Fb/100%25?name=a%20b&q=x%20y", target.toUri().toASCIIString());
+        assertEquals("/ctx/files/a%2Fb/100%25", target.toUri().getRawPath());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.dto.convert;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test case for {@link HttpTimeouts}.
+ *
+ * @author xiaoyu
+ */
+public final class HttpTimeoutsTest {
+
+    @Test
+    public void testOf() {
+        HttpTimeouts timeouts = HttpTimeouts.of(3000, 1000, -1);
+        assertEquals(Duration.ofMillis(3000), timeouts.getResponseTimeout());
+        assertEquals(1000, timeouts.getReadIdleTimeout());
+        assertEquals(0, timeouts.getWriteIdleTimeout());
+        assertNotSame(timeouts, HttpTimeouts.of(3000, 1000, -1));
+    }
+
+    @Test
+    public void testOfResponseTimeoutIsShared() {
+        HttpTimeouts timeouts = HttpTimeouts.ofResponseTimeout(5000);
+        assertSame(timeouts, HttpTimeouts.ofResponseTimeout(5000));
+        assertSame(timeouts.getResponseTimeout(), HttpTimeouts.ofResponseTimeout(5000).getResponseTimeout());
+        assertEquals(0, timeouts.getReadIdleTimeout());
+        assertEquals(0, timeouts.getWriteIdleTimeout());
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.common.dto.convert;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link UpstreamUri}.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamUriTest {
+
+    @Test
+    public void testDefaultProtocol() {
+        UpstreamUri upstreamUri = UpstreamUri.of(null, " localhost:8080 ");
+        assertEquals("http", upstreamUri.getScheme());
+        assertEquals("localhost", upstreamUri.getHost());
+        assertEquals(8080, upstreamUri.getPort());
+        assertEquals("", upstreamUri.getBasePath());
+        assertEquals("http://localhost:8080", upstreamUri.getBaseUri());
+        assertFalse(upstreamUri.isSecure());
+    }
+
+    @Test
+    public void testHttpsWithoutPort() {
+        UpstreamUri upstreamUri = UpstreamUri.of("https://", "example.com");
+        assertEquals("https", upstreamUri.getScheme());
+        assertEquals(443, upstreamUri.getPort());
+        assertEquals("https://example.com", upstreamUri.getBaseUri());
+        assertTrue(upstreamUri.isSecure());
+    }
+
+    @Test
+    public void testBasePath() {
+        UpstreamUri upstreamUri = UpstreamUri.of("http://", "127.0.0.1:8080/ctx/");
+        assertEquals("127.0.0.1", upstreamUri.getHost());
+        assertEquals("/ctx", upstreamUri.getBasePath());
+        assertEquals("http://127.0.0.1:8080/ctx", upstreamUri.getBaseUri());
+    }
+
+    @Test
+    public void testIpv6() {
+        UpstreamUri upstreamUri = UpstreamUri.of("http://", "[::1]:9195");
+        assertEquals("[::1]", upstreamUri.getHost());
+        assertEquals(9195, upstreamUri.getPort());
+        assertEquals(80, UpstreamUri.of("http://", "[::1]").getPort());
+    }
+
+    @Test
+    public void testHttp2() {
+        UpstreamUri h2 = UpstreamUri.of("h2://", "example.com");
+        assertEquals("https", h2.getScheme());
+        assertEquals(443, h2.getPort());
+        assertTrue(h2.isHttp2());
+        assertTrue(h2.isSecure());
+        UpstreamUri h2c = UpstreamUri.of("h2c://", "localhost:8080");
+        assertEquals("http://localhost:8080", h2c.getBaseUri());
+        assertTrue(h2c.isHttp2());
+        assertFalse(h2c.isSecure());
+        assertFalse(UpstreamUri.of("http://", "localhost:8080").isHttp2());
+    }
+}
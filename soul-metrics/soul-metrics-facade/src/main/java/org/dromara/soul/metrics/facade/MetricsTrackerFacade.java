@@ -83,6 +83,19 @@ public final class MetricsTrackerFacade {
         }
     }
     
+    /**
+     * Increment of counter metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void counterInc(final String metricsLabel, final double amount, final String... labelValues) {
+        if (isStarted()) {
+            MetricsTrackerHandler.getInstance().counterInc(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Increment of gauge metrics tracker.
      *
@@ -95,6 +108,19 @@ public final class MetricsTrackerFacade {
         }
     }
     
+    /**
+     * Increment of gauge metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void gaugeInc(final String metricsLabel, final double amount, final String... labelValues) {
+        if (isStarted()) {
+            MetricsTrackerHandler.getInstance().gaugeInc(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Decrement of gauge metrics tracker.
      *
@@ -107,6 +133,19 @@ public final class MetricsTrackerFacade {
         }
     }
     
+    /**
+     * Decrement of gauge metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void gaugeDec(final String metricsLabel, final double amount, final String... labelValues) {
+        if (isStarted()) {
+            MetricsTrackerHandler.getInstance().gaugeDec(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Start timer of histogram metrics tracker.
      *
@@ -94,6 +94,21 @@ public final class MetricsTrackerHandler {
         }
     }
     
+    /**
+     * Increment of counter metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void counterInc(final String metricsLabel, final double amount, final String... labelValues) {
+        if (async) {
+            executorService.execute(() -> handlerCounter(metricsLabel, amount, labelValues));
+        } else {
+            handlerCounter(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Increment of gauge metrics tracker.
      *
@@ -108,6 +123,21 @@ public final class MetricsTrackerHandler {
         }
     }
     
+    /**
+     * Increment of gauge metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void gaugeInc(final String metricsLabel, final double amount, final String... labelValues) {
+        if (async) {
+            executorService.execute(() -> handlerGaugeInc(metricsLabel, amount, labelValues));
+        } else {
+            handlerGaugeInc(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Decrement of gauge metrics tracker.
      *
@@ -122,6 +152,21 @@ public final class MetricsTrackerHandler {
         }
     }
     
+    /**
+     * Decrement of gauge metrics tracker by the amount.
+     *
+     * @param metricsLabel metrics label
+     * @param amount       amount
+     * @param labelValues  label values
+     */
+    public void gaugeDec(final String metricsLabel, final double amount, final String... labelValues) {
+        if (async) {
+            executorService.execute(() -> handlerGaugeDec(metricsLabel, amount, labelValues));
+        } else {
+            handlerGaugeDec(metricsLabel, amount, labelValues);
+        }
+    }
+    
     /**
      * Start timer of histogram metrics tracker.
      *
@@ -197,13 +242,21 @@ public final class MetricsTrackerHandler {
     }
     
     private void handlerCounter(final String metricsLabel, final String... labelValues) {
+        handlerCounter(metricsLabel, 1.0, labelValues);
+    }
+    
+    private void handlerCounter(final String metricsLabel, final double amount, final String... labelValues) {
         metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.COUNTER.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((CounterMetricsTracker) metricsTracker).inc(amount, labelValues));
     }
     
     private void handlerGaugeInc(final String metricsLabel, final String... labelValues) {
+        handlerGaugeInc(metricsLabel, 1.0, labelValues);
+    }
+    
+    private void handlerGaugeInc(final String metricsLabel, final double amount, final String... labelValues) {
         metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.GAUGE.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).inc(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).inc(amount, labelValues));
     }
     
     /**
@@ -213,8 +266,12 @@ public final class MetricsTrackerHandler {
      * @param labelValues  the label values
      */
     public void handlerGaugeDec(final String metricsLabel, final String... labelValues) {
+        handlerGaugeDec(metricsLabel, 1.0, labelValues);
+    }
+    
+    private void handlerGaugeDec(final String metricsLabel, final double amount, final String... labelValues) {
         metricsTrackerManager.getMetricsTrackerFactory().create(MetricsTypeEnum.GAUGE.name(), metricsLabel)
-                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).dec(1.0, labelValues));
+                .ifPresent(metricsTracker -> ((GaugeMetricsTracker) metricsTracker).dec(amount, labelValues));
     }
     
     private Optional<HistogramMetricsTrackerDelegate> handlerHistogramStartTimer(final String metricsLabel, final String... labelValues) {
@@ -104,18 +104,36 @@ public class MetricsTrackerFacadeTest {
         verify(metricsTrackerHandler, times(1)).counterInc(eq(METRIC_LABEL));
     }
 
+    @Test
+    public void testCounterIncByAmount() {
+        metricsTrackerFacade.counterInc(METRIC_LABEL, 2.0d);
+        verify(metricsTrackerHandler, times(1)).counterInc(eq(METRIC_LABEL), eq(2.0d));
+    }
+
     @Test
     public void testGaugeInc() {
         metricsTrackerFacade.gaugeInc(METRIC_LABEL);
         verify(metricsTrackerHandler, times(1)).gaugeInc(eq(METRIC_LABEL));
     }
 
+    @Test
+    public void testGaugeIncByAmount() {
+        metricsTrackerFacade.gaugeInc(METRIC_LABEL, 2.0d);
+        verify(metricsTrackerHandler, times(1)).gaugeInc(eq(METRIC_LABEL), eq(2.0d));
+    }
+
     @Test
     public void testGaugeDec() {
         metricsTrackerFacade.gaugeDec(METRIC_LABEL);
         verify(metricsTrackerHandler, times(1)).gaugeDec(eq(METRIC_LABEL));
     }
 
+    @Test
+    public void testGaugeDecByAmount() {
+        metricsTrackerFacade.gaugeDec(METRIC_LABEL, 2.0d);
+        verify(metricsTrackerHandler, times(1)).gaugeDec(eq(METRIC_LABEL), eq(2.0d));
+    }
+
     @Test
     public void testSummaryStartTimer() {
         metricsTrackerFacade.summaryStartTimer(METRIC_LABEL);
@@ -116,6 +116,17 @@ public class MetricsTrackerHandlerTest {
         verify(metricsThreadPoolExecutor, times(1)).execute(any(Runnable.class));
     }
 
+    @Test
+    public void testCounterIncByAmount() {
+        metricsTrackerHandler.counterInc(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName(), 1024.0d);
+        verify(prometheusMetricsTrackerFactory, times(1)).create(eq(MetricsTypeEnum.COUNTER.name()), eq(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName()));
+
+        // test async call
+        ReflectionTestUtils.setField(metricsTrackerHandler, "async", true);
+        metricsTrackerHandler.counterInc(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName(), 1024.0d);
+        verify(metricsThreadPoolExecutor, times(1)).execute(any(Runnable.class));
+    }
+
     @Test
     public void testGaugeInc() {
         metricsTrackerHandler.gaugeInc(MetricsLabelEnum.REQUEST_TOTAL.getName());
@@ -138,6 +149,19 @@ public class MetricsTrackerHandlerTest {
         verify(metricsThreadPoolExecutor, times(1)).execute(any(Runnable.class));
     }
 
+    @Test
+    public void testGaugeIncAndDecByAmount() {
+        metricsTrackerHandler.gaugeInc(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), 1024.0d);
+        metricsTrackerHandler.gaugeDec(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), 1024.0d);
+        verify(prometheusMetricsTrackerFactory, times(2)).create(eq(MetricsTypeEnum.GAUGE.name()), eq(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName()));
+
+        // test async call
+        ReflectionTestUtils.setField(metricsTrackerHandler, "async", true);
+        metricsTrackerHandler.gaugeInc(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), 1024.0d);
+        metricsTrackerHandler.gaugeDec(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), 1024.0d);
+        verify(metricsThreadPoolExecutor, times(2)).execute(any(Runnable.class));
+    }
+
     @Test
     public void testHistogramStartTimer() throws Exception {
         metricsTrackerHandler.histogramStartTimer(MetricsLabelEnum.REQUEST_LATENCY.getName());
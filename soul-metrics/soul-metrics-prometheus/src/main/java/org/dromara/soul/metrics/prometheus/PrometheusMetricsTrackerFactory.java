@@ -21,7 +21,15 @@ import org.dromara.soul.metrics.api.MetricsTracker;
 import org.dromara.soul.metrics.api.MetricsTrackerFactory;
 import org.dromara.soul.metrics.prometheus.impl.counter.HttpRequestCounterMetricsTracker;
 import org.dromara.soul.metrics.prometheus.impl.counter.RequestTotalCounterMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.counter.StreamingBytesCounterMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.counter.StreamingStalledCounterMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.counter.TlsHandshakeCounterMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.counter.UpstreamConnectionCounterMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.gauge.StreamingBytesInFlightGaugeMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.gauge.UpstreamConnectionsGaugeMetricsTracker;
 import org.dromara.soul.metrics.prometheus.impl.histogram.RequestLatencyHistogramMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.histogram.TlsHandshakeLatencyHistogramMetricsTracker;
+import org.dromara.soul.metrics.prometheus.impl.histogram.UpstreamAcquireLatencyHistogramMetricsTracker;
 import org.dromara.soul.metrics.prometheus.impl.summary.RequestLatencySummaryMetricsTracker;
 
 import java.util.ArrayList;
@@ -40,6 +48,14 @@ public final class PrometheusMetricsTrackerFactory implements MetricsTrackerFact
         REGISTER.add(new HttpRequestCounterMetricsTracker());
         REGISTER.add(new RequestLatencyHistogramMetricsTracker());
         REGISTER.add(new RequestLatencySummaryMetricsTracker());
+        REGISTER.add(new TlsHandshakeCounterMetricsTracker());
+        REGISTER.add(new TlsHandshakeLatencyHistogramMetricsTracker());
+        REGISTER.add(new UpstreamConnectionsGaugeMetricsTracker());
+        REGISTER.add(new UpstreamConnectionCounterMetricsTracker());
+        REGISTER.add(new UpstreamAcquireLatencyHistogramMetricsTracker());
+        REGISTER.add(new StreamingBytesInFlightGaugeMetricsTracker());
+        REGISTER.add(new StreamingBytesCounterMetricsTracker());
+        REGISTER.add(new StreamingStalledCounterMetricsTracker());
     }
     
     @Override
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.metrics.prometheus.impl.gauge;
+
+import io.prometheus.client.Gauge;
+import org.dromara.soul.metrics.api.GaugeMetricsTracker;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+
+/**
+ * Streaming bytes in flight gauge metrics tracker.
+ */
+public final class StreamingBytesInFlightGaugeMetricsTracker implements GaugeMetricsTracker {
+    
+    private static final Gauge STREAMING_BYTES_IN_FLIGHT = Gauge.build()
+            .name("streaming_bytes_in_flight")
+            .help("soul streamed bytes read from one side and not written to the other yet")
+            .register();
+    
+    @Override
+    public void inc(final double amount, final String... labelValues) {
+        STREAMING_BYTES_IN_FLIGHT.labels(labelValues).inc(amount);
+    }
+    
+    @Override
+    public void dec(final double amount, final String... labelValues) {
+        STREAMING_BYTES_IN_FLIGHT.labels(labelValues).dec(amount);
+    }
+    
+    @Override
+    public String metricsLabel() {
+        return MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.metrics.prometheus.impl.counter;
+
+import io.prometheus.client.Counter;
+import org.dromara.soul.common.utils.ReflectUtils;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for StreamingStalledCounterMetricsTracker.
+ *
+ * @author xiaoyu
+ */
+public final class StreamingStalledCounterMetricsTrackerTest {
+
+    private final StreamingStalledCounterMetricsTracker streamingStalledCounterMetricsTracker = new StreamingStalledCounterMetricsTracker();
+
+    @Test
+    public void inc() {
+        streamingStalledCounterMetricsTracker.inc(2.0d);
+        Counter metric = (Counter) ReflectUtils.getFieldValue(streamingStalledCounterMetricsTracker, "STREAMING_STALLED_SECONDS");
+        assertThat(metric.get(), is(2.0d));
+    }
+
+    @Test
+    public void metricsLabel() {
+        assertThat(MetricsLabelEnum.STREAMING_STALLED_SECONDS.getName(), equalTo(streamingStalledCounterMetricsTracker.metricsLabel()));
+    }
+}
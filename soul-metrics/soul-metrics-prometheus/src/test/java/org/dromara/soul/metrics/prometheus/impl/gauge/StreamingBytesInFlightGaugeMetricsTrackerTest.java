@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.metrics.prometheus.impl.gauge;
+
+import io.prometheus.client.Gauge;
+import org.dromara.soul.common.utils.ReflectUtils;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for StreamingBytesInFlightGaugeMetricsTracker.
+ *
+ * @author xiaoyu
+ */
+public final class StreamingBytesInFlightGaugeMetricsTrackerTest {
+
+    private final StreamingBytesInFlightGaugeMetricsTracker streamingBytesInFlightGaugeMetricsTracker = new StreamingBytesInFlightGaugeMetricsTracker();
+
+    @Test
+    public void incAndDec() {
+        streamingBytesInFlightGaugeMetricsTracker.inc(3.0d);
+        streamingBytesInFlightGaugeMetricsTracker.dec(1.0d);
+        Gauge metric = (Gauge) ReflectUtils.getFieldValue(streamingBytesInFlightGaugeMetricsTracker, "STREAMING_BYTES_IN_FLIGHT");
+        assertThat(metric.get(), is(2.0d));
+    }
+
+    @Test
+    public void metricsLabel() {
+        assertThat(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), equalTo(streamingBytesInFlightGaugeMetricsTracker.metricsLabel()));
+    }
+}
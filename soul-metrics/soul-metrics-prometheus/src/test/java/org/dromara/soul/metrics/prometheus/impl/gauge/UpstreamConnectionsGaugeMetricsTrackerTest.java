@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.metrics.prometheus.impl.gauge;
+
+import io.prometheus.client.Gauge;
+import org.dromara.soul.common.utils.ReflectUtils;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test cases for UpstreamConnectionsGaugeMetricsTracker.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamConnectionsGaugeMetricsTrackerTest {
+
+    private final UpstreamConnectionsGaugeMetricsTracker upstreamConnectionsGaugeMetricsTracker = new UpstreamConnectionsGaugeMetricsTracker();
+
+    @Test
+    public void incAndDec() {
+        upstreamConnectionsGaugeMetricsTracker.inc(3.0d, "127.0.0.1:8080", "active");
+        upstreamConnectionsGaugeMetricsTracker.dec(1.0d, "127.0.0.1:8080", "active");
+        Gauge upstreamConnections = (Gauge) ReflectUtils.getFieldValue(upstreamConnectionsGaugeMetricsTracker, "UPSTREAM_CONNECTIONS");
+        assertThat(upstreamConnections.labels("127.0.0.1:8080", "active").get(), is(2.0d));
+    }
+
+    @Test
+    public void metricsLabel() {
+        assertThat(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), equalTo(upstreamConnectionsGaugeMetricsTracker.metricsLabel()));
+    }
+}
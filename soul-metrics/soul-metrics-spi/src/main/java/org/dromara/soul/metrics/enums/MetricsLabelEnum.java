@@ -40,7 +40,47 @@ public enum MetricsLabelEnum {
     /**
      * Request latency metrics label.
      */
-    REQUEST_LATENCY("request_latency");
+    REQUEST_LATENCY("request_latency"),
+    
+    /**
+     * Tls handshake total metrics label, the type is full, resumed or failed.
+     */
+    TLS_HANDSHAKE_TOTAL("tls_handshake_total"),
+    
+    /**
+     * Tls handshake latency metrics label.
+     */
+    TLS_HANDSHAKE_LATENCY("tls_handshake_latency"),
+    
+    /**
+     * Upstream connections metrics label, the state is active, idle or pending.
+     */
+    UPSTREAM_CONNECTIONS("upstream_connections"),
+    
+    /**
+     * Upstream connection total metrics label, the event is created, reused or closed.
+     */
+    UPSTREAM_CONNECTION_TOTAL("upstream_connection_total"),
+    
+    /**
+     * Upstream connection acquire latency metrics label.
+     */
+    UPSTREAM_ACQUIRE_LATENCY("upstream_acquire_latency"),
+    
+    /**
+     * Streaming bytes in flight metrics label, the bytes read from one side and not written to the other yet.
+     */
+    STREAMING_BYTES_IN_FLIGHT("streaming_bytes_in_flight"),
+    
+    /**
+     * Streaming bytes total metrics label.
+     */
+    STREAMING_BYTES_TOTAL("streaming_bytes_total"),
+    
+    /**
+     * Streaming stalled seconds metrics label, the time the streams waited for the demand of the slow side.
+     */
+    STREAMING_STALLED_SECONDS("streaming_stalled_seconds");
     
     private final String name;
 }
@@ -20,6 +20,8 @@ package org.dromara.soul.plugin.alibaba.dubbo;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.config.DubboRegisterConfig;
 import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.dto.RuleData;
@@ -33,6 +35,7 @@ import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.AbstractSoulPlugin;
 import org.dromara.soul.plugin.base.utils.FallbackUtils;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
 import org.springframework.http.HttpStatus;
@@ -71,12 +74,16 @@ public class AlibabaDubboPlugin extends AbstractSoulPlugin {
             Object error = SoulResultWrap.error(SoulResultEnum.META_DATA_ERROR.getCode(), SoulResultEnum.META_DATA_ERROR.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(body)) {
+        if (StringUtils.isNoneBlank(metaData.getParameterTypes()) && StringUtils.isBlank(body) && !exchange.getAttributes().containsKey(Constants.DUBBO_BOUND_PARAMS)) {
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = SoulResultWrap.error(SoulResultEnum.DUBBO_HAVE_BODY_PARAM.getCode(), SoulResultEnum.DUBBO_HAVE_BODY_PARAM.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        Object result = alibabaDubboProxyService.genericInvoker(body, metaData);
+        if (isAsync()) {
+            return alibabaDubboProxyService.genericInvokerAsync(body, metaData, exchange).then(chain.execute(exchange));
+        }
+        Pair<String[], Object[]> bound = exchange.getAttribute(Constants.DUBBO_BOUND_PARAMS);
+        Object result = Objects.nonNull(bound) ? alibabaDubboProxyService.invoke(metaData, bound) : alibabaDubboProxyService.genericInvoker(body, metaData);
         if (Objects.nonNull(result)) {
             exchange.getAttributes().put(Constants.DUBBO_RPC_RESULT, result);
         } else {
@@ -124,6 +131,11 @@ public class AlibabaDubboPlugin extends AbstractSoulPlugin {
         return FallbackUtils.getNoRuleResult(pluginName, exchange);
     }
 
+    private boolean isAsync() {
+        DubboRegisterConfig config = Singleton.INST.get(DubboRegisterConfig.class);
+        return Objects.nonNull(config) && Boolean.TRUE.equals(config.getAsync());
+    }
+
     private boolean checkMetaData(final MetaData metaData) {
         return null != metaData && !StringUtils.isBlank(metaData.getMethodName()) && !StringUtils.isBlank(metaData.getServiceName());
     }
@@ -24,8 +24,7 @@ import com.alibaba.dubbo.rpc.service.GenericService;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
-import java.lang.reflect.Field;
+import com.google.common.cache.RemovalListener;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -37,6 +36,8 @@ import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.LoadBalanceEnum;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.base.cache.DelayedDestroyer;
+import org.dromara.soul.plugin.base.cache.RpcCacheStats;
 
 
 /**
@@ -46,30 +47,19 @@ import org.dromara.soul.common.utils.GsonUtils;
 @Slf4j
 public final class ApplicationConfigCache {
 
+    private static final int MAX_COUNT = 50000;
+
     private ApplicationConfig applicationConfig;
 
     private RegistryConfig registryConfig;
 
-    private final int maxCount = 50000;
+    private final DelayedDestroyer destroyer = new DelayedDestroyer("alibaba-dubbo", DelayedDestroyer.DEFAULT_GRACE_MILLIS);
 
+    // a replaced reference may still be used by the requests in flight, it is destroyed after the grace period
     private final LoadingCache<String, ReferenceConfig<GenericService>> cache = CacheBuilder.newBuilder()
-            .maximumWeight(maxCount)
-            .weigher((Weigher<String, ReferenceConfig<GenericService>>) (string, referenceConfig) -> getSize())
-            .removalListener(notification -> {
-                ReferenceConfig config = notification.getValue();
-                if (config != null) {
-                    try {
-                        Class cz = config.getClass();
-                        Field field = cz.getDeclaredField("ref");
-                        field.setAccessible(true);
-                        // After the configuration change, Dubbo destroys the instance, but does not empty it. If it is not handled,
-                        // it will get NULL when reinitializing and cause a NULL pointer problem.
-                        field.set(config, null);
-                    } catch (NoSuchFieldException | IllegalAccessException e) {
-                        log.error("modify ref have exception", e);
-                    }
-                }
-            })
+            .maximumSize(MAX_COUNT)
+            .recordStats()
+            .removalListener((RemovalListener<String, ReferenceConfig<GenericService>>) notification -> destroyer.destroy(notification.getValue(), ApplicationConfigCache::destroy))
             .build(new CacheLoader<String, ReferenceConfig<GenericService>>() {
                 @Override
                 public ReferenceConfig<GenericService> load(final String key) {
@@ -77,11 +67,9 @@ public final class ApplicationConfigCache {
                 }
             });
 
-    private ApplicationConfigCache() {
-    }
+    private final RpcCacheStats stats = RpcCacheStats.register("alibaba-dubbo", cache);
 
-    private int getSize() {
-        return (int) cache.size();
+    private ApplicationConfigCache() {
     }
 
     /**
@@ -138,6 +126,7 @@ public final class ApplicationConfigCache {
      * @return the reference config
      */
     public ReferenceConfig<GenericService> build(final MetaData metaData) {
+        long start = System.nanoTime();
         ReferenceConfig<GenericService> reference = new ReferenceConfig<>();
         reference.setGeneric(true);
         reference.setApplication(applicationConfig);
@@ -172,10 +161,32 @@ public final class ApplicationConfigCache {
         } catch (Exception e) {
             log.error("init alibaba dubbo refernce ex:{}", e.getMessage());
         }
+        stats.recordLoad(System.nanoTime() - start);
 
         return reference;
     }
 
+    /**
+     * Gets the statistics of cache.
+     *
+     * @return the stats
+     */
+    public RpcCacheStats getStats() {
+        return stats;
+    }
+
+    private static void destroy(final ReferenceConfig<GenericService> reference) {
+        if (Objects.isNull(reference)) {
+            return;
+        }
+        try {
+            // the evicted or replaced reference releases its invokers, it is a no-op if the reference was never initialized
+            reference.destroy();
+        } catch (RuntimeException e) {
+            log.error("destroy alibaba dubbo reference have exception", e);
+        }
+    }
+
     private String buildLoadBalanceName(final String loadBalance) {
         if (LoadBalanceEnum.HASH.getName().equals(loadBalance) || "consistenthash".equals(loadBalance)) {
             return "consistenthash";
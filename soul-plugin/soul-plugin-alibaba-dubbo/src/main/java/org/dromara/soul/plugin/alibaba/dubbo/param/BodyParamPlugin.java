@@ -17,13 +17,19 @@
 
 package org.dromara.soul.plugin.alibaba.dubbo.param;
 
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.config.RpcBodyConfig;
 import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.common.enums.RpcTypeEnum;
 import org.dromara.soul.common.utils.HttpParamConverter;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.base.utils.RpcBodyReader;
+import org.dromara.soul.plugin.base.utils.RpcParamBinder;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -79,7 +85,14 @@ public class BodyParamPlugin implements SoulPlugin {
     }
 
     private Mono<Void> body(final ServerWebExchange exchange, final ServerRequest serverRequest, final SoulPluginChain chain) {
-        return serverRequest.bodyToMono(String.class)
+        RpcBodyConfig rpcBodyConfig = Singleton.INST.get(RpcBodyConfig.class);
+        MetaData metaData = exchange.getAttribute(Constants.META_DATA);
+        if (Objects.nonNull(rpcBodyConfig) && rpcBodyConfig.isStreaming() && Objects.nonNull(metaData) && StringUtils.isNotBlank(metaData.getParameterTypes())) {
+            return RpcBodyReader.readJson(exchange.getRequest().getBody(), rpcBodyConfig.getMaxSize(), RpcParamBinder.of(metaData.getParameterTypes()))
+                    .doOnNext(params -> exchange.getAttributes().put(Constants.DUBBO_BOUND_PARAMS, params))
+                    .then(Mono.defer(() -> chain.execute(exchange)));
+        }
+        return bodyToString(exchange, serverRequest, rpcBodyConfig)
                 .switchIfEmpty(Mono.defer(() -> Mono.just("")))
                 .flatMap(body -> {
                     exchange.getAttributes().put(Constants.DUBBO_PARAMS, body);
@@ -101,4 +114,11 @@ public class BodyParamPlugin implements SoulPlugin {
                 HttpParamConverter.ofString(() -> serverRequest.uri().getQuery()));
         return chain.execute(exchange);
     }
+
+    private Mono<String> bodyToString(final ServerWebExchange exchange, final ServerRequest serverRequest, final RpcBodyConfig rpcBodyConfig) {
+        if (Objects.nonNull(rpcBodyConfig) && rpcBodyConfig.isStreaming()) {
+            return RpcBodyReader.readString(exchange.getRequest().getBody(), rpcBodyConfig.getMaxSize());
+        }
+        return serverRequest.bodyToMono(String.class);
+    }
 }
@@ -18,18 +18,34 @@
 package org.dromara.soul.plugin.alibaba.dubbo.proxy;
 
 import com.alibaba.dubbo.config.ReferenceConfig;
+import com.alibaba.dubbo.remoting.exchange.ResponseCallback;
+import com.alibaba.dubbo.rpc.Result;
+import com.alibaba.dubbo.rpc.RpcContext;
+import com.alibaba.dubbo.rpc.protocol.dubbo.FutureAdapter;
 import com.alibaba.dubbo.rpc.service.GenericException;
 import com.alibaba.dubbo.rpc.service.GenericService;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.config.DubboRegisterConfig;
+import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.enums.ResultEnum;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.common.utils.ParamCheckUtils;
 import org.dromara.soul.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
 import org.dromara.soul.plugin.api.dubbo.DubboParamResolveService;
+import org.dromara.soul.plugin.base.utils.Singleton;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 /**
  * Alibaba dubbo proxy service is  use GenericService.
@@ -39,8 +55,12 @@ import org.dromara.soul.plugin.api.dubbo.DubboParamResolveService;
 @Slf4j
 public class AlibabaDubboProxyService {
     
+    private static final int DEFAULT_MAX_INFLIGHT = 1000;
+    
     private final DubboParamResolveService dubboParamResolveService;
     
+    private final Map<String, AtomicInteger> inflights = new ConcurrentHashMap<>();
+    
     /**
      * Instantiates a new Dubbo proxy service.
      *
@@ -59,23 +79,118 @@ public class AlibabaDubboProxyService {
      * @throws SoulException the soul exception
      */
     public Object genericInvoker(final String body, final MetaData metaData) throws SoulException {
+        return invoke(metaData, buildParameter(body, metaData));
+    }
+    
+    /**
+     * Invoke with the parameter types and arguments which are already bound, such as from the streamed body.
+     *
+     * @param metaData   the meta data
+     * @param parameters the parameter types and arguments
+     * @return the object
+     * @throws SoulException the soul exception
+     */
+    public Object invoke(final MetaData metaData, final Pair<String[], Object[]> parameters) throws SoulException {
+        GenericService genericService = genericService(metaData);
+        try {
+            return genericService.$invoke(metaData.getMethodName(), parameters.getLeft(), parameters.getRight());
+        } catch (GenericException e) {
+            log.error("dubbo invoker have exception", e);
+            throw new SoulException(e.getExceptionMessage());
+        }
+    }
+    
+    /**
+     * Generic invoker asynchronously, the response of provider is bridged into the mono by the callback of dubbo future,
+     * and the in-flight invocations of one service are limited.
+     *
+     * @param body     the body
+     * @param metaData the meta data
+     * @param exchange the exchange
+     * @return the object
+     */
+    public Mono<Object> genericInvokerAsync(final String body, final MetaData metaData, final ServerWebExchange exchange) {
+        AtomicInteger inflight = inflights.computeIfAbsent(metaData.getServiceName(), key -> new AtomicInteger());
+        return Mono.defer(() -> {
+            if (!tryAcquire(inflight)) {
+                return Mono.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too many requests are in flight on the dubbo service " + metaData.getServiceName()));
+            }
+            Pair<String[], Object[]> bound = exchange.getAttribute(Constants.DUBBO_BOUND_PARAMS);
+            return invokeAsync(body, bound, metaData).doFinally(signal -> inflight.decrementAndGet());
+        }).defaultIfEmpty(Constants.DUBBO_RPC_RESULT_EMPTY).doOnNext(ret -> {
+            exchange.getAttributes().put(Constants.DUBBO_RPC_RESULT, ret);
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+        });
+    }
+    
+    private Mono<Object> invokeAsync(final String body, final Pair<String[], Object[]> bound, final MetaData metaData) {
+        return Mono.<Object>create(sink -> {
+            GenericService genericService = genericService(metaData);
+            Pair<String[], Object[]> pair = Objects.nonNull(bound) ? bound : buildParameter(body, metaData);
+            RpcContext.getContext().setAttachment(com.alibaba.dubbo.common.Constants.ASYNC_KEY, Boolean.TRUE.toString());
+            Object ret;
+            try {
+                ret = genericService.$invoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
+            } finally {
+                // the attachment is not cleared if the invocation fails before reaching a provider
+                RpcContext.getContext().removeAttachment(com.alibaba.dubbo.common.Constants.ASYNC_KEY);
+            }
+            Future<Object> future = RpcContext.getContext().getFuture();
+            RpcContext.getContext().setFuture(null);
+            if (!(future instanceof FutureAdapter)) {
+                // the invocation was completed synchronously, such as an injvm call
+                sink.success(ret);
+                return;
+            }
+            ((FutureAdapter<Object>) future).getFuture().setCallback(new ResponseCallback() {
+                @Override
+                public void done(final Object response) {
+                    Result result = (Result) response;
+                    if (result.hasException()) {
+                        sink.error(result.getException());
+                    } else {
+                        sink.success(result.getValue());
+                    }
+                }
+                
+                @Override
+                public void caught(final Throwable exception) {
+                    sink.error(exception);
+                }
+            });
+        }).onErrorMap(exception -> exception instanceof GenericException ? new SoulException(((GenericException) exception).getExceptionMessage()) : new SoulException(exception));
+    }
+    
+    private GenericService genericService(final MetaData metaData) {
         ReferenceConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
         if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterface())) {
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
             reference = ApplicationConfigCache.getInstance().initRef(metaData);
         }
-        GenericService genericService = reference.get();
-        try {
-            Pair<String[], Object[]> pair;
-            if (ParamCheckUtils.dubboBodyIsEmpty(body)) {
-                pair = new ImmutablePair<>(new String[]{}, new Object[]{});
-            } else {
-                pair = dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
+        return reference.get();
+    }
+    
+    private Pair<String[], Object[]> buildParameter(final String body, final MetaData metaData) {
+        if (ParamCheckUtils.dubboBodyIsEmpty(body)) {
+            return new ImmutablePair<>(new String[]{}, new Object[]{});
+        }
+        return dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
+    }
+    
+    private static boolean tryAcquire(final AtomicInteger inflight) {
+        DubboRegisterConfig config = Singleton.INST.get(DubboRegisterConfig.class);
+        int maxInflight = Objects.isNull(config) || Objects.isNull(config.getMaxInflight()) ? DEFAULT_MAX_INFLIGHT : config.getMaxInflight();
+        if (maxInflight <= 0) {
+            inflight.incrementAndGet();
+            return true;
+        }
+        int current = inflight.get();
+        while (current < maxInflight) {
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
             }
-            return genericService.$invoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
-        } catch (GenericException e) {
-            log.error("dubbo invoker have exception", e);
-            throw new SoulException(e.getExceptionMessage());
+            current = inflight.get();
         }
+        return false;
     }
 }
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.RpcTypeEnum;
 import org.dromara.soul.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
+import org.dromara.soul.plugin.base.utils.RpcParamBinder;
 import org.dromara.soul.sync.data.api.MetaDataSubscriber;
 
 /**
@@ -53,6 +54,8 @@ public class AlibabaDubboMetaDataSubscriber implements MetaDataSubscriber {
                     ApplicationConfigCache.getInstance().build(metaData);
                 }
             }
+            // the parameter binder is compiled before the first request
+            RpcParamBinder.of(metaData.getParameterTypes());
             META_DATA.put(metaData.getPath(), metaData);
         }
     }
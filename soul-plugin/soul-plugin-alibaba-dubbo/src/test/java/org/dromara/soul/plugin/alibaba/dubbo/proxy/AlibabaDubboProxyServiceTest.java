@@ -18,10 +18,15 @@
 package org.dromara.soul.plugin.alibaba.dubbo.proxy;
 
 import com.alibaba.dubbo.config.ReferenceConfig;
+import com.alibaba.dubbo.remoting.exchange.ResponseFuture;
+import com.alibaba.dubbo.rpc.RpcContext;
+import com.alibaba.dubbo.rpc.protocol.dubbo.FutureAdapter;
 import com.alibaba.dubbo.rpc.service.GenericService;
 import com.google.common.cache.LoadingCache;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.config.DubboRegisterConfig;
+import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.RpcTypeEnum;
 import static org.mockito.Mockito.mock;
@@ -29,12 +34,18 @@ import static org.mockito.Mockito.when;
 
 import org.dromara.soul.plugin.alibaba.dubbo.cache.ApplicationConfigCache;
 import org.dromara.soul.plugin.api.dubbo.DubboParamResolveService;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
 
@@ -69,6 +80,7 @@ public final class AlibabaDubboProxyServiceTest {
     @After
     public void after() {
         ApplicationConfigCache.getInstance().invalidateAll();
+        Singleton.INST.single(DubboRegisterConfig.class, new DubboRegisterConfig());
     }
 
     @Test
@@ -86,6 +98,45 @@ public final class AlibabaDubboProxyServiceTest {
         Assert.assertNull(alibabaDubboProxyService.genericInvoker("", metaData));
     }
 
+    @Test
+    public void testAsync() throws NoSuchFieldException, IllegalAccessException {
+        GenericService genericService = cacheGenericService();
+        when(genericService.$invoke(METHOD_NAME, LEFT, RIGHT)).thenReturn("ok");
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new DubboParamResolveServiceImpl());
+        StepVerifier.create(alibabaDubboProxyService.genericInvokerAsync("", metaData, exchange)).expectNext("ok").verifyComplete();
+        Assert.assertEquals("ok", exchange.getAttribute(Constants.DUBBO_RPC_RESULT));
+    }
+
+    @Test
+    public void testAsyncInflightLimit() throws NoSuchFieldException, IllegalAccessException {
+        DubboRegisterConfig config = new DubboRegisterConfig();
+        config.setMaxInflight(1);
+        Singleton.INST.single(DubboRegisterConfig.class, config);
+        FutureAdapter futureAdapter = mock(FutureAdapter.class);
+        when(futureAdapter.getFuture()).thenReturn(mock(ResponseFuture.class));
+        GenericService genericService = cacheGenericService();
+        when(genericService.$invoke(METHOD_NAME, LEFT, RIGHT)).thenAnswer(invocation -> {
+            RpcContext.getContext().setFuture(futureAdapter);
+            return null;
+        });
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        AlibabaDubboProxyService alibabaDubboProxyService = new AlibabaDubboProxyService(new DubboParamResolveServiceImpl());
+        alibabaDubboProxyService.genericInvokerAsync("", metaData, exchange).subscribe();
+        StepVerifier.create(alibabaDubboProxyService.genericInvokerAsync("", metaData, exchange)).expectError(ResponseStatusException.class).verify();
+    }
+
+    private GenericService cacheGenericService() throws NoSuchFieldException, IllegalAccessException {
+        ReferenceConfig referenceConfig = mock(ReferenceConfig.class);
+        GenericService genericService = mock(GenericService.class);
+        when(referenceConfig.get()).thenReturn(genericService);
+        when(referenceConfig.getInterface()).thenReturn(PATH);
+        Field field = ApplicationConfigCache.class.getDeclaredField("cache");
+        field.setAccessible(true);
+        ((LoadingCache) field.get(ApplicationConfigCache.getInstance())).put(PATH, referenceConfig);
+        return genericService;
+    }
+
     class DubboParamResolveServiceImpl implements DubboParamResolveService {
 
         @Override
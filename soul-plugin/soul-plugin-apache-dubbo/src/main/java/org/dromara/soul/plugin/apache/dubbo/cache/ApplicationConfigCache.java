@@ -20,11 +20,18 @@ package org.dromara.soul.plugin.apache.dubbo.cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
-import java.lang.reflect.Field;
+import com.google.common.cache.RemovalListener;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -32,11 +39,14 @@ import org.apache.dubbo.config.ApplicationConfig;
 import org.apache.dubbo.config.ReferenceConfig;
 import org.apache.dubbo.config.RegistryConfig;
 import org.apache.dubbo.rpc.service.GenericService;
+import org.dromara.soul.common.concurrent.SoulThreadFactory;
 import org.dromara.soul.common.config.DubboRegisterConfig;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.LoadBalanceEnum;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.base.cache.DelayedDestroyer;
+import org.dromara.soul.plugin.base.cache.RpcCacheStats;
 
 
 /**
@@ -45,30 +55,23 @@ import org.dromara.soul.common.utils.GsonUtils;
 @Slf4j
 public final class ApplicationConfigCache {
 
+    private static final int MAX_COUNT = 50000;
+
+    private static final int WARM_UP_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int WARM_UP_QUEUE_SIZE = 4096;
+
     private ApplicationConfig applicationConfig;
 
     private RegistryConfig registryConfig;
 
-    private final int maxCount = 50000;
+    private final DelayedDestroyer destroyer = new DelayedDestroyer("apache-dubbo", DelayedDestroyer.DEFAULT_GRACE_MILLIS);
 
+    // a replaced reference may still be used by the requests in flight, it is destroyed after the grace period
     private final LoadingCache<String, ReferenceConfig<GenericService>> cache = CacheBuilder.newBuilder()
-            .maximumWeight(maxCount)
-            .weigher((Weigher<String, ReferenceConfig<GenericService>>) (string, referenceConfig) -> getSize())
-            .removalListener(notification -> {
-                ReferenceConfig<GenericService> config = notification.getValue();
-                if (config != null) {
-                    try {
-                        Class<?> cz = config.getClass();
-                        Field field = cz.getDeclaredField("ref");
-                        field.setAccessible(true);
-                        // After the configuration change, Dubbo destroys the instance, but does not empty it. If it is not handled,
-                        // it will get NULL when reinitializing and cause a NULL pointer problem.
-                        field.set(config, null);
-                    } catch (NoSuchFieldException | IllegalAccessException e) {
-                        log.error("modify ref have exception", e);
-                    }
-                }
-            })
+            .maximumSize(MAX_COUNT)
+            .recordStats()
+            .removalListener((RemovalListener<String, ReferenceConfig<GenericService>>) notification -> destroyer.destroy(notification.getValue(), ApplicationConfigCache::destroy))
             .build(new CacheLoader<String, ReferenceConfig<GenericService>>() {
                 @Override
                 public ReferenceConfig<GenericService> load(final String key) {
@@ -76,11 +79,15 @@ public final class ApplicationConfigCache {
                 }
             });
 
-    private ApplicationConfigCache() {
-    }
+    private final RpcCacheStats stats = RpcCacheStats.register("apache-dubbo", cache);
+
+    private final Map<String, CompletableFuture<ReferenceConfig<GenericService>>> warmingReferences = new ConcurrentHashMap<>();
+
+    private final ThreadPoolExecutor warmUpExecutor = new ThreadPoolExecutor(WARM_UP_THREADS, WARM_UP_THREADS, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(WARM_UP_QUEUE_SIZE), SoulThreadFactory.create("apache-dubbo-reference-warm-up", true));
 
-    private int getSize() {
-        return (int) cache.size();
+    private ApplicationConfigCache() {
+        warmUpExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -137,6 +144,16 @@ public final class ApplicationConfigCache {
      * @return the reference config
      */
     public ReferenceConfig<GenericService> build(final MetaData metaData) {
+        long start = System.nanoTime();
+        ReferenceConfig<GenericService> reference = newReference(metaData);
+        if (init(reference, metaData)) {
+            cache.put(metaData.getPath(), reference);
+        }
+        stats.recordLoad(System.nanoTime() - start);
+        return reference;
+    }
+
+    private ReferenceConfig<GenericService> newReference(final MetaData metaData) {
         ReferenceConfig<GenericService> reference = new ReferenceConfig<>();
         reference.setGeneric(true);
         reference.setApplication(applicationConfig);
@@ -162,16 +179,129 @@ public final class ApplicationConfigCache {
             Optional.ofNullable(dubboParamExtInfo.getTimeout()).ifPresent(reference::setTimeout);
             Optional.ofNullable(dubboParamExtInfo.getRetries()).ifPresent(reference::setRetries);
         }
+        return reference;
+    }
+
+    private boolean init(final ReferenceConfig<GenericService> reference, final MetaData metaData) {
         try {
             Object obj = reference.get();
             if (obj != null) {
                 log.info("init apache dubbo reference success there meteData is :{}", metaData.toString());
-                cache.put(metaData.getPath(), reference);
+                return true;
             }
         } catch (Exception e) {
             log.error("init apache dubbo reference ex:{}", e.getMessage());
         }
-        return reference;
+        return false;
+    }
+
+    /**
+     * Build the reference config in the background, so that the registry subscription and the provider connections
+     * are not made on the first request. The requests of a warming reference wait on the returned future.
+     *
+     * @param metaData the meta data
+     * @return the future of reference config, completed exceptionally if the warm-up queue is full
+     */
+    public CompletableFuture<ReferenceConfig<GenericService>> warmUp(final MetaData metaData) {
+        String path = metaData.getPath();
+        CompletableFuture<ReferenceConfig<GenericService>> future = new CompletableFuture<>();
+        warmingReferences.put(path, future);
+        try {
+            warmUpExecutor.execute(() -> {
+                try {
+                    long start = System.nanoTime();
+                    ReferenceConfig<GenericService> reference = newReference(metaData);
+                    boolean initialized = init(reference, metaData);
+                    stats.recordLoad(System.nanoTime() - start);
+                    complete(path, future, reference, initialized);
+                } catch (RuntimeException e) {
+                    warmingReferences.remove(path, future);
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the reference will be built by the first request
+            log.warn("the warm-up queue of apache dubbo reference is full, path is :{}", path);
+            warmingReferences.remove(path, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void complete(final String path, final CompletableFuture<ReferenceConfig<GenericService>> future,
+                          final ReferenceConfig<GenericService> reference, final boolean initialized) {
+        AtomicBoolean current = new AtomicBoolean();
+        // the reference is published atomically with the check that its warm-up is still the current one of path
+        warmingReferences.computeIfPresent(path, (key, warming) -> {
+            if (warming != future) {
+                return warming;
+            }
+            if (initialized) {
+                cache.put(key, reference);
+            }
+            current.set(true);
+            return null;
+        });
+        if (current.get()) {
+            future.complete(reference);
+            return;
+        }
+        // the warm-up is invalidated or superseded, the reference is never used by others
+        destroy(reference);
+        CompletableFuture<ReferenceConfig<GenericService>> superseding = warmingReferences.get(path);
+        if (Objects.isNull(superseding)) {
+            future.completeExceptionally(new SoulException("the apache dubbo reference of " + path + " is invalidated"));
+        } else {
+            superseding.whenComplete((warmed, throwable) -> {
+                if (Objects.isNull(throwable)) {
+                    future.complete(warmed);
+                } else {
+                    future.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the future of reference config which is warming up.
+     *
+     * @param path the path
+     * @return the future, null if the reference is not warming up
+     */
+    public CompletableFuture<ReferenceConfig<GenericService>> getWarming(final String path) {
+        return warmingReferences.get(path);
+    }
+
+    /**
+     * Whether the reference config of path is built and not warming up.
+     *
+     * @param path the path
+     * @return true if the reference is ready
+     */
+    public boolean isReady(final String path) {
+        ReferenceConfig<GenericService> reference = cache.getIfPresent(path);
+        return Objects.nonNull(reference) && StringUtils.isNoneBlank(reference.getInterface()) && !warmingReferences.containsKey(path);
+    }
+
+    /**
+     * Gets the statistics of cache.
+     *
+     * @return the stats
+     */
+    public RpcCacheStats getStats() {
+        return stats;
+    }
+
+    private static void destroy(final ReferenceConfig<GenericService> reference) {
+        if (Objects.isNull(reference)) {
+            return;
+        }
+        try {
+            // the evicted or replaced reference releases its invokers, it is a no-op if the reference was never initialized
+            reference.destroy();
+        } catch (RuntimeException e) {
+            log.error("destroy apache dubbo reference have exception", e);
+        }
     }
 
     private String buildLoadBalanceName(final String loadBalance) {
@@ -205,6 +335,7 @@ public final class ApplicationConfigCache {
      * @param path the path
      */
     public void invalidate(final String path) {
+        warmingReferences.remove(path);
         cache.invalidate(path);
     }
 
@@ -212,6 +343,7 @@ public final class ApplicationConfigCache {
      * Invalidate all.
      */
     public void invalidateAll() {
+        warmingReferences.clear();
         cache.invalidateAll();
     }
 
@@ -68,22 +68,30 @@ public class ApacheDubboProxyService {
      * @throws SoulException the soul exception
      */
     public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws SoulException {
-        // issue(https://github.com/dromara/soul/issues/471), add dubbo tag route
-        String dubboTagRouteFromHttpHeaders = exchange.getRequest().getHeaders().getFirst(Constants.DUBBO_TAG_ROUTE);
-        if (StringUtils.isNotBlank(dubboTagRouteFromHttpHeaders)) {
-            RpcContext.getContext().setAttachment(CommonConstants.TAG_KEY, dubboTagRouteFromHttpHeaders);
-        }
         ReferenceConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
         if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterface())) {
+            CompletableFuture<ReferenceConfig<GenericService>> warming = ApplicationConfigCache.getInstance().getWarming(metaData.getPath());
+            if (Objects.nonNull(warming)) {
+                // the reference is being built in the background, wait for it instead of building another one
+                return Mono.fromFuture(warming).onErrorMap(SoulException::new).flatMap(warmed -> invoke(warmed, body, metaData, exchange));
+            }
             ApplicationConfigCache.getInstance().invalidate(metaData.getPath());
             reference = ApplicationConfigCache.getInstance().initRef(metaData);
         }
+        return invoke(reference, body, metaData, exchange);
+    }
+
+    private Mono<Object> invoke(final ReferenceConfig<GenericService> reference, final String body, final MetaData metaData, final ServerWebExchange exchange) {
+        // issue(https://github.com/dromara/soul/issues/471), add dubbo tag route
+        String dubboTagRouteFromHttpHeaders = exchange.getRequest().getHeaders().getFirst(Constants.DUBBO_TAG_ROUTE);
+        if (StringUtils.isNotBlank(dubboTagRouteFromHttpHeaders)) {
+            RpcContext.getContext().setAttachment(CommonConstants.TAG_KEY, dubboTagRouteFromHttpHeaders);
+        }
         GenericService genericService = reference.get();
-        Pair<String[], Object[]> pair;
-        if (ParamCheckUtils.dubboBodyIsEmpty(body)) {
-            pair = new ImmutablePair<>(new String[]{}, new Object[]{});
-        } else {
-            pair = dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
+        Pair<String[], Object[]> pair = exchange.getAttribute(Constants.DUBBO_BOUND_PARAMS);
+        if (Objects.isNull(pair)) {
+            pair = ParamCheckUtils.dubboBodyIsEmpty(body) ? new ImmutablePair<>(new String[]{}, new Object[]{})
+                    : dubboParamResolveService.buildParameter(body, metaData.getParameterTypes());
         }
         CompletableFuture<Object> future = genericService.$invokeAsync(metaData.getMethodName(), pair.getLeft(), pair.getRight());
         return Mono.fromFuture(future.thenApply(ret -> {
@@ -25,6 +25,7 @@ import java.util.concurrent.ConcurrentMap;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.RpcTypeEnum;
 import org.dromara.soul.plugin.apache.dubbo.cache.ApplicationConfigCache;
+import org.dromara.soul.plugin.base.utils.RpcParamBinder;
 import org.dromara.soul.sync.data.api.MetaDataSubscriber;
 
 /**
@@ -40,9 +41,10 @@ public class ApacheDubboMetaDataSubscriber implements MetaDataSubscriber {
     public void onSubscribe(final MetaData metaData) {
         if (RpcTypeEnum.DUBBO.getName().equals(metaData.getRpcType())) {
             MetaData exist = META_DATA.get(metaData.getPath());
-            if (Objects.isNull(exist) || Objects.isNull(ApplicationConfigCache.getInstance().get(metaData.getPath()))) {
-                // The first initialization
-                ApplicationConfigCache.getInstance().initRef(metaData);
+            ApplicationConfigCache cache = ApplicationConfigCache.getInstance();
+            if (Objects.isNull(exist) || (!cache.isReady(metaData.getPath()) && Objects.isNull(cache.getWarming(metaData.getPath())))) {
+                // The first initialization, or the reference is neither built nor warming up, it is built in the background
+                cache.warmUp(metaData);
             } else {
                 // There are updates, which only support the update of four properties of serviceName rpcExt parameterTypes methodName,
                 // because these four properties will affect the call of Dubbo;
@@ -50,9 +52,11 @@ public class ApacheDubboMetaDataSubscriber implements MetaDataSubscriber {
                         || !Objects.equals(metaData.getRpcExt(), exist.getRpcExt())
                         || !Objects.equals(metaData.getParameterTypes(), exist.getParameterTypes())
                         || !Objects.equals(metaData.getMethodName(), exist.getMethodName())) {
-                    ApplicationConfigCache.getInstance().build(metaData);
+                    cache.warmUp(metaData);
                 }
             }
+            // the parameter binder is compiled before the first request
+            RpcParamBinder.of(metaData.getParameterTypes());
             META_DATA.put(metaData.getPath(), metaData);
         }
     }
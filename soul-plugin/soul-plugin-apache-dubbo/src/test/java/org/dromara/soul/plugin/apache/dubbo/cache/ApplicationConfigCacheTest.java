@@ -17,22 +17,34 @@
 
 package org.dromara.soul.plugin.apache.dubbo.cache;
 
+import com.google.common.cache.LoadingCache;
 import lombok.SneakyThrows;
+import org.apache.dubbo.config.ReferenceConfig;
+import org.apache.dubbo.rpc.service.GenericService;
 import org.dromara.soul.common.config.DubboRegisterConfig;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.LoadBalanceEnum;
 import org.dromara.soul.common.utils.GsonUtils;
 import org.dromara.soul.plugin.apache.dubbo.cache.ApplicationConfigCache.DubboParamExtInfo;
+import org.dromara.soul.plugin.base.cache.DelayedDestroyer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 
 /**
  * The Test Case For ApplicationConfigCache.
@@ -54,10 +66,13 @@ public final class ApplicationConfigCacheTest {
         assertNotNull(this.applicationConfigCache);
     }
 
-    @SneakyThrows
     @Test
-    public void testGetSize() {
-        assertNotNull(ReflectionTestUtils.invokeMethod(this.applicationConfigCache, "getSize"));
+    public void testGetStats() {
+        long misses = this.applicationConfigCache.getStats().getMissCount();
+        this.applicationConfigCache.invalidate("/stats");
+        this.applicationConfigCache.get("/stats");
+        this.applicationConfigCache.get("/stats");
+        assertThat(this.applicationConfigCache.getStats().getMissCount(), is(misses + 1));
     }
 
     @Test
@@ -90,6 +105,51 @@ public final class ApplicationConfigCacheTest {
         assertNotNull(this.applicationConfigCache.build(metaData));
     }
 
+    @Test
+    public void testWarmUp() throws Exception {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/warm-up");
+        metaData.setServiceName("org.dromara.soul.test.dubbo.api.service.DubboTestService");
+        metaData.setRpcExt("{\"url\":\"dubbo://127.0.0.1:20880\"}");
+        CompletableFuture<ReferenceConfig<GenericService>> future = this.applicationConfigCache.warmUp(metaData);
+        assertNotNull(future.get(30, TimeUnit.SECONDS));
+        assertNull(this.applicationConfigCache.getWarming("/warm-up"));
+        this.applicationConfigCache.invalidate("/warm-up");
+        assertFalse(this.applicationConfigCache.isReady("/warm-up"));
+    }
+
+    @Test
+    public void testInvalidateWhileWarmingUp() throws Exception {
+        MetaData metaData = new MetaData();
+        metaData.setPath("/warm-up-invalidated");
+        metaData.setServiceName("org.dromara.soul.test.dubbo.api.service.DubboTestService");
+        metaData.setRpcExt("{\"url\":\"dubbo://127.0.0.1:20880\"}");
+        CompletableFuture<ReferenceConfig<GenericService>> future = this.applicationConfigCache.warmUp(metaData);
+        this.applicationConfigCache.invalidate("/warm-up-invalidated");
+        // whether the warm-up finished before the invalidation or not, the reference is not published after it
+        future.handle((reference, throwable) -> reference).get(30, TimeUnit.SECONDS);
+        assertFalse(this.applicationConfigCache.isReady("/warm-up-invalidated"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReplaceWhileInFlight() {
+        LoadingCache<String, ReferenceConfig<GenericService>> cache = (LoadingCache<String, ReferenceConfig<GenericService>>) ReflectionTestUtils.getField(this.applicationConfigCache, "cache");
+        DelayedDestroyer destroyer = (DelayedDestroyer) ReflectionTestUtils.getField(this.applicationConfigCache, "destroyer");
+        destroyer.setGraceMillis(200L);
+        try {
+            cache.put("/replace", mock(ReferenceConfig.class));
+            ReferenceConfig<GenericService> inFlight = this.applicationConfigCache.get("/replace");
+            cache.put("/replace", new ReferenceConfig<>());
+            // the request in flight still uses the replaced reference, it is destroyed after the grace period
+            verify(inFlight, never()).destroy();
+            verify(inFlight, timeout(5000)).destroy();
+        } finally {
+            destroyer.setGraceMillis(DelayedDestroyer.DEFAULT_GRACE_MILLIS);
+            this.applicationConfigCache.invalidate("/replace");
+        }
+    }
+
     @Test
     public void testInvalidate() {
         this.applicationConfigCache.invalidate("/test");
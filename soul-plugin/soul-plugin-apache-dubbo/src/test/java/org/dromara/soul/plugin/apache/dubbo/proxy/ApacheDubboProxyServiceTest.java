@@ -34,11 +34,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -94,6 +99,23 @@ public final class ApacheDubboProxyServiceTest {
         future.complete("success");
     }
 
+    @Test
+    public void testWaitWarmingReference() throws NoSuchFieldException, IllegalAccessException {
+        ReferenceConfig referenceConfig = mock(ReferenceConfig.class);
+        GenericService genericService = mock(GenericService.class);
+        when(referenceConfig.get()).thenReturn(genericService);
+        when(genericService.$invokeAsync(METHOD_NAME, LEFT, RIGHT)).thenReturn(CompletableFuture.completedFuture("success"));
+        CompletableFuture<ReferenceConfig<GenericService>> warming = new CompletableFuture<>();
+        Field field = ApplicationConfigCache.class.getDeclaredField("warmingReferences");
+        field.setAccessible(true);
+        ((Map) field.get(ApplicationConfigCache.getInstance())).put(PATH, warming);
+        ApacheDubboProxyService apacheDubboProxyService = new ApacheDubboProxyService(new DubboParamResolveServiceImpl());
+        Mono<Object> result = apacheDubboProxyService.genericInvoker("", metaData, exchange);
+        verify(genericService, never()).$invokeAsync(METHOD_NAME, LEFT, RIGHT);
+        warming.complete(referenceConfig);
+        StepVerifier.create(result).expectNext("success").verifyComplete();
+    }
+
     static class DubboParamResolveServiceImpl implements DubboParamResolveService {
 
         @Override
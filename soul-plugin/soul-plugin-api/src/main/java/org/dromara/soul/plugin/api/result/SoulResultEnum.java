@@ -79,6 +79,16 @@ public enum SoulResultEnum {
      */
     TARS_INVOKE(434, "Tars invoke error!"),
 
+    /**
+     * Grpc invoke soul result enum.
+     */
+    GRPC_INVOKE(435, "Grpc invoke error!"),
+
+    /**
+     * Batch request error soul result enum.
+     */
+    BATCH_REQUEST_ERROR(436, "Batch request error, please check the sub requests!"),
+
     /**
      * full selector type enum.
      */
@@ -22,7 +22,6 @@ import java.util.List;
 import java.util.Objects;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
 import org.dromara.soul.common.dto.SelectorData;
 import org.dromara.soul.common.dto.RuleData;
@@ -30,6 +29,7 @@ import org.dromara.soul.common.dto.PluginData;
 import org.dromara.soul.common.enums.SelectorTypeEnum;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.base.accesslog.AccessLogger;
 import org.dromara.soul.plugin.base.cache.BaseDataCache;
 import org.dromara.soul.plugin.base.utils.MatchStrategyUtils;
 import org.springframework.web.server.ServerWebExchange;
@@ -41,7 +41,6 @@ import reactor.core.publisher.Mono;
  * @author xiaoyu(Myth)
  */
 @RequiredArgsConstructor
-@Slf4j
 public abstract class AbstractSoulPlugin implements SoulPlugin {
 
     /**
@@ -76,7 +75,7 @@ public abstract class AbstractSoulPlugin implements SoulPlugin {
             if (Objects.isNull(selectorData)) {
                 return handleSelectorIsNull(pluginName, exchange, chain);
             }
-            selectorLog(selectorData, pluginName);
+            AccessLogger.getInstance().markSelector(exchange, pluginName, selectorData);
             final List<RuleData> rules = BaseDataCache.getInstance().obtainRuleData(selectorData.getId());
             if (CollectionUtils.isEmpty(rules)) {
                 return handleRuleIsNull(pluginName, exchange, chain);
@@ -91,7 +90,7 @@ public abstract class AbstractSoulPlugin implements SoulPlugin {
             if (Objects.isNull(rule)) {
                 return handleRuleIsNull(pluginName, exchange, chain);
             }
-            ruleLog(rule, pluginName);
+            AccessLogger.getInstance().markRule(exchange, pluginName, selectorData, rule);
             return doExecute(exchange, chain, selectorData, rule);
         }
         return chain.execute(exchange);
@@ -130,16 +129,4 @@ public abstract class AbstractSoulPlugin implements SoulPlugin {
     private Boolean filterRule(final RuleData ruleData, final ServerWebExchange exchange) {
         return ruleData.getEnabled() && MatchStrategyUtils.match(ruleData.getMatchMode(), ruleData.getConditionDataList(), exchange);
     }
-
-    private void selectorLog(final SelectorData selectorData, final String pluginName) {
-        if (selectorData.getLoged()) {
-            log.info("{} selector success match , selector name :{}", pluginName, selectorData.getName());
-        }
-    }
-
-    private void ruleLog(final RuleData ruleData, final String pluginName) {
-        if (ruleData.getLoged()) {
-            log.info("{} rule success match , rule name :{}", pluginName, ruleData.getName());
-        }
-    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.accesslog;
+
+/**
+ * One slot of the {@link AccessLogRing}, the fields are reused by the requests which take the slot in turn.
+ *
+ * @author xiaoyu
+ */
+final class AccessLogRecord {
+
+    private static final char SEPARATOR = ' ';
+
+    private static final String NONE = "-";
+
+    private volatile long published = -1;
+
+    private long sequence;
+
+    private long timestamp;
+
+    private String method;
+
+    private String path;
+
+    private int status;
+
+    private long latencyMicros;
+
+    private Object upstream;
+
+    private String plugin;
+
+    private String selector;
+
+    private String rule;
+
+    /**
+     * Fill the record.
+     *
+     * @param timestamp     the epoch millis when the request completes
+     * @param method        the http method
+     * @param path          the raw path of request
+     * @param status        the status code of response, 0 if unknown
+     * @param latencyMicros the latency in micros
+     * @param upstream      the upstream url, maybe null
+     * @param plugin        the plugin which matched the logged rule, maybe null
+     * @param selector      the name of selector, maybe null
+     * @param rule          the name of rule, maybe null
+     */
+    void fill(final long timestamp, final String method, final String path, final int status, final long latencyMicros,
+              final Object upstream, final String plugin, final String selector, final String rule) {
+        this.timestamp = timestamp;
+        this.method = method;
+        this.path = path;
+        this.status = status;
+        this.latencyMicros = latencyMicros;
+        this.upstream = upstream;
+        this.plugin = plugin;
+        this.selector = selector;
+        this.rule = rule;
+    }
+
+    /**
+     * Append the record with the fixed layout:
+     * {@code timestamp method path status latencyMicros upstream plugin selector rule}, the missing field is "-".
+     *
+     * @param builder the builder
+     * @return the builder
+     */
+    StringBuilder appendTo(final StringBuilder builder) {
+        builder.append(timestamp).append(SEPARATOR);
+        append(builder, method).append(SEPARATOR);
+        append(builder, path).append(SEPARATOR);
+        if (status > 0) {
+            builder.append(status);
+        } else {
+            builder.append(NONE);
+        }
+        builder.append(SEPARATOR).append(latencyMicros).append(SEPARATOR);
+        append(builder, upstream).append(SEPARATOR);
+        append(builder, plugin).append(SEPARATOR);
+        append(builder, selector).append(SEPARATOR);
+        return append(builder, rule);
+    }
+
+    long getSequence() {
+        return sequence;
+    }
+
+    void setSequence(final long sequence) {
+        this.sequence = sequence;
+    }
+
+    boolean isPublished(final long expected) {
+        return published == expected;
+    }
+
+    void publish() {
+        published = sequence;
+    }
+
+    void clear() {
+        method = null;
+        path = null;
+        upstream = null;
+        plugin = null;
+        selector = null;
+        rule = null;
+    }
+
+    private static StringBuilder append(final StringBuilder builder, final Object value) {
+        return value == null ? builder.append(NONE) : builder.append(value);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded multi-producer and single-consumer ring of preallocated {@link AccessLogRecord}s,
+ * the record is dropped instead of blocking the request when the ring is full.
+ *
+ * @author xiaoyu
+ */
+final class AccessLogRing {
+
+    private final AccessLogRecord[] records;
+
+    private final int mask;
+
+    private final AtomicLong claimed = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile long consumed;
+
+    /**
+     * Instantiates a new Access log ring.
+     *
+     * @param capacity the capacity, it is rounded up to a power of two
+     */
+    AccessLogRing(final int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.records = new AccessLogRecord[size];
+        for (int i = 0; i < size; i++) {
+            records[i] = new AccessLogRecord();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Claim a free record, it must be published after it is filled.
+     *
+     * @return the record, null if the ring is full
+     */
+    AccessLogRecord claim() {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - consumed >= records.length) {
+                dropped.incrementAndGet();
+                return null;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+        AccessLogRecord record = records[(int) (sequence & mask)];
+        record.setSequence(sequence);
+        return record;
+    }
+
+    /**
+     * Publish the filled record to the consumer.
+     *
+     * @param record the record
+     */
+    void publish(final AccessLogRecord record) {
+        record.publish();
+    }
+
+    /**
+     * Gets the next published record, only the single consumer calls it.
+     *
+     * @return the record, null if it is not published yet
+     */
+    AccessLogRecord poll() {
+        long next = consumed;
+        AccessLogRecord record = records[(int) (next & mask)];
+        return record.isPublished(next) ? record : null;
+    }
+
+    /**
+     * Release the polled record, so the slot can be claimed again.
+     *
+     * @param record the record
+     */
+    void release(final AccessLogRecord record) {
+        record.clear();
+        consumed = record.getSequence() + 1;
+    }
+
+    /**
+     * Gets the count of dropped records.
+     *
+     * @return the count
+     */
+    long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Gets the capacity.
+     *
+     * @return the capacity
+     */
+    int capacity() {
+        return records.length;
+    }
+}
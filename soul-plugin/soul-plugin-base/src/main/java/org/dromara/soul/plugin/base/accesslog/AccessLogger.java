@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The sampled access log, the request thread only fills a preallocated record of the ring,
+ * and the records are written to the logger named {@code soul.accesslog} by a background thread.
+ * A request is logged if the matched selector or rule is flagged as loged, or it is sampled by the rate of the rule,
+ * or by the global rate.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class AccessLogger {
+
+    private static final AccessLogger INSTANCE = new AccessLogger();
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("soul.accesslog");
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private volatile boolean enabled;
+
+    private volatile double sampleRate;
+
+    private volatile Map<String, Double> ruleSampleRates = Collections.emptyMap();
+
+    private volatile AccessLogRing ring;
+
+    private AccessLogger() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static AccessLogger getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Start the access log, the ring and the writer thread are created once.
+     *
+     * @param bufferSize      the count of records in the ring
+     * @param sampleRate      the rate from 0 to 1 of the requests which are logged
+     * @param ruleSampleRates the rates of rules, the key is the id or name of rule
+     */
+    public synchronized void start(final int bufferSize, final double sampleRate, final Map<String, Double> ruleSampleRates) {
+        this.sampleRate = sampleRate;
+        this.ruleSampleRates = Objects.isNull(ruleSampleRates) ? Collections.emptyMap() : new HashMap<>(ruleSampleRates);
+        if (Objects.isNull(ring)) {
+            ring = new AccessLogRing(bufferSize);
+            Thread writer = new Thread(this::write, "soul-access-log");
+            writer.setDaemon(true);
+            writer.start();
+        }
+        this.enabled = ACCESS_LOG.isInfoEnabled();
+    }
+
+    /**
+     * Log the request if the matched selector is flagged as loged.
+     *
+     * @param exchange   the exchange
+     * @param pluginName the name of plugin
+     * @param selector   the matched selector
+     */
+    public void markSelector(final ServerWebExchange exchange, final String pluginName, final SelectorData selector) {
+        if (enabled && Boolean.TRUE.equals(selector.getLoged())) {
+            exchange.getAttributes().put(Constants.ACCESS_LOG, new Mark(pluginName, selector.getName(), null));
+        }
+    }
+
+    /**
+     * Log the request if the matched selector or rule is flagged as loged, or the request is sampled by the rate of rule.
+     *
+     * @param exchange   the exchange
+     * @param pluginName the name of plugin
+     * @param selector   the matched selector
+     * @param rule       the matched rule
+     */
+    public void markRule(final ServerWebExchange exchange, final String pluginName, final SelectorData selector, final RuleData rule) {
+        if (!enabled) {
+            return;
+        }
+        if (Boolean.TRUE.equals(rule.getLoged()) || Boolean.TRUE.equals(selector.getLoged()) || isSampled(ruleSampleRate(rule))) {
+            exchange.getAttributes().put(Constants.ACCESS_LOG, new Mark(pluginName, selector.getName(), rule.getName()));
+        }
+    }
+
+    /**
+     * Record the completed request if it is marked or sampled by the global rate.
+     *
+     * @param exchange   the exchange
+     * @param startNanos the {@link System#nanoTime()} when the request starts
+     */
+    public void complete(final ServerWebExchange exchange, final long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        Mark mark = exchange.getAttribute(Constants.ACCESS_LOG);
+        if (Objects.isNull(mark) && !isSampled(sampleRate)) {
+            return;
+        }
+        AccessLogRecord record = ring.claim();
+        if (Objects.isNull(record)) {
+            return;
+        }
+        HttpStatus status = exchange.getResponse().getStatusCode();
+        Object upstream = exchange.getAttribute(Constants.HTTP_TARGET);
+        record.fill(System.currentTimeMillis(), exchange.getRequest().getMethodValue(), exchange.getRequest().getURI().getRawPath(),
+                Objects.isNull(status) ? 0 : status.value(), TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos),
+                Objects.isNull(upstream) ? exchange.getAttribute(Constants.HTTP_URL) : upstream,
+                Objects.isNull(mark) ? null : mark.plugin, Objects.isNull(mark) ? null : mark.selector, Objects.isNull(mark) ? null : mark.rule);
+        ring.publish(record);
+    }
+
+    private double ruleSampleRate(final RuleData rule) {
+        Map<String, Double> rates = ruleSampleRates;
+        if (rates.isEmpty()) {
+            return 0;
+        }
+        Double rate = rates.get(rule.getId());
+        if (Objects.isNull(rate)) {
+            rate = rates.get(rule.getName());
+        }
+        return Objects.isNull(rate) ? 0 : rate;
+    }
+
+    private static boolean isSampled(final double rate) {
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void write() {
+        StringBuilder line = new StringBuilder(256);
+        long reported = 0;
+        while (!Thread.currentThread().isInterrupted()) {
+            AccessLogRecord record = ring.poll();
+            if (Objects.isNull(record)) {
+                long dropped = ring.dropped();
+                if (dropped > reported) {
+                    log.warn("{} access log records are dropped since the ring of {} records is full", dropped - reported, ring.capacity());
+                    reported = dropped;
+                }
+                LockSupport.parkNanos(IDLE_NANOS);
+                continue;
+            }
+            line.setLength(0);
+            record.appendTo(line);
+            ring.release(record);
+            try {
+                ACCESS_LOG.info(line.toString());
+            } catch (RuntimeException e) {
+                log.error("write access log error", e);
+            }
+        }
+    }
+
+    /**
+     * The plugin, selector and rule which the request is logged for.
+     */
+    private static final class Mark {
+
+        private final String plugin;
+
+        private final String selector;
+
+        private final String rule;
+
+        Mark(final String plugin, final String selector, final String rule) {
+            this.plugin = plugin;
+            this.selector = selector;
+            this.rule = rule;
+        }
+    }
+}
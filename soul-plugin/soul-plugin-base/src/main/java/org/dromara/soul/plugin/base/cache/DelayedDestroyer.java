@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.concurrent.SoulThreadFactory;
+
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Destroy the rpc references evicted or replaced in a cache after a grace period, so that the requests which took
+ * the reference before it was replaced complete on it instead of failing on a destroyed one.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class DelayedDestroyer {
+
+    /**
+     * The default grace period in millis, it is longer than the timeout of most rpc calls.
+     */
+    public static final long DEFAULT_GRACE_MILLIS = 60000L;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(SoulThreadFactory.create("rpc-reference-destroy", true));
+
+    private final String name;
+
+    private volatile long graceMillis;
+
+    /**
+     * Instantiates a new Delayed destroyer.
+     *
+     * @param name        the name of cache, such as apache-dubbo
+     * @param graceMillis the grace period in millis
+     */
+    public DelayedDestroyer(final String name, final long graceMillis) {
+        this.name = name;
+        this.graceMillis = graceMillis;
+    }
+
+    /**
+     * Destroy the reference after the grace period.
+     *
+     * @param <T>       the type of reference
+     * @param reference the reference, nothing is done if it is null
+     * @param destroyer the action which destroys the reference
+     */
+    public <T> void destroy(final T reference, final Consumer<T> destroyer) {
+        if (Objects.isNull(reference)) {
+            return;
+        }
+        SCHEDULER.schedule(() -> {
+            try {
+                destroyer.accept(reference);
+            } catch (RuntimeException e) {
+                log.error("destroy {} reference have exception", name, e);
+            }
+        }, graceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Sets the grace period, it applies to the references destroyed later.
+     *
+     * @param graceMillis the grace period in millis
+     */
+    public void setGraceMillis(final long graceMillis) {
+        this.graceMillis = graceMillis;
+    }
+}
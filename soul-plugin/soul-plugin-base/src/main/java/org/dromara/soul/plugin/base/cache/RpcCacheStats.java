@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+import com.google.common.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of a rpc reference cache built with {@code recordStats()}. The hits, misses and evictions are read from the cache,
+ * the loads are recorded by the owner of cache because the cache loader only creates an empty placeholder.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class RpcCacheStats implements RpcCacheStatsMXBean {
+
+    private static final String OBJECT_NAME = "org.dromara.soul:type=RpcCache,name=";
+
+    private final Cache<?, ?> cache;
+
+    private final LongAdder loadCount = new LongAdder();
+
+    private final LongAdder loadNanos = new LongAdder();
+
+    private RpcCacheStats(final Cache<?, ?> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Create the statistics of cache and register it as a platform mbean, the mbean of the same name is replaced.
+     *
+     * @param name  the name of cache, such as apache-dubbo
+     * @param cache the cache
+     * @return the rpc cache stats
+     */
+    public static RpcCacheStats register(final String name, final Cache<?, ?> cache) {
+        RpcCacheStats stats = new RpcCacheStats(cache);
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(OBJECT_NAME + name);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(stats, objectName);
+        } catch (JMException e) {
+            log.warn("register the stats of rpc cache {} failed", name, e);
+        }
+        return stats;
+    }
+
+    /**
+     * Record a reference built.
+     *
+     * @param nanos the time spent in nanos
+     */
+    public void recordLoad(final long nanos) {
+        loadCount.increment();
+        loadNanos.add(nanos);
+    }
+
+    @Override
+    public long getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    @Override
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    @Override
+    public long getTotalLoadTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(loadNanos.sum());
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+/**
+ * The statistics of a rpc reference cache, it is registered as a platform mbean so that it can be scraped by the jmx collector.
+ *
+ * @author xiaoyu
+ */
+public interface RpcCacheStatsMXBean {
+
+    /**
+     * Gets the count of entries.
+     *
+     * @return the size
+     */
+    long getSize();
+
+    /**
+     * Gets the count of lookups which found an entry.
+     *
+     * @return the hit count
+     */
+    long getHitCount();
+
+    /**
+     * Gets the count of lookups which did not find an entry.
+     *
+     * @return the miss count
+     */
+    long getMissCount();
+
+    /**
+     * Gets the count of entries evicted by the size bound.
+     *
+     * @return the eviction count
+     */
+    long getEvictionCount();
+
+    /**
+     * Gets the count of references built.
+     *
+     * @return the load count
+     */
+    long getLoadCount();
+
+    /**
+     * Gets the total time in millis spent on building the references.
+     *
+     * @return the total load time millis
+     */
+    long getTotalLoadTimeMillis();
+}
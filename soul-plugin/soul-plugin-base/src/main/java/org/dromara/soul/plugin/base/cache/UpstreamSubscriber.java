@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+
+import java.util.List;
+
+/**
+ * The subscriber of the upstream submitted by divide plugin, it is registered by {@link org.dromara.soul.plugin.base.utils.Singleton}.
+ *
+ * @author xiaoyu
+ */
+public interface UpstreamSubscriber {
+
+    /**
+     * On subscribe the upstream list of a selector, it replaces the previous list of the selector.
+     *
+     * @param selectorId   the selector id
+     * @param upstreamList the upstream list
+     */
+    void onSubscribe(String selectorId, List<DivideUpstream> upstreamList);
+
+    /**
+     * Un subscribe the upstream list of a removed selector.
+     *
+     * @param selectorId the selector id
+     */
+    void unSubscribe(String selectorId);
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.response;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+
+/**
+ * The status, headers and body of one response, fully buffered so it can be written again.
+ *
+ * @author xiaoyu
+ */
+public final class BufferedResponse {
+
+    private final HttpStatus status;
+
+    private final HttpHeaders headers;
+
+    private final byte[] body;
+
+    /**
+     * Instantiates a new Buffered response, the headers are copied.
+     *
+     * @param status  the status
+     * @param headers the headers
+     * @param body    the body
+     */
+    public BufferedResponse(final HttpStatus status, final HttpHeaders headers, final byte[] body) {
+        HttpHeaders copy = new HttpHeaders();
+        headers.forEach((name, values) -> copy.put(name, new ArrayList<>(values)));
+        // the body is written with a known length
+        copy.remove(HttpHeaders.TRANSFER_ENCODING);
+        copy.setContentLength(body.length);
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(copy);
+        this.body = body;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    public HttpStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets the read only headers.
+     *
+     * @return the headers
+     */
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets body, it must not be modified.
+     *
+     * @return the body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * Whether the response can be shared with the other users: a 2xx status, without Set-Cookie,
+     * and not private or no-store by Cache-Control.
+     *
+     * @return the boolean
+     */
+    public boolean isShareable() {
+        if (!status.is2xxSuccessful() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        CacheControlDirectives directives = CacheControlDirectives.parse(headers.getCacheControl());
+        return !directives.isNoStore() && !directives.isPrivateOnly();
+    }
+
+    /**
+     * Write the status, headers and body into the response.
+     *
+     * @param response the response
+     * @return {@code Mono<Void>} to indicate when the response is written
+     */
+    public Mono<Void> writeTo(final ServerHttpResponse response) {
+        response.setStatusCode(status);
+        HttpHeaders target = response.getHeaders();
+        headers.forEach(target::put);
+        if (body.length == 0) {
+            return response.setComplete();
+        }
+        // the wrapped buffer shares the body, which is never written
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+    }
+}
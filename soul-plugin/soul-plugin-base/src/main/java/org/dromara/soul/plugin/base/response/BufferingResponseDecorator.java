@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.response;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.core.publisher.SignalType;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Tee the body written into the response into a {@link BufferedResponse}, up to a max size.
+ * The body is still written into the delegate as it arrives.
+ *
+ * @author xiaoyu
+ */
+public class BufferingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private final int maxSize;
+
+    private final MonoProcessor<BufferedResponse> buffered = MonoProcessor.create();
+
+    private final AtomicBoolean done = new AtomicBoolean();
+
+    /**
+     * Instantiates a new Buffering response decorator.
+     *
+     * @param delegate the delegate
+     * @param maxSize  the max size of body to buffer, in bytes
+     */
+    public BufferingResponseDecorator(final ServerHttpResponse delegate, final int maxSize) {
+        super(delegate);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * The buffered response, it is empty if the body is too large or the write did not complete.
+     *
+     * @return the buffered response
+     */
+    public Mono<BufferedResponse> buffered() {
+        return buffered;
+    }
+
+    /**
+     * Complete the buffered response with empty if nothing has been buffered, such as the response is not written.
+     */
+    public void abort() {
+        complete(null);
+    }
+
+    @Override
+    public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        AtomicBoolean overflow = new AtomicBoolean();
+        Flux<? extends DataBuffer> tee = Flux.from(body).doOnNext(buffer -> {
+            int length = buffer.readableByteCount();
+            if (overflow.get() || out.size() + length > maxSize) {
+                overflow.set(true);
+                return;
+            }
+            // read from a view of the buffer, the read position is not moved
+            byte[] bytes = new byte[length];
+            buffer.asByteBuffer().get(bytes);
+            out.write(bytes, 0, length);
+        });
+        return getDelegate().writeWith(tee).doFinally(signal -> {
+            boolean completed = signal == SignalType.ON_COMPLETE && !overflow.get();
+            complete(completed ? toBuffered(out.toByteArray()) : null);
+        });
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(final Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // a streaming response is never buffered
+        abort();
+        return getDelegate().writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        return getDelegate().setComplete().doFinally(signal -> complete(signal == SignalType.ON_COMPLETE ? toBuffered(new byte[0]) : null));
+    }
+
+    private BufferedResponse toBuffered(final byte[] body) {
+        // a non standard status can not be replayed
+        HttpStatus status = getStatusCode();
+        return Objects.isNull(status) ? null : new BufferedResponse(status, getHeaders(), body);
+    }
+
+    private void complete(final BufferedResponse response) {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+        if (Objects.isNull(response)) {
+            buffered.onComplete();
+        } else {
+            buffered.onNext(response);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.response;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * The directives of the Cache-Control header which the shared responses care about, such as the response cache and single flight.
+ *
+ * @author xiaoyu
+ */
+public final class CacheControlDirectives {
+
+    private static final CacheControlDirectives NONE = new CacheControlDirectives(false, false, false, -1);
+
+    private final boolean noStore;
+
+    private final boolean noCache;
+
+    private final boolean privateOnly;
+
+    private final long maxAge;
+
+    private CacheControlDirectives(final boolean noStore, final boolean noCache, final boolean privateOnly, final long maxAge) {
+        this.noStore = noStore;
+        this.noCache = noCache;
+        this.privateOnly = privateOnly;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Parse the Cache-Control header, the s-maxage takes precedence over max-age.
+     *
+     * @param cacheControl the value of Cache-Control, maybe null
+     * @return the directives
+     */
+    public static CacheControlDirectives parse(final String cacheControl) {
+        if (StringUtils.isBlank(cacheControl)) {
+            return NONE;
+        }
+        boolean noStore = false;
+        boolean noCache = false;
+        boolean privateOnly = false;
+        long maxAge = -1;
+        long sharedMaxAge = -1;
+        for (String each : StringUtils.split(cacheControl, ',')) {
+            String directive = each.trim().toLowerCase();
+            if ("no-store".equals(directive)) {
+                noStore = true;
+            } else if (directive.startsWith("no-cache")) {
+                noCache = true;
+            } else if (directive.startsWith("private")) {
+                privateOnly = true;
+            } else if (directive.startsWith("max-age=")) {
+                maxAge = seconds(directive);
+            } else if (directive.startsWith("s-maxage=")) {
+                sharedMaxAge = seconds(directive);
+            }
+        }
+        return new CacheControlDirectives(noStore, noCache, privateOnly, sharedMaxAge >= 0 ? sharedMaxAge : maxAge);
+    }
+
+    /**
+     * Whether the response must not be stored.
+     *
+     * @return the boolean
+     */
+    public boolean isNoStore() {
+        return noStore;
+    }
+
+    /**
+     * Whether the cached response must be revalidated before use.
+     *
+     * @return the boolean
+     */
+    public boolean isNoCache() {
+        return noCache;
+    }
+
+    /**
+     * Whether the response is only for a single user, a shared cache must not store it.
+     *
+     * @return the boolean
+     */
+    public boolean isPrivateOnly() {
+        return privateOnly;
+    }
+
+    /**
+     * Gets max age in seconds, -1 if absent.
+     *
+     * @return the max age
+     */
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    private static long seconds(final String directive) {
+        return NumberUtils.toLong(StringUtils.strip(directive.substring(directive.indexOf('=') + 1), "\""), -1);
+    }
+}
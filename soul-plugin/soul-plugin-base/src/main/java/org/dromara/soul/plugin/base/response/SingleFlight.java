@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.response;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Coalesce the concurrent calls with the same key, only the first one (the leader) is executed,
+ * the others (the followers) wait for the value shared by the leader.
+ *
+ * @param <K> the type of key
+ * @param <V> the type of shared value
+ * @author xiaoyu
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Execute the call as the leader, or wait for the value of the in flight call with the same key.
+     *
+     * @param key      the key
+     * @param leader   the call of the leader, the value is shared by the given consumer, at most once
+     * @param follower the call of a follower with the shared value
+     * @param fallback the call of a follower when the leader terminates without a shared value
+     * @return {@code Mono<Void>} to indicate when the call is complete
+     */
+    public Mono<Void> execute(final K key, final Function<Consumer<V>, Mono<Void>> leader,
+                              final Function<V, Mono<Void>> follower, final Supplier<Mono<Void>> fallback) {
+        return execute(key, Integer.MAX_VALUE, leader, follower, fallback);
+    }
+
+    /**
+     * Execute the call as the leader, or wait for the value of the in flight call with the same key.
+     * The followers beyond the max waiters of one call do not wait, they execute the fallback at once.
+     *
+     * @param key        the key
+     * @param maxWaiters the max count of followers waiting for one call
+     * @param leader     the call of the leader, the value is shared by the given consumer, at most once
+     * @param follower   the call of a follower with the shared value
+     * @param fallback   the call of a follower when the leader terminates without a shared value
+     * @return {@code Mono<Void>} to indicate when the call is complete
+     */
+    public Mono<Void> execute(final K key, final int maxWaiters, final Function<Consumer<V>, Mono<Void>> leader,
+                              final Function<V, Mono<Void>> follower, final Supplier<Mono<Void>> fallback) {
+        return Mono.defer(() -> {
+            Flight<V> flight = new Flight<>();
+            Flight<V> existing = flights.putIfAbsent(key, flight);
+            if (existing != null) {
+                if (existing.waiters.incrementAndGet() > maxWaiters) {
+                    return fallback.get();
+                }
+                return existing.result.map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(value -> value.isPresent() ? follower.apply(value.get()) : fallback.get());
+            }
+            Consumer<V> share = value -> {
+                flights.remove(key, flight);
+                flight.complete(value);
+            };
+            return leader.apply(share).doFinally(signal -> {
+                flights.remove(key, flight);
+                flight.complete(null);
+            });
+        });
+    }
+
+    /**
+     * The count of in flight calls.
+     *
+     * @return the count
+     */
+    public int inflight() {
+        return flights.size();
+    }
+
+    private static final class Flight<V> {
+
+        private final MonoProcessor<V> result = MonoProcessor.create();
+
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        private void complete(final V value) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            if (value == null) {
+                result.onComplete();
+            } else {
+                result.onNext(value);
+            }
+        }
+    }
+}
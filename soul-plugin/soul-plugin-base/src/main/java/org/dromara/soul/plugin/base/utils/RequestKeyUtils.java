@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.utils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+import java.net.URI;
+
+/**
+ * Build the key telling identical requests apart, for the responses shared by them, such as the response cache and single flight.
+ *
+ * @author xiaoyu
+ */
+public final class RequestKeyUtils {
+
+    private RequestKeyUtils() {
+    }
+
+    /**
+     * Build the key of request, {ruleId} {method} {rawPath}[?{rawQuery}] followed by a line of each given header.
+     *
+     * @param ruleId      the rule id
+     * @param request     the request
+     * @param withQuery   whether the query is part of the key
+     * @param headerNames the names of headers which are part of the key, separated by comma, maybe blank
+     * @return the key
+     */
+    public static String build(final String ruleId, final ServerHttpRequest request, final boolean withQuery, final String headerNames) {
+        URI uri = request.getURI();
+        StringBuilder key = new StringBuilder().append(ruleId).append(' ').append(request.getMethodValue()).append(' ').append(uri.getRawPath());
+        if (withQuery && StringUtils.isNotEmpty(uri.getRawQuery())) {
+            key.append('?').append(uri.getRawQuery());
+        }
+        if (StringUtils.isNotBlank(headerNames)) {
+            HttpHeaders headers = request.getHeaders();
+            for (String each : StringUtils.split(headerNames, ',')) {
+                String name = each.trim();
+                key.append('\n').append(name).append(':').append(String.join(",", headers.getOrEmpty(name)));
+            }
+        }
+        return key.toString();
+    }
+}
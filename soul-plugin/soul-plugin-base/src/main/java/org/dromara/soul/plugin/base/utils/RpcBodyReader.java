@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read the rpc request body from the pooled buffers with a size limit, every buffer is released as soon as it is read.
+ * The json body is fed into a non-blocking parser chunk by chunk, and every parsed token is bound to the rpc parameters at once,
+ * so the body is neither copied into a string nor buffered as tokens.
+ *
+ * @author xiaoyu
+ */
+public final class RpcBodyReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private RpcBodyReader() {
+    }
+
+    /**
+     * Read the json body and bind it to the rpc parameters while it is parsed.
+     *
+     * @param body    the body
+     * @param maxSize the max size of body in bytes
+     * @param binder  the binder of the rpc parameters
+     * @return the parameter types and the arguments, empty if the body is empty
+     */
+    public static Mono<Pair<String[], Object[]>> readJson(final Flux<DataBuffer> body, final long maxSize, final RpcParamBinder binder) {
+        return Mono.defer(() -> {
+            JsonParser parser;
+            try {
+                parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                return Mono.error(e);
+            }
+            ByteArrayFeeder feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            RpcParamBinder.Binding binding = binder.binding();
+            AtomicLong size = new AtomicLong();
+            return limit(body, maxSize, size)
+                    .doOnNext(buffer -> {
+                        try {
+                            feed(feeder, buffer);
+                            drain(parser, binding);
+                        } catch (IOException e) {
+                            throw invalidJson(e);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        try {
+                            feeder.endOfInput();
+                            drain(parser, binding);
+                            parser.close();
+                        } catch (IOException e) {
+                            throw invalidJson(e);
+                        }
+                        return size.get() == 0 ? null : binding.result();
+                    }));
+        });
+    }
+
+    /**
+     * Read the body as a string, the buffers are joined once.
+     *
+     * @param body    the body
+     * @param maxSize the max size of body in bytes
+     * @return the string, empty if the body is empty
+     */
+    public static Mono<String> readString(final Flux<DataBuffer> body, final long maxSize) {
+        return DataBufferUtils.join(limit(body, maxSize, new AtomicLong()))
+                .map(buffer -> {
+                    try {
+                        return buffer.toString(StandardCharsets.UTF_8);
+                    } finally {
+                        DataBufferUtils.release(buffer);
+                    }
+                })
+                .defaultIfEmpty("");
+    }
+
+    private static Flux<DataBuffer> limit(final Flux<DataBuffer> body, final long maxSize, final AtomicLong size) {
+        return body.handle((buffer, sink) -> {
+            if (size.addAndGet(buffer.readableByteCount()) > maxSize) {
+                DataBufferUtils.release(buffer);
+                sink.error(new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "The body is larger than " + maxSize + " bytes"));
+                return;
+            }
+            sink.next(buffer);
+        });
+    }
+
+    private static ResponseStatusException invalidJson(final IOException e) {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "The body is not a valid json: " + e.getMessage(), e);
+    }
+
+    private static void feed(final ByteArrayFeeder feeder, final DataBuffer buffer) throws IOException {
+        ByteBuffer byteBuffer = buffer.asByteBuffer();
+        if (byteBuffer.hasArray()) {
+            // the heap buffer is fed without copy, it is consumed before the buffer is released
+            int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            feeder.feedInput(byteBuffer.array(), offset, offset + byteBuffer.remaining());
+            return;
+        }
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        feeder.feedInput(bytes, 0, bytes.length);
+    }
+
+    private static void drain(final JsonParser parser, final RpcParamBinder.Binding binding) throws IOException {
+        JsonToken token = parser.nextToken();
+        while (Objects.nonNull(token) && token != JsonToken.NOT_AVAILABLE) {
+            binding.accept(parser);
+            token = parser.nextToken();
+        }
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.exception.SoulException;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The binder of the generic rpc parameters, it is compiled once for the parameter types of a method,
+ * and streams the json body once into the arguments, without parsing the nested objects again.
+ * A parameter of java type is read as that type, the others are read as maps and lists.
+ *
+ * @author xiaoyu
+ */
+public final class RpcParamBinder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final Map<String, RpcParamBinder> BINDERS = new ConcurrentHashMap<>();
+
+    private static final Map<String, ValueReader> TYPED_READERS = new HashMap<>();
+
+    private static final ValueReader GENERIC_READER = parser -> readValue(parser, 1);
+
+    private final String parameterTypes;
+
+    private final String[] types;
+
+    private final boolean single;
+
+    private final ValueReader[] readers;
+
+    static {
+        TYPED_READERS.put("java.lang.String", RpcParamBinder::text);
+        TYPED_READERS.put("java.lang.Integer", parser -> isNumber(parser) ? parser.getIntValue() : Integer.valueOf(text(parser).trim()));
+        TYPED_READERS.put("int", TYPED_READERS.get("java.lang.Integer"));
+        TYPED_READERS.put("java.lang.Long", parser -> isNumber(parser) ? parser.getLongValue() : Long.valueOf(text(parser).trim()));
+        TYPED_READERS.put("long", TYPED_READERS.get("java.lang.Long"));
+        TYPED_READERS.put("java.lang.Double", parser -> isNumber(parser) ? parser.getDoubleValue() : Double.valueOf(text(parser).trim()));
+        TYPED_READERS.put("double", TYPED_READERS.get("java.lang.Double"));
+        TYPED_READERS.put("java.lang.Float", parser -> isNumber(parser) ? parser.getFloatValue() : Float.valueOf(text(parser).trim()));
+        TYPED_READERS.put("float", TYPED_READERS.get("java.lang.Float"));
+        TYPED_READERS.put("java.lang.Short", parser -> isNumber(parser) ? parser.getShortValue() : Short.valueOf(text(parser).trim()));
+        TYPED_READERS.put("short", TYPED_READERS.get("java.lang.Short"));
+        TYPED_READERS.put("java.lang.Byte", parser -> isNumber(parser) ? parser.getByteValue() : Byte.valueOf(text(parser).trim()));
+        TYPED_READERS.put("byte", TYPED_READERS.get("java.lang.Byte"));
+        TYPED_READERS.put("java.lang.Boolean", parser -> parser.currentToken() == JsonToken.VALUE_STRING ? Boolean.valueOf(text(parser).trim()) : parser.getBooleanValue());
+        TYPED_READERS.put("boolean", TYPED_READERS.get("java.lang.Boolean"));
+        TYPED_READERS.put("java.math.BigDecimal", parser -> isNumber(parser) ? parser.getDecimalValue() : new BigDecimal(text(parser).trim()));
+        TYPED_READERS.put("java.math.BigInteger", parser -> isNumber(parser) ? parser.getBigIntegerValue() : new BigInteger(text(parser).trim()));
+    }
+
+    private RpcParamBinder(final String parameterTypes) {
+        this.parameterTypes = parameterTypes;
+        this.types = StringUtils.split(parameterTypes, ",");
+        this.readers = new ValueReader[types.length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = types[i].trim();
+            readers[i] = TYPED_READERS.getOrDefault(types[i], GENERIC_READER);
+        }
+        this.single = types.length == 1 && !isBaseType(types[0]);
+    }
+
+    /**
+     * Gets the binder of the parameter types, it is compiled at the first time.
+     *
+     * @param parameterTypes the parameter types, separated by comma
+     * @return the binder
+     */
+    public static RpcParamBinder of(final String parameterTypes) {
+        return BINDERS.computeIfAbsent(StringUtils.defaultString(parameterTypes), RpcParamBinder::new);
+    }
+
+    /**
+     * Read the json object body as a map, the nested objects and arrays are read as maps and lists.
+     *
+     * @param body the json object body
+     * @return the map
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> bindObject(final String body) {
+        return (Map<String, Object>) read(body, parser -> Objects.isNull(parser.nextToken()) ? null : readValue(parser, 0));
+    }
+
+    /**
+     * Bind the body to the parameters.
+     * A single parameter of custom type takes the whole body, otherwise the fields of body are bound to the parameters in order.
+     *
+     * @param body the json object body
+     * @return the parameter types and the arguments
+     */
+    public Pair<String[], Object[]> bind(final String body) {
+        if (single) {
+            return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{bindObject(body)});
+        }
+        return new ImmutablePair<>(types.clone(), (Object[]) read(body, this::readArgs));
+    }
+
+    /**
+     * Start the binding of a streamed body, which is fed by the tokens of a non-blocking parser as soon as they are parsed.
+     *
+     * @return the binding
+     */
+    public Binding binding() {
+        return new Binding();
+    }
+
+    private Object[] readArgs(final JsonParser parser) throws IOException {
+        Object[] args = new Object[readers.length];
+        JsonToken token = parser.nextToken();
+        if (Objects.isNull(token) || token == JsonToken.VALUE_NULL) {
+            return args;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalStateException("the body is not a json object");
+        }
+        int index = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken value = parser.nextToken();
+            if (index < readers.length) {
+                args[index] = value == JsonToken.VALUE_NULL ? null : readers[index].read(parser);
+                index++;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return args;
+    }
+
+    private static Object read(final String body, final ValueReader valueReader) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return valueReader.read(parser);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new SoulException("the body can not be bound to the rpc parameters: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Read the current json value as the plain java object, the depth is the count of objects which contain the value.
+     * As the parameters were built before, the strings which hold a json object are expanded inside a nested object.
+     *
+     * @param parser the json parser
+     * @param depth  the depth
+     * @return the value
+     * @throws IOException the io exception
+     */
+    private static Object readValue(final JsonParser parser, final int depth) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (Objects.isNull(token)) {
+            throw new IllegalStateException("unexpected end of the json body");
+        }
+        switch (token) {
+            case START_OBJECT:
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    map.put(name, readValue(parser, depth + 1));
+                }
+                return map;
+            case START_ARRAY:
+                List<Object> list = new ArrayList<>();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    list.add(readValue(parser, depth));
+                }
+                return list;
+            default:
+                return readScalar(parser, depth);
+        }
+    }
+
+    private static Object readScalar(final JsonParser parser, final int depth) throws IOException {
+        JsonToken token = parser.currentToken();
+        switch (token) {
+            case VALUE_STRING:
+                String value = parser.getText();
+                return depth > 1 && isJsonObject(value) ? read(value, jsonParser -> {
+                    jsonParser.nextToken();
+                    return readValue(jsonParser, 1);
+                }) : value;
+            case VALUE_NUMBER_INT:
+                return parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER ? parser.getBigIntegerValue() : parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return parser.getBooleanValue();
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new IllegalStateException("unexpected json token " + token);
+        }
+    }
+
+    private static boolean isNumber(final JsonParser parser) {
+        return parser.currentToken().isNumeric();
+    }
+
+    private static String text(final JsonParser parser) throws IOException {
+        if (!parser.currentToken().isScalarValue()) {
+            throw new IllegalStateException("expected a json value but was " + parser.currentToken());
+        }
+        return parser.getText();
+    }
+
+    private static boolean isJsonObject(final String value) {
+        String trimmed = value.trim();
+        return trimmed.startsWith("{") && trimmed.endsWith("}");
+    }
+
+    private static boolean isBaseType(final String paramType) {
+        return TYPED_READERS.containsKey(paramType) || paramType.startsWith("java") || paramType.startsWith("[Ljava");
+    }
+
+    /**
+     * Read the current json value.
+     */
+    @FunctionalInterface
+    private interface ValueReader {
+
+        /**
+         * Read the value.
+         *
+         * @param parser the json parser
+         * @return the value
+         * @throws IOException the io exception
+         */
+        Object read(JsonParser parser) throws IOException;
+    }
+
+    /**
+     * The binding of a streamed body, every token is bound as soon as it is parsed,
+     * so the body is neither joined into a string nor buffered as tokens before binding.
+     * It builds the same arguments as {@link #bind(String)}.
+     */
+    public final class Binding {
+
+        private final Object[] args = new Object[types.length];
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+
+        private boolean started;
+
+        private boolean completed;
+
+        private int index = -1;
+
+        private int skipped;
+
+        private Object built;
+
+        private Binding() {
+        }
+
+        /**
+         * Bind the current token of the parser.
+         *
+         * @param parser the parser which is positioned at the token
+         */
+        public void accept(final JsonParser parser) {
+            try {
+                bindToken(parser);
+            } catch (IOException | IllegalStateException | NumberFormatException e) {
+                throw new SoulException("the body can not be bound to the rpc parameters: " + e.getMessage(), e);
+            }
+        }
+
+        /**
+         * Gets the bound parameters, the parameters which are absent in the body are null.
+         *
+         * @return the parameter types and the arguments
+         */
+        public Pair<String[], Object[]> result() {
+            return new ImmutablePair<>(single ? new String[]{parameterTypes} : types.clone(), args);
+        }
+
+        private void bindToken(final JsonParser parser) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (completed) {
+                return;
+            }
+            if (skipped > 0) {
+                if (token.isStructStart()) {
+                    skipped++;
+                } else if (token.isStructEnd()) {
+                    skipped--;
+                }
+                return;
+            }
+            if (single) {
+                if (build(parser, 0)) {
+                    args[0] = built;
+                    completed = true;
+                }
+                return;
+            }
+            if (!frames.isEmpty()) {
+                if (build(parser, 1)) {
+                    args[index] = built;
+                }
+                return;
+            }
+            if (!started) {
+                started = true;
+                completed = token == JsonToken.VALUE_NULL;
+                if (!completed && token != JsonToken.START_OBJECT) {
+                    throw new IllegalStateException("the body is not a json object");
+                }
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                index++;
+                return;
+            }
+            if (token == JsonToken.END_OBJECT) {
+                completed = true;
+                return;
+            }
+            if (index >= readers.length) {
+                skipped = token.isStructStart() ? 1 : 0;
+            } else if (readers[index] == GENERIC_READER) {
+                if (build(parser, 1)) {
+                    args[index] = built;
+                }
+            } else if (token != JsonToken.VALUE_NULL) {
+                args[index] = readers[index].read(parser);
+            }
+        }
+
+        /**
+         * Build the plain java object of a value token by token, the same as it is read from a blocking parser.
+         *
+         * @param parser    the parser
+         * @param rootDepth the depth of the value
+         * @return whether the value is built
+         * @throws IOException the io exception
+         */
+        @SuppressWarnings("unchecked")
+        private boolean build(final JsonParser parser, final int rootDepth) throws IOException {
+            Frame frame = frames.peek();
+            int depth = Objects.isNull(frame) ? rootDepth : frame.childDepth;
+            Object value;
+            switch (parser.currentToken()) {
+                case FIELD_NAME:
+                    frame.name = parser.getCurrentName();
+                    return false;
+                case START_OBJECT:
+                    frames.push(new Frame(new LinkedHashMap<String, Object>(), depth + 1));
+                    return false;
+                case START_ARRAY:
+                    frames.push(new Frame(new ArrayList<>(), depth));
+                    return false;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value = frames.pop().container;
+                    break;
+                default:
+                    value = readScalar(parser, depth);
+            }
+            Frame parent = frames.peek();
+            if (Objects.isNull(parent)) {
+                built = value;
+                return true;
+            }
+            if (parent.container instanceof Map) {
+                ((Map<String, Object>) parent.container).put(parent.name, value);
+            } else {
+                ((List<Object>) parent.container).add(value);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The object or array which is being built.
+     */
+    private static final class Frame {
+
+        private final Object container;
+
+        private final int childDepth;
+
+        private String name;
+
+        Frame(final Object container, final int childDepth) {
+            this.container = container;
+            this.childDepth = childDepth;
+        }
+    }
+}
@@ -17,15 +17,8 @@
 
 package org.dromara.soul.plugin.base.utils;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
-import org.dromara.soul.common.utils.GsonUtils;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 
 /**
  * Common rpc parameter builder utils.
@@ -42,55 +35,17 @@ public class RpcParamUtils {
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildSingleParameter(final String body, final String parameterTypes) {
-        final Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        for (String key : paramMap.keySet()) {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                paramMap.put(key, GsonUtils.getInstance().convertToMap(obj.toString()));
-            } else if (obj instanceof JsonArray) {
-                paramMap.put(key, GsonUtils.getInstance().fromList(obj.toString(), Object.class));
-            } else {
-                paramMap.put(key, obj);
-            }
-        }
-        return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{paramMap});
+        return new ImmutablePair<>(new String[]{parameterTypes}, new Object[]{RpcParamBinder.bindObject(body)});
     }
 
     /**
-     * build multi parameters.
+     * build multi parameters, the binder of the parameter types is compiled once.
      *
      * @param body the parameter body.
      * @param parameterTypes the parameter types.
      * @return the parameters.
      */
     public static Pair<String[], Object[]> buildParameters(final String body, final String parameterTypes) {
-        String[] parameter = StringUtils.split(parameterTypes, ",");
-        if (parameter.length == 1 && !isBaseType(parameter[0])) {
-            return buildSingleParameter(body, parameterTypes);
-        }
-        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
-        List<Object> list = new LinkedList<>();
-        for (String key : paramMap.keySet()) {
-            Object obj = paramMap.get(key);
-            if (obj instanceof JsonObject) {
-                list.add(GsonUtils.getInstance().convertToMap(obj.toString()));
-            } else if (obj instanceof JsonArray) {
-                list.add(GsonUtils.getInstance().fromList(obj.toString(), Object.class));
-            } else {
-                list.add(obj);
-            }
-        }
-        Object[] objects = list.toArray();
-        return new ImmutablePair<>(parameter, objects);
-    }
-
-    /**
-     * isBaseType.
-     *
-     * @param paramType the parameter type.
-     * @return whether the base type is.
-     */
-    private static boolean isBaseType(final String paramType) {
-        return paramType.startsWith("java") || paramType.startsWith("[Ljava");
+        return RpcParamBinder.of(parameterTypes).bind(body);
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.accesslog;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test case for {@link AccessLogRing}.
+ *
+ * @author xiaoyu
+ */
+public final class AccessLogRingTest {
+
+    @Test
+    public void testCapacityIsPowerOfTwo() {
+        assertEquals(2, new AccessLogRing(1).capacity());
+        assertEquals(8, new AccessLogRing(5).capacity());
+        assertEquals(8192, new AccessLogRing(8192).capacity());
+    }
+
+    @Test
+    public void testPublishAndPoll() {
+        AccessLogRing ring = new AccessLogRing(4);
+        assertNull(ring.poll());
+        AccessLogRecord record = ring.claim();
+        record.fill(1L, "GET", "/http/test", 200, 1500, "http://localhost:8080/test", "divide", "selector", "rule");
+        assertNull(ring.poll());
+        ring.publish(record);
+        assertSame(record, ring.poll());
+        assertEquals("1 GET /http/test 200 1500 http://localhost:8080/test divide selector rule", record.appendTo(new StringBuilder()).toString());
+        ring.release(record);
+        assertNull(ring.poll());
+    }
+
+    @Test
+    public void testMissingFields() {
+        AccessLogRecord record = new AccessLogRing(2).claim();
+        record.fill(1L, "POST", "/test", 0, 10, null, null, null, null);
+        assertEquals("1 POST /test - 10 - - - -", record.appendTo(new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testDropWhenFull() {
+        AccessLogRing ring = new AccessLogRing(2);
+        AccessLogRecord first = ring.claim();
+        ring.publish(ring.claim());
+        assertNull(ring.claim());
+        assertEquals(1, ring.dropped());
+        ring.publish(first);
+        ring.release(ring.poll());
+        AccessLogRecord third = ring.claim();
+        assertSame(first, third);
+        assertEquals(2, third.getSequence());
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link DelayedDestroyer}.
+ *
+ * @author xiaoyu
+ */
+public final class DelayedDestroyerTest {
+
+    @Test
+    public void testDestroyAfterGracePeriod() throws InterruptedException {
+        DelayedDestroyer destroyer = new DelayedDestroyer("test", 100L);
+        CountDownLatch destroyed = new CountDownLatch(1);
+        AtomicLong destroyedAt = new AtomicLong();
+        long start = System.nanoTime();
+        destroyer.destroy("reference", reference -> {
+            destroyedAt.set(System.nanoTime());
+            destroyed.countDown();
+        });
+        assertTrue(destroyed.await(5, TimeUnit.SECONDS));
+        assertTrue(destroyedAt.get() - start >= TimeUnit.MILLISECONDS.toNanos(100L));
+    }
+
+    @Test
+    public void testDestroyError() throws InterruptedException {
+        DelayedDestroyer destroyer = new DelayedDestroyer("test", 0L);
+        CountDownLatch destroyed = new CountDownLatch(2);
+        destroyer.destroy("broken", reference -> {
+            destroyed.countDown();
+            throw new IllegalStateException("broken");
+        });
+        destroyer.destroy(null, reference -> destroyed.countDown());
+        destroyer.destroy("next", reference -> destroyed.countDown());
+        assertTrue(destroyed.await(5, TimeUnit.SECONDS));
+    }
+}
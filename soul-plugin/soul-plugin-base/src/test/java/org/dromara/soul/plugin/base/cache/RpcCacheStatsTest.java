@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for RpcCacheStats.
+ *
+ * @author xiaoyu
+ */
+public final class RpcCacheStatsTest {
+
+    @Test
+    public void testStats() throws Exception {
+        Cache<String, String> cache = CacheBuilder.newBuilder().maximumSize(1).recordStats().build();
+        RpcCacheStats stats = RpcCacheStats.register("test", cache);
+        cache.put("a", "a");
+        cache.put("b", "b");
+        cache.getIfPresent("b");
+        cache.getIfPresent("a");
+        stats.recordLoad(2_000_000L);
+        assertEquals(1, stats.getSize());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(1, stats.getEvictionCount());
+        assertEquals(1, stats.getLoadCount());
+        assertEquals(2, stats.getTotalLoadTimeMillis());
+        ObjectName objectName = new ObjectName("org.dromara.soul:type=RpcCache,name=test");
+        assertEquals(1L, ManagementFactory.getPlatformMBeanServer().getAttribute(objectName, "EvictionCount"));
+    }
+}
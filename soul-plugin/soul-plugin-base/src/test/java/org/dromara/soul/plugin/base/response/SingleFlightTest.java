@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.base.response;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test case for SingleFlight.
+ *
+ * @author xiaoyu
+ */
+public final class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    private final AtomicInteger leaders = new AtomicInteger();
+
+    private final AtomicInteger fallbacks = new AtomicInteger();
+
+    private final List<String> received = new CopyOnWriteArrayList<>();
+
+    /**
+     * The followers receive the value shared by the leader, and the key is released after the call.
+     */
+    @Test
+    public void testShare() {
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        execute("key", Integer.MAX_VALUE, gate, "value").subscribe();
+        execute("key", Integer.MAX_VALUE, gate, "value").subscribe();
+        execute("key", Integer.MAX_VALUE, gate, "value").subscribe();
+        assertEquals(1, singleFlight.inflight());
+        gate.onComplete();
+        assertEquals(1, leaders.get());
+        assertEquals(3, received.size());
+        assertEquals(0, singleFlight.inflight());
+    }
+
+    /**
+     * The followers beyond the max waiters, or of a leader sharing nothing, execute the fallback.
+     */
+    @Test
+    public void testFallback() {
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        execute("key", 1, gate, null).subscribe();
+        execute("key", 1, gate, null).subscribe();
+        execute("key", 1, gate, null).subscribe();
+        assertEquals(1, fallbacks.get());
+        gate.onComplete();
+        assertEquals(1, leaders.get());
+        assertEquals(2, fallbacks.get());
+        assertEquals(0, singleFlight.inflight());
+    }
+
+    private Mono<Void> execute(final String key, final int maxWaiters, final Mono<Void> gate, final String value) {
+        return singleFlight.execute(key, maxWaiters,
+                share -> {
+                    leaders.incrementAndGet();
+                    return gate.doOnSuccess(v -> {
+                        if (value != null) {
+                            received.add(value);
+                            share.accept(value);
+                        }
+                    });
+                },
+                shared -> Mono.fromRunnable(() -> received.add(shared)),
+                () -> Mono.fromRunnable(fallbacks::incrementAndGet));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.exception.SoulException;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test cases for RpcBodyReader.
+ *
+ * @author xiaoyu
+ */
+public final class RpcBodyReaderTest {
+
+    private static final String BODY = "{\"id\":12,\"name\":\"中文soul\",\"ids\":[1,2]}";
+
+    @Test
+    public void testReadJson() {
+        Pair<String[], Object[]> pair = RpcBodyReader.readJson(chunks(BODY, 3), 1024, RpcParamBinder.of("java.lang.Integer,java.lang.String,java.util.List")).block();
+        assertEquals(12, pair.getRight()[0]);
+        assertEquals("中文soul", pair.getRight()[1]);
+        assertEquals(3, pair.getRight().length);
+    }
+
+    @Test
+    public void testReadJsonAsBound() {
+        String body = "{\"bean\":{\"id\":1,\"inner\":\"{\\\"name\\\":\\\"soul\\\"}\",\"ids\":[[1],{\"a\":null}]},\"skip\":{\"a\":[1]},\"text\":\"{}\",\"n\":null}";
+        for (String parameterTypes : new String[]{"org.dromara.soul.test.ComplexBean", "java.util.Map", "java.util.Map,java.util.Map,java.lang.String,int"}) {
+            RpcParamBinder binder = RpcParamBinder.of(parameterTypes);
+            Pair<String[], Object[]> pair = RpcBodyReader.readJson(chunks(body, 1), 1024, binder).block();
+            assertArrayEquals(binder.bind(body).getLeft(), pair.getLeft());
+            assertArrayEquals(binder.bind(body).getRight(), pair.getRight());
+        }
+    }
+
+    @Test
+    public void testReadUnboundJson() {
+        StepVerifier.create(RpcBodyReader.readJson(chunks("[1]", 1), 1024, RpcParamBinder.of("int")))
+                .expectError(SoulException.class)
+                .verify();
+    }
+
+    @Test
+    public void testReadEmptyJson() {
+        StepVerifier.create(RpcBodyReader.readJson(Flux.empty(), 1024, RpcParamBinder.of("int"))).verifyComplete();
+    }
+
+    @Test
+    public void testReadInvalidJson() {
+        StepVerifier.create(RpcBodyReader.readJson(chunks("{\"id\":}", 2), 1024, RpcParamBinder.of("int")))
+                .expectErrorMatches(e -> e instanceof ResponseStatusException && ((ResponseStatusException) e).getStatus() == HttpStatus.BAD_REQUEST)
+                .verify();
+    }
+
+    @Test
+    public void testReadTooLarge() {
+        StepVerifier.create(RpcBodyReader.readJson(chunks(BODY, 4), 10, RpcParamBinder.of("int")))
+                .expectErrorMatches(e -> e instanceof ResponseStatusException && ((ResponseStatusException) e).getStatus() == HttpStatus.PAYLOAD_TOO_LARGE)
+                .verify();
+        StepVerifier.create(RpcBodyReader.readString(chunks(BODY, 4), 10))
+                .expectErrorMatches(e -> e instanceof ResponseStatusException && ((ResponseStatusException) e).getStatus() == HttpStatus.PAYLOAD_TOO_LARGE)
+                .verify();
+    }
+
+    @Test
+    public void testReadString() {
+        StepVerifier.create(RpcBodyReader.readString(chunks(BODY, 5), 1024)).expectNext(BODY).verifyComplete();
+        StepVerifier.create(RpcBodyReader.readString(Flux.empty(), 1024)).expectNext("").verifyComplete();
+    }
+
+    private static Flux<DataBuffer> chunks(final String body, final int chunkSize) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += chunkSize) {
+            DataBuffer buffer = new DefaultDataBufferFactory().allocateBuffer(chunkSize);
+            buffer.write(bytes, i, Math.min(chunkSize, bytes.length - i));
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.utils;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.utils.GsonUtils;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The benchmark of RpcParamBinder on 10KB and 1MB bodies, compared with the gson round trips it replaced.
+ * It is not a surefire test by its name, run it by {@code mvn test -Dtest=RpcParamBinderBenchmark -pl soul-plugin/soul-plugin-base}.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class RpcParamBinderBenchmark {
+
+    private static final String PARAMETER_TYPES = "java.lang.Integer,java.util.Map,java.util.List";
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Test
+    public void benchmark() {
+        for (int size : new int[]{10 * 1024, 1024 * 1024}) {
+            String body = body(size);
+            RpcParamBinder binder = RpcParamBinder.of(PARAMETER_TYPES);
+            assertEquals(3, gsonRoundTrips(body).getRight().length);
+            long gson = measure(size, body, RpcParamBinderBenchmark::gsonRoundTrips);
+            long bound = measure(size, body, binder::bind);
+            long streamed = measure(size, body, json -> RpcBodyReader.readJson(chunks(json), Long.MAX_VALUE, binder).block());
+            log.info("body of {} bytes: gson round trips {} us/op, bind {} us/op, streamed bind {} us/op", body.length(), gson, bound, streamed);
+        }
+    }
+
+    private static long measure(final int size, final String body, final Function<String, Pair<String[], Object[]>> bind) {
+        int iterations = Math.max(20, 50 * 1024 * 1024 / size);
+        for (int i = 0; i < iterations; i++) {
+            bind.apply(body);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bind.apply(body);
+        }
+        return (System.nanoTime() - start) / iterations / 1000;
+    }
+
+    /**
+     * The binding which the binder replaced, every nested object and array is serialized and parsed again.
+     *
+     * @param body the body
+     * @return the parameter types and the arguments
+     */
+    private static Pair<String[], Object[]> gsonRoundTrips(final String body) {
+        Map<String, Object> paramMap = GsonUtils.getInstance().toObjectMap(body);
+        List<Object> list = new ArrayList<>();
+        for (Object obj : paramMap.values()) {
+            if (obj instanceof JsonObject) {
+                list.add(GsonUtils.getInstance().convertToMap(obj.toString()));
+            } else if (obj instanceof JsonArray) {
+                list.add(GsonUtils.getInstance().fromList(obj.toString(), Object.class));
+            } else {
+                list.add(obj);
+            }
+        }
+        return Pair.of(PARAMETER_TYPES.split(","), list.toArray());
+    }
+
+    private static String body(final int size) {
+        StringBuilder body = new StringBuilder("{\"id\":1,\"bean\":{\"name\":\"soul\",\"inner\":{\"tags\":[\"a\",\"b\"]}},\"items\":[");
+        for (int i = 0; body.length() < size; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\",\"detail\":{\"price\":").append(i).append(".5}}");
+        }
+        return body.append("]}").toString();
+    }
+
+    private static Flux<DataBuffer> chunks(final String body) {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += CHUNK_SIZE) {
+            DataBuffer buffer = new DefaultDataBufferFactory().allocateBuffer(CHUNK_SIZE);
+            buffer.write(bytes, i, Math.min(CHUNK_SIZE, bytes.length - i));
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+}
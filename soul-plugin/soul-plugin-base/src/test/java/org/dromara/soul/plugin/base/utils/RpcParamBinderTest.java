@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.base.utils;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Test cases for RpcParamBinder.
+ *
+ * @author xiaoyu
+ */
+public final class RpcParamBinderTest {
+
+    @Test
+    public void testOf() {
+        assertSame(RpcParamBinder.of("java.lang.Integer,java.lang.String"), RpcParamBinder.of("java.lang.Integer,java.lang.String"));
+    }
+
+    @Test
+    public void testBindTypedParameters() {
+        Pair<String[], Object[]> pair = RpcParamBinder.of("java.lang.Integer, long,java.lang.String,java.util.List")
+                .bind("{\"id\":\"12\",\"count\":3,\"name\":\"soul\",\"ids\":[1,2.5,null],\"extra\":{\"a\":1}}");
+        assertArrayEquals(new String[]{"java.lang.Integer", "long", "java.lang.String", "java.util.List"}, pair.getLeft());
+        assertEquals(12, pair.getRight()[0]);
+        assertEquals(3L, pair.getRight()[1]);
+        assertEquals("soul", pair.getRight()[2]);
+        assertEquals(Arrays.asList(1L, 2.5d, null), pair.getRight()[3]);
+        assertEquals(4, pair.getRight().length);
+    }
+
+    @Test
+    public void testBindMissingParameter() {
+        Pair<String[], Object[]> pair = RpcParamBinder.of("int,java.lang.String").bind("{\"id\":1}");
+        assertEquals(1, pair.getRight()[0]);
+        assertNull(pair.getRight()[1]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBindSingleCustomParameter() {
+        Pair<String[], Object[]> pair = RpcParamBinder.of("org.dromara.soul.test.ComplexBean")
+                .bind("{\"bean\":{\"id\":1,\"inner\":\"{\\\"name\\\":\\\"soul\\\"}\"},\"text\":\"{}\",\"ids\":[\"a\",null]}");
+        assertArrayEquals(new String[]{"org.dromara.soul.test.ComplexBean"}, pair.getLeft());
+        Map<String, Object> map = (Map<String, Object>) pair.getRight()[0];
+        Map<String, Object> bean = (Map<String, Object>) map.get("bean");
+        assertEquals(1L, bean.get("id"));
+        assertEquals("soul", ((Map<String, Object>) bean.get("inner")).get("name"));
+        assertEquals("{}", map.get("text"));
+        assertEquals(Arrays.asList("a", null), map.get("ids"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBindLargeBody() {
+        StringBuilder body = new StringBuilder("{\"items\":[");
+        int count = 20000;
+        for (int i = 0; i < count; i++) {
+            body.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item-").append(i).append("\"}");
+        }
+        body.append("]}");
+        Pair<String[], Object[]> pair = RpcParamBinder.of("org.dromara.soul.test.Items").bind(body.toString());
+        List<Object> items = (List<Object>) ((Map<String, Object>) pair.getRight()[0]).get("items");
+        assertEquals(count, items.size());
+        assertEquals("item-19999", ((Map<String, Object>) items.get(count - 1)).get("name"));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.result.SoulResultEnum;
+import org.dromara.soul.plugin.base.utils.SoulResultWrap;
+import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.batch.config.BatchConfig;
+import org.dromara.soul.plugin.batch.request.SubRequest;
+import org.dromara.soul.plugin.batch.request.SubServerHttpRequest;
+import org.dromara.soul.plugin.batch.response.SubResult;
+import org.dromara.soul.plugin.batch.response.SubServerHttpResponse;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.adapter.DefaultServerWebExchange;
+import org.springframework.web.server.i18n.AcceptHeaderLocaleContextResolver;
+import org.springframework.web.server.i18n.LocaleContextResolver;
+import org.springframework.web.server.session.DefaultWebSessionManager;
+import org.springframework.web.server.session.WebSessionManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The batch plugin, it takes a POST request of a json array of sub requests to the batch path,
+ * runs every sub request through the web handler it is given, and answers with the results of all of them.
+ * The sub requests are executed at most {@link BatchConfig#getConcurrency()} at the same time,
+ * those not completed by the deadline of the batch are answered with 504,
+ * and those answering more than {@link BatchConfig#getMaxResponseSize()} are answered with 502.
+ * A batch body larger than {@link BatchConfig#getMaxBodySize()} is rejected with 413.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public class BatchPlugin implements SoulPlugin {
+
+    private static final WebSessionManager SESSION_MANAGER = new DefaultWebSessionManager();
+
+    private static final ServerCodecConfigurer CODEC_CONFIGURER = ServerCodecConfigurer.create();
+
+    private static final LocaleContextResolver LOCALE_CONTEXT_RESOLVER = new AcceptHeaderLocaleContextResolver();
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final BatchConfig batchConfig;
+
+    private final Supplier<WebHandler> webHandlerSupplier;
+
+    private volatile WebHandler webHandler;
+
+    /**
+     * Instantiates a new Batch plugin.
+     *
+     * @param batchConfig        the batch config
+     * @param webHandlerSupplier the supplier of the web handler running the sub requests, it is resolved on the first batch
+     */
+    public BatchPlugin(final BatchConfig batchConfig, final Supplier<WebHandler> webHandlerSupplier) {
+        this.batchConfig = batchConfig;
+        this.webHandlerSupplier = webHandlerSupplier;
+    }
+
+    @Override
+    public Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
+        return DataBufferUtils.join(exchange.getRequest().getBody(), batchConfig.getMaxBodySize()).map(buffer -> {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            DataBufferUtils.release(buffer);
+            return bytes;
+        }).defaultIfEmpty(EMPTY_BODY).flatMap(content -> {
+            List<SubRequest> subRequests;
+            try {
+                subRequests = SubRequest.parse(content, batchConfig);
+            } catch (IllegalArgumentException e) {
+                Object error = SoulResultWrap.error(SoulResultEnum.BATCH_REQUEST_ERROR.getCode(), SoulResultEnum.BATCH_REQUEST_ERROR.getMsg(), e.getMessage());
+                return WebFluxResultUtils.result(exchange, error);
+            }
+            long deadline = System.currentTimeMillis() + batchConfig.getTimeout();
+            return Flux.fromIterable(subRequests)
+                    .flatMapSequential(subRequest -> executeSubRequest(exchange, subRequest, deadline), Math.max(batchConfig.getConcurrency(), 1))
+                    .collectList()
+                    .flatMap(results -> WebFluxResultUtils.result(exchange,
+                            SoulResultWrap.success(SoulResultEnum.SUCCESS.getCode(), SoulResultEnum.SUCCESS.getMsg(), results)));
+        }).onErrorResume(DataBufferLimitException.class, e -> {
+            // only the join of the batch body can fail with it, the sub requests map their own into the results
+            exchange.getResponse().setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+            Object error = SoulResultWrap.error(SoulResultEnum.PAYLOAD_TOO_LARGE.getCode(), SoulResultEnum.PAYLOAD_TOO_LARGE.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        // before the global plugin, the batch request itself has no soul context
+        return -1;
+    }
+
+    @Override
+    public String named() {
+        return "batch";
+    }
+
+    @Override
+    public Boolean skip(final ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        return request.getMethod() != HttpMethod.POST || !Objects.equals(batchConfig.getPath(), request.getURI().getPath());
+    }
+
+    private Mono<SubResult> executeSubRequest(final ServerWebExchange exchange, final SubRequest subRequest, final long deadline) {
+        return Mono.defer(() -> {
+            SubServerHttpResponse response = new SubServerHttpResponse(exchange.getResponse().bufferFactory(), batchConfig.getMaxResponseSize());
+            ServerWebExchange subExchange = new DefaultServerWebExchange(SubServerHttpRequest.of(exchange.getRequest(), subRequest), response,
+                    SESSION_MANAGER, CODEC_CONFIGURER, LOCALE_CONTEXT_RESOLVER);
+            Duration remaining = Duration.ofMillis(Math.max(deadline - System.currentTimeMillis(), 0L));
+            return getWebHandler().handle(subExchange)
+                    .then(Mono.fromSupplier(() -> SubResult.of(subRequest.getId(), response)))
+                    .timeout(remaining);
+        }).onErrorResume(TimeoutException.class, e -> Mono.just(new SubResult(subRequest.getId(), HttpStatus.GATEWAY_TIMEOUT.value(), Constants.TIMEOUT_RESULT)))
+                .onErrorResume(DataBufferLimitException.class, e -> Mono.just(new SubResult(subRequest.getId(), HttpStatus.BAD_GATEWAY.value(), e.getMessage())))
+                .onErrorResume(e -> {
+                    log.error("the sub request {} {} of batch failed", subRequest.getMethod(), subRequest.getPath(), e);
+                    return Mono.just(new SubResult(subRequest.getId(), HttpStatus.INTERNAL_SERVER_ERROR.value(), Constants.HTTP_ERROR_RESULT));
+                });
+    }
+
+    private WebHandler getWebHandler() {
+        WebHandler handler = webHandler;
+        if (Objects.isNull(handler)) {
+            handler = webHandlerSupplier.get();
+            webHandler = handler;
+        }
+        return handler;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.config;
+
+import lombok.Data;
+
+/**
+ * The batch plugin config of this gateway instance.
+ *
+ * @author xiaoyu
+ */
+@Data
+public class BatchConfig {
+
+    /**
+     * The path of the batch endpoint, only the POST request to it is a batch.
+     */
+    private String path = "/batch";
+
+    /**
+     * The max count of sub requests in one batch.
+     */
+    private int maxRequests = 20;
+
+    /**
+     * The max count of sub requests of one batch executed at the same time.
+     */
+    private int concurrency = 8;
+
+    /**
+     * The deadline of a batch in millis, the sub requests not completed by then are answered with 504.
+     */
+    private long timeout = 3000L;
+
+    /**
+     * The max size in bytes of the batch request body, a larger batch is rejected with 413.
+     */
+    private int maxBodySize = 1024 * 1024;
+
+    /**
+     * The max size in bytes of the response body of one sub request, a sub request answering more is failed with 502.
+     */
+    private int maxResponseSize = 1024 * 1024;
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.request;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.plugin.batch.config.BatchConfig;
+import org.springframework.http.HttpMethod;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * One sub request of a batch, such as {"id": "user", "method": "POST", "path": "/dubbo/findById", "headers": {}, "body": {"id": "1"}}.
+ * The method defaults to POST, and the id defaults to the index of the sub request.
+ *
+ * @author xiaoyu
+ */
+public final class SubRequest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final byte[] EMPTY_BODY = new byte[0];
+
+    private final String id;
+
+    private final HttpMethod method;
+
+    private final String path;
+
+    private final Map<String, String> headers;
+
+    private final byte[] body;
+
+    private SubRequest(final String id, final HttpMethod method, final String path, final Map<String, String> headers, final byte[] body) {
+        this.id = id;
+        this.method = method;
+        this.path = path;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Parse the body of a batch request.
+     *
+     * @param content     the body of batch request
+     * @param batchConfig the batch config
+     * @return the sub requests
+     * @throws IllegalArgumentException if the body is not a valid batch
+     */
+    public static List<SubRequest> parse(final byte[] content, final BatchConfig batchConfig) {
+        JsonNode root;
+        try {
+            root = OBJECT_MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("the batch body is not json: " + e.getMessage(), e);
+        }
+        if (Objects.isNull(root) || !root.isArray() || root.size() == 0) {
+            throw new IllegalArgumentException("the batch body must be a non-empty json array");
+        }
+        if (root.size() > batchConfig.getMaxRequests()) {
+            throw new IllegalArgumentException("the batch has " + root.size() + " sub requests, the max is " + batchConfig.getMaxRequests());
+        }
+        List<SubRequest> subRequests = new ArrayList<>(root.size());
+        for (int i = 0; i < root.size(); i++) {
+            subRequests.add(parse(root.get(i), i, batchConfig.getPath()));
+        }
+        return subRequests;
+    }
+
+    private static SubRequest parse(final JsonNode node, final int index, final String batchPath) {
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("the sub request " + index + " is not a json object");
+        }
+        String id = node.hasNonNull("id") ? node.get("id").asText() : String.valueOf(index);
+        String path = node.hasNonNull("path") ? node.get("path").asText() : null;
+        if (StringUtils.isBlank(path) || !path.startsWith("/")) {
+            throw new IllegalArgumentException("the path of sub request " + id + " must start with /");
+        }
+        if (Objects.equals(StringUtils.substringBefore(path, "?"), batchPath)) {
+            throw new IllegalArgumentException("the sub request " + id + " can not be a batch");
+        }
+        URI.create(path);
+        HttpMethod method = node.hasNonNull("method") ? HttpMethod.resolve(node.get("method").asText().toUpperCase()) : HttpMethod.POST;
+        if (Objects.isNull(method)) {
+            throw new IllegalArgumentException("the method of sub request " + id + " is invalid");
+        }
+        return new SubRequest(id, method, path, parseHeaders(node.get("headers")), parseBody(node.get("body")));
+    }
+
+    private static Map<String, String> parseHeaders(final JsonNode node) {
+        if (Objects.isNull(node) || !node.isObject()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> headers = new LinkedHashMap<>(node.size());
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            headers.put(field.getKey(), field.getValue().asText());
+        }
+        return headers;
+    }
+
+    private static byte[] parseBody(final JsonNode node) {
+        if (Objects.isNull(node) || node.isNull()) {
+            return EMPTY_BODY;
+        }
+        return (node.isTextual() ? node.asText() : node.toString()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets method.
+     *
+     * @return the method
+     */
+    public HttpMethod getMethod() {
+        return method;
+    }
+
+    /**
+     * Gets the path, with the query if there is any.
+     *
+     * @return the path
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the headers overriding the headers of batch request.
+     *
+     * @return the headers
+     */
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Gets body.
+     *
+     * @return the body
+     */
+    public byte[] getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.request;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+
+/**
+ * The request of a sub request, it has the uri, method and body of the sub request,
+ * and its own copy of the headers of batch request, so the sub requests never share mutable headers.
+ *
+ * @author xiaoyu
+ */
+public final class SubServerHttpRequest extends ServerHttpRequestDecorator {
+
+    private static final DataBufferFactory BUFFER_FACTORY = new DefaultDataBufferFactory();
+
+    private final HttpHeaders headers;
+
+    private final byte[] body;
+
+    private SubServerHttpRequest(final ServerHttpRequest delegate, final HttpHeaders headers, final byte[] body) {
+        super(delegate);
+        this.headers = headers;
+        this.body = body;
+    }
+
+    /**
+     * Build the request of sub request from the batch request.
+     *
+     * @param batchRequest the batch request
+     * @param subRequest   the sub request
+     * @return the sub server http request
+     */
+    public static SubServerHttpRequest of(final ServerHttpRequest batchRequest, final SubRequest subRequest) {
+        URI base = batchRequest.getURI();
+        URI uri = URI.create(base.getScheme() + "://" + base.getRawAuthority() + subRequest.getPath());
+        ServerHttpRequest request = batchRequest.mutate().uri(uri).method(subRequest.getMethod()).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(batchRequest.getHeaders());
+        headers.remove(HttpHeaders.TRANSFER_ENCODING);
+        subRequest.getHeaders().forEach(headers::set);
+        if (subRequest.getBody().length > 0) {
+            headers.setContentLength(subRequest.getBody().length);
+        } else {
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+        return new SubServerHttpRequest(request, headers, subRequest.getBody());
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public Flux<DataBuffer> getBody() {
+        return Flux.defer(() -> Flux.just(BUFFER_FACTORY.wrap(body)));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.response;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * The result of a sub request in the batch response, a json body is embedded as it is.
+ *
+ * @author xiaoyu
+ */
+public final class SubResult {
+
+    private final String id;
+
+    private final int status;
+
+    private final Object body;
+
+    /**
+     * Instantiates a new Sub result.
+     *
+     * @param id     the id of sub request
+     * @param status the http status
+     * @param body   the body
+     */
+    public SubResult(final String id, final int status, final Object body) {
+        this.id = id;
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Build the result from the response of sub request.
+     *
+     * @param id       the id of sub request
+     * @param response the response of sub request
+     * @return the sub result
+     */
+    public static SubResult of(final String id, final SubServerHttpResponse response) {
+        HttpStatus status = response.getStatusCode();
+        byte[] bytes = response.getBodyBytes();
+        int code = Objects.isNull(status) ? HttpStatus.OK.value() : status.value();
+        if (bytes.length == 0) {
+            return new SubResult(id, code, null);
+        }
+        String body = new String(bytes, StandardCharsets.UTF_8);
+        MediaType contentType = response.getHeaders().getContentType();
+        boolean json = Objects.nonNull(contentType) && (MediaType.APPLICATION_JSON.isCompatibleWith(contentType) || contentType.getSubtype().endsWith("+json"));
+        return new SubResult(id, code, json ? new RawValue(body) : body);
+    }
+
+    /**
+     * Gets id.
+     *
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets status.
+     *
+     * @return the status
+     */
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * Gets body.
+     *
+     * @return the body
+     */
+    public Object getBody() {
+        return body;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.response;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * The response of a sub request, the body written into it is kept in memory and never sent to the client,
+ * so writing more than the max size fails with {@link DataBufferLimitException}.
+ *
+ * @author xiaoyu
+ */
+public final class SubServerHttpResponse extends AbstractServerHttpResponse {
+
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+    private final int maxSize;
+
+    /**
+     * Instantiates a new Sub server http response.
+     *
+     * @param dataBufferFactory the data buffer factory
+     * @param maxSize           the max size in bytes of the body
+     */
+    public SubServerHttpResponse(final DataBufferFactory dataBufferFactory, final int maxSize) {
+        super(dataBufferFactory);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the body written into this response.
+     *
+     * @return the body
+     */
+    public byte[] getBodyBytes() {
+        return body.toByteArray();
+    }
+
+    @Override
+    public <T> T getNativeResponse() {
+        throw new IllegalStateException("the response of a sub request has no native response");
+    }
+
+    @Override
+    protected Mono<Void> writeWithInternal(final Publisher<? extends DataBuffer> content) {
+        return Flux.from(content).doOnNext(buffer -> {
+            try {
+                int count = buffer.readableByteCount();
+                if (count > maxSize - body.size()) {
+                    throw new DataBufferLimitException("the response of sub request exceeds the max size " + maxSize);
+                }
+                byte[] bytes = new byte[count];
+                buffer.read(bytes);
+                body.write(bytes, 0, count);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }).then();
+    }
+
+    @Override
+    protected Mono<Void> writeAndFlushWithInternal(final Publisher<? extends Publisher<? extends DataBuffer>> content) {
+        return writeWithInternal(Flux.from(content).concatMap(publisher -> publisher));
+    }
+
+    @Override
+    protected void applyStatusCode() {
+    }
+
+    @Override
+    protected void applyHeaders() {
+    }
+
+    @Override
+    protected void applyCookies() {
+    }
+}
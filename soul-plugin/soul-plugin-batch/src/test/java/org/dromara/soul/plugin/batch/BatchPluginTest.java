@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch;
+
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.result.DefaultSoulResult;
+import org.dromara.soul.plugin.api.result.SoulResult;
+import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
+import org.dromara.soul.plugin.batch.config.BatchConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Test Case For {@link BatchPlugin}.
+ *
+ * @author xiaoyu
+ */
+public final class BatchPluginTest {
+
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final AtomicInteger maxActive = new AtomicInteger();
+
+    private BatchConfig batchConfig;
+
+    private BatchPlugin batchPlugin;
+
+    @Before
+    public void setUp() {
+        ConfigurableApplicationContext applicationContext = mock(ConfigurableApplicationContext.class);
+        when(applicationContext.getBean(SoulResult.class)).thenReturn(new DefaultSoulResult());
+        SpringBeanUtils.getInstance().setCfgContext(applicationContext);
+        batchConfig = new BatchConfig();
+        batchConfig.setTimeout(1000L);
+        batchPlugin = new BatchPlugin(batchConfig, () -> this::handle);
+    }
+
+    @Test
+    public void testSkip() {
+        assertFalse(batchPlugin.skip(MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/batch").build())));
+        assertTrue(batchPlugin.skip(MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost/batch").build())));
+        assertTrue(batchPlugin.skip(MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/http/order").build())));
+        assertEquals(-1, batchPlugin.getOrder());
+        assertEquals("batch", batchPlugin.named());
+    }
+
+    @Test
+    public void testExecute() {
+        String body = execute("[{\"id\":\"echo\",\"path\":\"/echo?id=1\",\"body\":{\"name\":\"soul\"}},"
+                + "{\"id\":\"text\",\"method\":\"GET\",\"path\":\"/text\"},"
+                + "{\"id\":\"slow\",\"path\":\"/slow\"},"
+                + "{\"id\":\"error\",\"path\":\"/error\"}]");
+        assertTrue(body, body.contains("{\"id\":\"echo\",\"status\":200,\"body\":{\"path\":\"/echo\",\"query\":\"id=1\",\"body\":{\"name\":\"soul\"}}}"));
+        assertTrue(body, body.contains("{\"id\":\"text\",\"status\":404,\"body\":\"GET not found\"}"));
+        assertTrue(body, body.contains("{\"id\":\"slow\",\"status\":504"));
+        assertTrue(body, body.contains("{\"id\":\"error\",\"status\":500"));
+        assertTrue(body, body.indexOf("\"echo\"") < body.indexOf("\"text\"") && body.indexOf("\"slow\"") < body.indexOf("\"error\""));
+    }
+
+    @Test
+    public void testConcurrency() {
+        batchConfig.setConcurrency(2);
+        String body = execute("[{\"path\":\"/delay\"},{\"path\":\"/delay\"},{\"path\":\"/delay\"},{\"path\":\"/delay\"},{\"path\":\"/delay\"}]");
+        assertTrue(body, body.contains("{\"id\":\"4\",\"status\":200"));
+        assertEquals(2, maxActive.get());
+    }
+
+    @Test
+    public void testInvalidBatch() {
+        String body = execute("{\"path\":\"/echo\"}");
+        assertTrue(body, body.contains("\"code\":436"));
+    }
+
+    @Test
+    public void testResponseTooLarge() {
+        batchConfig.setMaxResponseSize(64);
+        String body = execute("[{\"id\":\"large\",\"path\":\"/large\"},{\"id\":\"text\",\"path\":\"/text\"}]");
+        assertTrue(body, body.contains("{\"id\":\"large\",\"status\":502"));
+        assertTrue(body, body.contains("{\"id\":\"text\",\"status\":404,\"body\":\"POST not found\"}"));
+    }
+
+    @Test
+    public void testBodyTooLarge() {
+        batchConfig.setMaxBodySize(16);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/batch")
+                .contentType(MediaType.APPLICATION_JSON).body("[{\"path\":\"/echo\"},{\"path\":\"/text\"}]"));
+        StepVerifier.create(batchPlugin.execute(exchange, mock(SoulPluginChain.class))).verifyComplete();
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, exchange.getResponse().getStatusCode());
+        String body = exchange.getResponse().getBodyAsString().block();
+        assertTrue(body, body.contains("\"code\":403"));
+    }
+
+    @Test
+    public void testChainIsNotExecuted() {
+        SoulPluginChain chain = mock(SoulPluginChain.class);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/batch")
+                .contentType(MediaType.APPLICATION_JSON).body("[{\"path\":\"/echo\"}]"));
+        StepVerifier.create(batchPlugin.execute(exchange, chain)).verifyComplete();
+        verify(chain, never()).execute(any());
+    }
+
+    private String execute(final String batch) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("http://localhost/batch")
+                .contentType(MediaType.APPLICATION_JSON).body(batch));
+        StepVerifier.create(batchPlugin.execute(exchange, mock(SoulPluginChain.class))).verifyComplete();
+        return exchange.getResponse().getBodyAsString().block();
+    }
+
+    private Mono<Void> handle(final ServerWebExchange exchange) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        switch (request.getPath().value()) {
+            case "/echo":
+                return request.getBody().map(buffer -> buffer.toString(StandardCharsets.UTF_8)).reduce(String::concat).flatMap(content -> {
+                    response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    String json = "{\"path\":\"" + request.getPath().value() + "\",\"query\":\"" + request.getURI().getRawQuery() + "\",\"body\":" + content + "}";
+                    return response.writeWith(Mono.just(response.bufferFactory().wrap(json.getBytes(StandardCharsets.UTF_8))));
+                });
+            case "/text":
+                response.setStatusCode(HttpStatus.NOT_FOUND);
+                response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+                return response.writeWith(Mono.just(response.bufferFactory().wrap((request.getMethodValue() + " not found").getBytes(StandardCharsets.UTF_8))));
+            case "/large":
+                byte[] chunk = new byte[32];
+                return response.writeWith(Flux.range(0, 4).map(i -> response.bufferFactory().wrap(chunk)));
+            case "/slow":
+                return Mono.never();
+            case "/delay":
+                return Mono.fromRunnable(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(50L)))
+                        .doFinally(signal -> active.decrementAndGet())
+                        .then();
+            default:
+                return Mono.error(new IllegalStateException("unknown path"));
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.request;
+
+import org.dromara.soul.plugin.batch.config.BatchConfig;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Test Case For {@link SubRequest} and {@link SubServerHttpRequest}.
+ *
+ * @author xiaoyu
+ */
+public final class SubRequestTest {
+
+    private final BatchConfig batchConfig = new BatchConfig();
+
+    @Test
+    public void testParse() {
+        List<SubRequest> subRequests = parse("[{\"id\":\"user\",\"path\":\"/dubbo/findById\",\"headers\":{\"X-Token\":\"t\"},\"body\":{\"id\":\"1\"}},"
+                + "{\"method\":\"get\",\"path\":\"/http/order?id=2\"},{\"path\":\"/http/text\",\"body\":\"plain\"}]");
+        assertEquals(3, subRequests.size());
+        SubRequest user = subRequests.get(0);
+        assertEquals("user", user.getId());
+        assertEquals(HttpMethod.POST, user.getMethod());
+        assertEquals("t", user.getHeaders().get("X-Token"));
+        assertEquals("{\"id\":\"1\"}", new String(user.getBody(), StandardCharsets.UTF_8));
+        SubRequest order = subRequests.get(1);
+        assertEquals("1", order.getId());
+        assertEquals(HttpMethod.GET, order.getMethod());
+        assertEquals(0, order.getBody().length);
+        assertEquals("plain", new String(subRequests.get(2).getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseNotJson() {
+        parse("not json");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseNotArray() {
+        parse("{\"path\":\"/http/order\"}");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseEmpty() {
+        parse("");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseTooMany() {
+        batchConfig.setMaxRequests(1);
+        parse("[{\"path\":\"/a\"},{\"path\":\"/b\"}]");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseWithoutPath() {
+        parse("[{\"body\":{}}]");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseNestedBatch() {
+        parse("[{\"path\":\"/batch?a=1\"}]");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseInvalidMethod() {
+        parse("[{\"method\":\"FETCH\",\"path\":\"/a\"}]");
+    }
+
+    @Test
+    public void testSubServerHttpRequest() {
+        MockServerHttpRequest batchRequest = MockServerHttpRequest.post("http://localhost:9195/batch")
+                .contentType(MediaType.APPLICATION_JSON).header("X-Token", "batch").header(HttpHeaders.TRANSFER_ENCODING, "chunked").build();
+        List<SubRequest> subRequests = parse("[{\"method\":\"GET\",\"path\":\"/http/order?id=2\",\"headers\":{\"X-Token\":\"sub\"}},"
+                + "{\"path\":\"/dubbo/findById\",\"body\":{\"id\":\"1\"}}]");
+        SubServerHttpRequest order = SubServerHttpRequest.of(batchRequest, subRequests.get(0));
+        assertEquals(HttpMethod.GET, order.getMethod());
+        assertEquals("http://localhost:9195/http/order?id=2", order.getURI().toString());
+        assertEquals("/http/order", order.getPath().value());
+        assertEquals("2", order.getQueryParams().getFirst("id"));
+        assertEquals("sub", order.getHeaders().getFirst("X-Token"));
+        assertNull(order.getHeaders().getFirst(HttpHeaders.TRANSFER_ENCODING));
+        assertEquals(-1, order.getHeaders().getContentLength());
+        assertEquals("batch", batchRequest.getHeaders().getFirst("X-Token"));
+        SubServerHttpRequest user = SubServerHttpRequest.of(batchRequest, subRequests.get(1));
+        assertEquals(HttpMethod.POST, user.getMethod());
+        assertEquals(10, user.getHeaders().getContentLength());
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(user.getHeaders().getContentType()));
+        StepVerifier.create(user.getBody().map(buffer -> buffer.toString(StandardCharsets.UTF_8)))
+                .expectNext("{\"id\":\"1\"}").verifyComplete();
+    }
+
+    private List<SubRequest> parse(final String content) {
+        return SubRequest.parse(content.getBytes(StandardCharsets.UTF_8), batchConfig);
+    }
+}
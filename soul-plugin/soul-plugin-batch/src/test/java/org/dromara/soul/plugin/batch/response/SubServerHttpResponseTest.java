@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.batch.response;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Test Case For {@link SubServerHttpResponse} and {@link SubResult}.
+ *
+ * @author xiaoyu
+ */
+public final class SubServerHttpResponseTest {
+
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    @Test
+    public void testWriteJson() {
+        SubServerHttpResponse response = new SubServerHttpResponse(bufferFactory, 16);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        StepVerifier.create(response.writeWith(Flux.just(buffer("{\"id\":"), buffer("1}")))).verifyComplete();
+        SubResult result = SubResult.of("user", response);
+        assertEquals("user", result.getId());
+        assertEquals(HttpStatus.OK.value(), result.getStatus());
+        assertTrue(result.getBody() instanceof RawValue);
+        assertEquals("{\"id\":1}", ((RawValue) result.getBody()).rawValue());
+    }
+
+    @Test
+    public void testWriteAndFlushText() {
+        SubServerHttpResponse response = new SubServerHttpResponse(bufferFactory, 16);
+        response.setStatusCode(HttpStatus.NOT_FOUND);
+        response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+        StepVerifier.create(response.writeAndFlushWith(Flux.just(Mono.just(buffer("not ")), Mono.just(buffer("found"))))).verifyComplete();
+        SubResult result = SubResult.of("order", response);
+        assertEquals(HttpStatus.NOT_FOUND.value(), result.getStatus());
+        assertEquals("not found", result.getBody());
+    }
+
+    @Test
+    public void testNotWritten() {
+        SubResult result = SubResult.of("empty", new SubServerHttpResponse(bufferFactory, 16));
+        assertEquals(HttpStatus.OK.value(), result.getStatus());
+        assertNull(result.getBody());
+    }
+
+    @Test
+    public void testWriteTooLarge() {
+        SubServerHttpResponse response = new SubServerHttpResponse(bufferFactory, 16);
+        StepVerifier.create(response.writeWith(Flux.just(buffer("{\"name\":"), buffer("\"too large\"}")))).verifyError(DataBufferLimitException.class);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNativeResponse() {
+        new SubServerHttpResponse(bufferFactory, 16).getNativeResponse();
+    }
+
+    private DataBuffer buffer(final String content) {
+        return bufferFactory.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.dto.convert.CacheHandle;
+import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.base.AbstractSoulPlugin;
+import org.dromara.soul.plugin.base.response.BufferedResponse;
+import org.dromara.soul.plugin.base.response.CacheControlDirectives;
+import org.dromara.soul.plugin.base.response.SingleFlight;
+import org.dromara.soul.plugin.base.utils.RequestKeyUtils;
+import org.dromara.soul.plugin.cache.config.ResponseCacheProperties;
+import org.dromara.soul.plugin.cache.handler.CacheHandleCache;
+import org.dromara.soul.plugin.cache.store.CacheEntry;
+import org.dromara.soul.plugin.cache.store.TinyLfuStore;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Response cache plugin, it serves the idempotent requests of the opted-in rules from the cached upstream responses.
+ * The concurrent misses of the same key are coalesced into one upstream request.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public class ResponseCachePlugin extends AbstractSoulPlugin {
+
+    private static final Set<HttpStatus> CACHEABLE_STATUS = EnumSet.of(HttpStatus.OK, HttpStatus.NON_AUTHORITATIVE_INFORMATION, HttpStatus.NO_CONTENT,
+            HttpStatus.MULTIPLE_CHOICES, HttpStatus.MOVED_PERMANENTLY, HttpStatus.NOT_FOUND, HttpStatus.GONE);
+
+    private final TinyLfuStore store;
+
+    private final SingleFlight<String, CacheEntry> singleFlight = new SingleFlight<>();
+
+    /**
+     * Instantiates a new Response cache plugin.
+     *
+     * @param properties the response cache properties
+     */
+    public ResponseCachePlugin(final ResponseCacheProperties properties) {
+        this.store = new TinyLfuStore(properties.getMaximumSize());
+    }
+
+    @Override
+    protected Mono<Void> doExecute(final ServerWebExchange exchange, final SoulPluginChain chain, final SelectorData selector, final RuleData rule) {
+        final CacheHandle cacheHandle = CacheHandleCache.getInstance().obtainHandle(rule);
+        final ServerHttpRequest request = exchange.getRequest();
+        if (Objects.isNull(cacheHandle) || !isCacheable(request)) {
+            return chain.execute(exchange);
+        }
+        final String key = RequestKeyUtils.build(rule.getId(), request, cacheHandle.isVaryQuery(), cacheHandle.getVaryHeaders());
+        final CacheEntry cached = store.get(key);
+        if (Objects.nonNull(cached) && cached.isFresh(System.currentTimeMillis()) && !isNoCache(request)) {
+            return writeCached(exchange, cached);
+        }
+        final CacheEntry stale = Objects.nonNull(cached) && cached.hasValidator() ? cached : null;
+        return singleFlight.execute(key,
+                share -> fetch(exchange, chain, cacheHandle, key, stale, share),
+                shared -> writeCached(exchange, shared),
+                () -> chain.execute(exchange));
+    }
+
+    @Override
+    public Boolean skip(final ServerWebExchange exchange) {
+        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        return !Objects.equals(RpcTypeEnum.HTTP.getName(), soulContext.getRpcType())
+                && !Objects.equals(RpcTypeEnum.SPRING_CLOUD.getName(), soulContext.getRpcType());
+    }
+
+    @Override
+    public String named() {
+        return PluginEnum.CACHE.getName();
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.CACHE.getCode();
+    }
+
+    /**
+     * Gets the store of cached responses.
+     *
+     * @return the store
+     */
+    public TinyLfuStore getStore() {
+        return store;
+    }
+
+    private Mono<Void> fetch(final ServerWebExchange exchange, final SoulPluginChain chain, final CacheHandle cacheHandle,
+                             final String key, final CacheEntry stale, final Consumer<CacheEntry> share) {
+        RevalidatingResponseDecorator response = new RevalidatingResponseDecorator(exchange.getResponse(), cacheHandle.getMaxEntrySize(), stale);
+        response.buffered().subscribe(buffered -> {
+            CacheEntry entry = toEntry(key, buffered, cacheHandle);
+            if (Objects.isNull(entry)) {
+                store.remove(key);
+                return;
+            }
+            store.put(key, entry);
+            share.accept(entry);
+        });
+        ServerWebExchange.Builder builder = exchange.mutate().response(response);
+        if (Objects.nonNull(stale)) {
+            builder.request(request -> request.headers(stale::applyValidators));
+        }
+        return chain.execute(builder.build()).doFinally(signal -> response.abort());
+    }
+
+    private Mono<Void> writeCached(final ServerWebExchange exchange, final CacheEntry entry) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (entry.matches(exchange.getRequest().getHeaders().getIfNoneMatch())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(entry.getEtag());
+            return response.setComplete();
+        }
+        Mono<Void> write = entry.getResponse().writeTo(response);
+        // the headers are committed when the write is subscribed
+        response.getHeaders().set(HttpHeaders.AGE, String.valueOf(entry.age(System.currentTimeMillis())));
+        return write;
+    }
+
+    private CacheEntry toEntry(final String key, final BufferedResponse buffered, final CacheHandle cacheHandle) {
+        HttpHeaders headers = buffered.getHeaders();
+        if (!CACHEABLE_STATUS.contains(buffered.getStatus()) || headers.containsKey(HttpHeaders.SET_COOKIE) || !isVaryCovered(headers.getVary(), cacheHandle)) {
+            return null;
+        }
+        CacheControlDirectives directives = CacheControlDirectives.parse(headers.getCacheControl());
+        if (directives.isNoStore() || directives.isPrivateOnly()) {
+            return null;
+        }
+        long ttl = directives.getMaxAge() >= 0 ? Math.min(cacheHandle.getTtl(), directives.getMaxAge()) : cacheHandle.getTtl();
+        if (directives.isNoCache()) {
+            ttl = 0;
+        }
+        CacheEntry entry = new CacheEntry(key, buffered, System.currentTimeMillis(), TimeUnit.SECONDS.toMillis(ttl));
+        // an entry which is stale at once is only useful for the revalidation
+        return ttl > 0 || entry.hasValidator() ? entry : null;
+    }
+
+    private boolean isVaryCovered(final List<String> vary, final CacheHandle cacheHandle) {
+        // the response varies on the headers which are not in the cache key, such as the Accept-Encoding of a compressed response
+        String[] varyHeaders = StringUtils.split(StringUtils.defaultString(cacheHandle.getVaryHeaders()), ',');
+        for (String each : vary) {
+            if (Arrays.stream(varyHeaders).noneMatch(name -> name.trim().equalsIgnoreCase(each))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isCacheable(final ServerHttpRequest request) {
+        HttpMethod method = request.getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        // the response to the credentials of one user is never served to another one
+        HttpHeaders headers = request.getHeaders();
+        return !headers.containsKey(HttpHeaders.AUTHORIZATION) && !headers.containsKey(HttpHeaders.COOKIE) && !CacheControlDirectives.parse(headers.getCacheControl()).isNoStore();
+    }
+
+    private boolean isNoCache(final ServerHttpRequest request) {
+        HttpHeaders headers = request.getHeaders();
+        return CacheControlDirectives.parse(headers.getCacheControl()).isNoCache() || "no-cache".equalsIgnoreCase(headers.getPragma());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache;
+
+import org.dromara.soul.plugin.base.response.BufferedResponse;
+import org.dromara.soul.plugin.base.response.BufferingResponseDecorator;
+import org.dromara.soul.plugin.cache.store.CacheEntry;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * Buffer the upstream response for the cache, when the upstream answers 304 to the revalidation of a stale entry,
+ * the stale entry is written instead, with the headers refreshed by the 304 response.
+ *
+ * @author xiaoyu
+ */
+public class RevalidatingResponseDecorator extends BufferingResponseDecorator {
+
+    private final CacheEntry stale;
+
+    /**
+     * Instantiates a new Revalidating response decorator.
+     *
+     * @param delegate the delegate
+     * @param maxSize  the max size of body to buffer, in bytes
+     * @param stale    the stale entry being revalidated, maybe null
+     */
+    public RevalidatingResponseDecorator(final ServerHttpResponse delegate, final int maxSize, final CacheEntry stale) {
+        super(delegate, maxSize);
+        this.stale = stale;
+    }
+
+    @Override
+    public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+        if (Objects.isNull(stale) || getStatusCode() != HttpStatus.NOT_MODIFIED) {
+            return super.writeWith(body);
+        }
+        BufferedResponse cached = stale.getResponse();
+        HttpHeaders headers = getHeaders();
+        HttpHeaders refreshed = new HttpHeaders();
+        refreshed.putAll(cached.getHeaders());
+        headers.forEach((name, values) -> {
+            if (!HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !HttpHeaders.TRANSFER_ENCODING.equalsIgnoreCase(name)) {
+                refreshed.put(name, values);
+            }
+        });
+        headers.clear();
+        headers.putAll(refreshed);
+        setStatusCode(cached.getStatus());
+        return Flux.from(body).doOnNext(DataBufferUtils::release)
+                .then(Mono.defer(() -> super.writeWith(Mono.fromSupplier(() -> bufferFactory().wrap(cached.getBody())))));
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        if (Objects.isNull(stale) || getStatusCode() != HttpStatus.NOT_MODIFIED) {
+            return super.setComplete();
+        }
+        return writeWith(Flux.empty());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.cache.handler;
+
+import com.google.common.collect.Maps;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.convert.CacheHandle;
+import org.dromara.soul.common.utils.GsonUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The parsed cache rule handles by rule id, so the handle is parsed once and not by every request.
+ *
+ * @author xiaoyu
+ */
+public final class CacheHandleCache {
+
+    private static final CacheHandleCache INSTANCE = new CacheHandleCache();
+
+    private static final Map<String, CachedHandle> HANDLE_MAP = Maps.newConcurrentMap();
+
+    private CacheHandleCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static CacheHandleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the parsed handle of rule, it is parsed again only if the handle of rule changes.
+     *
+     * @param rule the rule
+     * @return the cache handle, null if the rule has no handle
+     */
+    public CacheHandle obtainHandle(final RuleData rule) {
+        String handle = rule.getHandle();
+        if (Objects.isNull(rule.getId())) {
+            return GsonUtils.getInstance().fromJson(handle, CacheHandle.class);
+        }
+        CachedHandle cached = HANDLE_MAP.get(rule.getId());
+        if (Objects.nonNull(cached) && Objects.equals(cached.source, handle)) {
+            return cached.handle;
+        }
+        CacheHandle cacheHandle = GsonUtils.getInstance().fromJson(handle, CacheHandle.class);
+        HANDLE_MAP.put(rule.getId(), new CachedHandle(handle, cacheHandle));
+        return cacheHandle;
+    }
+
+    /**
+     * Remove the handle of rule.
+     *
+     * @param rule the rule
+     */
+    public void removeHandle(final RuleData rule) {
+        if (Objects.nonNull(rule.getId())) {
+            HANDLE_MAP.remove(rule.getId());
+        }
+    }
+
+    private static final class CachedHandle {
+
+        private final String source;
+
+        private final CacheHandle handle;
+
+        CachedHandle(final String source, final CacheHandle handle) {
+            this.source = source;
+            this.handle = handle;
+        }
+    }
+}
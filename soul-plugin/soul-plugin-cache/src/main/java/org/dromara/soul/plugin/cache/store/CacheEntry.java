@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache.store;
+
+import org.dromara.soul.plugin.base.response.BufferedResponse;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One cached response, with its freshness and validators.
+ *
+ * @author xiaoyu
+ */
+public final class CacheEntry {
+
+    private static final int OVERHEAD = 128;
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private final BufferedResponse response;
+
+    private final long storedAt;
+
+    private final long expireAt;
+
+    private final String etag;
+
+    private final String lastModified;
+
+    private final long weight;
+
+    /**
+     * Instantiates a new Cache entry.
+     *
+     * @param key      the key
+     * @param response the buffered response
+     * @param storedAt the time it is stored, in millis
+     * @param ttl      the time to live, in millis
+     */
+    public CacheEntry(final String key, final BufferedResponse response, final long storedAt, final long ttl) {
+        HttpHeaders headers = response.getHeaders();
+        this.response = response;
+        this.storedAt = storedAt;
+        this.expireAt = storedAt + ttl;
+        this.etag = headers.getETag();
+        this.lastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+        long headerSize = headers.entrySet().stream()
+                .mapToLong(entry -> entry.getKey().length() + entry.getValue().stream().mapToInt(String::length).sum())
+                .sum();
+        this.weight = OVERHEAD + key.length() * 2L + headerSize * 2L + response.getBody().length;
+    }
+
+    /**
+     * Gets response.
+     *
+     * @return the response
+     */
+    public BufferedResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Gets the entity tag, maybe null.
+     *
+     * @return the etag
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * The approximate size in memory, in bytes.
+     *
+     * @return the weight
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Whether it can be served without revalidation.
+     *
+     * @param now the current time in millis
+     * @return true if it is fresh
+     */
+    public boolean isFresh(final long now) {
+        return now < expireAt;
+    }
+
+    /**
+     * Whether it can be revalidated with the upstream when it is stale.
+     *
+     * @return true if it has an etag or a last modified date
+     */
+    public boolean hasValidator() {
+        return Objects.nonNull(etag) || Objects.nonNull(lastModified);
+    }
+
+    /**
+     * The age in seconds.
+     *
+     * @param now the current time in millis
+     * @return the age
+     */
+    public long age(final long now) {
+        return TimeUnit.MILLISECONDS.toSeconds(Math.max(0, now - storedAt));
+    }
+
+    /**
+     * Whether the etag matches the If-None-Match header of request, with the weak comparison.
+     *
+     * @param ifNoneMatch the entity tags of If-None-Match
+     * @return true if any one matches
+     */
+    public boolean matches(final List<String> ifNoneMatch) {
+        if (Objects.isNull(etag)) {
+            return false;
+        }
+        String opaque = opaqueTag(etag);
+        return ifNoneMatch.stream().anyMatch(each -> "*".equals(each) || opaque.equals(opaqueTag(each)));
+    }
+
+    /**
+     * Put the conditional headers to revalidate this entry into the request headers.
+     *
+     * @param headers the request headers
+     */
+    public void applyValidators(final HttpHeaders headers) {
+        headers.remove(HttpHeaders.IF_NONE_MATCH);
+        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+        if (Objects.nonNull(etag)) {
+            headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+        }
+        if (Objects.nonNull(lastModified)) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+        }
+    }
+
+    private static String opaqueTag(final String tag) {
+        return tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+    }
+}
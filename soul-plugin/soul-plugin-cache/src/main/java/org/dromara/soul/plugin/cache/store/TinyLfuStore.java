@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache.store;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A byte bounded store of cached responses, evicted by W-TinyLFU.
+ * The new entries enter a small LRU window, the entries leaving the window are admitted into the main LRU
+ * only if they are accessed more frequently than the victims of main, so the one-hit wonders never flush the hot entries.
+ * The store is split into segments by the hash of key, every segment has its own lock, window, main and sketch,
+ * so the accesses of different keys rarely wait for each other. An entry larger than one segment is never cached.
+ *
+ * @author xiaoyu
+ */
+public final class TinyLfuStore {
+
+    private static final int WINDOW_PERCENT = 1;
+
+    private static final int AVERAGE_ENTRY_SIZE = 4 * 1024;
+
+    private static final long MIN_SEGMENT_SIZE = 4 * 1024 * 1024;
+
+    private static final int MAX_SEGMENTS = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4 - 1) << 1;
+
+    private final Segment[] segments;
+
+    private final int mask;
+
+    /**
+     * Instantiates a new Tiny lfu store.
+     *
+     * @param maximumSize the max total weight of entries, in bytes
+     */
+    public TinyLfuStore(final long maximumSize) {
+        int count = (int) Math.min(MAX_SEGMENTS, Long.highestOneBit(Math.max(1, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        this.mask = count - 1;
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count);
+        }
+    }
+
+    /**
+     * Get the entry, fresh or stale, and record the access.
+     *
+     * @param key the key
+     * @return the entry, null if absent
+     */
+    public CacheEntry get(final String key) {
+        return segmentFor(key).get(key);
+    }
+
+    /**
+     * Put the entry, it replaces the existing one and may be rejected by the admission.
+     *
+     * @param key   the key
+     * @param entry the entry
+     */
+    public void put(final String key, final CacheEntry entry) {
+        segmentFor(key).put(key, entry);
+    }
+
+    /**
+     * Remove the entry.
+     *
+     * @param key the key
+     */
+    public void remove(final String key) {
+        segmentFor(key).remove(key);
+    }
+
+    /**
+     * The count of entries.
+     *
+     * @return the count
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * The total weight of entries, in bytes.
+     *
+     * @return the weighted size
+     */
+    public long weightedSize() {
+        long weightedSize = 0;
+        for (Segment segment : segments) {
+            weightedSize += segment.weightedSize();
+        }
+        return weightedSize;
+    }
+
+    /**
+     * The count of segments.
+     *
+     * @return the count
+     */
+    int segmentCount() {
+        return segments.length;
+    }
+
+    private Segment segmentFor(final String key) {
+        int h = key.hashCode() * 0x9e3779b9;
+        return segments[(h ^ (h >>> 16)) & mask];
+    }
+
+    /**
+     * One W-TinyLFU segment of the store, guarded by its own monitor.
+     */
+    private static final class Segment {
+
+        private final long windowMaximum;
+
+        private final long mainMaximum;
+
+        private final Map<String, CacheEntry> window = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final Map<String, CacheEntry> main = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final FrequencySketch sketch;
+
+        private long windowSize;
+
+        private long mainSize;
+
+        Segment(final long maximumSize) {
+            this.windowMaximum = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+            this.mainMaximum = maximumSize - windowMaximum;
+            this.sketch = new FrequencySketch((int) Math.min(1 << 22, Math.max(1024, maximumSize / AVERAGE_ENTRY_SIZE)));
+        }
+
+        synchronized CacheEntry get(final String key) {
+            sketch.increment(key);
+            CacheEntry entry = window.get(key);
+            return Objects.nonNull(entry) ? entry : main.get(key);
+        }
+
+        synchronized void put(final String key, final CacheEntry entry) {
+            remove(key);
+            if (entry.getWeight() > mainMaximum) {
+                return;
+            }
+            window.put(key, entry);
+            windowSize += entry.getWeight();
+            while (windowSize > windowMaximum) {
+                Iterator<Map.Entry<String, CacheEntry>> iterator = window.entrySet().iterator();
+                Map.Entry<String, CacheEntry> candidate = iterator.next();
+                iterator.remove();
+                windowSize -= candidate.getValue().getWeight();
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        }
+
+        synchronized void remove(final String key) {
+            CacheEntry entry = window.remove(key);
+            if (Objects.nonNull(entry)) {
+                windowSize -= entry.getWeight();
+            }
+            entry = main.remove(key);
+            if (Objects.nonNull(entry)) {
+                mainSize -= entry.getWeight();
+            }
+        }
+
+        synchronized int size() {
+            return window.size() + main.size();
+        }
+
+        synchronized long weightedSize() {
+            return windowSize + mainSize;
+        }
+
+        private void admit(final String key, final CacheEntry candidate) {
+            // the admission is decided against all the victims it needs before any of them is evicted
+            int frequency = sketch.frequency(key);
+            long excess = mainSize + candidate.getWeight() - mainMaximum;
+            int victims = 0;
+            Iterator<Map.Entry<String, CacheEntry>> iterator = main.entrySet().iterator();
+            while (excess > 0) {
+                Map.Entry<String, CacheEntry> victim = iterator.next();
+                if (frequency <= sketch.frequency(victim.getKey())) {
+                    return;
+                }
+                excess -= victim.getValue().getWeight();
+                victims++;
+            }
+            iterator = main.entrySet().iterator();
+            for (int i = 0; i < victims; i++) {
+                mainSize -= iterator.next().getValue().getWeight();
+                iterator.remove();
+            }
+            main.put(key, candidate);
+            mainSize += candidate.getWeight();
+        }
+    }
+}
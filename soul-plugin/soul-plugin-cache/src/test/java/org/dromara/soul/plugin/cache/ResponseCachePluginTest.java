@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache;
+
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.cache.config.ResponseCacheProperties;
+import org.dromara.soul.plugin.cache.handler.CacheHandleCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+/**
+ * The test case for ResponseCachePlugin.
+ *
+ * @author xiaoyu
+ */
+public final class ResponseCachePluginTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private final AtomicInteger upstreamCount = new AtomicInteger();
+
+    private ResponseCachePlugin responseCachePlugin;
+
+    private RuleData rule;
+
+    @Before
+    public void setUp() {
+        responseCachePlugin = new ResponseCachePlugin(new ResponseCacheProperties());
+        rule = new RuleData();
+        rule.setId("1");
+        rule.setHandle("{\"ttl\":60,\"varyHeaders\":\"Accept-Language\"}");
+    }
+
+    /**
+     * The second request is served from the cache, the vary header selects another entry.
+     */
+    @Test
+    public void testHit() {
+        SoulPluginChain chain = exchange -> upstream(exchange, HttpStatus.OK, null);
+        assertEquals("hello", execute(get("zh"), chain).getResponse().getBodyAsString().block());
+        MockServerWebExchange cached = execute(get("zh"), chain);
+        assertEquals("hello", cached.getResponse().getBodyAsString().block());
+        assertEquals("0", cached.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(1, upstreamCount.get());
+        execute(get("en"), chain);
+        assertEquals(2, upstreamCount.get());
+    }
+
+    /**
+     * The response with no-store is not cached.
+     */
+    @Test
+    public void testNoStore() {
+        SoulPluginChain chain = exchange -> upstream(exchange, HttpStatus.OK, "no-store");
+        execute(get("zh"), chain);
+        execute(get("zh"), chain);
+        assertEquals(2, upstreamCount.get());
+    }
+
+    /**
+     * The concurrent misses of the same key share one upstream request.
+     */
+    @Test
+    public void testCoalesce() {
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        SoulPluginChain chain = exchange -> gate.then(Mono.defer(() -> upstream(exchange, HttpStatus.OK, null)));
+        MockServerWebExchange leader = get("zh");
+        MockServerWebExchange follower = get("zh");
+        responseCachePlugin.doExecute(leader, chain, mock(SelectorData.class), rule).subscribe();
+        responseCachePlugin.doExecute(follower, chain, mock(SelectorData.class), rule).subscribe();
+        gate.onComplete();
+        assertEquals(1, upstreamCount.get());
+        assertEquals("hello", leader.getResponse().getBodyAsString().block());
+        assertEquals("hello", follower.getResponse().getBodyAsString().block());
+    }
+
+    /**
+     * The stale entry is revalidated with its etag, and served again when the upstream answers 304.
+     */
+    @Test
+    public void testRevalidate() {
+        rule.setHandle("{\"ttl\":0}");
+        execute(get("zh"), exchange -> upstream(exchange, HttpStatus.OK, null));
+        MockServerWebExchange revalidated = execute(get("zh"), exchange -> {
+            assertEquals(ETAG, exchange.getRequest().getHeaders().getIfNoneMatch().get(0));
+            return upstream(exchange, HttpStatus.NOT_MODIFIED, null);
+        });
+        assertEquals(HttpStatus.OK, revalidated.getResponse().getStatusCode());
+        assertEquals("hello", revalidated.getResponse().getBodyAsString().block());
+        assertEquals(2, upstreamCount.get());
+    }
+
+    /**
+     * The requests carrying the credentials of a user are never cached.
+     */
+    @Test
+    public void testCredentials() {
+        SoulPluginChain chain = exchange -> upstream(exchange, HttpStatus.OK, null);
+        execute(withHeader(HttpHeaders.COOKIE, "session=a"), chain);
+        execute(withHeader(HttpHeaders.COOKIE, "session=b"), chain);
+        execute(withHeader(HttpHeaders.AUTHORIZATION, "Bearer a"), chain);
+        execute(withHeader(HttpHeaders.AUTHORIZATION, "Bearer b"), chain);
+        assertEquals(4, upstreamCount.get());
+        assertEquals(0, responseCachePlugin.getStore().size());
+    }
+
+    /**
+     * The parsed handle is reused until the handle of rule changes.
+     */
+    @Test
+    public void testHandleChanged() {
+        rule.setHandle("{\"ttl\":60}");
+        assertEquals(60, CacheHandleCache.getInstance().obtainHandle(rule).getTtl());
+        assertSame(CacheHandleCache.getInstance().obtainHandle(rule), CacheHandleCache.getInstance().obtainHandle(rule));
+        rule.setHandle("{\"ttl\":30}");
+        assertEquals(30, CacheHandleCache.getInstance().obtainHandle(rule).getTtl());
+    }
+
+    private MockServerWebExchange execute(final MockServerWebExchange exchange, final SoulPluginChain chain) {
+        StepVerifier.create(responseCachePlugin.doExecute(exchange, chain, mock(SelectorData.class), rule)).expectSubscription().verifyComplete();
+        return exchange;
+    }
+
+    private MockServerWebExchange get(final String language) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("localhost/product").header(HttpHeaders.ACCEPT_LANGUAGE, language).build());
+    }
+
+    private MockServerWebExchange withHeader(final String name, final String value) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("localhost/product").header(name, value).build());
+    }
+
+    private Mono<Void> upstream(final ServerWebExchange exchange, final HttpStatus status, final String cacheControl) {
+        upstreamCount.incrementAndGet();
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setETag(ETAG);
+        if (cacheControl != null) {
+            response.getHeaders().setCacheControl(cacheControl);
+        }
+        byte[] body = status == HttpStatus.NOT_MODIFIED ? new byte[0] : "hello".getBytes(StandardCharsets.UTF_8);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.cache.store;
+
+import org.dromara.soul.plugin.base.response.BufferedResponse;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The test case for TinyLfuStore.
+ *
+ * @author xiaoyu
+ */
+public final class TinyLfuStoreTest {
+
+    private static final int BODY_SIZE = 1024;
+
+    /**
+     * The entries are got until they are removed.
+     */
+    @Test
+    public void testPutAndRemove() {
+        TinyLfuStore store = new TinyLfuStore(1024 * 1024);
+        CacheEntry entry = entry("a");
+        store.put("a", entry);
+        assertEquals(entry, store.get("a"));
+        assertEquals(1, store.size());
+        assertEquals(entry.getWeight(), store.weightedSize());
+        store.remove("a");
+        assertNull(store.get("a"));
+        assertEquals(0, store.weightedSize());
+    }
+
+    /**
+     * The total weight never exceeds the maximum size, and an entry larger than the store is rejected.
+     */
+    @Test
+    public void testBounded() {
+        long maximumSize = 64 * BODY_SIZE;
+        TinyLfuStore store = new TinyLfuStore(maximumSize);
+        for (int i = 0; i < 1000; i++) {
+            String key = "key" + i;
+            store.get(key);
+            store.put(key, entry(key));
+            assertTrue(store.weightedSize() <= maximumSize);
+        }
+        store.put("large", new CacheEntry("large", new BufferedResponse(HttpStatus.OK, new HttpHeaders(), new byte[(int) maximumSize]), 0, 1000));
+        assertNull(store.get("large"));
+    }
+
+    /**
+     * A flood of one-hit keys does not evict the frequently accessed keys.
+     */
+    @Test
+    public void testFrequentKeysSurviveScan() {
+        TinyLfuStore store = new TinyLfuStore(64 * BODY_SIZE);
+        for (int i = 0; i < 10; i++) {
+            String key = "hot" + i;
+            store.put(key, entry(key));
+            for (int j = 0; j < 5; j++) {
+                store.get(key);
+            }
+        }
+        for (int i = 0; i < 1000; i++) {
+            String key = "scan" + i;
+            store.get(key);
+            store.put(key, entry(key));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(store.get("hot" + i));
+        }
+    }
+
+    /**
+     * A rejected candidate evicts nothing, even the victims colder than itself.
+     */
+    @Test
+    public void testRejectedCandidateEvictsNothing() {
+        long maximumSize = 64 * BODY_SIZE;
+        TinyLfuStore store = new TinyLfuStore(maximumSize);
+        long mainMaximum = maximumSize - maximumSize / 100;
+        long weight = entry("cold").getWeight();
+        store.put("cold", entry("cold"));
+        for (int i = 1; i < mainMaximum / weight; i++) {
+            String key = "hot" + i;
+            store.put(key, entry(key));
+            for (int j = 0; j < 5; j++) {
+                store.get(key);
+            }
+        }
+        int size = store.size();
+        store.get("candidate");
+        store.put("candidate", new CacheEntry("candidate", new BufferedResponse(HttpStatus.OK, new HttpHeaders(), new byte[3 * BODY_SIZE]), System.currentTimeMillis(), 60_000));
+        assertEquals(size, store.size());
+        assertNull(store.get("candidate"));
+        assertNotNull(store.get("cold"));
+    }
+
+    /**
+     * The large store is split into segments, which stay bounded under concurrent access.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testSegments() throws InterruptedException {
+        long maximumSize = 64 * 1024 * 1024;
+        TinyLfuStore store = new TinyLfuStore(maximumSize);
+        assertTrue(store.segmentCount() > 1);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    String key = "key" + (i * threads.length + offset);
+                    store.get(key);
+                    store.put(key, entry(key));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(store.weightedSize() <= maximumSize);
+        assertTrue(store.size() > 0);
+    }
+
+    private CacheEntry entry(final String key) {
+        return new CacheEntry(key, new BufferedResponse(HttpStatus.OK, new HttpHeaders(), new byte[BODY_SIZE]), System.currentTimeMillis(), 60_000);
+    }
+}
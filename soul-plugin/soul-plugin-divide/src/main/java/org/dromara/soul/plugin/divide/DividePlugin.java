@@ -24,19 +24,29 @@ import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.RuleData;
 import org.dromara.soul.common.dto.SelectorData;
 import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
 import org.dromara.soul.common.dto.convert.rule.impl.DivideRuleHandle;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.common.enums.RpcTypeEnum;
-import org.dromara.soul.common.utils.GsonUtils;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.AbstractSoulPlugin;
+import org.dromara.soul.plugin.base.response.BufferedResponse;
+import org.dromara.soul.plugin.base.response.BufferingResponseDecorator;
+import org.dromara.soul.plugin.base.response.SingleFlight;
 import org.dromara.soul.plugin.base.utils.FallbackUtils;
+import org.dromara.soul.plugin.base.utils.RequestKeyUtils;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.divide.balance.UpstreamReselector;
 import org.dromara.soul.plugin.divide.balance.utils.LoadBalanceUtils;
+import org.dromara.soul.plugin.divide.cache.LocalityUpstream;
+import org.dromara.soul.plugin.divide.cache.RuleHandleCache;
 import org.dromara.soul.plugin.divide.cache.UpstreamCacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -51,11 +61,13 @@ import java.util.Objects;
 @Slf4j
 public class DividePlugin extends AbstractSoulPlugin {
 
+    private final SingleFlight<String, BufferedResponse> singleFlight = new SingleFlight<>();
+
     @Override
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final SoulPluginChain chain, final SelectorData selector, final RuleData rule) {
         final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
         assert soulContext != null;
-        final DivideRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(rule.getHandle(), DivideRuleHandle.class);
+        final DivideRuleHandle ruleHandle = RuleHandleCache.getInstance().obtainHandle(rule);
         final List<DivideUpstream> upstreamList = UpstreamCacheManager.getInstance().findUpstreamListBySelectorId(selector.getId());
         if (CollectionUtils.isEmpty(upstreamList)) {
             log.error("divide upstream configuration error： {}", rule.toString());
@@ -63,19 +75,27 @@ public class DividePlugin extends AbstractSoulPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
-        DivideUpstream divideUpstream = LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip);
+        final LocalityUpstream localityUpstream = UpstreamCacheManager.getInstance().findLocalityUpstreamBySelectorId(selector.getId());
+        DivideUpstream divideUpstream = Objects.isNull(localityUpstream)
+                ? LoadBalanceUtils.selector(upstreamList, ruleHandle.getLoadBalance(), ip)
+                : LoadBalanceUtils.selector(localityUpstream, ruleHandle.getLoadBalance(), ip);
         if (Objects.isNull(divideUpstream)) {
             log.error("divide has no upstream");
             Object error = SoulResultWrap.error(SoulResultEnum.CANNOT_FIND_URL.getCode(), SoulResultEnum.CANNOT_FIND_URL.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
-        // set the http url
-        String domain = buildDomain(divideUpstream);
-        String realURL = buildRealURL(domain, soulContext, exchange);
-        exchange.getAttributes().put(Constants.HTTP_URL, realURL);
+        // set the http target
+        HttpTarget target = buildHttpTarget(divideUpstream, soulContext, exchange);
+        exchange.getAttributes().put(Constants.HTTP_TARGET, target);
+        exchange.getAttributes().put(Constants.HTTP_TARGET_RESELECTOR,
+                new UpstreamReselector(upstreamList, ruleHandle.getLoadBalance(), ip, divideUpstream, target));
         // set the http timeout
         exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
+        exchange.getAttributes().put(Constants.HTTP_TIMEOUTS, ruleHandle.getHttpTimeouts());
         exchange.getAttributes().put(Constants.HTTP_RETRY, ruleHandle.getRetry());
+        if (ruleHandle.isSingleFlight() && isCoalescible(exchange.getRequest())) {
+            return singleFlight(exchange, chain, rule, ruleHandle);
+        }
         return chain.execute(exchange);
     }
 
@@ -105,29 +125,31 @@ public class DividePlugin extends AbstractSoulPlugin {
         return FallbackUtils.getNoRuleResult(pluginName, exchange);
     }
 
-    private String buildDomain(final DivideUpstream divideUpstream) {
-        String protocol = divideUpstream.getProtocol();
-        if (StringUtils.isBlank(protocol)) {
-            protocol = "http://";
-        }
-        return protocol + divideUpstream.getUpstreamUrl().trim();
+    private Mono<Void> singleFlight(final ServerWebExchange exchange, final SoulPluginChain chain, final RuleData rule, final DivideRuleHandle ruleHandle) {
+        return singleFlight.execute(RequestKeyUtils.build(rule.getId(), exchange.getRequest(), true, ruleHandle.getSingleFlightHeaders()), ruleHandle.getSingleFlightMaxWaiters(),
+                share -> {
+                    BufferingResponseDecorator response = new BufferingResponseDecorator(exchange.getResponse(), ruleHandle.getSingleFlightMaxBodySize());
+                    // a response for one user only is not shared, the waiters go to upstream by themselves
+                    response.buffered().filter(BufferedResponse::isShareable).subscribe(share);
+                    return chain.execute(exchange.mutate().response(response).build()).doFinally(signal -> response.abort());
+                },
+                shared -> shared.writeTo(exchange.getResponse()),
+                () -> chain.execute(exchange));
     }
 
-    private String buildRealURL(final String domain, final SoulContext soulContext, final ServerWebExchange exchange) {
-        String path = domain;
-        final String rewriteURI = (String) exchange.getAttributes().get(Constants.REWRITE_URI);
-        if (StringUtils.isNoneBlank(rewriteURI)) {
-            path = path + rewriteURI;
-        } else {
-            final String realUrl = soulContext.getRealUrl();
-            if (StringUtils.isNoneBlank(realUrl)) {
-                path = path + realUrl;
-            }
-        }
-        String query = exchange.getRequest().getURI().getQuery();
-        if (StringUtils.isNoneBlank(query)) {
-            return path + "?" + query;
+    private boolean isCoalescible(final ServerHttpRequest request) {
+        HttpMethod method = request.getMethod();
+        HttpHeaders headers = request.getHeaders();
+        // the requests with credentials may get the responses of their own users
+        return (method == HttpMethod.GET || method == HttpMethod.HEAD) && headers.getContentLength() <= 0
+                && !headers.containsKey(HttpHeaders.AUTHORIZATION) && !headers.containsKey(HttpHeaders.COOKIE);
+    }
+
+    private HttpTarget buildHttpTarget(final DivideUpstream divideUpstream, final SoulContext soulContext, final ServerWebExchange exchange) {
+        String path = exchange.getAttribute(Constants.REWRITE_URI);
+        if (StringUtils.isBlank(path)) {
+            path = soulContext.getRealUrl();
         }
-        return path;
+        return new HttpTarget(divideUpstream.getUpstreamUri(), path, exchange.getRequest().getURI().getRawQuery());
     }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.divide.balance;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.dromara.soul.plugin.divide.balance.utils.LoadBalanceUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Select another upstream for the retried or hedged request, the upstream which has been tried are excluded.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamReselector implements Supplier<HttpTarget> {
+
+    private final List<DivideUpstream> upstreamList;
+
+    private final String algorithm;
+
+    private final String ip;
+
+    private final HttpTarget target;
+
+    private final List<DivideUpstream> tried = new ArrayList<>(2);
+
+    /**
+     * Instantiates a new Upstream reselector.
+     *
+     * @param upstreamList the upstream list
+     * @param algorithm    the load balance algorithm
+     * @param ip           the ip
+     * @param selected     the selected upstream
+     * @param target       the target of selected upstream
+     */
+    public UpstreamReselector(final List<DivideUpstream> upstreamList, final String algorithm, final String ip,
+                              final DivideUpstream selected, final HttpTarget target) {
+        this.upstreamList = upstreamList;
+        this.algorithm = algorithm;
+        this.ip = ip;
+        this.target = target;
+        this.tried.add(selected);
+    }
+
+    /**
+     * Select another upstream.
+     *
+     * @return the http target, null if all the upstream have been tried
+     */
+    @Override
+    public synchronized HttpTarget get() {
+        List<DivideUpstream> candidates = new ArrayList<>(upstreamList.size());
+        for (DivideUpstream upstream : upstreamList) {
+            if (upstream.isStatus() && tried.stream().noneMatch(each -> each == upstream)) {
+                candidates.add(upstream);
+            }
+        }
+        DivideUpstream upstream = LoadBalanceUtils.selector(candidates, algorithm, ip);
+        if (Objects.isNull(upstream)) {
+            return null;
+        }
+        tried.add(upstream);
+        return target.withUpstreamUri(upstream.getUpstreamUri());
+    }
+}
@@ -51,21 +51,45 @@ public abstract class AbstractLoadBalance implements LoadBalance {
         return doSelect(upstreamList, ip);
     }
 
+    /**
+     * Whether all the upstream have finished warming up, so the weights of them will not change any more.
+     *
+     * @param upstreamList the upstream list
+     * @return the boolean
+     */
+    protected boolean isWarmedUp(final List<DivideUpstream> upstreamList) {
+        for (DivideUpstream upstream : upstreamList) {
+            if (upstream.isStatus() && upstream.getWarmedUpTimestamp() != upstream.getTimestamp()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     protected int getWeight(final DivideUpstream upstream) {
         if (!upstream.isStatus()) {
             return 0;
         }
-        int weight = getWeight(upstream.getTimestamp(), getWarmup(upstream.getWarmup(), Constants.DEFAULT_WARMUP), upstream.getWeight());
-        return weight;
+        // the upstream has finished warming up since its last startup, the weight is stable.
+        if (upstream.getWarmedUpTimestamp() == upstream.getTimestamp()) {
+            return upstream.getWeight();
+        }
+        return getWeight(upstream, getWarmup(upstream.getWarmup(), Constants.DEFAULT_WARMUP));
     }
 
-    private int getWeight(final long timestamp, final int warmup, final int weight) {
+    private int getWeight(final DivideUpstream upstream, final int warmup) {
+        final long timestamp = upstream.getTimestamp();
+        final int weight = upstream.getWeight();
         if (weight > 0 && timestamp > 0) {
-            int uptime = (int) (System.currentTimeMillis() - timestamp);
-            if (uptime > 0 && uptime < warmup) {
-                return calculateWarmupWeight(uptime, warmup, weight);
+            long uptime = System.currentTimeMillis() - timestamp;
+            if (uptime <= 0) {
+                return weight;
+            }
+            if (uptime < warmup) {
+                return calculateWarmupWeight((int) uptime, warmup, weight);
             }
         }
+        upstream.setWarmedUpTimestamp(timestamp);
         return weight;
     }
 
@@ -17,11 +17,13 @@
 
 package org.dromara.soul.plugin.divide.balance.spi;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.dromara.soul.common.dto.convert.DivideUpstream;
 import org.dromara.soul.spi.Join;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * random algorithm impl.
@@ -31,58 +33,80 @@ import java.util.Random;
 @Join
 public class RandomLoadBalance extends AbstractLoadBalance {
 
-    private static final Random RANDOM = new Random();
+    /**
+     * the upstream list is replaced as a whole when it changes, so it is the version of the weights.
+     */
+    private final Cache<List<DivideUpstream>, CumulativeWeight> cumulativeWeightCache = CacheBuilder.newBuilder().weakKeys().build();
 
     @Override
     public DivideUpstream doSelect(final List<DivideUpstream> upstreamList, final String ip) {
-        int totalWeight = calculateTotalWeight(upstreamList);
-        boolean sameWeight = isAllUpStreamSameWeight(upstreamList);
-        if (totalWeight > 0 && !sameWeight) {
-            return random(totalWeight, upstreamList);
+        CumulativeWeight cumulativeWeight = cumulativeWeightCache.getIfPresent(upstreamList);
+        if (cumulativeWeight == null) {
+            cumulativeWeight = new CumulativeWeight(upstreamList);
+            // the weights are changing while warming up, so only cache them after that
+            if (isWarmedUp(upstreamList)) {
+                cumulativeWeightCache.put(upstreamList, cumulativeWeight);
+            }
+        }
+        int totalWeight = cumulativeWeight.getTotalWeight();
+        if (totalWeight > 0 && !cumulativeWeight.isSameWeight()) {
+            return upstreamList.get(cumulativeWeight.indexOf(ThreadLocalRandom.current().nextInt(totalWeight)));
         }
         // If the weights are the same or the weights are 0 then random
-        return random(upstreamList);
+        return upstreamList.get(ThreadLocalRandom.current().nextInt(upstreamList.size()));
     }
 
-    private boolean isAllUpStreamSameWeight(final List<DivideUpstream> upstreamList) {
-        boolean sameWeight = true;
-        int length = upstreamList.size();
-        for (int i = 0; i < length; i++) {
-            int weight = getWeight(upstreamList.get(i));
-            if (i > 0 && weight != getWeight(upstreamList.get(i - 1))) {
+    /**
+     * The cumulative weights of an upstream list.
+     */
+    private final class CumulativeWeight {
+
+        private final int[] weights;
+
+        private final boolean sameWeight;
+
+        CumulativeWeight(final List<DivideUpstream> upstreamList) {
+            weights = new int[upstreamList.size()];
+            boolean same = true;
+            int totalWeight = 0;
+            int first = getWeight(upstreamList.get(0));
+            for (int i = 0; i < weights.length; i++) {
+                int weight = i == 0 ? first : getWeight(upstreamList.get(i));
                 // Calculate whether the weight of ownership is the same
-                sameWeight = false;
-                break;
+                same = same && weight == first;
+                // Cumulative total weight
+                totalWeight += weight;
+                weights[i] = totalWeight;
             }
+            sameWeight = same;
         }
-        return sameWeight;
-    }
 
-    private int calculateTotalWeight(final List<DivideUpstream> upstreamList) {
-        // total weight
-        int totalWeight = 0;
-        for (DivideUpstream divideUpstream : upstreamList) {
-            int weight = getWeight(divideUpstream);
-            // Cumulative total weight
-            totalWeight += weight;
+        int getTotalWeight() {
+            return weights[weights.length - 1];
         }
-        return totalWeight;
-    }
 
-    private DivideUpstream random(final int totalWeight, final List<DivideUpstream> upstreamList) {
-        // If the weights are not the same and the weights are greater than 0, then random by the total number of weights
-        int offset = RANDOM.nextInt(totalWeight);
-        // Determine which segment the random value falls on
-        for (DivideUpstream divideUpstream : upstreamList) {
-            offset -= getWeight(divideUpstream);
-            if (offset < 0) {
-                return divideUpstream;
-            }
+        boolean isSameWeight() {
+            return sameWeight;
         }
-        return upstreamList.get(0);
-    }
 
-    private DivideUpstream random(final List<DivideUpstream> upstreamList) {
-        return upstreamList.get(RANDOM.nextInt(upstreamList.size()));
+        /**
+         * Binary search the first segment which the offset falls on.
+         *
+         * @param offset the random offset, less than total weight
+         * @return the index of upstream
+         */
+        int indexOf(final int offset) {
+            int low = 0;
+            int high = weights.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (weights[mid] > offset) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
     }
 }
@@ -17,6 +17,8 @@
 
 package org.dromara.soul.plugin.divide.balance.spi;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.dromara.soul.common.dto.convert.DivideUpstream;
 import org.dromara.soul.spi.Join;
 
@@ -24,7 +26,9 @@ import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
 
 /**
  * Round robin load balance impl.
@@ -40,8 +44,29 @@ public class RoundRobinLoadBalance extends AbstractLoadBalance {
 
     private final AtomicBoolean updateLock = new AtomicBoolean();
 
+    /**
+     * the upstream list is replaced as a whole when it changes, so it is the version of the weights.
+     */
+    private final Cache<List<DivideUpstream>, Schedule> scheduleCache = CacheBuilder.newBuilder().weakKeys().build();
+
     @Override
     public DivideUpstream doSelect(final List<DivideUpstream> upstreamList, final String ip) {
+        Schedule schedule = scheduleCache.getIfPresent(upstreamList);
+        if (schedule != null) {
+            return schedule.next();
+        }
+        // the weights are changing while warming up, so only build the schedule after that
+        if (isWarmedUp(upstreamList)) {
+            schedule = Schedule.build(upstreamList, this::getWeight);
+            if (schedule != null) {
+                scheduleCache.put(upstreamList, schedule);
+                return schedule.next();
+            }
+        }
+        return smoothSelect(upstreamList);
+    }
+
+    private DivideUpstream smoothSelect(final List<DivideUpstream> upstreamList) {
         String key = upstreamList.get(0).getUpstreamUrl();
         ConcurrentMap<String, WeightedRoundRobin> map = methodWeightMap.get(key);
         if (map == null) {
@@ -93,6 +118,61 @@ public class RoundRobinLoadBalance extends AbstractLoadBalance {
         return upstreamList.get(0);
     }
 
+    /**
+     * The precomputed smooth weighted round robin sequence of an upstream list with stable weights,
+     * it repeats itself every total weight selections.
+     */
+    private static final class Schedule {
+
+        private static final int MAX_LENGTH = 1 << 16;
+
+        private final DivideUpstream[] sequence;
+
+        private final AtomicInteger position = new AtomicInteger();
+
+        private Schedule(final DivideUpstream[] sequence) {
+            this.sequence = sequence;
+        }
+
+        /**
+         * Build the schedule, return null if the total weight is out of range.
+         *
+         * @param upstreamList the upstream list
+         * @param weigher      the weigher
+         * @return the schedule
+         */
+        static Schedule build(final List<DivideUpstream> upstreamList, final ToIntFunction<DivideUpstream> weigher) {
+            int size = upstreamList.size();
+            int[] weights = new int[size];
+            long totalWeight = 0;
+            for (int i = 0; i < size; i++) {
+                weights[i] = weigher.applyAsInt(upstreamList.get(i));
+                totalWeight += weights[i];
+            }
+            if (totalWeight <= 0 || totalWeight > MAX_LENGTH) {
+                return null;
+            }
+            long[] current = new long[size];
+            DivideUpstream[] sequence = new DivideUpstream[(int) totalWeight];
+            for (int n = 0; n < sequence.length; n++) {
+                int selected = 0;
+                for (int i = 0; i < size; i++) {
+                    current[i] += weights[i];
+                    if (current[i] > current[selected]) {
+                        selected = i;
+                    }
+                }
+                current[selected] -= totalWeight;
+                sequence[n] = upstreamList.get(selected);
+            }
+            return new Schedule(sequence);
+        }
+
+        DivideUpstream next() {
+            return sequence[(position.getAndIncrement() & Integer.MAX_VALUE) % sequence.length];
+        }
+    }
+
     /**
      * The type Weighted round robin.
      */
@@ -19,9 +19,11 @@ package org.dromara.soul.plugin.divide.balance.utils;
 
 import org.dromara.soul.common.dto.convert.DivideUpstream;
 import org.dromara.soul.plugin.divide.balance.LoadBalance;
+import org.dromara.soul.plugin.divide.cache.LocalityUpstream;
 import org.dromara.soul.spi.ExtensionLoader;
 
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The type Load balance utils.
@@ -43,4 +45,20 @@ public class LoadBalanceUtils {
         return loadBalance.select(upstreamList, ip);
     }
 
+    /**
+     * Selector divide upstream, prefer the upstream in the local zone and spill over to the others by percentage.
+     *
+     * @param localityUpstream the upstream split by zone
+     * @param algorithm        the loadBalance algorithm
+     * @param ip               the ip
+     * @return the divide upstream
+     */
+    public static DivideUpstream selector(final LocalityUpstream localityUpstream, final String algorithm, final String ip) {
+        List<DivideUpstream> localList = localityUpstream.getLocalUpstreamList();
+        List<DivideUpstream> remoteList = localityUpstream.getRemoteUpstreamList();
+        boolean spillover = localList.isEmpty()
+                || !remoteList.isEmpty() && ThreadLocalRandom.current().nextInt(100) < localityUpstream.getSpilloverPercentage();
+        return selector(spillover ? remoteList : localList, algorithm, ip);
+    }
+
 }
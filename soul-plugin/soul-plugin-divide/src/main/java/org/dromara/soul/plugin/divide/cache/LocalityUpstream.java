@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.divide.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.plugin.divide.config.DivideConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The upstream of a selector split by the zone of this gateway, it is precomputed when the upstream list changes.
+ *
+ * @author xiaoyu
+ */
+public final class LocalityUpstream {
+
+    private static final int FULL_PERCENTAGE = 100;
+
+    private final List<DivideUpstream> localUpstreamList;
+
+    private final List<DivideUpstream> remoteUpstreamList;
+
+    private final int spilloverPercentage;
+
+    private LocalityUpstream(final List<DivideUpstream> localUpstreamList, final List<DivideUpstream> remoteUpstreamList, final int spilloverPercentage) {
+        this.localUpstreamList = localUpstreamList;
+        this.remoteUpstreamList = remoteUpstreamList;
+        this.spilloverPercentage = spilloverPercentage;
+    }
+
+    /**
+     * Build the locality upstream, return null if no upstream is configured in the local zone.
+     *
+     * @param locality       the locality config
+     * @param configuredList all the configured upstream
+     * @param healthyList    the healthy upstream
+     * @return the locality upstream
+     */
+    public static LocalityUpstream build(final DivideConfig.Locality locality, final List<DivideUpstream> configuredList, final List<DivideUpstream> healthyList) {
+        if (!locality.isEnabled() || StringUtils.isBlank(locality.getZone())) {
+            return null;
+        }
+        long configuredLocal = configuredList.stream().filter(upstream -> Objects.equals(locality.getZone(), upstream.getZone())).count();
+        if (configuredLocal == 0) {
+            return null;
+        }
+        List<DivideUpstream> local = new ArrayList<>();
+        List<DivideUpstream> region = new ArrayList<>();
+        List<DivideUpstream> remote = new ArrayList<>();
+        for (DivideUpstream upstream : healthyList) {
+            if (Objects.equals(locality.getZone(), upstream.getZone())) {
+                local.add(upstream);
+            } else {
+                if (StringUtils.isNotBlank(locality.getRegion()) && Objects.equals(locality.getRegion(), upstream.getRegion())) {
+                    region.add(upstream);
+                }
+                remote.add(upstream);
+            }
+        }
+        // the lost capacity of the local zone spills over to the other zones
+        int unhealthyPercentage = (int) (FULL_PERCENTAGE - local.size() * FULL_PERCENTAGE / configuredLocal);
+        int spillover = Math.min(FULL_PERCENTAGE, Math.max(Math.max(locality.getSpilloverPercentage(), 0), unhealthyPercentage));
+        return new LocalityUpstream(local, region.isEmpty() ? remote : region, spillover);
+    }
+
+    /**
+     * Gets the upstream in the same zone.
+     *
+     * @return the local upstream list
+     */
+    public List<DivideUpstream> getLocalUpstreamList() {
+        return localUpstreamList;
+    }
+
+    /**
+     * Gets the upstream for spillover, in the same region if there are any.
+     *
+     * @return the remote upstream list
+     */
+    public List<DivideUpstream> getRemoteUpstreamList() {
+        return remoteUpstreamList;
+    }
+
+    /**
+     * Gets the percentage of traffic sent to the remote upstream.
+     *
+     * @return the spillover percentage
+     */
+    public int getSpilloverPercentage() {
+        return spilloverPercentage;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.divide.cache;
+
+import com.google.common.collect.Maps;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.convert.rule.impl.DivideRuleHandle;
+import org.dromara.soul.common.utils.GsonUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The parsed divide rule handles by rule id, so the handle and the timeouts built from it are reused by the requests.
+ *
+ * @author xiaoyu
+ */
+public final class RuleHandleCache {
+
+    private static final RuleHandleCache INSTANCE = new RuleHandleCache();
+
+    private static final Map<String, CachedHandle> HANDLE_MAP = Maps.newConcurrentMap();
+
+    private RuleHandleCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static RuleHandleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the parsed handle of rule, it is parsed again only if the handle of rule changes.
+     *
+     * @param rule the rule
+     * @return the divide rule handle
+     */
+    public DivideRuleHandle obtainHandle(final RuleData rule) {
+        String handle = rule.getHandle();
+        if (Objects.isNull(rule.getId())) {
+            return GsonUtils.getInstance().fromJson(handle, DivideRuleHandle.class);
+        }
+        CachedHandle cached = HANDLE_MAP.get(rule.getId());
+        if (Objects.nonNull(cached) && Objects.equals(cached.source, handle)) {
+            return cached.handle;
+        }
+        DivideRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(handle, DivideRuleHandle.class);
+        HANDLE_MAP.put(rule.getId(), new CachedHandle(handle, ruleHandle));
+        return ruleHandle;
+    }
+
+    /**
+     * Remove the handle of rule.
+     *
+     * @param rule the rule
+     */
+    public void removeHandle(final RuleData rule) {
+        if (Objects.nonNull(rule.getId())) {
+            HANDLE_MAP.remove(rule.getId());
+        }
+    }
+
+    private static final class CachedHandle {
+
+        private final String source;
+
+        private final DivideRuleHandle handle;
+
+        CachedHandle(final String source, final DivideRuleHandle handle) {
+            this.source = source;
+            this.handle = handle;
+        }
+    }
+}
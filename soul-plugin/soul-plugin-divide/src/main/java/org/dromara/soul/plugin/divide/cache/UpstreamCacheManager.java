@@ -21,14 +21,20 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.dromara.soul.common.concurrent.SoulThreadFactory;
 import org.dromara.soul.common.dto.SelectorData;
 import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.UpstreamUri;
 import org.dromara.soul.common.utils.GsonUtils;
 import org.dromara.soul.common.utils.UpstreamCheckUtils;
+import org.dromara.soul.plugin.base.cache.UpstreamSubscriber;
+import org.dromara.soul.plugin.base.utils.Singleton;
+import org.dromara.soul.plugin.divide.config.DivideConfig;
 
 /**
  * this is divide  http url upstream.
@@ -44,6 +50,9 @@ public final class UpstreamCacheManager {
 
     private static final Map<String, List<DivideUpstream>> UPSTREAM_MAP_TEMP = Maps.newConcurrentMap();
 
+    private static final Map<String, LocalityUpstream> LOCALITY_MAP = Maps.newConcurrentMap();
+
+    private volatile DivideConfig.Locality locality = new DivideConfig.Locality();
 
     /**
      * suggest soul.upstream.scheduledTime set 1 SECONDS.
@@ -66,6 +75,16 @@ public final class UpstreamCacheManager {
         return INSTANCE;
     }
 
+    /**
+     * Init the locality of this gateway, and split the cached upstream by it.
+     *
+     * @param divideConfig the divide config
+     */
+    public void init(final DivideConfig divideConfig) {
+        this.locality = divideConfig.getLocality();
+        UPSTREAM_MAP_TEMP.forEach(this::refreshLocality);
+    }
+
     /**
      * Find upstream list by selector id list.
      *
@@ -76,6 +95,16 @@ public final class UpstreamCacheManager {
         return UPSTREAM_MAP_TEMP.get(selectorId);
     }
 
+    /**
+     * Find the upstream split by zone, null if locality is disabled or no upstream is in the local zone.
+     *
+     * @param selectorId the selector id
+     * @return the locality upstream
+     */
+    public LocalityUpstream findLocalityUpstreamBySelectorId(final String selectorId) {
+        return LOCALITY_MAP.get(selectorId);
+    }
+
     /**
      * Remove by key.
      *
@@ -83,6 +112,8 @@ public final class UpstreamCacheManager {
      */
     public void removeByKey(final String key) {
         UPSTREAM_MAP_TEMP.remove(key);
+        LOCALITY_MAP.remove(key);
+        Optional.ofNullable(Singleton.INST.get(UpstreamSubscriber.class)).ifPresent(subscriber -> subscriber.unSubscribe(key));
     }
 
     /**
@@ -93,11 +124,16 @@ public final class UpstreamCacheManager {
     public void submit(final SelectorData selectorData) {
         final List<DivideUpstream> upstreamList = GsonUtils.getInstance().fromList(selectorData.getHandle(), DivideUpstream.class);
         if (null != upstreamList && upstreamList.size() > 0) {
+            upstreamList.forEach(upstream -> upstream.setUpstreamUri(UpstreamUri.of(upstream.getProtocol(), upstream.getUpstreamUrl())));
             UPSTREAM_MAP.put(selectorData.getId(), upstreamList);
             UPSTREAM_MAP_TEMP.put(selectorData.getId(), upstreamList);
+            refreshLocality(selectorData.getId(), upstreamList);
+            Optional.ofNullable(Singleton.INST.get(UpstreamSubscriber.class)).ifPresent(subscriber -> subscriber.onSubscribe(selectorData.getId(), upstreamList));
         } else {
             UPSTREAM_MAP.remove(selectorData.getId());
             UPSTREAM_MAP_TEMP.remove(selectorData.getId());
+            LOCALITY_MAP.remove(selectorData.getId());
+            Optional.ofNullable(Singleton.INST.get(UpstreamSubscriber.class)).ifPresent(subscriber -> subscriber.unSubscribe(selectorData.getId()));
         }
     }
 
@@ -107,13 +143,25 @@ public final class UpstreamCacheManager {
                 List<DivideUpstream> result = check(v);
                 if (result.size() > 0) {
                     UPSTREAM_MAP_TEMP.put(k, result);
+                    refreshLocality(k, result);
                 } else {
                     UPSTREAM_MAP_TEMP.remove(k);
+                    LOCALITY_MAP.remove(k);
                 }
             });
         }
     }
 
+    private void refreshLocality(final String selectorId, final List<DivideUpstream> healthyList) {
+        List<DivideUpstream> configuredList = UPSTREAM_MAP.getOrDefault(selectorId, healthyList);
+        LocalityUpstream localityUpstream = LocalityUpstream.build(locality, configuredList, healthyList);
+        if (Objects.isNull(localityUpstream)) {
+            LOCALITY_MAP.remove(selectorId);
+        } else {
+            LOCALITY_MAP.put(selectorId, localityUpstream);
+        }
+    }
+
     private List<DivideUpstream> check(final List<DivideUpstream> upstreamList) {
         List<DivideUpstream> resultList = Lists.newArrayListWithCapacity(upstreamList.size());
         for (DivideUpstream divideUpstream : upstreamList) {
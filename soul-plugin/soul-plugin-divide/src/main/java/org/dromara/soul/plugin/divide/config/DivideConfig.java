@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.divide.config;
+
+import lombok.Data;
+
+/**
+ * The divide plugin config of this gateway instance.
+ *
+ * @author xiaoyu
+ */
+@Data
+public class DivideConfig {
+
+    /**
+     * Locality aware balancing configuration.
+     */
+    private Locality locality = new Locality();
+
+    /**
+     * The type Locality.
+     */
+    @Data
+    public static class Locality {
+
+        /**
+         * Prefer the upstream in the same zone with this gateway, defaults to false.
+         */
+        private boolean enabled;
+
+        /**
+         * The availability zone of this gateway.
+         */
+        private String zone;
+
+        /**
+         * The region of this gateway, the spillover traffic prefers the upstream in the same region.
+         */
+        private String region;
+
+        /**
+         * The percentage of traffic sent to the other zones even if all the local upstream are healthy.
+         * It grows with the percentage of unhealthy local upstream.
+         */
+        private int spilloverPercentage;
+    }
+}
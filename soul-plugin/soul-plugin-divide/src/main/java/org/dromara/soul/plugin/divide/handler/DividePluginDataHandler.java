@@ -17,9 +17,11 @@
 
 package org.dromara.soul.plugin.divide.handler;
 
+import org.dromara.soul.common.dto.RuleData;
 import org.dromara.soul.common.dto.SelectorData;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.plugin.base.handler.PluginDataHandler;
+import org.dromara.soul.plugin.divide.cache.RuleHandleCache;
 import org.dromara.soul.plugin.divide.cache.UpstreamCacheManager;
 
 /**
@@ -37,6 +39,11 @@ public class DividePluginDataHandler implements PluginDataHandler {
         UpstreamCacheManager.getInstance().removeByKey(selectorData.getId());
     }
     
+    @Override
+    public void removeRule(final RuleData ruleData) {
+        RuleHandleCache.getInstance().removeHandle(ruleData);
+    }
+    
     @Override
     public String pluginNamed() {
         return PluginEnum.DIVIDE.getName();
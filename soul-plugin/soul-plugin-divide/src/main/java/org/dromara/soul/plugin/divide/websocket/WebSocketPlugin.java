@@ -95,7 +95,7 @@ public class WebSocketPlugin extends AbstractSoulPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         URI wsRequestUrl = UriComponentsBuilder.fromUri(URI.create(buildWsRealPath(divideUpstream, soulContext))).build().toUri();
-        log.info("you websocket urlPath is :{}", wsRequestUrl.toASCIIString());
+        exchange.getAttributes().put(Constants.HTTP_URL, wsRequestUrl.toASCIIString());
         HttpHeaders headers = exchange.getRequest().getHeaders();
         return this.webSocketService.handleRequest(exchange, new SoulWebSocketHandler(
                 wsRequestUrl, this.webSocketClient, filterHeaders(headers), buildWsProtocols(headers)));
@@ -21,6 +21,7 @@ import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.RuleData;
 import org.dromara.soul.common.dto.SelectorData;
 import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
 import org.dromara.soul.common.dto.convert.rule.RuleHandleFactory;
 import org.dromara.soul.common.dto.convert.rule.impl.DivideRuleHandle;
 import org.dromara.soul.common.enums.PluginEnum;
@@ -34,14 +35,20 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
 import reactor.test.StepVerifier;
 
 import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -93,6 +100,93 @@ public final class DividePluginTest {
         when(chain.execute(exchange)).thenReturn(Mono.empty());
         Mono<Void> result = dividePlugin.doExecute(exchange, chain, selectorData, ruleData);
         StepVerifier.create(result).expectSubscription().verifyComplete();
+        HttpTarget target = exchange.getAttribute(Constants.HTTP_TARGET);
+        Assert.assertNotNull(target);
+        Assert.assertEquals("http://mock-3mock-real", target.toUriString());
+    }
+
+    /**
+     * The concurrent identical requests of a single flight rule share one upstream exchange.
+     */
+    @Test
+    public void singleFlightTest() {
+        DivideRuleHandle handle = (DivideRuleHandle) RuleHandleFactory.ruleHandle(RpcTypeEnum.HTTP, "");
+        handle.setSingleFlight(true);
+        initMockInfo(handle);
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        AtomicInteger upstreamCount = new AtomicInteger();
+        SoulPluginChain upstream = upstreamExchange -> gate.then(Mono.defer(() -> {
+            upstreamCount.incrementAndGet();
+            ServerHttpResponse response = upstreamExchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap("hello".getBytes(StandardCharsets.UTF_8))));
+        }));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        follower.getAttributes().put(Constants.CONTEXT, exchange.getAttribute(Constants.CONTEXT));
+        dividePlugin.doExecute(exchange, upstream, selectorData, ruleData).subscribe();
+        dividePlugin.doExecute(follower, upstream, selectorData, ruleData).subscribe();
+        gate.onComplete();
+        Assert.assertEquals(1, upstreamCount.get());
+        Assert.assertEquals("hello", follower.getResponse().getBodyAsString().block());
+    }
+
+    /**
+     * The response with Set-Cookie is not shared, the follower goes to upstream by itself.
+     */
+    @Test
+    public void singleFlightNotShareableTest() {
+        DivideRuleHandle handle = (DivideRuleHandle) RuleHandleFactory.ruleHandle(RpcTypeEnum.HTTP, "");
+        handle.setSingleFlight(true);
+        initMockInfo(handle);
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        AtomicInteger upstreamCount = new AtomicInteger();
+        SoulPluginChain upstream = upstreamExchange -> gate.then(Mono.defer(() -> {
+            ServerHttpResponse response = upstreamExchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().add(HttpHeaders.SET_COOKIE, "session=" + upstreamCount.incrementAndGet());
+            return response.writeWith(Mono.just(response.bufferFactory().wrap("hello".getBytes(StandardCharsets.UTF_8))));
+        }));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .build());
+        follower.getAttributes().put(Constants.CONTEXT, exchange.getAttribute(Constants.CONTEXT));
+        dividePlugin.doExecute(exchange, upstream, selectorData, ruleData).subscribe();
+        dividePlugin.doExecute(follower, upstream, selectorData, ruleData).subscribe();
+        gate.onComplete();
+        Assert.assertEquals(2, upstreamCount.get());
+        Assert.assertEquals("session=2", follower.getResponse().getHeaders().getFirst(HttpHeaders.SET_COOKIE));
+    }
+
+    /**
+     * The requests with credentials are never coalesced.
+     */
+    @Test
+    public void singleFlightWithCredentialsTest() {
+        DivideRuleHandle handle = (DivideRuleHandle) RuleHandleFactory.ruleHandle(RpcTypeEnum.HTTP, "");
+        handle.setSingleFlight(true);
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer alice")
+                .build());
+        initMockInfo(handle);
+        MonoProcessor<Void> gate = MonoProcessor.create();
+        AtomicInteger upstreamCount = new AtomicInteger();
+        SoulPluginChain upstream = upstreamExchange -> gate.then(Mono.defer(() -> {
+            upstreamCount.incrementAndGet();
+            upstreamExchange.getResponse().setStatusCode(HttpStatus.OK);
+            return upstreamExchange.getResponse().setComplete();
+        }));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("localhost")
+                .remoteAddress(new InetSocketAddress(8090))
+                .header(HttpHeaders.AUTHORIZATION, "Bearer bob")
+                .build());
+        follower.getAttributes().put(Constants.CONTEXT, exchange.getAttribute(Constants.CONTEXT));
+        dividePlugin.doExecute(exchange, upstream, selectorData, ruleData).subscribe();
+        dividePlugin.doExecute(follower, upstream, selectorData, ruleData).subscribe();
+        gate.onComplete();
+        Assert.assertEquals(2, upstreamCount.get());
     }
 
     /**
@@ -124,9 +218,17 @@ public final class DividePluginTest {
      * Init mock info.
      */
     private void initMockInfo() {
+        initMockInfo((DivideRuleHandle) RuleHandleFactory.ruleHandle(RpcTypeEnum.HTTP, ""));
+    }
+
+    /**
+     * Init mock info with the rule handle.
+     *
+     * @param handle the rule handle
+     */
+    private void initMockInfo(final DivideRuleHandle handle) {
         SoulContext context = mock(SoulContext.class);
         context.setRpcType(RpcTypeEnum.HTTP.getName());
-        DivideRuleHandle handle = (DivideRuleHandle) RuleHandleFactory.ruleHandle(RpcTypeEnum.HTTP, "");
         when(selectorData.getId()).thenReturn("mock");
         when(ruleData.getHandle()).thenReturn(GsonUtils.getGson().toJson(handle));
         when(selectorData.getHandle()).thenReturn(GsonUtils.getGson().toJson(divideUpstreamList));
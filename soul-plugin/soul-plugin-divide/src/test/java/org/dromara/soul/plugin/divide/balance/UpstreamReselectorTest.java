@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.divide.balance;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The type Upstream reselector test.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamReselectorTest {
+
+    /**
+     * Every upstream is tried at most once.
+     */
+    @Test
+    public void getTest() {
+        DivideUpstream first = DivideUpstream.builder().upstreamUrl("localhost:8080").weight(50).build();
+        DivideUpstream second = DivideUpstream.builder().upstreamUrl("localhost:8081").weight(50).build();
+        DivideUpstream down = DivideUpstream.builder().upstreamUrl("localhost:8082").weight(50).status(false).build();
+        List<DivideUpstream> upstreamList = Arrays.asList(first, second, down);
+        HttpTarget target = new HttpTarget(first.getUpstreamUri(), "/test", "a=1");
+        UpstreamReselector reselector = new UpstreamReselector(upstreamList, "random", "127.0.0.1", first, target);
+        HttpTarget next = reselector.get();
+        Assert.assertNotNull(next);
+        Assert.assertEquals("http://localhost:8081/test?a=1", next.toUriString());
+        Assert.assertNull(reselector.get());
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -86,4 +87,41 @@ public class RandomLoadBalanceTest {
         final DivideUpstream upstreamReversed = randomLoadBalance.select(randomLoadBalancesWeightReversed, "");
         Assert.assertNotNull(upstreamReversed);
     }
+
+    @Test
+    public void randomLoadBalanceCumulativeWeightTest() {
+        final List<DivideUpstream> upstreamList = Stream.of(0, 100, 0)
+                .map(weight -> DivideUpstream.builder()
+                        .upstreamUrl("divide-upstream-" + weight)
+                        .weight(weight)
+                        .build())
+                .collect(Collectors.toList());
+        final RandomLoadBalance randomLoadBalance = new RandomLoadBalance();
+        for (int i = 0; i < 100; i++) {
+            Assert.assertSame(upstreamList.get(1), randomLoadBalance.select(upstreamList, ""));
+        }
+    }
+
+    @Test
+    public void warmupWeightTest() {
+        final RandomLoadBalance randomLoadBalance = new RandomLoadBalance();
+        final DivideUpstream warming = DivideUpstream.builder()
+                .upstreamUrl("divide-upstream-warming")
+                .weight(100)
+                .warmup(60000)
+                .timestamp(System.currentTimeMillis() - 30000)
+                .build();
+        final int weight = randomLoadBalance.getWeight(warming);
+        Assert.assertTrue(weight > 0 && weight < 100);
+        Assert.assertFalse(randomLoadBalance.isWarmedUp(Collections.singletonList(warming)));
+        final DivideUpstream warmed = DivideUpstream.builder()
+                .upstreamUrl("divide-upstream-warmed")
+                .weight(100)
+                .warmup(60000)
+                .timestamp(System.currentTimeMillis() - 120000)
+                .build();
+        Assert.assertEquals(100, randomLoadBalance.getWeight(warmed));
+        Assert.assertEquals(warmed.getTimestamp(), warmed.getWarmedUpTimestamp());
+        Assert.assertTrue(randomLoadBalance.isWarmedUp(Collections.singletonList(warmed)));
+    }
 }
@@ -96,4 +96,23 @@ public final class RoundRobinLoadBalanceTest {
         }
         Assert.assertEquals(60, countMap.get("divide-upstream-50").intValue());
     }
+
+    @Test
+    public void roundRobinLoadBalanceWarmingUpTest() {
+        List<DivideUpstream> divideUpstreamList =
+                Stream.of(50, 30, 20)
+                        .map(weight -> DivideUpstream.builder()
+                                .upstreamUrl("divide-upstream-" + weight)
+                                .weight(weight)
+                                .warmup(60000)
+                                .timestamp(System.currentTimeMillis())
+                                .build())
+                        .collect(Collectors.toList());
+
+        RoundRobinLoadBalance roundRobinLoadBalance = new RoundRobinLoadBalance();
+        for (int i = 0; i < 120; i++) {
+            Assert.assertNotNull(roundRobinLoadBalance.select(divideUpstreamList, ""));
+        }
+        Assert.assertFalse(roundRobinLoadBalance.isWarmedUp(divideUpstreamList));
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.divide.cache;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.plugin.divide.balance.utils.LoadBalanceUtils;
+import org.dromara.soul.plugin.divide.config.DivideConfig;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The type locality upstream test.
+ *
+ * @author xiaoyu
+ */
+public final class LocalityUpstreamTest {
+
+    private DivideConfig.Locality locality;
+
+    private List<DivideUpstream> upstreamList;
+
+    @Before
+    public void setUp() {
+        locality = new DivideConfig.Locality();
+        locality.setEnabled(true);
+        locality.setZone("zone-a");
+        locality.setRegion("region-1");
+        upstreamList = Arrays.asList(
+                buildUpstream("a-1", "zone-a", "region-1"),
+                buildUpstream("a-2", "zone-a", "region-1"),
+                buildUpstream("b-1", "zone-b", "region-1"),
+                buildUpstream("c-1", "zone-c", "region-2"));
+    }
+
+    @Test
+    public void testDisabled() {
+        locality.setEnabled(false);
+        Assert.assertNull(LocalityUpstream.build(locality, upstreamList, upstreamList));
+    }
+
+    @Test
+    public void testNoLocalUpstream() {
+        locality.setZone("zone-d");
+        Assert.assertNull(LocalityUpstream.build(locality, upstreamList, upstreamList));
+    }
+
+    @Test
+    public void testAllHealthy() {
+        LocalityUpstream localityUpstream = LocalityUpstream.build(locality, upstreamList, upstreamList);
+        Assert.assertNotNull(localityUpstream);
+        Assert.assertEquals(2, localityUpstream.getLocalUpstreamList().size());
+        Assert.assertEquals(Collections.singletonList(upstreamList.get(2)), localityUpstream.getRemoteUpstreamList());
+        Assert.assertEquals(0, localityUpstream.getSpilloverPercentage());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("zone-a", LoadBalanceUtils.selector(localityUpstream, "random", "").getZone());
+        }
+    }
+
+    @Test
+    public void testHealthDrivenSpillover() {
+        locality.setSpilloverPercentage(10);
+        List<DivideUpstream> healthyList = Arrays.asList(upstreamList.get(0), upstreamList.get(2), upstreamList.get(3));
+        LocalityUpstream localityUpstream = LocalityUpstream.build(locality, upstreamList, healthyList);
+        Assert.assertNotNull(localityUpstream);
+        Assert.assertEquals(50, localityUpstream.getSpilloverPercentage());
+        healthyList = Collections.singletonList(upstreamList.get(3));
+        localityUpstream = LocalityUpstream.build(locality, upstreamList, healthyList);
+        Assert.assertNotNull(localityUpstream);
+        Assert.assertEquals(100, localityUpstream.getSpilloverPercentage());
+        Assert.assertEquals("c-1", LoadBalanceUtils.selector(localityUpstream, "random", "").getUpstreamUrl());
+    }
+
+    private DivideUpstream buildUpstream(final String url, final String zone, final String region) {
+        return DivideUpstream.builder().upstreamUrl(url).zone(zone).region(region).weight(50).build();
+    }
+}
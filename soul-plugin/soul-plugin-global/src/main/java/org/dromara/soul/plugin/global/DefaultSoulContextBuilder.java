@@ -71,6 +71,8 @@ public class DefaultSoulContextBuilder implements SoulContextBuilder {
                 setSoulContextBySofa(soulContext, metaData);
             } else if (RpcTypeEnum.TARS.getName().equals(metaData.getRpcType())) {
                 setSoulContextByTars(soulContext, metaData);
+            } else if (RpcTypeEnum.GRPC.getName().equals(metaData.getRpcType())) {
+                setSoulContextByGrpc(soulContext, metaData);
             } else {
                 setSoulContextByHttp(soulContext, path);
                 soulContext.setRpcType(RpcTypeEnum.HTTP.getName());
@@ -108,6 +110,13 @@ public class DefaultSoulContextBuilder implements SoulContextBuilder {
         soulContext.setContextPath(metaData.getContextPath());
     }
     
+    private void setSoulContextByGrpc(final SoulContext soulContext, final MetaData metaData) {
+        soulContext.setModule(metaData.getServiceName());
+        soulContext.setMethod(metaData.getMethodName());
+        soulContext.setRpcType(metaData.getRpcType());
+        soulContext.setContextPath(metaData.getContextPath());
+    }
+
     private void setSoulContextByHttp(final SoulContext soulContext, final String path) {
         String contextPath = "/";
         String[] splitList = StringUtils.split(path, "/");
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.api.result.SoulResultEnum;
+import org.dromara.soul.plugin.base.AbstractSoulPlugin;
+import org.dromara.soul.plugin.base.utils.SoulResultWrap;
+import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.grpc.proxy.GrpcProxyService;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * The grpc plugin.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public class GrpcPlugin extends AbstractSoulPlugin {
+
+    private final GrpcProxyService grpcProxyService;
+
+    /**
+     * Instantiates a new Grpc plugin.
+     *
+     * @param grpcProxyService the grpc proxy service
+     */
+    public GrpcPlugin(final GrpcProxyService grpcProxyService) {
+        this.grpcProxyService = grpcProxyService;
+    }
+
+    @Override
+    protected Mono<Void> doExecute(final ServerWebExchange exchange, final SoulPluginChain chain, final SelectorData selector, final RuleData rule) {
+        String body = exchange.getAttribute(Constants.GRPC_PARAMS);
+        SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        MetaData metaData = exchange.getAttribute(Constants.META_DATA);
+        if (!checkMetaData(metaData)) {
+            assert metaData != null;
+            log.error(" path is :{}, meta data have error.... {}", soulContext.getPath(), metaData.toString());
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            Object error = SoulResultWrap.error(SoulResultEnum.META_DATA_ERROR.getCode(), SoulResultEnum.META_DATA_ERROR.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        final Mono<Object> result;
+        try {
+            result = grpcProxyService.genericInvoker(body, metaData, exchange);
+        } catch (SoulException e) {
+            log.error("grpc invoker have exception, path is :{}", metaData.getPath(), e);
+            exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            Object error = SoulResultWrap.error(SoulResultEnum.GRPC_INVOKE.getCode(), SoulResultEnum.GRPC_INVOKE.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        return result.then(chain.execute(exchange));
+    }
+
+    @Override
+    public String named() {
+        return PluginEnum.GRPC.getName();
+    }
+
+    @Override
+    public Boolean skip(final ServerWebExchange exchange) {
+        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        return !Objects.equals(soulContext.getRpcType(), RpcTypeEnum.GRPC.getName());
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.GRPC.getCode();
+    }
+
+    private boolean checkMetaData(final MetaData metaData) {
+        return null != metaData && !StringUtils.isBlank(metaData.getMethodName()) && !StringUtils.isBlank(metaData.getServiceName());
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.base.cache.RpcCacheStats;
+import org.dromara.soul.plugin.grpc.proxy.GrpcChannelPool;
+import org.dromara.soul.plugin.grpc.proxy.GrpcMethodTranscoder;
+import org.dromara.soul.plugin.grpc.util.GrpcDescriptorUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * The grpc config cache, the transcoders are cached per method path and the channels are pooled per service.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class ApplicationConfigCache {
+
+    private static final int MAX_COUNT = 50000;
+
+    private final Cache<String, GrpcMethodTranscoder> cache = CacheBuilder.newBuilder()
+            .maximumSize(MAX_COUNT)
+            .recordStats()
+            .build();
+
+    private final Map<String, GrpcChannelPool> channelPools = new ConcurrentHashMap<>();
+
+    private final Map<String, MetaData> registered = new ConcurrentHashMap<>();
+
+    private final RpcCacheStats stats = RpcCacheStats.register("grpc", cache);
+
+    private volatile Function<String, ManagedChannel> channelFactory = address -> NettyChannelBuilder.forTarget(address).usePlaintext().build();
+
+    private ApplicationConfigCache() {
+    }
+
+    /**
+     * Init the transcoder of the method and the channel of the address, an updated meta data rebuilds the transcoder
+     * when the descriptor changes and releases the channel of the previous address.
+     *
+     * @param metaData the meta data
+     */
+    public void initRef(final MetaData metaData) {
+        MetaData previous = registered.put(metaData.getPath(), metaData);
+        if (Objects.nonNull(previous) && !isSameMethod(previous, metaData)) {
+            cache.invalidate(metaData.getPath());
+        }
+        try {
+            get(metaData);
+            channelPools.computeIfAbsent(metaData.getServiceName(), key -> new GrpcChannelPool(channelFactory))
+                    .acquire(metaData.getAppName(), metaData.getPath());
+        } catch (SoulException e) {
+            log.error("init grpc ref ex:{}", e.getMessage());
+        }
+        if (Objects.nonNull(previous) && !isSameChannel(previous, metaData)) {
+            release(previous);
+        }
+    }
+
+    /**
+     * Get the transcoder of the method, it is built from the descriptor of meta data if absent.
+     *
+     * @param metaData the meta data
+     * @return the grpc method transcoder
+     */
+    public GrpcMethodTranscoder get(final MetaData metaData) {
+        try {
+            return cache.get(metaData.getPath(), () -> build(metaData));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof SoulException) {
+                throw (SoulException) e.getCause();
+            }
+            throw new SoulException(e.getCause());
+        }
+    }
+
+    /**
+     * Gets the channel pool of the service.
+     *
+     * @param serviceName the service name
+     * @return the channel pool, null if the service is not registered
+     */
+    public GrpcChannelPool getChannelPool(final String serviceName) {
+        return channelPools.get(serviceName);
+    }
+
+    /**
+     * Invalidate the transcoder of the method and release the channel of the address.
+     *
+     * @param metaData the meta data
+     */
+    public void invalidate(final MetaData metaData) {
+        cache.invalidate(metaData.getPath());
+        MetaData previous = registered.remove(metaData.getPath());
+        release(Objects.isNull(previous) ? metaData : previous);
+    }
+
+    /**
+     * Invalidate all the transcoders and shutdown all the channels.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        registered.clear();
+        channelPools.values().forEach(GrpcChannelPool::shutdown);
+        channelPools.clear();
+    }
+
+    /**
+     * Sets the factory of channel, the channel of netty with plaintext is used by default.
+     *
+     * @param channelFactory the factory which creates the channel of an address
+     */
+    public void setChannelFactory(final Function<String, ManagedChannel> channelFactory) {
+        this.channelFactory = channelFactory;
+    }
+
+    /**
+     * Gets the statistics of cache.
+     *
+     * @return the stats
+     */
+    public RpcCacheStats getStats() {
+        return stats;
+    }
+
+    private void release(final MetaData metaData) {
+        GrpcChannelPool pool = channelPools.get(metaData.getServiceName());
+        if (Objects.nonNull(pool)) {
+            pool.release(metaData.getAppName(), metaData.getPath());
+        }
+    }
+
+    private static boolean isSameMethod(final MetaData previous, final MetaData current) {
+        return Objects.equals(previous.getRpcExt(), current.getRpcExt())
+                && Objects.equals(previous.getServiceName(), current.getServiceName())
+                && Objects.equals(previous.getMethodName(), current.getMethodName());
+    }
+
+    private static boolean isSameChannel(final MetaData previous, final MetaData current) {
+        return Objects.equals(previous.getAppName(), current.getAppName()) && Objects.equals(previous.getServiceName(), current.getServiceName());
+    }
+
+    private GrpcMethodTranscoder build(final MetaData metaData) {
+        long start = System.nanoTime();
+        if (StringUtils.isEmpty(metaData.getRpcExt())) {
+            throw new SoulException("can't init grpc method with empty ext string");
+        }
+        GrpcParamExtInfo extInfo = GsonUtils.getInstance().fromJson(metaData.getRpcExt(), GrpcParamExtInfo.class);
+        if (Objects.isNull(extInfo) || StringUtils.isEmpty(extInfo.getDescriptor())) {
+            throw new SoulException("can't init grpc method without descriptor");
+        }
+        GrpcMethodTranscoder transcoder = GrpcMethodTranscoder.of(
+                GrpcDescriptorUtils.resolveMethod(extInfo.getDescriptor(), metaData.getServiceName(), metaData.getMethodName()),
+                extInfo.getTimeout(), extInfo.getMaxResponses(), extInfo.getMaxResponseBytes());
+        stats.recordLoad(System.nanoTime() - start);
+        return transcoder;
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static ApplicationConfigCache getInstance() {
+        return ApplicationConfigCacheInstance.INSTANCE;
+    }
+
+    /**
+     * The type Application config cache instance.
+     */
+    static class ApplicationConfigCacheInstance {
+        /**
+         * The Instance.
+         */
+        static final ApplicationConfigCache INSTANCE = new ApplicationConfigCache();
+    }
+
+    /**
+     * The ext info of grpc meta data.
+     */
+    @Data
+    static class GrpcParamExtInfo {
+
+        private String descriptor;
+
+        private long timeout;
+
+        private int maxResponses;
+
+        private long maxResponseBytes;
+    }
+}
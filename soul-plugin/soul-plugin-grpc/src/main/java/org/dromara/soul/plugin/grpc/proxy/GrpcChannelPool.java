@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import io.grpc.ManagedChannel;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * The pooled channels of one grpc service, one channel per address which is shared by all the methods of service.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcChannelPool {
+
+    private static final ManagedChannel[] EMPTY = new ManagedChannel[0];
+
+    private final Function<String, ManagedChannel> channelFactory;
+
+    private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> paths = new ConcurrentHashMap<>();
+
+    private volatile ManagedChannel[] selectable = EMPTY;
+
+    /**
+     * Instantiates a new Grpc channel pool.
+     *
+     * @param channelFactory the factory which creates the channel of an address
+     */
+    public GrpcChannelPool(final Function<String, ManagedChannel> channelFactory) {
+        this.channelFactory = channelFactory;
+    }
+
+    /**
+     * Acquire the channel of the address for the path.
+     *
+     * @param address the address, such as 127.0.0.1:8080
+     * @param path    the path of method
+     */
+    public synchronized void acquire(final String address, final String path) {
+        paths.computeIfAbsent(address, key -> ConcurrentHashMap.newKeySet()).add(path);
+        if (!channels.containsKey(address)) {
+            channels.put(address, channelFactory.apply(address));
+            selectable = channels.values().toArray(EMPTY);
+        }
+    }
+
+    /**
+     * Release the channel of the address for the path, the channel is shut down when no path uses it.
+     *
+     * @param address the address
+     * @param path    the path of method
+     */
+    public synchronized void release(final String address, final String path) {
+        Set<String> users = paths.get(address);
+        if (Objects.isNull(users) || !users.remove(path) || !users.isEmpty()) {
+            return;
+        }
+        paths.remove(address);
+        ManagedChannel channel = channels.remove(address);
+        selectable = channels.values().toArray(EMPTY);
+        if (Objects.nonNull(channel)) {
+            channel.shutdown();
+        }
+    }
+
+    /**
+     * Select a channel randomly.
+     *
+     * @return the channel, null if the pool is empty
+     */
+    public ManagedChannel select() {
+        ManagedChannel[] candidates = selectable;
+        if (candidates.length == 0) {
+            return null;
+        }
+        return candidates.length == 1 ? candidates[0] : candidates[ThreadLocalRandom.current().nextInt(candidates.length)];
+    }
+
+    /**
+     * Whether the pool has no channel.
+     *
+     * @return the boolean
+     */
+    public boolean isEmpty() {
+        return selectable.length == 0;
+    }
+
+    /**
+     * Shutdown all the channels.
+     */
+    public synchronized void shutdown() {
+        channels.values().forEach(ManagedChannel::shutdown);
+        channels.clear();
+        paths.clear();
+        selectable = EMPTY;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageOrBuilder;
+import com.google.protobuf.util.JsonFormat;
+import io.grpc.MethodDescriptor;
+import io.grpc.protobuf.ProtoUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.exception.SoulException;
+
+/**
+ * The json transcoder of one grpc method, it is built from the descriptor once and cached per method.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcMethodTranscoder {
+
+    /**
+     * The default max count of the responses of a server streaming call.
+     */
+    public static final int DEFAULT_MAX_RESPONSES = 1000;
+
+    /**
+     * The default max bytes of the responses of a server streaming call, the same as the max inbound message size of grpc.
+     */
+    public static final long DEFAULT_MAX_RESPONSE_BYTES = 4 * 1024 * 1024;
+
+    private final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor;
+
+    private final Descriptors.Descriptor requestType;
+
+    private final JsonFormat.Parser parser;
+
+    private final JsonFormat.Printer printer;
+
+    private final long timeout;
+
+    private final int maxResponses;
+
+    private final long maxResponseBytes;
+
+    private GrpcMethodTranscoder(final MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor, final Descriptors.Descriptor requestType,
+                                 final JsonFormat.Parser parser, final JsonFormat.Printer printer, final long timeout, final int maxResponses, final long maxResponseBytes) {
+        this.methodDescriptor = methodDescriptor;
+        this.requestType = requestType;
+        this.parser = parser;
+        this.printer = printer;
+        this.timeout = timeout > 0 ? timeout : Constants.TIME_OUT;
+        this.maxResponses = maxResponses > 0 ? maxResponses : DEFAULT_MAX_RESPONSES;
+        this.maxResponseBytes = maxResponseBytes > 0 ? maxResponseBytes : DEFAULT_MAX_RESPONSE_BYTES;
+    }
+
+    /**
+     * Build the transcoder of the method, only the unary and server streaming method are supported.
+     *
+     * @param method  the method descriptor of protobuf
+     * @param timeout the timeout in milliseconds, {@link Constants#TIME_OUT} if it is not positive
+     * @return the grpc method transcoder
+     */
+    public static GrpcMethodTranscoder of(final Descriptors.MethodDescriptor method, final long timeout) {
+        return of(method, timeout, DEFAULT_MAX_RESPONSES, DEFAULT_MAX_RESPONSE_BYTES);
+    }
+
+    /**
+     * Build the transcoder of the method with the limits of the server streaming responses, the limit which is not positive is the default.
+     *
+     * @param method           the method descriptor of protobuf
+     * @param timeout          the timeout in milliseconds, {@link Constants#TIME_OUT} if it is not positive
+     * @param maxResponses     the max count of the server streaming responses
+     * @param maxResponseBytes the max serialized bytes of the server streaming responses
+     * @return the grpc method transcoder
+     */
+    public static GrpcMethodTranscoder of(final Descriptors.MethodDescriptor method, final long timeout, final int maxResponses, final long maxResponseBytes) {
+        if (method.isClientStreaming()) {
+            throw new SoulException("the client streaming grpc method is not supported: " + method.getFullName());
+        }
+        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = MethodDescriptor.<DynamicMessage, DynamicMessage>newBuilder()
+                .setType(method.isServerStreaming() ? MethodDescriptor.MethodType.SERVER_STREAMING : MethodDescriptor.MethodType.UNARY)
+                .setFullMethodName(MethodDescriptor.generateFullMethodName(method.getService().getFullName(), method.getName()))
+                .setRequestMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getInputType())))
+                .setResponseMarshaller(ProtoUtils.marshaller(DynamicMessage.getDefaultInstance(method.getOutputType())))
+                .build();
+        JsonFormat.TypeRegistry typeRegistry = JsonFormat.TypeRegistry.newBuilder()
+                .add(method.getInputType())
+                .add(method.getOutputType())
+                .build();
+        return new GrpcMethodTranscoder(methodDescriptor, method.getInputType(),
+                JsonFormat.parser().usingTypeRegistry(typeRegistry).ignoringUnknownFields(),
+                JsonFormat.printer().usingTypeRegistry(typeRegistry).includingDefaultValueFields().omittingInsignificantWhitespace(),
+                timeout, maxResponses, maxResponseBytes);
+    }
+
+    /**
+     * Parse the json body to the request message, the blank body is the default message.
+     *
+     * @param json the json body
+     * @return the request message
+     */
+    public DynamicMessage parse(final String json) {
+        DynamicMessage.Builder builder = DynamicMessage.newBuilder(requestType);
+        if (StringUtils.isNotBlank(json)) {
+            try {
+                parser.merge(json, builder);
+            } catch (InvalidProtocolBufferException e) {
+                throw new SoulException("the body can not be parsed to " + requestType.getFullName() + ": " + e.getMessage(), e);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Print the response message to json.
+     *
+     * @param message the response message
+     * @return the json string
+     */
+    public String print(final MessageOrBuilder message) {
+        try {
+            return printer.print(message);
+        } catch (InvalidProtocolBufferException e) {
+            throw new SoulException(e);
+        }
+    }
+
+    /**
+     * Gets the method descriptor of grpc.
+     *
+     * @return the method descriptor
+     */
+    public MethodDescriptor<DynamicMessage, DynamicMessage> getMethodDescriptor() {
+        return methodDescriptor;
+    }
+
+    /**
+     * Whether the server streams the responses.
+     *
+     * @return the boolean
+     */
+    public boolean isServerStreaming() {
+        return methodDescriptor.getType() == MethodDescriptor.MethodType.SERVER_STREAMING;
+    }
+
+    /**
+     * Gets timeout in milliseconds.
+     *
+     * @return the timeout
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Gets the max count of the server streaming responses.
+     *
+     * @return the max count
+     */
+    public int getMaxResponses() {
+        return maxResponses;
+    }
+
+    /**
+     * Gets the max serialized bytes of the server streaming responses.
+     *
+     * @return the max bytes
+     */
+    public long getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientCalls;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.enums.ResultEnum;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.grpc.cache.ApplicationConfigCache;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * The grpc proxy service, the json body is transcoded to the dynamic message of protobuf by the descriptor of method.
+ * Every call has a deadline, and the server streaming responses are requested with backpressure and limited in count and bytes.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public class GrpcProxyService {
+
+    private static final int STREAMING_PREFETCH = 32;
+
+    /**
+     * Generic invoker object, the result is the json of the response, or the json array of responses for server streaming.
+     *
+     * @param body     the body
+     * @param metaData the meta data
+     * @param exchange the exchange
+     * @return the object
+     * @throws SoulException the soul exception
+     */
+    public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws SoulException {
+        GrpcMethodTranscoder transcoder = ApplicationConfigCache.getInstance().get(metaData);
+        GrpcChannelPool channelPool = ApplicationConfigCache.getInstance().getChannelPool(metaData.getServiceName());
+        ManagedChannel channel = Objects.isNull(channelPool) ? null : channelPool.select();
+        if (Objects.isNull(channel)) {
+            return Mono.error(new SoulException("can not find the channel of grpc service " + metaData.getServiceName()));
+        }
+        DynamicMessage request = transcoder.parse(body);
+        CallOptions callOptions = CallOptions.DEFAULT.withDeadlineAfter(transcoder.getTimeout(), TimeUnit.MILLISECONDS);
+        Flux<DynamicMessage> responses = call(channel, transcoder, request, callOptions);
+        Mono<String> result = transcoder.isServerStreaming() ? join(responses, transcoder) : responses.map(transcoder::print).singleOrEmpty();
+        return result.cast(Object.class)
+                .doOnNext(ret -> {
+                    exchange.getAttributes().put(Constants.GRPC_RPC_RESULT, ret);
+                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+                })
+                .onErrorMap(SoulException::new);
+    }
+
+    /**
+     * Join the server streaming responses into a json array, the call fails and is cancelled once the responses exceed the limits.
+     *
+     * @param responses  the responses
+     * @param transcoder the transcoder
+     * @return the json array
+     */
+    private Mono<String> join(final Flux<DynamicMessage> responses, final GrpcMethodTranscoder transcoder) {
+        AtomicInteger count = new AtomicInteger();
+        AtomicLong bytes = new AtomicLong();
+        return responses.limitRate(STREAMING_PREFETCH)
+                .<String>handle((response, sink) -> {
+                    if (count.incrementAndGet() > transcoder.getMaxResponses() || bytes.addAndGet(response.getSerializedSize()) > transcoder.getMaxResponseBytes()) {
+                        sink.error(new SoulException("the server streaming responses exceed the limit of " + transcoder.getMaxResponses()
+                                + " responses or " + transcoder.getMaxResponseBytes() + " bytes"));
+                        return;
+                    }
+                    sink.next(transcoder.print(response));
+                })
+                .collect(Collectors.joining(",", "[", "]"));
+    }
+
+    private Flux<DynamicMessage> call(final Channel channel, final GrpcMethodTranscoder transcoder, final DynamicMessage request, final CallOptions callOptions) {
+        return Flux.create(sink -> {
+            ClientCall<DynamicMessage, DynamicMessage> call = channel.newCall(transcoder.getMethodDescriptor(), callOptions);
+            if (transcoder.isServerStreaming()) {
+                ResponseObserver observer = new ResponseObserver(sink, true);
+                ClientCalls.asyncServerStreamingCall(call, request, observer);
+                // the responses are requested by the demand of downstream once the call is started
+                sink.onRequest(observer::request);
+            } else {
+                ClientCalls.asyncUnaryCall(call, request, new ResponseObserver(sink, false));
+            }
+            sink.onCancel(() -> call.cancel("cancelled by the gateway", null));
+        });
+    }
+
+    /**
+     * The observer of responses, it pushes the responses of grpc into the reactor sink.
+     * With the flow control, the responses after the first one are only requested by {@link #request(long)}.
+     */
+    private static final class ResponseObserver implements ClientResponseObserver<DynamicMessage, DynamicMessage> {
+
+        private final FluxSink<DynamicMessage> sink;
+
+        private final boolean flowControl;
+
+        private ClientCallStreamObserver<DynamicMessage> requestStream;
+
+        ResponseObserver(final FluxSink<DynamicMessage> sink, final boolean flowControl) {
+            this.sink = sink;
+            this.flowControl = flowControl;
+        }
+
+        @Override
+        public void beforeStart(final ClientCallStreamObserver<DynamicMessage> requestStream) {
+            this.requestStream = requestStream;
+            if (flowControl) {
+                requestStream.disableAutoInboundFlowControl();
+            }
+        }
+
+        void request(final long count) {
+            requestStream.request((int) Math.min(count, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public void onNext(final DynamicMessage value) {
+            sink.next(value);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            sink.error(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            sink.complete();
+        }
+    }
+}
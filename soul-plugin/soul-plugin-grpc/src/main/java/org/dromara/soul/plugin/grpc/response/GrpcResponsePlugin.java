@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.response;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.api.result.SoulResultEnum;
+import org.dromara.soul.plugin.base.utils.SoulResultWrap;
+import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+/**
+ * The grpc response plugin, the json of the response is written as it is.
+ *
+ * @author xiaoyu
+ */
+public class GrpcResponsePlugin implements SoulPlugin {
+
+    @Override
+    public Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
+        return chain.execute(exchange).then(Mono.defer(() -> {
+            final Object result = exchange.getAttribute(Constants.GRPC_RPC_RESULT);
+            if (Objects.isNull(result)) {
+                Object error = SoulResultWrap.error(SoulResultEnum.SERVICE_RESULT_ERROR.getCode(), SoulResultEnum.SERVICE_RESULT_ERROR.getMsg(), null);
+                return WebFluxResultUtils.result(exchange, error);
+            }
+            Object success = SoulResultWrap.success(SoulResultEnum.SUCCESS.getCode(), SoulResultEnum.SUCCESS.getMsg(), new RawValue(result.toString()));
+            return WebFluxResultUtils.result(exchange, success);
+        }));
+    }
+
+    @Override
+    public Boolean skip(final ServerWebExchange exchange) {
+        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        return !Objects.equals(soulContext.getRpcType(), RpcTypeEnum.GRPC.getName());
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.RESPONSE.getCode();
+    }
+
+    @Override
+    public String named() {
+        return PluginEnum.RESPONSE.getName();
+    }
+}
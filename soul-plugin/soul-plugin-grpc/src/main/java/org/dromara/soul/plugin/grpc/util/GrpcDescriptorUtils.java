@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.util;
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import org.dromara.soul.common.exception.SoulException;
+
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The grpc descriptor utils, the descriptor of a service is registered as a base64 encoded {@link FileDescriptorSet}
+ * which contains the proto file of the service and all of its dependencies.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcDescriptorUtils {
+
+    private GrpcDescriptorUtils() {
+    }
+
+    /**
+     * Resolve the method descriptor.
+     *
+     * @param descriptorSet the base64 encoded file descriptor set
+     * @param serviceName   the full name of service, such as soul.test.EchoService
+     * @param methodName    the method name
+     * @return the method descriptor
+     */
+    public static Descriptors.MethodDescriptor resolveMethod(final String descriptorSet, final String serviceName, final String methodName) {
+        FileDescriptorSet fileDescriptorSet;
+        try {
+            fileDescriptorSet = FileDescriptorSet.parseFrom(Base64.getDecoder().decode(descriptorSet));
+        } catch (InvalidProtocolBufferException | IllegalArgumentException e) {
+            throw new SoulException("the descriptor of grpc service " + serviceName + " is invalid", e);
+        }
+        Map<String, FileDescriptorProto> protos = new HashMap<>(fileDescriptorSet.getFileCount() * 2);
+        fileDescriptorSet.getFileList().forEach(proto -> protos.putIfAbsent(proto.getName(), proto));
+        Map<String, Descriptors.FileDescriptor> files = new HashMap<>(protos.size() * 2);
+        for (String name : protos.keySet()) {
+            for (Descriptors.ServiceDescriptor service : build(name, protos, files).getServices()) {
+                if (service.getFullName().equals(serviceName)) {
+                    Descriptors.MethodDescriptor method = service.findMethodByName(methodName);
+                    if (Objects.isNull(method)) {
+                        throw new SoulException("can not find the method " + methodName + " of grpc service " + serviceName);
+                    }
+                    return method;
+                }
+            }
+        }
+        throw new SoulException("can not find the grpc service " + serviceName + " in the descriptor");
+    }
+
+    private static Descriptors.FileDescriptor build(final String name, final Map<String, FileDescriptorProto> protos, final Map<String, Descriptors.FileDescriptor> files) {
+        Descriptors.FileDescriptor file = files.get(name);
+        if (Objects.nonNull(file)) {
+            return file;
+        }
+        FileDescriptorProto proto = protos.get(name);
+        if (Objects.isNull(proto)) {
+            throw new SoulException("the proto file " + name + " is absent in the grpc descriptor");
+        }
+        Descriptors.FileDescriptor[] dependencies = new Descriptors.FileDescriptor[proto.getDependencyCount()];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencies[i] = build(proto.getDependency(i), protos, files);
+        }
+        try {
+            file = Descriptors.FileDescriptor.buildFrom(proto, dependencies);
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new SoulException("the proto file " + name + " of grpc descriptor is invalid", e);
+        }
+        files.put(name, file);
+        return file;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorSet;
+import com.google.protobuf.DescriptorProtos.MethodDescriptorProto;
+import com.google.protobuf.DescriptorProtos.ServiceDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCalls;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.plugin.grpc.proxy.GrpcMethodTranscoder;
+
+import java.util.Base64;
+
+/**
+ * The echo service of test, it is defined by the descriptor built in code instead of the generated stub.
+ *
+ * @author xiaoyu
+ */
+public final class EchoService {
+
+    /**
+     * The full name of service.
+     */
+    public static final String SERVICE_NAME = "soul.test.EchoService";
+
+    private static final Descriptors.FileDescriptor FILE = buildFile();
+
+    private EchoService() {
+    }
+
+    /**
+     * Gets the method descriptor.
+     *
+     * @param methodName the method name, Echo or EchoStream
+     * @return the method descriptor
+     */
+    public static Descriptors.MethodDescriptor method(final String methodName) {
+        return FILE.findServiceByName("EchoService").findMethodByName(methodName);
+    }
+
+    /**
+     * The base64 encoded file descriptor set of service.
+     *
+     * @return the descriptor set
+     */
+    public static String descriptorSet() {
+        return Base64.getEncoder().encodeToString(FileDescriptorSet.newBuilder().addFile(FILE.toProto()).build().toByteArray());
+    }
+
+    /**
+     * Build the meta data of method.
+     *
+     * @param methodName the method name
+     * @param address    the address of server
+     * @return the meta data
+     */
+    public static MetaData metaData(final String methodName, final String address) {
+        MetaData metaData = new MetaData();
+        metaData.setId(methodName);
+        metaData.setAppName(address);
+        metaData.setPath("/grpc/" + methodName);
+        metaData.setServiceName(SERVICE_NAME);
+        metaData.setMethodName(methodName);
+        metaData.setRpcType(RpcTypeEnum.GRPC.getName());
+        metaData.setRpcExt("{\"descriptor\":\"" + descriptorSet() + "\",\"timeout\":3000}");
+        metaData.setEnabled(true);
+        return metaData;
+    }
+
+    /**
+     * The server definition, Echo returns the message with the count as index, EchoStream returns count messages.
+     *
+     * @return the server service definition
+     */
+    public static ServerServiceDefinition bindService() {
+        Descriptors.Descriptor responseType = method("Echo").getOutputType();
+        return ServerServiceDefinition.builder(SERVICE_NAME)
+                .addMethod(GrpcMethodTranscoder.of(method("Echo"), 0).getMethodDescriptor(),
+                        ServerCalls.asyncUnaryCall((request, observer) -> {
+                            observer.onNext(response(responseType, request, (Integer) field(request, "count")));
+                            observer.onCompleted();
+                        }))
+                .addMethod(GrpcMethodTranscoder.of(method("EchoStream"), 0).getMethodDescriptor(),
+                        ServerCalls.asyncServerStreamingCall((request, observer) -> {
+                            for (int i = 0; i < (Integer) field(request, "count"); i++) {
+                                observer.onNext(response(responseType, request, i));
+                            }
+                            observer.onCompleted();
+                        }))
+                .build();
+    }
+
+    private static DynamicMessage response(final Descriptors.Descriptor responseType, final DynamicMessage request, final int index) {
+        return DynamicMessage.newBuilder(responseType)
+                .setField(responseType.findFieldByName("message"), field(request, "message"))
+                .setField(responseType.findFieldByName("index"), index)
+                .build();
+    }
+
+    private static Object field(final DynamicMessage message, final String name) {
+        return message.getField(message.getDescriptorForType().findFieldByName(name));
+    }
+
+    private static Descriptors.FileDescriptor buildFile() {
+        FileDescriptorProto proto = FileDescriptorProto.newBuilder()
+                .setName("echo.proto")
+                .setPackage("soul.test")
+                .setSyntax("proto3")
+                .addMessageType(DescriptorProto.newBuilder().setName("EchoRequest")
+                        .addField(field("message", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("count", 2, FieldDescriptorProto.Type.TYPE_INT32)))
+                .addMessageType(DescriptorProto.newBuilder().setName("EchoResponse")
+                        .addField(field("message", 1, FieldDescriptorProto.Type.TYPE_STRING))
+                        .addField(field("index", 2, FieldDescriptorProto.Type.TYPE_INT32)))
+                .addService(ServiceDescriptorProto.newBuilder().setName("EchoService")
+                        .addMethod(MethodDescriptorProto.newBuilder().setName("Echo")
+                                .setInputType(".soul.test.EchoRequest").setOutputType(".soul.test.EchoResponse"))
+                        .addMethod(MethodDescriptorProto.newBuilder().setName("EchoStream")
+                                .setInputType(".soul.test.EchoRequest").setOutputType(".soul.test.EchoResponse").setServerStreaming(true)))
+                .build();
+        try {
+            return Descriptors.FileDescriptor.buildFrom(proto, new Descriptors.FileDescriptor[0]);
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FieldDescriptorProto field(final String name, final int number, final FieldDescriptorProto.Type type) {
+        return FieldDescriptorProto.newBuilder()
+                .setName(name)
+                .setNumber(number)
+                .setType(type)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build();
+    }
+}
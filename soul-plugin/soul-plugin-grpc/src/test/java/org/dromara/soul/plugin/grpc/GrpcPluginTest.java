@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc;
+
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.grpc.proxy.GrpcProxyService;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test case for {@link GrpcPlugin}.
+ *
+ * @author xiaoyu
+ */
+@RunWith(MockitoJUnitRunner.class)
+public final class GrpcPluginTest {
+
+    private GrpcPlugin grpcPlugin;
+
+    private GrpcProxyService grpcProxyService;
+
+    private MetaData metaData;
+
+    private ServerWebExchange exchange;
+
+    @Mock
+    private SoulPluginChain chain;
+
+    @Before
+    public void setUp() {
+        exchange = MockServerWebExchange.from(MockServerHttpRequest.get("localhost").build());
+        metaData = EchoService.metaData("Echo", "127.0.0.1:8080");
+        grpcProxyService = mock(GrpcProxyService.class);
+        grpcPlugin = new GrpcPlugin(grpcProxyService);
+        exchange.getAttributes().put(Constants.CONTEXT, mock(SoulContext.class));
+        exchange.getAttributes().put(Constants.META_DATA, metaData);
+    }
+
+    @Test
+    public void testGrpcPlugin() {
+        when(grpcProxyService.genericInvoker(null, metaData, exchange)).thenReturn(Mono.just("{}"));
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, mock(SelectorData.class), mock(RuleData.class))).expectSubscription().verifyComplete();
+    }
+
+    @Test
+    public void testGrpcPluginInvokeError() {
+        when(grpcProxyService.genericInvoker(null, metaData, exchange)).thenThrow(new SoulException("invalid body"));
+        StepVerifier.create(grpcPlugin.doExecute(exchange, chain, mock(SelectorData.class), mock(RuleData.class))).expectSubscription().verifyComplete();
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    public void testNamed() {
+        assertEquals(PluginEnum.GRPC.getName(), grpcPlugin.named());
+    }
+
+    @Test
+    public void testSkip() {
+        SoulContext context = mock(SoulContext.class);
+        when(context.getRpcType()).thenReturn(RpcTypeEnum.GRPC.getName());
+        exchange.getAttributes().put(Constants.CONTEXT, context);
+        assertFalse(grpcPlugin.skip(exchange));
+    }
+
+    @Test
+    public void testGetOrder() {
+        assertEquals(PluginEnum.GRPC.getCode(), grpcPlugin.getOrder());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.cache;
+
+import io.grpc.ManagedChannel;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.plugin.grpc.EchoService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test case for {@link ApplicationConfigCache}.
+ *
+ * @author xiaoyu
+ */
+public final class ApplicationConfigCacheTest {
+
+    private final Map<String, ManagedChannel> channels = new ConcurrentHashMap<>();
+
+    private ApplicationConfigCache applicationConfigCache;
+
+    @Before
+    public void setUp() {
+        applicationConfigCache = ApplicationConfigCache.getInstance();
+        applicationConfigCache.setChannelFactory(address -> channels.computeIfAbsent(address, key -> mock(ManagedChannel.class)));
+    }
+
+    @After
+    public void tearDown() {
+        applicationConfigCache.invalidateAll();
+    }
+
+    @Test
+    public void testUpdateDescriptor() {
+        MetaData metaData = EchoService.metaData("Echo", "127.0.0.1:8080");
+        applicationConfigCache.initRef(metaData);
+        assertEquals(3000, applicationConfigCache.get(metaData).getTimeout());
+        MetaData updated = EchoService.metaData("Echo", "127.0.0.1:8080");
+        updated.setRpcExt("{\"descriptor\":\"" + EchoService.descriptorSet() + "\",\"timeout\":5000}");
+        applicationConfigCache.initRef(updated);
+        assertEquals(5000, applicationConfigCache.get(updated).getTimeout());
+        verify(channels.get("127.0.0.1:8080"), never()).shutdown();
+    }
+
+    @Test
+    public void testUpdateAddress() {
+        applicationConfigCache.initRef(EchoService.metaData("Echo", "127.0.0.1:8080"));
+        applicationConfigCache.initRef(EchoService.metaData("Echo", "127.0.0.1:8081"));
+        verify(channels.get("127.0.0.1:8080")).shutdown();
+        assertSame(channels.get("127.0.0.1:8081"), applicationConfigCache.getChannelPool(EchoService.SERVICE_NAME).select());
+        applicationConfigCache.invalidate(EchoService.metaData("Echo", "127.0.0.1:8081"));
+        verify(channels.get("127.0.0.1:8081")).shutdown();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import io.grpc.ManagedChannel;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test case for {@link GrpcChannelPool}.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcChannelPoolTest {
+
+    @Test
+    public void testAcquireAndRelease() {
+        List<ManagedChannel> created = new ArrayList<>();
+        GrpcChannelPool pool = new GrpcChannelPool(address -> {
+            ManagedChannel channel = mock(ManagedChannel.class);
+            created.add(channel);
+            return channel;
+        });
+        assertNull(pool.select());
+        pool.acquire("127.0.0.1:8080", "/grpc/echo");
+        pool.acquire("127.0.0.1:8080", "/grpc/echoStream");
+        assertEquals(1, created.size());
+        assertSame(created.get(0), pool.select());
+        pool.release("127.0.0.1:8080", "/grpc/echo");
+        verify(created.get(0), never()).shutdown();
+        pool.release("127.0.0.1:8080", "/grpc/echoStream");
+        verify(created.get(0)).shutdown();
+        assertTrue(pool.isEmpty());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import com.google.protobuf.DynamicMessage;
+import io.grpc.MethodDescriptor;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.grpc.EchoService;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link GrpcMethodTranscoder}.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcMethodTranscoderTest {
+
+    @Test
+    public void testOf() {
+        GrpcMethodTranscoder unary = GrpcMethodTranscoder.of(EchoService.method("Echo"), 3000);
+        assertEquals("soul.test.EchoService/Echo", unary.getMethodDescriptor().getFullMethodName());
+        assertEquals(MethodDescriptor.MethodType.UNARY, unary.getMethodDescriptor().getType());
+        assertFalse(unary.isServerStreaming());
+        assertEquals(3000, unary.getTimeout());
+        GrpcMethodTranscoder stream = GrpcMethodTranscoder.of(EchoService.method("EchoStream"), 0);
+        assertTrue(stream.isServerStreaming());
+        assertEquals(Constants.TIME_OUT, stream.getTimeout());
+        assertEquals(GrpcMethodTranscoder.DEFAULT_MAX_RESPONSES, stream.getMaxResponses());
+        assertEquals(GrpcMethodTranscoder.DEFAULT_MAX_RESPONSE_BYTES, stream.getMaxResponseBytes());
+        assertEquals(10, GrpcMethodTranscoder.of(EchoService.method("EchoStream"), 0, 10, 0).getMaxResponses());
+    }
+
+    @Test
+    public void testParseAndPrint() {
+        GrpcMethodTranscoder transcoder = GrpcMethodTranscoder.of(EchoService.method("Echo"), 0);
+        DynamicMessage request = transcoder.parse("{\"message\":\"soul\",\"count\":2,\"unknown\":true}");
+        assertEquals("{\"message\":\"soul\",\"count\":2}", transcoder.print(request));
+        assertEquals("{\"message\":\"\",\"count\":0}", transcoder.print(transcoder.parse("")));
+    }
+
+    @Test
+    public void testMarshaller() {
+        GrpcMethodTranscoder transcoder = GrpcMethodTranscoder.of(EchoService.method("Echo"), 0);
+        DynamicMessage request = transcoder.parse("{\"message\":\"soul\",\"count\":2}");
+        MethodDescriptor<DynamicMessage, DynamicMessage> methodDescriptor = transcoder.getMethodDescriptor();
+        assertEquals(request, methodDescriptor.parseRequest(methodDescriptor.streamRequest(request)));
+    }
+
+    @Test(expected = SoulException.class)
+    public void testParseInvalidBody() {
+        GrpcMethodTranscoder.of(EchoService.method("Echo"), 0).parse("{\"count\":\"two\"}");
+    }
+}
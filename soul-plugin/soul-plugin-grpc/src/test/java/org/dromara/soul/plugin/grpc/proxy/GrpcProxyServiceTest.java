@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.proxy;
+
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.MetaData;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.grpc.EchoService;
+import org.dromara.soul.plugin.grpc.cache.ApplicationConfigCache;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test case for {@link GrpcProxyService}, it calls the echo service of an in-process grpc server.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcProxyServiceTest {
+
+    private static final String SERVER_NAME = "soul-grpc-proxy-test";
+
+    private static Server server;
+
+    private final GrpcProxyService grpcProxyService = new GrpcProxyService();
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        server = InProcessServerBuilder.forName(SERVER_NAME).directExecutor().addService(EchoService.bindService()).build().start();
+        ApplicationConfigCache.getInstance().setChannelFactory(address -> InProcessChannelBuilder.forName(address).directExecutor().build());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        ApplicationConfigCache.getInstance().invalidateAll();
+        server.shutdownNow();
+    }
+
+    @Test
+    public void testUnary() {
+        MetaData metaData = EchoService.metaData("Echo", SERVER_NAME);
+        ApplicationConfigCache.getInstance().initRef(metaData);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/grpc/Echo").build());
+        StepVerifier.create(grpcProxyService.genericInvoker("{\"message\":\"soul\",\"count\":3}", metaData, exchange))
+                .expectNext("{\"message\":\"soul\",\"index\":3}")
+                .verifyComplete();
+        assertEquals("{\"message\":\"soul\",\"index\":3}", exchange.getAttribute(Constants.GRPC_RPC_RESULT));
+    }
+
+    @Test
+    public void testServerStreaming() {
+        MetaData metaData = EchoService.metaData("EchoStream", SERVER_NAME);
+        ApplicationConfigCache.getInstance().initRef(metaData);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/grpc/EchoStream").build());
+        StepVerifier.create(grpcProxyService.genericInvoker("{\"message\":\"soul\",\"count\":2}", metaData, exchange))
+                .expectNext("[{\"message\":\"soul\",\"index\":0},{\"message\":\"soul\",\"index\":1}]")
+                .verifyComplete();
+        StepVerifier.create(grpcProxyService.genericInvoker("{\"message\":\"soul\",\"count\":0}", metaData, exchange))
+                .expectNext("[]")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testServerStreamingLimit() {
+        MetaData metaData = EchoService.metaData("EchoStream", SERVER_NAME);
+        metaData.setPath("/grpc/EchoStreamLimited");
+        metaData.setRpcExt("{\"descriptor\":\"" + EchoService.descriptorSet() + "\",\"maxResponses\":2}");
+        ApplicationConfigCache.getInstance().initRef(metaData);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/grpc/EchoStreamLimited").build());
+        StepVerifier.create(grpcProxyService.genericInvoker("{\"message\":\"soul\",\"count\":2}", metaData, exchange))
+                .expectNext("[{\"message\":\"soul\",\"index\":0},{\"message\":\"soul\",\"index\":1}]")
+                .verifyComplete();
+        StepVerifier.create(grpcProxyService.genericInvoker("{\"message\":\"soul\",\"count\":100}", metaData, exchange))
+                .expectError(SoulException.class)
+                .verify();
+        assertEquals(Constants.TIME_OUT, ApplicationConfigCache.getInstance().get(metaData).getTimeout());
+    }
+
+    @Test(expected = SoulException.class)
+    public void testInvalidBody() {
+        MetaData metaData = EchoService.metaData("Echo", SERVER_NAME);
+        ApplicationConfigCache.getInstance().initRef(metaData);
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/grpc/Echo").build());
+        grpcProxyService.genericInvoker("[1]", metaData, exchange);
+    }
+
+    @Test(expected = SoulException.class)
+    public void testAbsentService() {
+        MetaData metaData = EchoService.metaData("Echo", SERVER_NAME);
+        metaData.setServiceName("soul.test.AbsentService");
+        metaData.setPath("/grpc/absent");
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/grpc/absent").build());
+        grpcProxyService.genericInvoker("{}", metaData, exchange);
+    }
+}
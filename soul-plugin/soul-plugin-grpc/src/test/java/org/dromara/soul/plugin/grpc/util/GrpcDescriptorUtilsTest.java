@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.grpc.util;
+
+import com.google.protobuf.Descriptors;
+import org.dromara.soul.common.exception.SoulException;
+import org.dromara.soul.plugin.grpc.EchoService;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link GrpcDescriptorUtils}.
+ *
+ * @author xiaoyu
+ */
+public final class GrpcDescriptorUtilsTest {
+
+    @Test
+    public void testResolveMethod() {
+        Descriptors.MethodDescriptor method = GrpcDescriptorUtils.resolveMethod(EchoService.descriptorSet(), EchoService.SERVICE_NAME, "EchoStream");
+        assertEquals("soul.test.EchoService.EchoStream", method.getFullName());
+        assertEquals("soul.test.EchoRequest", method.getInputType().getFullName());
+        assertTrue(method.isServerStreaming());
+    }
+
+    @Test(expected = SoulException.class)
+    public void testResolveAbsentMethod() {
+        GrpcDescriptorUtils.resolveMethod(EchoService.descriptorSet(), EchoService.SERVICE_NAME, "Absent");
+    }
+
+    @Test(expected = SoulException.class)
+    public void testResolveAbsentService() {
+        GrpcDescriptorUtils.resolveMethod(EchoService.descriptorSet(), "soul.test.AbsentService", "Echo");
+    }
+
+    @Test(expected = SoulException.class)
+    public void testResolveInvalidDescriptor() {
+        GrpcDescriptorUtils.resolveMethod("not base64!", EchoService.SERVICE_NAME, "Echo");
+    }
+}
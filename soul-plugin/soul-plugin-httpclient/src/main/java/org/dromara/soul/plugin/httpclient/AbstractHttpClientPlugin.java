@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.dromara.soul.common.dto.convert.HttpTimeouts;
+import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.common.exception.UpstreamTimeoutException;
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.api.result.SoulResultEnum;
+import org.dromara.soul.plugin.base.utils.SoulResultWrap;
+import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.httpclient.compression.Compression;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.retry.RetryBudget;
+import org.dromara.soul.plugin.httpclient.streaming.StreamingBody;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * The base http client plugin, it retries the request on another upstream within the retry budget,
+ * and hedges the idempotent request if it is enabled. The {@link Constants#HTTP_TARGET} is updated to the upstream of the used attempt.
+ *
+ * @param <R> the type of upstream response
+ * @author xiaoyu
+ */
+public abstract class AbstractHttpClientPlugin<R> implements SoulPlugin {
+
+    private static final long DEFAULT_TIMEOUT = 3000L;
+
+    private final RetryBudget retryBudget;
+
+    private final boolean hedgeEnabled;
+
+    private final Duration hedgeDelay;
+
+    private final Set<String> hedgeMethods;
+
+    private final StreamingBody streamingBody;
+
+    private final Compression compression;
+
+    private final Mono<R> timeoutError = Mono.error(UpstreamTimeoutException.INSTANCE);
+
+    /**
+     * Instantiates a new Abstract http client plugin.
+     *
+     * @param properties the http client properties
+     */
+    protected AbstractHttpClientPlugin(final HttpClientProperties properties) {
+        HttpClientProperties.Retry retry = properties.getRetry();
+        HttpClientProperties.Hedge hedge = properties.getHedge();
+        this.retryBudget = new RetryBudget(retry.getBudgetPercentage(), retry.getMaxBudget());
+        this.hedgeEnabled = hedge.isEnabled();
+        this.hedgeDelay = hedge.getDelay();
+        this.hedgeMethods = hedge.getMethods().stream().map(String::toUpperCase).collect(Collectors.toSet());
+        this.streamingBody = new StreamingBody(properties.getStreaming());
+        this.compression = new Compression(properties.getCompression());
+    }
+
+    /**
+     * Send the request to the upstream.
+     *
+     * @param exchange the exchange
+     * @param target   the http target, null if only the url is known
+     * @param url      the url
+     * @return the upstream response
+     */
+    protected abstract Mono<R> doRequest(ServerWebExchange exchange, HttpTarget target, String url);
+
+    /**
+     * Handle the upstream response, and continue the chain.
+     *
+     * @param exchange the exchange
+     * @param response the upstream response
+     * @param chain    the chain
+     * @return the mono
+     */
+    protected abstract Mono<Void> doNext(ServerWebExchange exchange, R response, SoulPluginChain chain);
+
+    /**
+     * Release the upstream response which is not used, such as the response of the hedged request which loses the race,
+     * the body is drained or released so that the connection does not leak.
+     *
+     * @param response the upstream response
+     */
+    protected abstract void release(R response);
+
+    /**
+     * Gets the request body to send to the upstream.
+     *
+     * @param exchange the exchange
+     * @return the body
+     */
+    protected Flux<DataBuffer> requestBody(final ServerWebExchange exchange) {
+        return compression.requestBody(exchange.getRequest(), streamingBody.stream(exchange.getRequest().getBody()));
+    }
+
+    /**
+     * Gets the headers of the inbound request which are not sent to the upstream.
+     *
+     * @param exchange the exchange
+     * @return the names of headers
+     */
+    protected List<String> removedRequestHeaders(final ServerWebExchange exchange) {
+        return compression.removedRequestHeaders(exchange.getRequest());
+    }
+
+    /**
+     * Gets the timeouts of the rule, or the shared timeouts built from the response timeout.
+     *
+     * @param exchange the exchange
+     * @return the http timeouts
+     */
+    protected HttpTimeouts timeouts(final ServerWebExchange exchange) {
+        HttpTimeouts timeouts = exchange.getAttribute(Constants.HTTP_TIMEOUTS);
+        if (Objects.nonNull(timeouts)) {
+            return timeouts;
+        }
+        Long timeout = exchange.getAttribute(Constants.HTTP_TIME_OUT);
+        return HttpTimeouts.ofResponseTimeout(Objects.isNull(timeout) ? DEFAULT_TIMEOUT : timeout);
+    }
+
+    /**
+     * Limit the time to wait for the upstream response, it errors with the shared {@link UpstreamTimeoutException}.
+     *
+     * @param response the upstream response
+     * @param timeouts the http timeouts
+     * @return the upstream response
+     */
+    protected Mono<R> timeout(final Mono<R> response, final HttpTimeouts timeouts) {
+        return response.timeout(timeouts.getResponseTimeout(), timeoutError);
+    }
+
+    @Override
+    public final Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
+        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        final HttpTarget target = exchange.getAttribute(Constants.HTTP_TARGET);
+        final String url = Objects.nonNull(target) ? target.toUriString() : exchange.getAttribute(Constants.HTTP_URL);
+        if (StringUtils.isEmpty(url)) {
+            Object error = SoulResultWrap.error(SoulResultEnum.CANNOT_FIND_URL.getCode(), SoulResultEnum.CANNOT_FIND_URL.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        int retryTimes = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0);
+        retryBudget.deposit();
+        Mono<R> response = isHedged(exchange.getRequest()) ? hedge(exchange, target, url, retryTimes) : requestWithRetry(exchange, target, url, retryTimes);
+        return timeout(response, timeouts(exchange)).flatMap(res -> doNext(exchange, res, chain));
+    }
+
+    @Override
+    public int getOrder() {
+        return PluginEnum.DIVIDE.getCode() + 1;
+    }
+
+    @Override
+    public Boolean skip(final ServerWebExchange exchange) {
+        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
+        assert soulContext != null;
+        return !Objects.equals(RpcTypeEnum.HTTP.getName(), soulContext.getRpcType())
+                && !Objects.equals(RpcTypeEnum.SPRING_CLOUD.getName(), soulContext.getRpcType());
+    }
+
+    private Mono<R> requestWithRetry(final ServerWebExchange exchange, final HttpTarget target, final String url, final int retryTimes) {
+        Mono<R> response = doRequest(exchange, target, url);
+        if (retryTimes <= 0) {
+            return response;
+        }
+        // only the request failed to connect is retried, the body of it has not been sent yet
+        return response.onErrorResume(ConnectException.class, th -> {
+            if (!retryBudget.tryWithdraw()) {
+                return Mono.error(th);
+            }
+            HttpTarget next = reselect(exchange);
+            if (Objects.isNull(next)) {
+                return requestWithRetry(exchange, target, url, retryTimes - 1);
+            }
+            exchange.getAttributes().put(Constants.HTTP_TARGET, next);
+            return requestWithRetry(exchange, next, next.toUriString(), retryTimes - 1);
+        });
+    }
+
+    /**
+     * Race the request with a hedged request which is sent after the hedge delay, the first response wins.
+     * The loser is cancelled, and its response is released if it has arrived anyway.
+     *
+     * @param exchange   the exchange
+     * @param target     the http target
+     * @param url        the url
+     * @param retryTimes the retry times of the request
+     * @return the upstream response
+     */
+    private Mono<R> hedge(final ServerWebExchange exchange, final HttpTarget target, final String url, final int retryTimes) {
+        return Mono.defer(() -> {
+            AtomicBoolean claimed = new AtomicBoolean();
+            Mono<R> response = claim(requestWithRetry(exchange, target, url, retryTimes), claimed);
+            Mono<R> hedged = Mono.delay(hedgeDelay).then(Mono.defer(() -> hedgedRequest(exchange, target, url, claimed)));
+            return Mono.first(response, hedged);
+        });
+    }
+
+    private Mono<R> hedgedRequest(final ServerWebExchange exchange, final HttpTarget target, final String url, final AtomicBoolean claimed) {
+        if (!retryBudget.tryWithdraw()) {
+            return Mono.never();
+        }
+        HttpTarget next = reselect(exchange);
+        if (Objects.isNull(next)) {
+            return claim(doRequest(exchange, target, url), claimed);
+        }
+        return claim(doRequest(exchange, next, next.toUriString()), claimed)
+                .doOnNext(response -> exchange.getAttributes().put(Constants.HTTP_TARGET, next));
+    }
+
+    private Mono<R> claim(final Mono<R> response, final AtomicBoolean claimed) {
+        return response.flatMap(res -> {
+            if (claimed.compareAndSet(false, true)) {
+                return Mono.just(res);
+            }
+            // the other request has won, this response would be dropped without its connection released
+            release(res);
+            return Mono.never();
+        });
+    }
+
+    private HttpTarget reselect(final ServerWebExchange exchange) {
+        Supplier<HttpTarget> reselector = exchange.getAttribute(Constants.HTTP_TARGET_RESELECTOR);
+        return Objects.isNull(reselector) ? null : reselector.get();
+    }
+
+    private boolean isHedged(final ServerHttpRequest request) {
+        if (!hedgeEnabled || !hedgeMethods.contains(request.getMethodValue())) {
+            return false;
+        }
+        HttpHeaders headers = request.getHeaders();
+        return headers.getContentLength() <= 0 && !headers.containsKey(HttpHeaders.TRANSFER_ENCODING);
+    }
+}
@@ -17,117 +17,153 @@
 
 package org.dromara.soul.plugin.httpclient;
 
-import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
-import lombok.extern.slf4j.Slf4j;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.handler.timeout.TimeoutException;
+import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.dromara.soul.common.constant.Constants;
-import org.dromara.soul.common.enums.PluginEnum;
-import org.dromara.soul.common.enums.RpcTypeEnum;
-import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.dromara.soul.common.dto.convert.HttpTimeouts;
+import org.dromara.soul.common.exception.UpstreamTimeoutException;
 import org.dromara.soul.plugin.api.SoulPluginChain;
-import org.dromara.soul.plugin.api.context.SoulContext;
-import org.dromara.soul.plugin.api.result.SoulResultEnum;
-import org.dromara.soul.plugin.base.utils.SoulResultWrap;
-import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.pool.UpstreamConnectionPool;
+import org.dromara.soul.plugin.httpclient.pool.UpstreamConnectionPoolManager;
+import org.dromara.soul.plugin.httpclient.utils.NettyHeadersUtils;
 import org.springframework.core.io.buffer.NettyDataBuffer;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.AbstractServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.util.StringUtils;
-import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
 import reactor.netty.http.client.HttpClient;
 import reactor.netty.http.client.HttpClientResponse;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
-import java.time.Duration;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The type Netty http client plugin.
  *
  * @author xiaoyu
  */
-@Slf4j
-public class NettyHttpClientPlugin implements SoulPlugin {
+public class NettyHttpClientPlugin extends AbstractHttpClientPlugin<Tuple2<HttpClientResponse, Connection>> {
+
+    private static final String READ_TIMEOUT_HANDLER = "soulReadTimeout";
+
+    private static final String WRITE_TIMEOUT_HANDLER = "soulWriteTimeout";
 
     private final HttpClient httpClient;
 
+    private final UpstreamConnectionPoolManager poolManager;
+
     /**
      * Instantiates a new Netty http client plugin.
      *
      * @param httpClient the http client
      */
     public NettyHttpClientPlugin(final HttpClient httpClient) {
+        this(httpClient, new HttpClientProperties());
+    }
+
+    /**
+     * Instantiates a new Netty http client plugin.
+     *
+     * @param httpClient the http client
+     * @param properties the http client properties
+     */
+    public NettyHttpClientPlugin(final HttpClient httpClient, final HttpClientProperties properties) {
+        this(httpClient, properties, new UpstreamConnectionPoolManager(properties, HttpClient::create));
+    }
+
+    /**
+     * Instantiates a new Netty http client plugin.
+     *
+     * @param httpClient  the http client
+     * @param properties  the http client properties
+     * @param poolManager the upstream connection pool manager
+     */
+    public NettyHttpClientPlugin(final HttpClient httpClient, final HttpClientProperties properties, final UpstreamConnectionPoolManager poolManager) {
+        super(properties);
         this.httpClient = httpClient;
+        this.poolManager = poolManager;
     }
 
     @Override
-    public Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
-        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
-        assert soulContext != null;
+    protected Mono<Tuple2<HttpClientResponse, Connection>> doRequest(final ServerWebExchange exchange, final HttpTarget target, final String url) {
         ServerHttpRequest request = exchange.getRequest();
         final HttpMethod method = HttpMethod.valueOf(request.getMethodValue());
-        HttpHeaders filtered = request.getHeaders();
-        final DefaultHttpHeaders httpHeaders = new DefaultHttpHeaders();
-        filtered.forEach(httpHeaders::set);
-        String url = exchange.getAttribute(Constants.HTTP_URL);
-        if (StringUtils.isEmpty(url)) {
-            Object error = SoulResultWrap.error(SoulResultEnum.CANNOT_FIND_URL.getCode(), SoulResultEnum.CANNOT_FIND_URL.getMsg(), null);
-            return WebFluxResultUtils.result(exchange, error);
+        UpstreamConnectionPool pool = poolManager.findPool(target);
+        HttpClient client = poolManager.findHttp2Client(target);
+        if (Objects.isNull(client)) {
+            client = Objects.isNull(pool) ? this.httpClient : pool.getHttpClient();
         }
-        log.info("you request, The resulting urlPath is: {}", url);
-        Flux<HttpClientResponse> responseFlux = this.httpClient.headers(headers -> headers.add(httpHeaders))
-                .request(method).uri(url).send((req, nettyOutbound) ->
-                        nettyOutbound.send(request.getBody().map(dataBuffer -> ((NettyDataBuffer) dataBuffer) .getNativeBuffer())))
+        HttpTimeouts timeouts = timeouts(exchange);
+        Mono<Tuple2<HttpClientResponse, Connection>> response = client.request(method).uri(url).send((req, nettyOutbound) -> {
+            NettyHeadersUtils.copyRequestHeaders(request, req.requestHeaders());
+            removedRequestHeaders(exchange).forEach(req.requestHeaders()::remove);
+            if (timeouts.getWriteIdleTimeout() > 0) {
+                nettyOutbound.withConnection(connection -> connection.addHandlerLast(WRITE_TIMEOUT_HANDLER,
+                        new WriteTimeoutHandler(timeouts.getWriteIdleTimeout(), TimeUnit.MILLISECONDS)));
+            }
+            return nettyOutbound.send(requestBody(exchange).map(dataBuffer -> ((NettyDataBuffer) dataBuffer).getNativeBuffer()));
+        })
                 .responseConnection((res, connection) -> {
-                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
-                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, connection);
-                    ServerHttpResponse response = exchange.getResponse();
-                    HttpHeaders headers = new HttpHeaders();
-                    res.responseHeaders().forEach(entry -> headers.add(entry.getKey(), entry.getValue()));
-                    String contentTypeValue = headers.getFirst(HttpHeaders.CONTENT_TYPE);
-                    if (StringUtils.hasLength(contentTypeValue)) {
-                        exchange.getAttributes().put(Constants.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentTypeValue);
-                    }
-                    HttpStatus status = HttpStatus.resolve(res.status().code());
-                    if (status != null) {
-                        response.setStatusCode(status);
-                    } else if (response instanceof AbstractServerHttpResponse) {
-                        ((AbstractServerHttpResponse) response)
-                                .setStatusCodeValue(res.status().code());
-                    } else {
-                        throw new IllegalStateException("Unable to set status code on response: " + res.status().code() + ", " + response.getClass());
+                    // the response has arrived, the following reads of body are limited by the read idle timeout
+                    if (timeouts.getReadIdleTimeout() > 0) {
+                        connection.addHandlerLast(READ_TIMEOUT_HANDLER, new ReadTimeoutHandler(timeouts.getReadIdleTimeout(), TimeUnit.MILLISECONDS));
                     }
-                    response.getHeaders().putAll(headers);
-
-                    return Mono.just(res);
-                });
-        long timeout = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_TIME_OUT)).orElse(3000L);
-        Duration duration = Duration.ofMillis(timeout);
-        responseFlux = responseFlux.timeout(duration,
-                Mono.error(new TimeoutException("Response took longer than timeout: " + duration)))
-                .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th));
-        return responseFlux.then(chain.execute(exchange));
+                    return Mono.just(Tuples.of(res, connection));
+                })
+                .singleOrEmpty();
+        return Objects.isNull(pool) ? response : pool.limit(response);
+    }
 
+    @Override
+    protected Mono<Tuple2<HttpClientResponse, Connection>> timeout(final Mono<Tuple2<HttpClientResponse, Connection>> response, final HttpTimeouts timeouts) {
+        // the response timeout limits the whole exchange until the response arrives, the handlers only limit the idle time
+        return super.timeout(response, timeouts).onErrorMap(TimeoutException.class, th -> UpstreamTimeoutException.INSTANCE);
     }
 
     @Override
-    public int getOrder() {
-        return PluginEnum.DIVIDE.getCode() + 1;
+    protected Mono<Void> doNext(final ServerWebExchange exchange, final Tuple2<HttpClientResponse, Connection> response, final SoulPluginChain chain) {
+        HttpClientResponse res = response.getT1();
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_CONN_ATTR, response.getT2());
+        ServerHttpResponse serverHttpResponse = exchange.getResponse();
+        String contentTypeValue = res.responseHeaders().get(HttpHeaderNames.CONTENT_TYPE);
+        if (StringUtils.hasLength(contentTypeValue)) {
+            exchange.getAttributes().put(Constants.ORIGINAL_RESPONSE_CONTENT_TYPE_ATTR, contentTypeValue);
+        }
+        HttpStatus status = HttpStatus.resolve(res.status().code());
+        ServerHttpResponse delegate = serverHttpResponse;
+        while (delegate instanceof ServerHttpResponseDecorator) {
+            delegate = ((ServerHttpResponseDecorator) delegate).getDelegate();
+        }
+        if (status != null) {
+            serverHttpResponse.setStatusCode(status);
+        } else if (delegate instanceof AbstractServerHttpResponse) {
+            ((AbstractServerHttpResponse) delegate).setStatusCodeValue(res.status().code());
+        } else {
+            throw new IllegalStateException("Unable to set status code on response: " + res.status().code() + ", " + serverHttpResponse.getClass());
+        }
+        NettyHeadersUtils.copyResponseHeaders(res.responseHeaders(), serverHttpResponse);
+        // the read idle timeout of body is raised when the following plugins read the body
+        return chain.execute(exchange).onErrorMap(TimeoutException.class, th -> UpstreamTimeoutException.INSTANCE);
     }
 
     @Override
-    public Boolean skip(final ServerWebExchange exchange) {
-        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
-        assert soulContext != null;
-        return !Objects.equals(RpcTypeEnum.HTTP.getName(), soulContext.getRpcType())
-                && !Objects.equals(RpcTypeEnum.SPRING_CLOUD.getName(), soulContext.getRpcType());
+    protected void release(final Tuple2<HttpClientResponse, Connection> response) {
+        Connection connection = response.getT2();
+        // the body is drained so that the connection goes back to the pool, it is closed if the draining fails
+        connection.inbound().receive().subscribe(null, th -> connection.dispose());
     }
 
     @Override
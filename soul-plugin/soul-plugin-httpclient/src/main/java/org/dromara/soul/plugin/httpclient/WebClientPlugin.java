@@ -17,32 +17,29 @@
 
 package org.dromara.soul.plugin.httpclient;
 
-import io.netty.channel.ConnectTimeoutException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.dromara.soul.common.constant.Constants;
-import org.dromara.soul.common.enums.PluginEnum;
+import org.dromara.soul.common.dto.convert.HttpTarget;
 import org.dromara.soul.common.enums.ResultEnum;
-import org.dromara.soul.common.enums.RpcTypeEnum;
-import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
-import org.dromara.soul.plugin.api.context.SoulContext;
-import org.dromara.soul.plugin.api.result.SoulResultEnum;
-import org.dromara.soul.plugin.base.utils.SoulResultWrap;
-import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.pool.UpstreamConnectionPool;
+import org.dromara.soul.plugin.httpclient.pool.UpstreamConnectionPoolManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
-import reactor.retry.Backoff;
-import reactor.retry.Retry;
-import java.time.Duration;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The type Web client plugin.
@@ -50,39 +47,79 @@ import java.util.Optional;
  * @author xiaoyu
  */
 @Slf4j
-public class WebClientPlugin implements SoulPlugin {
+public class WebClientPlugin extends AbstractHttpClientPlugin<ClientResponse> {
 
     private final WebClient webClient;
 
+    private final UpstreamConnectionPoolManager poolManager;
+
+    private final Map<String, WebClient> pooledWebClients = new ConcurrentHashMap<>();
+
     /**
      * Instantiates a new Web client plugin.
      *
      * @param webClient the web client
      */
     public WebClientPlugin(final WebClient webClient) {
+        this(webClient, new HttpClientProperties());
+    }
+
+    /**
+     * Instantiates a new Web client plugin.
+     *
+     * @param webClient  the web client
+     * @param properties the http client properties
+     */
+    public WebClientPlugin(final WebClient webClient, final HttpClientProperties properties) {
+        this(webClient, properties, new UpstreamConnectionPoolManager(properties, HttpClient::create));
+    }
+
+    /**
+     * Instantiates a new Web client plugin.
+     *
+     * @param webClient   the web client
+     * @param properties  the http client properties
+     * @param poolManager the upstream connection pool manager
+     */
+    public WebClientPlugin(final WebClient webClient, final HttpClientProperties properties, final UpstreamConnectionPoolManager poolManager) {
+        super(properties);
         this.webClient = webClient;
+        this.poolManager = poolManager;
     }
 
     @Override
-    public Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
-        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
-        assert soulContext != null;
-        String urlPath = exchange.getAttribute(Constants.HTTP_URL);
-        if (StringUtils.isEmpty(urlPath)) {
-            Object error = SoulResultWrap.error(SoulResultEnum.CANNOT_FIND_URL.getCode(), SoulResultEnum.CANNOT_FIND_URL.getMsg(), null);
-            return WebFluxResultUtils.result(exchange, error);
-        }
-        long timeout = (long) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_TIME_OUT)).orElse(3000L);
-        int retryTimes = (int) Optional.ofNullable(exchange.getAttribute(Constants.HTTP_RETRY)).orElse(0);
-        log.info("The request urlPath is {}, retryTimes is {}", urlPath, retryTimes);
+    protected Mono<ClientResponse> doRequest(final ServerWebExchange exchange, final HttpTarget target, final String url) {
         HttpMethod method = HttpMethod.valueOf(exchange.getRequest().getMethodValue());
-        WebClient.RequestBodySpec requestBodySpec = webClient.method(method).uri(urlPath);
-        return handleRequestBody(requestBodySpec, exchange, timeout, retryTimes, chain);
+        UpstreamConnectionPool pool = poolManager.findPool(target);
+        WebClient client = selectWebClient(target, pool);
+        WebClient.RequestBodySpec requestBodySpec = Objects.nonNull(target)
+                ? client.method(method).uri(target.toUri()) : client.method(method).uri(url);
+        Mono<ClientResponse> response = requestBodySpec.headers(httpHeaders -> {
+            httpHeaders.addAll(exchange.getRequest().getHeaders());
+            httpHeaders.remove(HttpHeaders.HOST);
+            removedRequestHeaders(exchange).forEach(httpHeaders::remove);
+        })
+                .contentType(buildMediaType(exchange))
+                .body(BodyInserters.fromDataBuffers(requestBody(exchange)))
+                .exchange()
+                .doOnError(e -> log.error(e.getMessage()));
+        return Objects.isNull(pool) ? response : pool.limit(response);
+    }
+
+    @Override
+    protected Mono<Void> doNext(final ServerWebExchange exchange, final ClientResponse res, final SoulPluginChain chain) {
+        if (res.statusCode().is2xxSuccessful()) {
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+        } else {
+            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.ERROR.getName());
+        }
+        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
+        return chain.execute(exchange);
     }
 
     @Override
-    public int getOrder() {
-        return PluginEnum.DIVIDE.getCode() + 1;
+    protected void release(final ClientResponse response) {
+        response.releaseBody().subscribe(null, th -> log.debug("failed to release the upstream response: {}", th.getMessage()));
     }
 
     @Override
@@ -90,12 +127,16 @@ public class WebClientPlugin implements SoulPlugin {
         return "webClient";
     }
 
-    @Override
-    public Boolean skip(final ServerWebExchange exchange) {
-        final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
-        assert soulContext != null;
-        return !Objects.equals(RpcTypeEnum.HTTP.getName(), soulContext.getRpcType())
-                && !Objects.equals(RpcTypeEnum.SPRING_CLOUD.getName(), soulContext.getRpcType());
+    private WebClient selectWebClient(final HttpTarget target, final UpstreamConnectionPool pool) {
+        HttpClient http2Client = poolManager.findHttp2Client(target);
+        if (Objects.nonNull(http2Client)) {
+            return pooledWebClients.computeIfAbsent(target.getScheme() + "-h2", key -> buildWebClient(http2Client));
+        }
+        return Objects.isNull(pool) ? webClient : pooledWebClients.computeIfAbsent(pool.getKey(), key -> buildWebClient(pool.getHttpClient()));
+    }
+
+    private WebClient buildWebClient(final HttpClient httpClient) {
+        return webClient.mutate().clientConnector(new ReactorClientHttpConnector(httpClient)).build();
     }
 
     private MediaType buildMediaType(final ServerWebExchange exchange) {
@@ -104,35 +145,4 @@ public class WebClientPlugin implements SoulPlugin {
                 .getHeaders().getFirst(HttpHeaders.CONTENT_TYPE))
                 .orElse(MediaType.APPLICATION_JSON_VALUE));
     }
-
-    private Mono<Void> handleRequestBody(final WebClient.RequestBodySpec requestBodySpec,
-                                         final ServerWebExchange exchange,
-                                         final long timeout,
-                                         final int retryTimes,
-                                         final SoulPluginChain chain) {
-        return requestBodySpec.headers(httpHeaders -> {
-            httpHeaders.addAll(exchange.getRequest().getHeaders());
-            httpHeaders.remove(HttpHeaders.HOST);
-        })
-                .contentType(buildMediaType(exchange))
-                .body(BodyInserters.fromDataBuffers(exchange.getRequest().getBody()))
-                .exchange()
-                .doOnError(e -> log.error(e.getMessage()))
-                .timeout(Duration.ofMillis(timeout))
-                .retryWhen(Retry.onlyIf(x -> x.exception() instanceof ConnectTimeoutException)
-                    .retryMax(retryTimes)
-                    .backoff(Backoff.exponential(Duration.ofMillis(200), Duration.ofSeconds(20), 2, true)))
-                .flatMap(e -> doNext(e, exchange, chain));
-
-    }
-
-    private Mono<Void> doNext(final ClientResponse res, final ServerWebExchange exchange, final SoulPluginChain chain) {
-        if (res.statusCode().is2xxSuccessful()) {
-            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-        } else {
-            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.ERROR.getName());
-        }
-        exchange.getAttributes().put(Constants.CLIENT_RESPONSE_ATTR, res);
-        return chain.execute(exchange);
-    }
 }
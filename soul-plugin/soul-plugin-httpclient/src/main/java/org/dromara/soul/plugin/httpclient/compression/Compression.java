@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.compression;
+
+import io.netty.handler.codec.compression.DecompressionException;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Compress the response for the client which accepts it, so the upstream can send it uncompressed,
+ * and decompress the request body before it is sent to the upstream.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class Compression {
+
+    private static final String GZIP = "gzip";
+
+    private static final String X_GZIP = "x-gzip";
+
+    private static final String DEFLATE = "deflate";
+
+    private static final String IDENTITY = "identity";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private final boolean enabled;
+
+    private final List<String> encodings;
+
+    private final int level;
+
+    private final long minResponseSize;
+
+    private final List<MediaType> mimeTypes;
+
+    private final boolean passThrough;
+
+    private final boolean requestDecompression;
+
+    private final long maxDecompressedRequestSize;
+
+    private final List<String> removedHeaders;
+
+    private final List<String> removedHeadersOfCompressedRequest;
+
+    /**
+     * Instantiates a new Compression.
+     *
+     * @param compression the compression config
+     */
+    public Compression(final HttpClientProperties.Compression compression) {
+        this.enabled = compression.isEnabled();
+        this.encodings = compression.getEncodings().stream().map(each -> each.trim().toLowerCase()).filter(each -> {
+            boolean supported = GZIP.equals(each) || DEFLATE.equals(each);
+            if (!supported) {
+                log.warn("the compression encoding {} is not supported, it is ignored", each);
+            }
+            return supported;
+        }).distinct().collect(Collectors.toList());
+        this.level = Math.max(1, Math.min(9, compression.getLevel()));
+        this.minResponseSize = compression.getMinResponseSize();
+        this.mimeTypes = compression.getMimeTypes().stream().map(MediaType::parseMediaType).collect(Collectors.toList());
+        this.passThrough = compression.isPassThrough();
+        this.requestDecompression = compression.isRequestDecompression();
+        this.maxDecompressedRequestSize = compression.getMaxDecompressedRequestSize();
+        List<String> removed = new ArrayList<>();
+        if (enabled && compression.isOffload()) {
+            removed.add(HttpHeaders.ACCEPT_ENCODING);
+        }
+        this.removedHeaders = Collections.unmodifiableList(new ArrayList<>(removed));
+        removed.addAll(Arrays.asList(HttpHeaders.CONTENT_ENCODING, HttpHeaders.CONTENT_LENGTH));
+        this.removedHeadersOfCompressedRequest = Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Gets the headers of the inbound request which are not sent to the upstream.
+     *
+     * @param request the inbound request
+     * @return the names of headers
+     */
+    public List<String> removedRequestHeaders(final ServerHttpRequest request) {
+        return isDecompressed(request) ? removedHeadersOfCompressedRequest : removedHeaders;
+    }
+
+    /**
+     * Decompress the gzip and deflate request body if it is enabled.
+     *
+     * @param request the inbound request
+     * @param body    the body
+     * @return the body to send to the upstream
+     */
+    public Flux<DataBuffer> requestBody(final ServerHttpRequest request, final Flux<DataBuffer> body) {
+        if (!isDecompressed(request)) {
+            return body;
+        }
+        ZlibWrapper wrapper = decodeWrapper(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        return ZlibStream.decode(body, wrapper, maxDecompressedRequestSize)
+                .onErrorMap(DecompressionException.class, e -> new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e));
+    }
+
+    /**
+     * Compress the response body with the encoding negotiated with the client, the headers of response are updated.
+     *
+     * @param exchange the exchange
+     * @param body     the body of upstream response
+     * @return the body to write to the client
+     */
+    public Flux<? extends DataBuffer> responseBody(final ServerWebExchange exchange, final Flux<? extends DataBuffer> body) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (!enabled || !hasBody(exchange.getRequest(), response)) {
+            return body;
+        }
+        HttpHeaders headers = response.getHeaders();
+        Flux<? extends DataBuffer> identity = body;
+        String contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (StringUtils.isNotBlank(contentEncoding) && !IDENTITY.equalsIgnoreCase(contentEncoding.trim())) {
+            ZlibWrapper wrapper = decodeWrapper(contentEncoding);
+            if (passThrough || Objects.isNull(wrapper)) {
+                return body;
+            }
+            identity = ZlibStream.decode(body, wrapper, Long.MAX_VALUE);
+            headers.remove(HttpHeaders.CONTENT_ENCODING);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+        }
+        String encoding = negotiate(exchange.getRequest().getHeaders());
+        if (Objects.isNull(encoding) || !isCompressible(headers)) {
+            return identity;
+        }
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding);
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        if (headers.getVary().stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        // the compressed body is not byte-for-byte the same as the one the strong etag of upstream stands for
+        String etag = headers.getETag();
+        if (Objects.nonNull(etag) && !etag.startsWith(WEAK_PREFIX)) {
+            headers.set(HttpHeaders.ETAG, WEAK_PREFIX + etag);
+        }
+        return ZlibStream.encode(identity, GZIP.equals(encoding) ? ZlibWrapper.GZIP : ZlibWrapper.ZLIB, level);
+    }
+
+    private boolean isDecompressed(final ServerHttpRequest request) {
+        return requestDecompression && Objects.nonNull(decodeWrapper(request.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)));
+    }
+
+    private boolean hasBody(final ServerHttpRequest request, final ServerHttpResponse response) {
+        HttpStatus status = response.getStatusCode();
+        return request.getMethod() != HttpMethod.HEAD && Objects.nonNull(status) && !status.is1xxInformational()
+                && status != HttpStatus.NO_CONTENT && status != HttpStatus.NOT_MODIFIED;
+    }
+
+    private boolean isCompressible(final HttpHeaders headers) {
+        long contentLength = headers.getContentLength();
+        if (contentLength >= 0 && contentLength < minResponseSize) {
+            return false;
+        }
+        MediaType contentType;
+        try {
+            contentType = headers.getContentType();
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        if (Objects.isNull(contentType)) {
+            return false;
+        }
+        for (MediaType each : mimeTypes) {
+            if (each.isCompatibleWith(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String negotiate(final HttpHeaders requestHeaders) {
+        List<String> acceptEncoding = requestHeaders.get(HttpHeaders.ACCEPT_ENCODING);
+        if (Objects.isNull(acceptEncoding) || acceptEncoding.isEmpty()) {
+            return null;
+        }
+        // the first encoding of the preference which the client accepts, the relative quality of client is not considered
+        for (String each : encodings) {
+            if (quality(acceptEncoding, each) > 0) {
+                return each;
+            }
+        }
+        return null;
+    }
+
+    private static float quality(final List<String> acceptEncoding, final String encoding) {
+        float wildcard = 0;
+        for (String value : acceptEncoding) {
+            for (String element : StringUtils.split(value, ',')) {
+                String[] parts = StringUtils.split(element, ';');
+                if (parts.length == 0) {
+                    continue;
+                }
+                String coding = parts[0].trim();
+                float quality = parts.length > 1 ? parseQuality(parts[1]) : 1;
+                if (coding.equalsIgnoreCase(encoding) || (GZIP.equals(encoding) && X_GZIP.equalsIgnoreCase(coding))) {
+                    return quality;
+                }
+                if ("*".equals(coding)) {
+                    wildcard = quality;
+                }
+            }
+        }
+        return wildcard;
+    }
+
+    private static float parseQuality(final String parameter) {
+        String trimmed = parameter.trim();
+        if (!StringUtils.startsWithIgnoreCase(trimmed, "q=")) {
+            return 1;
+        }
+        try {
+            return Float.parseFloat(trimmed.substring(2));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ZlibWrapper decodeWrapper(final String contentEncoding) {
+        if (Objects.isNull(contentEncoding)) {
+            return null;
+        }
+        String encoding = contentEncoding.trim();
+        if (GZIP.equalsIgnoreCase(encoding) || X_GZIP.equalsIgnoreCase(encoding)) {
+            return ZlibWrapper.GZIP;
+        }
+        // some servers send the raw deflate data without the zlib header
+        return DEFLATE.equalsIgnoreCase(encoding) ? ZlibWrapper.ZLIB_OR_NONE : null;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.compression;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Compress or decompress a body stream with the zlib codecs of netty, one buffer in and the produced buffers out,
+ * the body is never aggregated.
+ *
+ * @author xiaoyu
+ */
+final class ZlibStream {
+
+    private static final NettyDataBufferFactory BUFFER_FACTORY = new NettyDataBufferFactory(ByteBufAllocator.DEFAULT);
+
+    private ZlibStream() {
+    }
+
+    /**
+     * Compress the body.
+     *
+     * @param body    the body
+     * @param wrapper the wrapper of the compressed data
+     * @param level   the compression level
+     * @return the compressed body
+     */
+    static Flux<DataBuffer> encode(final Flux<? extends DataBuffer> body, final ZlibWrapper wrapper, final int level) {
+        return transform(body, () -> new EmbeddedChannel(ZlibCodecFactory.newZlibEncoder(wrapper, level)), true, Long.MAX_VALUE);
+    }
+
+    /**
+     * Decompress the body.
+     *
+     * @param body    the body
+     * @param wrapper the wrapper of the compressed data
+     * @param maxSize the max size of the decompressed body
+     * @return the decompressed body
+     */
+    static Flux<DataBuffer> decode(final Flux<? extends DataBuffer> body, final ZlibWrapper wrapper, final long maxSize) {
+        return transform(body, () -> new EmbeddedChannel(ZlibCodecFactory.newZlibDecoder(wrapper)), false, maxSize);
+    }
+
+    private static Flux<DataBuffer> transform(final Flux<? extends DataBuffer> body, final Supplier<EmbeddedChannel> codec, final boolean outbound, final long maxSize) {
+        return Flux.using(codec, channel -> {
+            AtomicLong size = new AtomicLong();
+            return body.concatMapIterable(buffer -> {
+                ByteBuf byteBuf = toByteBuf(buffer);
+                if (outbound) {
+                    channel.writeOutbound(byteBuf);
+                } else {
+                    channel.writeInbound(byteBuf);
+                }
+                return drain(channel, outbound, size, maxSize);
+            }).concatWith(Flux.defer(() -> {
+                // the trailer of the compressed data is produced when the codec is closed
+                channel.finish();
+                return Flux.fromIterable(drain(channel, outbound, size, maxSize));
+            }));
+        }, EmbeddedChannel::finishAndReleaseAll)
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+    }
+
+    private static List<DataBuffer> drain(final EmbeddedChannel channel, final boolean outbound, final AtomicLong size, final long maxSize) {
+        List<DataBuffer> buffers = new ArrayList<>(2);
+        ByteBuf byteBuf;
+        while ((byteBuf = outbound ? channel.readOutbound() : channel.readInbound()) != null) {
+            if (!byteBuf.isReadable()) {
+                byteBuf.release();
+                continue;
+            }
+            buffers.add(BUFFER_FACTORY.wrap(byteBuf));
+            if (size.addAndGet(byteBuf.readableBytes()) > maxSize) {
+                buffers.forEach(DataBufferUtils::release);
+                throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "The decompressed body is larger than " + maxSize + " bytes");
+            }
+        }
+        return buffers;
+    }
+
+    private static ByteBuf toByteBuf(final DataBuffer buffer) {
+        if (buffer instanceof NettyDataBuffer) {
+            return ((NettyDataBuffer) buffer).getNativeBuffer();
+        }
+        ByteBuf byteBuf = Unpooled.copiedBuffer(buffer.asByteBuffer());
+        DataBufferUtils.release(buffer);
+        return byteBuf;
+    }
+}
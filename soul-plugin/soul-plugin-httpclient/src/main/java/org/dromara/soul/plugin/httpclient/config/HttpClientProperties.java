@@ -20,6 +20,7 @@ package org.dromara.soul.plugin.httpclient.config;
 import lombok.Data;
 import org.springframework.boot.web.server.WebServerException;
 import org.springframework.util.ResourceUtils;
+import org.springframework.util.StringUtils;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.SslProvider;
 
@@ -31,8 +32,12 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Configuration properties for the Netty {@link reactor.netty.http.client.HttpClient}.
@@ -65,6 +70,31 @@ public class HttpClientProperties {
      */
     private Ssl ssl = new Ssl();
 
+    /**
+     * Http/2 configuration for the h2 and h2c upstreams.
+     */
+    private Http2 http2 = new Http2();
+
+    /**
+     * Streaming configuration of the request and response body.
+     */
+    private Streaming streaming = new Streaming();
+
+    /**
+     * Retry configuration for the http client plugins.
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * Hedged request configuration for the http client plugins.
+     */
+    private Hedge hedge = new Hedge();
+
+    /**
+     * Compression configuration of the response and request body.
+     */
+    private Compression compression = new Compression();
+
     /**
      * Enables wiretap debugging for Netty HttpClient.
      */
@@ -97,6 +127,16 @@ public class HttpClientProperties {
          */
         private Long acquireTimeout = ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT;
 
+        /**
+         * The idle connections opened in advance in the dedicated pool when its upstream is added, defaults to 0 which means disabled.
+         */
+        private int prewarmConnections;
+
+        /**
+         * The dedicated pools of upstreams, the key is host:port of the upstream.
+         */
+        private Map<String, UpstreamPool> upstreams = new LinkedHashMap<>();
+
         /**
          * The enum Pool type.
          */
@@ -119,6 +159,176 @@ public class HttpClientProperties {
         }
     }
 
+    /**
+     * The type Upstream pool.
+     */
+    @Data
+    public static class UpstreamPool {
+
+        /**
+         * The maximum number of connections to the upstream.
+         */
+        private int maxConnections = ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+
+        /**
+         * The maximum time in millis to wait for acquiring.
+         */
+        private long acquireTimeout = ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT;
+
+        /**
+         * The maximum number of requests waiting for a connection, defaults to -1 which means no limit.
+         */
+        private int pendingAcquireMaxCount = -1;
+
+        /**
+         * The idle connection is closed after this time, defaults to null which means never.
+         */
+        private Duration maxIdleTime;
+
+        /**
+         * The connection is closed when it is released after this time, defaults to null which means never.
+         */
+        private Duration maxLifeTime;
+
+        /**
+         * The connections opened in advance when the upstream is added, defaults to the one of pool.
+         */
+        private Integer prewarmConnections;
+
+        /**
+         * The ssl settings of the upstream, such as its trusted certificates or its SNI host name, defaults to null which means the global ones.
+         */
+        private Ssl ssl;
+    }
+
+    /**
+     * The type Http2.
+     */
+    @Data
+    public static class Http2 {
+
+        /**
+         * The connections to one upstream, a connection is held by its stream until the exchange completes,
+         * so it also bounds the concurrent requests to the upstream, defaults to the one of reactor netty fixed pool.
+         */
+        private int maxConnections = ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS;
+
+        /**
+         * The maximum time in millis to wait for acquiring.
+         */
+        private long acquireTimeout = ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT;
+    }
+
+    /**
+     * The type Streaming.
+     */
+    @Data
+    public static class Streaming {
+
+        /**
+         * Stream the body with a bounded prefetch and record the backpressure metrics, defaults to false.
+         */
+        private boolean enabled;
+
+        /**
+         * The buffers read ahead of the slow side of the stream, defaults to 32.
+         */
+        private int prefetch = 32;
+    }
+
+    /**
+     * The type Retry.
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * The retries allowed as a percentage of requests, defaults to 20.
+         */
+        private int budgetPercentage = 20;
+
+        /**
+         * The max retries that can be saved up in the budget, defaults to 100.
+         */
+        private int maxBudget = 100;
+    }
+
+    /**
+     * The type Hedge.
+     */
+    @Data
+    public static class Hedge {
+
+        /**
+         * Send a hedged request to another upstream if the first one is slow, defaults to false.
+         */
+        private boolean enabled;
+
+        /**
+         * The delay before the hedged request is sent, it should be about the p95 latency of upstream.
+         */
+        private Duration delay = Duration.ofMillis(100);
+
+        /**
+         * The idempotent methods which can be hedged.
+         */
+        private List<String> methods = new ArrayList<>(Arrays.asList("GET", "HEAD", "OPTIONS"));
+    }
+
+    /**
+     * The type Compression.
+     */
+    @Data
+    public static class Compression {
+
+        /**
+         * Compress the response for the client which accepts it, defaults to false.
+         */
+        private boolean enabled;
+
+        /**
+         * The encodings in the order of preference, gzip and deflate are supported.
+         */
+        private List<String> encodings = new ArrayList<>(Arrays.asList("gzip", "deflate"));
+
+        /**
+         * The compression level from 1 (fastest) to 9 (smallest), defaults to 6.
+         */
+        private int level = 6;
+
+        /**
+         * The response smaller than this size in bytes is not compressed, defaults to 1024.
+         */
+        private long minResponseSize = 1024;
+
+        /**
+         * The compressible content types of the response.
+         */
+        private List<String> mimeTypes = new ArrayList<>(Arrays.asList("text/html", "text/xml", "text/plain", "text/css", "text/javascript",
+                "application/javascript", "application/json", "application/xml"));
+
+        /**
+         * Remove the Accept-Encoding header of the upstream request, so the upstream does not spend on compression, defaults to true.
+         */
+        private boolean offload = true;
+
+        /**
+         * Let the response already compressed by the upstream pass through untouched, defaults to true,
+         * otherwise the gzip and deflate body of upstream is decompressed and compressed again by the gateway.
+         */
+        private boolean passThrough = true;
+
+        /**
+         * Decompress the gzip and deflate request body before it is sent to the upstream, defaults to false.
+         */
+        private boolean requestDecompression;
+
+        /**
+         * The max size in bytes of the decompressed request body, defaults to 10MB.
+         */
+        private long maxDecompressedRequestSize = 10 * 1024 * 1024;
+    }
+
     /**
      * The type Proxy.
      */
@@ -156,7 +366,7 @@ public class HttpClientProperties {
      * The type Ssl.
      */
     @Data
-    public class Ssl {
+    public static class Ssl {
 
         /**
          * Installs the netty InsecureTrustManagerFactory. This is insecure and not
@@ -186,10 +396,41 @@ public class HttpClientProperties {
         private Duration closeNotifyReadTimeout = Duration.ZERO;
 
         /**
-         * The default ssl configuration type. Defaults to TCP.
+         * The default ssl configuration type. Defaults to TCP, the h2 upstreams always use H2.
          */
         private SslProvider.DefaultConfigurationType defaultConfigurationType = SslProvider.DefaultConfigurationType.TCP;
 
+        /**
+         * Use OpenSSL of netty-tcnative when it is available, defaults to false which means the JDK provider.
+         * The TCP and H2 default configuration types choose OpenSSL whenever it is available, so it only matters with NONE.
+         */
+        private boolean useOpenSsl;
+
+        /**
+         * The max count of the client sessions cached for resumption, defaults to 0 which means the default of provider.
+         */
+        private long sessionCacheSize;
+
+        /**
+         * The cached client session expires after this time, defaults to null which means the default of provider.
+         */
+        private Duration sessionTimeout;
+
+        /**
+         * The SNI host name sent in the handshake, defaults to null which means the host of upstream.
+         */
+        private String serverName;
+
+        /**
+         * Whether any setting asks for a client ssl context other than the default one of reactor netty.
+         *
+         * @return true if the http client should be secured by the settings
+         */
+        public boolean isCustomized() {
+            return !trustedX509Certificates.isEmpty() || useInsecureTrustManager || useOpenSsl || sessionCacheSize > 0
+                    || Objects.nonNull(sessionTimeout) || StringUtils.hasText(serverName);
+        }
+
         /**
          * Get trusted x 509 certificates for trust manager x 509 certificate [ ].
          *
@@ -200,7 +441,7 @@ public class HttpClientProperties {
                 CertificateFactory certificateFactory = CertificateFactory
                         .getInstance("X.509");
                 List<Certificate> allCerts = new ArrayList<>();
-                for (String trustedCert : ssl.getTrustedX509Certificates()) {
+                for (String trustedCert : trustedX509Certificates) {
                     try {
                         URL url = ResourceUtils.getURL(trustedCert);
                         Collection<? extends Certificate> certs = certificateFactory
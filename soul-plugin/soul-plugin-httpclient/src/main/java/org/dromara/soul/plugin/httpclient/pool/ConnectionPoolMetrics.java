@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The telemetry of the upstream connections, whether they are reused and how long a request waits for one.
+ * The gauges, counters and the acquire latency are exported by the {@link MetricsTrackerFacade} per remote address,
+ * the addresses beyond {@link #MAX_ADDRESSES} share the label {@code other}, so that the labels are bounded.
+ *
+ * @author xiaoyu
+ */
+public final class ConnectionPoolMetrics implements ConnectionObserver {
+
+    static final String PENDING = "pending";
+
+    private static final int MAX_ADDRESSES = 256;
+
+    private static final ConnectionPoolMetrics INSTANCE = new ConnectionPoolMetrics(MAX_ADDRESSES);
+
+    private static final AttributeKey<String> ADDRESS = AttributeKey.valueOf("soulMetricsAddress");
+
+    private static final AttributeKey<Boolean> IN_USE = AttributeKey.valueOf("soulMetricsInUse");
+
+    private static final String ACTIVE = "active";
+
+    private static final String IDLE = "idle";
+
+    private static final String CREATED = "created";
+
+    private static final String REUSED = "reused";
+
+    private static final String CLOSED = "closed";
+
+    private static final String OTHER = "other";
+
+    private static final String UNKNOWN = "unknown";
+
+    private final int maxAddresses;
+
+    private final Map<SocketAddress, String> labels = new ConcurrentHashMap<>();
+
+    private final Set<String> knownLabels = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder createdConnections = new LongAdder();
+
+    private final LongAdder reusedConnections = new LongAdder();
+
+    private final LongAdder closedConnections = new LongAdder();
+
+    /**
+     * Instantiates a new Connection pool metrics.
+     *
+     * @param maxAddresses the max remote addresses which have their own label
+     */
+    ConnectionPoolMetrics(final int maxAddresses) {
+        this.maxAddresses = maxAddresses;
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static ConnectionPoolMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the acquire latency and the pending acquires of the connection provider.
+     *
+     * @param connectionProvider the connection provider
+     * @return the instrumented connection provider
+     */
+    public static ConnectionProvider instrument(final ConnectionProvider connectionProvider) {
+        return connectionProvider instanceof MeteredConnectionProvider ? connectionProvider : new MeteredConnectionProvider(connectionProvider, INSTANCE);
+    }
+
+    /**
+     * Record the state of the connections opened by the http client.
+     *
+     * @param httpClient the http client
+     * @return the observed http client
+     */
+    public static HttpClient observe(final HttpClient httpClient) {
+        return httpClient.observe(INSTANCE);
+    }
+
+    @Override
+    public void onStateChange(final Connection connection, final State newState) {
+        Channel channel = connection.channel();
+        if (newState == State.CONNECTED) {
+            if (Objects.nonNull(channel.attr(IN_USE).setIfAbsent(Boolean.TRUE))) {
+                return;
+            }
+            String address = label(channel.remoteAddress());
+            channel.attr(ADDRESS).set(address);
+            createdConnections.increment();
+            MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.UPSTREAM_CONNECTION_TOTAL.getName(), address, CREATED);
+            MetricsTrackerFacade.getInstance().gaugeInc(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, ACTIVE);
+            String closedAddress = address;
+            channel.closeFuture().addListener(future -> {
+                closedConnections.increment();
+                MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.UPSTREAM_CONNECTION_TOTAL.getName(), closedAddress, CLOSED);
+                boolean inUse = Boolean.TRUE.equals(channel.attr(IN_USE).getAndSet(Boolean.FALSE));
+                MetricsTrackerFacade.getInstance().gaugeDec(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), closedAddress, inUse ? ACTIVE : IDLE);
+            });
+        } else if (newState == State.ACQUIRED) {
+            // a connection taken from the pool, so the keepalive works
+            if (channel.isActive() && channel.attr(IN_USE).compareAndSet(Boolean.FALSE, Boolean.TRUE)) {
+                String address = channel.attr(ADDRESS).get();
+                reusedConnections.increment();
+                MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.UPSTREAM_CONNECTION_TOTAL.getName(), address, REUSED);
+                MetricsTrackerFacade.getInstance().gaugeDec(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, IDLE);
+                MetricsTrackerFacade.getInstance().gaugeInc(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, ACTIVE);
+            }
+        } else if (newState == State.RELEASED) {
+            if (channel.isActive() && channel.attr(IN_USE).compareAndSet(Boolean.TRUE, Boolean.FALSE)) {
+                String address = channel.attr(ADDRESS).get();
+                MetricsTrackerFacade.getInstance().gaugeDec(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, ACTIVE);
+                MetricsTrackerFacade.getInstance().gaugeInc(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, IDLE);
+            }
+        }
+    }
+
+    /**
+     * Gets the connections opened to the upstreams.
+     *
+     * @return the created connections
+     */
+    public long getCreatedConnections() {
+        return createdConnections.sum();
+    }
+
+    /**
+     * Gets the times a pooled connection is reused.
+     *
+     * @return the reused connections
+     */
+    public long getReusedConnections() {
+        return reusedConnections.sum();
+    }
+
+    /**
+     * Gets the connections closed.
+     *
+     * @return the closed connections
+     */
+    public long getClosedConnections() {
+        return closedConnections.sum();
+    }
+
+    /**
+     * The bounded label of the remote address, such as 10.0.0.1:8080, it is built from the host string,
+     * so the resolved address of a connection has the same label as the unresolved one it is connected to.
+     *
+     * @param address the remote address, maybe null
+     * @return the label
+     */
+    String label(final SocketAddress address) {
+        if (!(address instanceof InetSocketAddress)) {
+            return UNKNOWN;
+        }
+        String label = labels.get(address);
+        if (Objects.nonNull(label)) {
+            return label;
+        }
+        InetSocketAddress inetAddress = (InetSocketAddress) address;
+        label = inetAddress.getHostString() + ":" + inetAddress.getPort();
+        // the resolved and unresolved addresses share one label, the bound applies on the labels
+        if (!knownLabels.contains(label) && knownLabels.size() >= maxAddresses) {
+            return OTHER;
+        }
+        knownLabels.add(label);
+        if (labels.size() < maxAddresses * 2) {
+            labels.put(address, label);
+        }
+        return label;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import io.netty.bootstrap.Bootstrap;
+import org.dromara.soul.metrics.api.HistogramMetricsTrackerDelegate;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Optional;
+
+/**
+ * The connection provider which records the acquire latency and the pending acquires of the delegate.
+ *
+ * @author xiaoyu
+ */
+final class MeteredConnectionProvider implements ConnectionProvider {
+
+    private final ConnectionProvider delegate;
+
+    private final ConnectionPoolMetrics metrics;
+
+    /**
+     * Instantiates a new Metered connection provider.
+     *
+     * @param delegate the delegate
+     * @param metrics  the connection pool metrics
+     */
+    MeteredConnectionProvider(final ConnectionProvider delegate, final ConnectionPoolMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Mono<? extends Connection> acquire(final Bootstrap bootstrap) {
+        return Mono.defer(() -> {
+            // the connection is labeled by its own remote address, which has the same host string as the bootstrap
+            String address = metrics.label(bootstrap.config().remoteAddress());
+            MetricsTrackerFacade facade = MetricsTrackerFacade.getInstance();
+            facade.gaugeInc(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, ConnectionPoolMetrics.PENDING);
+            Optional<HistogramMetricsTrackerDelegate> timer = facade.histogramStartTimer(MetricsLabelEnum.UPSTREAM_ACQUIRE_LATENCY.getName(), address);
+            return delegate.acquire(bootstrap)
+                    .doOnSuccess(connection -> timer.ifPresent(facade::histogramObserveDuration))
+                    .doFinally(signal -> facade.gaugeDec(MetricsLabelEnum.UPSTREAM_CONNECTIONS.getName(), address, ConnectionPoolMetrics.PENDING));
+        });
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+    }
+
+    @Override
+    public Mono<Void> disposeLater() {
+        return delegate.disposeLater();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+}
@@ -0,0 +1,389 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.concurrent.SoulThreadFactory;
+import org.dromara.soul.common.dto.convert.UpstreamUri;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.NettyInbound;
+import reactor.netty.NettyOutbound;
+import reactor.netty.channel.BootstrapHandlers;
+import reactor.netty.channel.ChannelOperations;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The dedicated connection pool of one upstream (host:port), it evicts the idle and expired connections,
+ * limits the pending requests and records the utilization of the pool.
+ * The idle connections are evicted by one periodic sweep of the pool, which is started by its first connection.
+ * The prewarmed connections are opened by the pooled http client and released to the pool before any request is sent.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class UpstreamConnectionPool implements ConnectionObserver {
+
+    private static final AttributeKey<Long> CREATED_TIME = AttributeKey.valueOf("soulPoolCreatedTime");
+
+    private static final AttributeKey<Long> RELEASED_TIME = AttributeKey.valueOf("soulPoolReleasedTime");
+
+    private static final AttributeKey<Boolean> IN_USE = AttributeKey.valueOf("soulPoolInUse");
+
+    private static final long MIN_SWEEP_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final PrewarmedException PREWARMED = new PrewarmedException();
+
+    private static final ScheduledExecutorService EVICTOR = Executors.newSingleThreadScheduledExecutor(SoulThreadFactory.create("upstream-pool-evictor", true));
+
+    private final String key;
+
+    private final int maxConnections;
+
+    private final int pendingAcquireMaxCount;
+
+    private final long maxIdleNanos;
+
+    private final long maxLifeNanos;
+
+    private final int prewarmConnections;
+
+    private final HttpClient httpClient;
+
+    private final AtomicInteger totalConnections = new AtomicInteger();
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    private final AtomicInteger inflightRequests = new AtomicInteger();
+
+    private final LongAdder acquiredCount = new LongAdder();
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    /**
+     * Instantiates a new Upstream connection pool.
+     *
+     * @param key                the host:port of upstream
+     * @param config             the config of the pool
+     * @param prewarmConnections the connections opened in advance
+     * @param httpClient         the http client which owns the pool
+     */
+    public UpstreamConnectionPool(final String key, final HttpClientProperties.UpstreamPool config,
+                                  final int prewarmConnections, final HttpClient httpClient) {
+        this.key = key;
+        this.maxConnections = config.getMaxConnections();
+        this.pendingAcquireMaxCount = config.getPendingAcquireMaxCount();
+        this.maxIdleNanos = toNanos(config.getMaxIdleTime());
+        this.maxLifeNanos = toNanos(config.getMaxLifeTime());
+        this.prewarmConnections = prewarmConnections;
+        this.httpClient = httpClient.observe(this);
+    }
+
+    /**
+     * Limit the pending requests of the pool, the request is rejected when too many requests are waiting for a connection.
+     *
+     * @param <T>      the type of response
+     * @param response the response
+     * @return the limited response
+     */
+    public <T> Mono<T> limit(final Mono<T> response) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                rejectedCount.increment();
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many requests are pending on the upstream " + key));
+            }
+            return response.doFinally(signal -> inflightRequests.decrementAndGet());
+        });
+    }
+
+    @Override
+    public void onStateChange(final Connection connection, final State newState) {
+        Channel channel = connection.channel();
+        if (newState == State.CONNECTED) {
+            channel.attr(CREATED_TIME).set(System.nanoTime());
+            totalConnections.incrementAndGet();
+            channels.add(channel);
+            channel.closeFuture().addListener(future -> {
+                totalConnections.decrementAndGet();
+                channels.remove(channel);
+                markIdle(channel);
+            });
+            markInUse(channel);
+            startSweep();
+        } else if (newState == State.ACQUIRED) {
+            markInUse(channel);
+        } else if (newState == State.RELEASED) {
+            markIdle(channel);
+            evictIfNecessary(channel);
+        }
+    }
+
+    /**
+     * Gets key.
+     *
+     * @return the host:port of upstream
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Gets http client.
+     *
+     * @return the http client
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Gets prewarm connections.
+     *
+     * @return the prewarm connections
+     */
+    public int getPrewarmConnections() {
+        return prewarmConnections;
+    }
+
+    /**
+     * Gets max connections.
+     *
+     * @return the max connections
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Gets the connections opened, both active and idle.
+     *
+     * @return the total connections
+     */
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+
+    /**
+     * Gets the connections in use.
+     *
+     * @return the active connections
+     */
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    /**
+     * Gets the connections in the pool.
+     *
+     * @return the idle connections
+     */
+    public int getIdleConnections() {
+        return Math.max(0, totalConnections.get() - activeConnections.get());
+    }
+
+    /**
+     * Gets the requests waiting for a connection.
+     *
+     * @return the pending acquires
+     */
+    public int getPendingAcquires() {
+        return Math.max(0, inflightRequests.get() - maxConnections);
+    }
+
+    /**
+     * Gets the times a connection is acquired.
+     *
+     * @return the acquired count
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * Gets the requests rejected by the pending acquire limit.
+     *
+     * @return the rejected count
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    /**
+     * Gets utilization, the active connections divided by the max connections.
+     *
+     * @return the utilization
+     */
+    public double getUtilization() {
+        return maxConnections <= 0 ? 0 : (double) activeConnections.get() / maxConnections;
+    }
+
+    /**
+     * Open the connections missing from the prewarm connections, they are acquired through the pooled http client,
+     * so they are initialized like the connections of requests, and released to the pool as idle ones without sending a request.
+     *
+     * @param upstreamUri the uri of upstream
+     */
+    void prewarm(final UpstreamUri upstreamUri) {
+        int missing = prewarmConnections - totalConnections.get();
+        if (missing <= 0) {
+            return;
+        }
+        // the request of the prewarm client is never sent, the observer of request only configures its own operations
+        HttpClient prewarmClient = httpClient.mapConnect((connect, bootstrap) -> {
+            BootstrapHandlers.channelOperationFactory(bootstrap, (connection, listener, msg) -> new PrewarmOperations(connection, listener));
+            return connect.doOnNext(UpstreamConnectionPool::release).then(Mono.error(PREWARMED));
+        });
+        Flux.range(0, missing)
+                .flatMap(i -> prewarmClient.head().uri(upstreamUri.getBaseUri()).response()
+                        .then()
+                        .onErrorResume(e -> {
+                            if (e != PREWARMED) {
+                                log.warn("prewarm the connection of {} failed: {}", key, e.getMessage());
+                            }
+                            return Mono.empty();
+                        }), missing)
+                .subscribe();
+    }
+
+    /**
+     * Close the connections idle for longer than the max idle time, the check and the close run on the event loop of every connection.
+     */
+    void evictIdle() {
+        if (maxIdleNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (Channel channel : channels) {
+            Long releasedTime = channel.attr(RELEASED_TIME).get();
+            if (!Boolean.TRUE.equals(channel.attr(IN_USE).get()) && Objects.nonNull(releasedTime) && now - releasedTime >= maxIdleNanos) {
+                channel.eventLoop().execute(() -> {
+                    // the connection has not been acquired again since it was released
+                    if (!Boolean.TRUE.equals(channel.attr(IN_USE).get()) && Objects.equals(channel.attr(RELEASED_TIME).get(), releasedTime)) {
+                        channel.close();
+                    }
+                });
+            }
+        }
+    }
+
+    private void startSweep() {
+        if (maxIdleNanos > 0 && sweeping.compareAndSet(false, true)) {
+            long period = Math.max(maxIdleNanos / 2, MIN_SWEEP_NANOS);
+            EVICTOR.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean tryAcquire() {
+        if (pendingAcquireMaxCount < 0) {
+            inflightRequests.incrementAndGet();
+            return true;
+        }
+        int limit = maxConnections + pendingAcquireMaxCount;
+        int current = inflightRequests.get();
+        while (current < limit) {
+            if (inflightRequests.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = inflightRequests.get();
+        }
+        return false;
+    }
+
+    private void markInUse(final Channel channel) {
+        if (!Boolean.TRUE.equals(channel.attr(IN_USE).getAndSet(Boolean.TRUE))) {
+            activeConnections.incrementAndGet();
+            acquiredCount.increment();
+        }
+    }
+
+    private void markIdle(final Channel channel) {
+        if (Boolean.TRUE.equals(channel.attr(IN_USE).getAndSet(Boolean.FALSE))) {
+            activeConnections.decrementAndGet();
+        }
+    }
+
+    private void evictIfNecessary(final Channel channel) {
+        long now = System.nanoTime();
+        Long createdTime = channel.attr(CREATED_TIME).get();
+        if (maxLifeNanos > 0 && Objects.nonNull(createdTime) && now - createdTime >= maxLifeNanos) {
+            channel.close();
+            return;
+        }
+        channel.attr(RELEASED_TIME).set(now);
+    }
+
+    private static void release(final Connection connection) {
+        if (connection instanceof PrewarmOperations) {
+            ((PrewarmOperations) connection).release();
+        } else {
+            connection.dispose();
+        }
+    }
+
+    private static long toNanos(final Duration duration) {
+        return Objects.isNull(duration) ? 0 : duration.toNanos();
+    }
+
+    /**
+     * The operations of a prewarmed connection, which only releases the connection to the pool.
+     */
+    private static final class PrewarmOperations extends ChannelOperations<NettyInbound, NettyOutbound> {
+
+        PrewarmOperations(final Connection connection, final ConnectionObserver listener) {
+            super(connection, listener);
+        }
+
+        void release() {
+            terminate();
+        }
+    }
+
+    /**
+     * Completes the prewarm after the connection is released, so the request of the prewarm client is never sent.
+     */
+    private static final class PrewarmedException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        PrewarmedException() {
+            super("prewarmed", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.dromara.soul.common.dto.convert.UpstreamUri;
+import org.dromara.soul.plugin.base.cache.UpstreamSubscriber;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.ssl.SslContextCache;
+import org.dromara.soul.plugin.httpclient.ssl.TlsHandshakeMetrics;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The manager of the dedicated upstream connection pools and the http/2 clients,
+ * it prewarms the dedicated pool of the upstream submitted by divide plugin when it is referenced by no selector before.
+ * The prewarm opens the missing connections of the pool and leaves them idle in it, it sends no request to the upstream.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamConnectionPoolManager implements UpstreamSubscriber {
+
+    private final HttpClient h2Client;
+
+    private final HttpClient h2cClient;
+
+    private final Map<String, UpstreamConnectionPool> pools = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> selectorUpstreams = new HashMap<>();
+
+    /**
+     * Instantiates a new Upstream connection pool manager.
+     *
+     * @param properties    the http client properties
+     * @param clientFactory create the http client of a dedicated connection provider
+     */
+    public UpstreamConnectionPoolManager(final HttpClientProperties properties, final Function<ConnectionProvider, HttpClient> clientFactory) {
+        HttpClientProperties.Pool pool = properties.getPool();
+        // the http/2 upstreams share one fixed provider, whose max connections apply to every upstream separately
+        HttpClientProperties.Http2 http2 = properties.getHttp2();
+        HttpClient http2Client = clientFactory.apply(ConnectionProvider.fixed(pool.getName() + "-h2", http2.getMaxConnections(), http2.getAcquireTimeout()));
+        HttpClientProperties.Ssl ssl = properties.getSsl();
+        this.h2Client = TlsHandshakeMetrics.observe(http2Client.protocol(HttpProtocol.H2).secure(SslContextCache.getInstance().obtain(ssl, true)));
+        this.h2cClient = http2Client.protocol(HttpProtocol.H2C);
+        pool.getUpstreams().forEach((key, config) -> {
+            ConnectionProvider provider = ConnectionProvider.fixed(pool.getName() + "-" + key, config.getMaxConnections(), config.getAcquireTimeout());
+            int prewarm = Objects.isNull(config.getPrewarmConnections()) ? pool.getPrewarmConnections() : config.getPrewarmConnections();
+            HttpClient client = clientFactory.apply(provider);
+            // the upstream with its own ssl settings, such as its trusted certificates or its SNI host name, gets its own ssl context
+            if (Objects.nonNull(config.getSsl())) {
+                client = client.secure(SslContextCache.getInstance().obtain(config.getSsl(), false));
+            }
+            pools.put(key, new UpstreamConnectionPool(key, config, prewarm, client));
+        });
+    }
+
+    /**
+     * Find the http/2 client of the target, h2 over tls with alpn, or h2c with prior knowledge.
+     *
+     * @param target the http target, maybe null
+     * @return the http client, null if the upstream does not speak http/2
+     */
+    public HttpClient findHttp2Client(final HttpTarget target) {
+        if (Objects.isNull(target) || !target.isHttp2()) {
+            return null;
+        }
+        return target.getUpstreamUri().isSecure() ? h2Client : h2cClient;
+    }
+
+    /**
+     * Find the dedicated pool of the target, the http/2 upstream always uses the shared http/2 pool.
+     *
+     * @param target the http target, maybe null
+     * @return the pool, null if the upstream uses the shared pool
+     */
+    public UpstreamConnectionPool findPool(final HttpTarget target) {
+        if (Objects.isNull(target) || target.isHttp2() || pools.isEmpty()) {
+            return null;
+        }
+        return pools.get(buildKey(target.getHost(), target.getPort()));
+    }
+
+    /**
+     * Gets all the dedicated pools, for the utilization metrics.
+     *
+     * @return the pools
+     */
+    public Collection<UpstreamConnectionPool> getPools() {
+        return Collections.unmodifiableCollection(pools.values());
+    }
+
+    @Override
+    public synchronized void onSubscribe(final String selectorId, final List<DivideUpstream> upstreamList) {
+        Set<String> referenced = new HashSet<>();
+        selectorUpstreams.values().forEach(referenced::addAll);
+        Set<String> keys = new HashSet<>();
+        for (DivideUpstream upstream : upstreamList) {
+            UpstreamUri upstreamUri = upstream.getUpstreamUri();
+            String key = buildKey(upstreamUri.getHost(), upstreamUri.getPort());
+            UpstreamConnectionPool pool = upstreamUri.isHttp2() ? null : pools.get(key);
+            if (keys.add(key) && !referenced.contains(key) && Objects.nonNull(pool)) {
+                pool.prewarm(upstreamUri);
+            }
+        }
+        selectorUpstreams.put(selectorId, keys);
+    }
+
+    @Override
+    public synchronized void unSubscribe(final String selectorId) {
+        // the upstream referenced by no selector is prewarmed again when it is added back
+        selectorUpstreams.remove(selectorId);
+    }
+
+    private static String buildKey(final String host, final int port) {
+        return host + ":" + port;
+    }
+}
@@ -26,6 +26,9 @@ import org.dromara.soul.common.enums.RpcTypeEnum;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.httpclient.compression.Compression;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.streaming.StreamingBody;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.MediaType;
@@ -46,6 +49,27 @@ public class NettyClientResponsePlugin implements SoulPlugin {
 
     private final List<MediaType> streamingMediaTypes = Arrays.asList(MediaType.TEXT_EVENT_STREAM, MediaType.APPLICATION_STREAM_JSON);
 
+    private final StreamingBody streamingBody;
+
+    private final Compression compression;
+
+    /**
+     * Instantiates a new Netty client response plugin.
+     */
+    public NettyClientResponsePlugin() {
+        this(new HttpClientProperties());
+    }
+
+    /**
+     * Instantiates a new Netty client response plugin.
+     *
+     * @param properties the http client properties
+     */
+    public NettyClientResponsePlugin(final HttpClientProperties properties) {
+        this.streamingBody = new StreamingBody(properties.getStreaming());
+        this.compression = new Compression(properties.getCompression());
+    }
+
     @Override
     public Mono<Void> execute(final ServerWebExchange exchange, final SoulPluginChain chain) {
         return Mono.defer(() -> {
@@ -60,15 +84,15 @@ public class NettyClientResponsePlugin implements SoulPlugin {
             }
             ServerHttpResponse response = exchange.getResponse();
             NettyDataBufferFactory factory = (NettyDataBufferFactory) response.bufferFactory();
-            final Flux<NettyDataBuffer> body = connection
+            final Flux<NettyDataBuffer> body = streamingBody.stream(connection
                     .inbound()
                     .receive()
                     .retain()
-                    .map(factory::wrap);
+                    .map(factory::wrap));
             MediaType contentType = response.getHeaders().getContentType();
             return isStreamingMediaType(contentType)
                     ? response.writeAndFlushWith(body.map(Flux::just))
-                    : response.writeWith(body);
+                    : response.writeWith(compression.responseBody(exchange, body));
 
         })
                 .then(chain.execute(exchange)
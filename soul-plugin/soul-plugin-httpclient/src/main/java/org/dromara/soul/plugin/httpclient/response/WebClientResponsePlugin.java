@@ -26,6 +26,9 @@ import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.httpclient.compression.Compression;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.streaming.StreamingBody;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.web.reactive.function.BodyExtractors;
@@ -42,6 +45,27 @@ import java.util.Objects;
  */
 public class WebClientResponsePlugin implements SoulPlugin {
 
+    private final StreamingBody streamingBody;
+
+    private final Compression compression;
+
+    /**
+     * Instantiates a new Web client response plugin.
+     */
+    public WebClientResponsePlugin() {
+        this(new HttpClientProperties());
+    }
+
+    /**
+     * Instantiates a new Web client response plugin.
+     *
+     * @param properties the http client properties
+     */
+    public WebClientResponsePlugin(final HttpClientProperties properties) {
+        this.streamingBody = new StreamingBody(properties.getStreaming());
+        this.compression = new Compression(properties.getCompression());
+    }
+
     /**
      * Process the Web request and (optionally) delegate to the next
      * {@code WebFilter} through the given {@link SoulPluginChain}.
@@ -68,7 +92,7 @@ public class WebClientResponsePlugin implements SoulPlugin {
             response.setStatusCode(clientResponse.statusCode());
             response.getCookies().putAll(clientResponse.cookies());
             response.getHeaders().putAll(clientResponse.headers().asHttpHeaders());
-            return response.writeWith(clientResponse.body(BodyExtractors.toDataBuffers()));
+            return response.writeWith(compression.responseBody(exchange, streamingBody.stream(clientResponse.body(BodyExtractors.toDataBuffers()))));
         }));
     }
 
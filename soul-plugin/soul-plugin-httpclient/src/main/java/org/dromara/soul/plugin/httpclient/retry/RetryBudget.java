@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The retry budget, a token bucket which every request deposits a percentage of a token into,
+ * and every retry or hedged request withdraws a whole token from, so that retries never exceed
+ * the percentage of the traffic and can not turn into a retry storm.
+ *
+ * @author xiaoyu
+ */
+public final class RetryBudget {
+
+    private static final long TOKEN = 100;
+
+    private final long deposit;
+
+    private final long maxBalance;
+
+    private final AtomicLong balance;
+
+    /**
+     * Instantiates a new Retry budget.
+     *
+     * @param budgetPercentage the retries allowed as a percentage of requests
+     * @param maxBudget        the max retries that can be saved up
+     */
+    public RetryBudget(final int budgetPercentage, final int maxBudget) {
+        this.deposit = Math.max(budgetPercentage, 0);
+        this.maxBalance = Math.max(maxBudget, 0) * TOKEN;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    /**
+     * Deposit for a request.
+     */
+    public void deposit() {
+        long current = balance.get();
+        while (current < maxBalance && !balance.compareAndSet(current, Math.min(maxBalance, current + deposit))) {
+            current = balance.get();
+        }
+    }
+
+    /**
+     * Try to withdraw a token for a retry.
+     *
+     * @return true if the retry is allowed
+     */
+    public boolean tryWithdraw() {
+        long current = balance.get();
+        while (current >= TOKEN) {
+            if (balance.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+            current = balance.get();
+        }
+        return false;
+    }
+}
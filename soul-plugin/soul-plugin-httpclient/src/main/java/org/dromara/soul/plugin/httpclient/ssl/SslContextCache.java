@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.ssl;
+
+import io.netty.handler.ssl.OpenSsl;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import lombok.EqualsAndHashCode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import reactor.netty.tcp.SslProvider;
+
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The client {@link SslProvider}s shared by all the http clients, keyed by the ssl settings they are built from,
+ * so the clients of the upstreams with their own ssl settings get their own context.
+ * The client sessions are cached in the ssl context of the provider, so sharing it lets the new connections to an upstream
+ * resume the session instead of a full handshake.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class SslContextCache {
+
+    private static final SslContextCache INSTANCE = new SslContextCache();
+
+    private final Map<SslKey, SslProvider> providers = new ConcurrentHashMap<>();
+
+    private SslContextCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static SslContextCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the ssl provider of the settings, it is built once.
+     *
+     * @param ssl the ssl config
+     * @param h2  whether the context negotiates http/2 with alpn, which overrides the default configuration type of the settings
+     * @return the ssl provider
+     */
+    public SslProvider obtain(final HttpClientProperties.Ssl ssl, final boolean h2) {
+        SslKey key = new SslKey(ssl, h2);
+        SslProvider provider = providers.get(key);
+        return Objects.nonNull(provider) ? provider : providers.computeIfAbsent(key, k -> build(ssl, h2));
+    }
+
+    /**
+     * Gets the count of the cached providers.
+     *
+     * @return the size
+     */
+    public int size() {
+        return providers.size();
+    }
+
+    private static SslProvider build(final HttpClientProperties.Ssl ssl, final boolean h2) {
+        SslContextBuilder builder = SslContextBuilder.forClient();
+        if (ssl.isUseOpenSsl()) {
+            if (OpenSsl.isAvailable()) {
+                builder.sslProvider(io.netty.handler.ssl.SslProvider.OPENSSL);
+            } else {
+                log.warn("OpenSSL of netty-tcnative is not available, the JDK provider is used", OpenSsl.unavailabilityCause());
+            }
+        }
+        X509Certificate[] trustedX509Certificates = ssl.getTrustedX509CertificatesForTrustManager();
+        if (trustedX509Certificates.length > 0) {
+            builder.trustManager(trustedX509Certificates);
+        } else if (ssl.isUseInsecureTrustManager()) {
+            builder.trustManager(InsecureTrustManagerFactory.INSTANCE);
+        }
+        if (ssl.getSessionCacheSize() > 0) {
+            builder.sessionCacheSize(ssl.getSessionCacheSize());
+        }
+        if (Objects.nonNull(ssl.getSessionTimeout())) {
+            builder.sessionTimeout(ssl.getSessionTimeout().getSeconds());
+        }
+        SslProvider.DefaultConfigurationType type = h2 ? SslProvider.DefaultConfigurationType.H2 : ssl.getDefaultConfigurationType();
+        SslProvider.Builder providerBuilder = SslProvider.builder().sslContext(builder)
+                .defaultConfiguration(type)
+                .handshakeTimeout(ssl.getHandshakeTimeout())
+                .closeNotifyFlushTimeout(ssl.getCloseNotifyFlushTimeout())
+                .closeNotifyReadTimeout(ssl.getCloseNotifyReadTimeout());
+        if (StringUtils.isNotBlank(ssl.getServerName())) {
+            SNIHostName serverName = new SNIHostName(ssl.getServerName());
+            providerBuilder.handlerConfigurator(sslHandler -> {
+                SSLEngine engine = sslHandler.engine();
+                SSLParameters parameters = engine.getSSLParameters();
+                parameters.setServerNames(Collections.singletonList(serverName));
+                engine.setSSLParameters(parameters);
+            });
+        }
+        return providerBuilder.build();
+    }
+
+    /**
+     * The ssl settings a provider is built from.
+     */
+    @EqualsAndHashCode
+    private static final class SslKey {
+
+        private final boolean useInsecureTrustManager;
+
+        private final List<String> trustedX509Certificates;
+
+        private final Duration handshakeTimeout;
+
+        private final Duration closeNotifyFlushTimeout;
+
+        private final Duration closeNotifyReadTimeout;
+
+        private final SslProvider.DefaultConfigurationType defaultConfigurationType;
+
+        private final boolean useOpenSsl;
+
+        private final long sessionCacheSize;
+
+        private final Duration sessionTimeout;
+
+        private final String serverName;
+
+        private final boolean h2;
+
+        SslKey(final HttpClientProperties.Ssl ssl, final boolean h2) {
+            this.useInsecureTrustManager = ssl.isUseInsecureTrustManager();
+            this.trustedX509Certificates = new ArrayList<>(ssl.getTrustedX509Certificates());
+            this.handshakeTimeout = ssl.getHandshakeTimeout();
+            this.closeNotifyFlushTimeout = ssl.getCloseNotifyFlushTimeout();
+            this.closeNotifyReadTimeout = ssl.getCloseNotifyReadTimeout();
+            this.defaultConfigurationType = ssl.getDefaultConfigurationType();
+            this.useOpenSsl = ssl.isUseOpenSsl();
+            this.sessionCacheSize = ssl.getSessionCacheSize();
+            this.sessionTimeout = ssl.getSessionTimeout();
+            this.serverName = ssl.getServerName();
+            this.h2 = h2;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.ssl;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.ssl.SslHandler;
+
+import java.net.SocketAddress;
+import java.util.Objects;
+
+/**
+ * Start tracking the tls handshake once the connection is established, then it removes itself from the pipeline.
+ *
+ * @author xiaoyu
+ */
+@ChannelHandler.Sharable
+final class TlsHandshakeHandler extends ChannelOutboundHandlerAdapter {
+
+    static final TlsHandshakeHandler INSTANCE = new TlsHandshakeHandler();
+
+    private TlsHandshakeHandler() {
+    }
+
+    @Override
+    public void connect(final ChannelHandlerContext ctx, final SocketAddress remoteAddress, final SocketAddress localAddress,
+                        final ChannelPromise promise) throws Exception {
+        SslHandler sslHandler = ctx.pipeline().get(SslHandler.class);
+        if (Objects.nonNull(sslHandler)) {
+            // the handshake starts when the connection is active, right after the connect promise is completed
+            promise.addListener(future -> {
+                if (future.isSuccess()) {
+                    TlsHandshakeMetrics.getInstance().track(sslHandler);
+                }
+            });
+        }
+        super.connect(ctx, remoteAddress, localAddress, promise);
+        ctx.pipeline().remove(this);
+    }
+}
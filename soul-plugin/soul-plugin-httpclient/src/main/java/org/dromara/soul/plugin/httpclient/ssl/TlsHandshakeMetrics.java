@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.ssl;
+
+import io.netty.handler.ssl.SslHandler;
+import org.dromara.soul.metrics.api.HistogramMetricsTrackerDelegate;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
+import reactor.netty.channel.BootstrapHandlers;
+import reactor.netty.http.client.HttpClient;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of the tls handshakes with the upstreams, they are also exported by the {@link MetricsTrackerFacade}.
+ * A handshake is counted as resumed if its session was created before the handshake started.
+ *
+ * @author xiaoyu
+ */
+public final class TlsHandshakeMetrics {
+
+    private static final TlsHandshakeMetrics INSTANCE = new TlsHandshakeMetrics();
+
+    private static final String HANDLER_NAME = "soulTlsHandshakeMetrics";
+
+    private static final String FULL = "full";
+
+    private static final String RESUMED = "resumed";
+
+    private static final String FAILED = "failed";
+
+    private final LongAdder fullHandshakes = new LongAdder();
+
+    private final LongAdder resumedHandshakes = new LongAdder();
+
+    private final LongAdder failedHandshakes = new LongAdder();
+
+    private final LongAdder handshakeNanos = new LongAdder();
+
+    private TlsHandshakeMetrics() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static TlsHandshakeMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record the tls handshakes of the connections opened by the http client.
+     *
+     * @param httpClient the http client
+     * @return the observed http client
+     */
+    public static HttpClient observe(final HttpClient httpClient) {
+        // the handler is replaced by name, so observing a client twice installs it once
+        return httpClient.tcpConfiguration(tcpClient -> tcpClient.bootstrap(bootstrap -> BootstrapHandlers.updateConfiguration(bootstrap, HANDLER_NAME,
+                (connectionObserver, channel) -> channel.pipeline().addFirst(HANDLER_NAME, TlsHandshakeHandler.INSTANCE))));
+    }
+
+    /**
+     * Gets the count of the full handshakes.
+     *
+     * @return the full handshakes
+     */
+    public long getFullHandshakes() {
+        return fullHandshakes.sum();
+    }
+
+    /**
+     * Gets the count of the handshakes which resumed a cached session.
+     *
+     * @return the resumed handshakes
+     */
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    /**
+     * Gets the count of the failed handshakes.
+     *
+     * @return the failed handshakes
+     */
+    public long getFailedHandshakes() {
+        return failedHandshakes.sum();
+    }
+
+    /**
+     * Gets the total time in millis spent on the handshakes.
+     *
+     * @return the handshake millis
+     */
+    public long getHandshakeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(handshakeNanos.sum());
+    }
+
+    /**
+     * Track the handshake of the connection, it is called when the connection is established.
+     *
+     * @param sslHandler the ssl handler of the connection
+     */
+    void track(final SslHandler sslHandler) {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        Optional<HistogramMetricsTrackerDelegate> timer = MetricsTrackerFacade.getInstance().histogramStartTimer(MetricsLabelEnum.TLS_HANDSHAKE_LATENCY.getName());
+        sslHandler.handshakeFuture().addListener(future -> {
+            handshakeNanos.add(System.nanoTime() - startNanos);
+            String type;
+            if (!future.isSuccess()) {
+                failedHandshakes.increment();
+                type = FAILED;
+            } else if (sslHandler.engine().getSession().getCreationTime() < startMillis) {
+                resumedHandshakes.increment();
+                type = RESUMED;
+            } else {
+                fullHandshakes.increment();
+                type = FULL;
+            }
+            MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.TLS_HANDSHAKE_TOTAL.getName(), type);
+            timer.ifPresent(MetricsTrackerFacade.getInstance()::histogramObserveDuration);
+        });
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.streaming;
+
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream the body between the client and the upstream with a bounded prefetch, the body is never aggregated,
+ * and the buffers dropped on cancel or error are released.
+ *
+ * @author xiaoyu
+ */
+public final class StreamingBody {
+
+    private final boolean enabled;
+
+    private final int prefetch;
+
+    /**
+     * Instantiates a new Streaming body.
+     *
+     * @param streaming the streaming config
+     */
+    public StreamingBody(final HttpClientProperties.Streaming streaming) {
+        this.enabled = streaming.isEnabled();
+        this.prefetch = Math.max(1, streaming.getPrefetch());
+    }
+
+    /**
+     * Stream the body.
+     *
+     * @param <T>  the type of buffer
+     * @param body the body
+     * @return the streamed body, it is the same body if streaming is disabled
+     */
+    public <T extends DataBuffer> Flux<T> stream(final Flux<T> body) {
+        if (!enabled) {
+            return body;
+        }
+        StreamingMetrics metrics = StreamingMetrics.getInstance();
+        return Flux.defer(() -> {
+            Demand demand = new Demand(metrics);
+            return body.doOnNext(buffer -> metrics.read(buffer.readableByteCount()))
+                    .limitRate(prefetch)
+                    .doOnNext(buffer -> {
+                        metrics.written(buffer.readableByteCount());
+                        demand.onNext();
+                    })
+                    .doOnRequest(demand::onRequest)
+                    .doOnDiscard(DataBuffer.class, buffer -> {
+                        metrics.discarded(buffer.readableByteCount());
+                        DataBufferUtils.release(buffer);
+                    });
+        });
+    }
+
+    /**
+     * The demand of the slow side of one stream, the time without demand is recorded as stalled.
+     */
+    private static final class Demand {
+
+        private final StreamingMetrics metrics;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicLong stalledSince = new AtomicLong();
+
+        Demand(final StreamingMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        void onRequest(final long n) {
+            long since = stalledSince.getAndSet(0);
+            if (since != 0) {
+                metrics.stalled(System.nanoTime() - since);
+            }
+            requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+        }
+
+        void onNext() {
+            if (requested.get() != Long.MAX_VALUE && requested.decrementAndGet() == 0) {
+                stalledSince.set(System.nanoTime());
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.streaming;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.concurrent.SoulThreadFactory;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of the streamed bodies of all the requests and responses, they are also exported by the {@link MetricsTrackerFacade}.
+ * The streams only add to the adders on the event loop, and the sums are exported as deltas once every {@link #EXPORT_PERIOD_MILLIS}.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class StreamingMetrics {
+
+    private static final long EXPORT_PERIOD_MILLIS = 1000;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private static final StreamingMetrics INSTANCE = new StreamingMetrics();
+
+    private final LongAdder bytesInFlight = new LongAdder();
+
+    private final LongAdder totalBytes = new LongAdder();
+
+    private final LongAdder stalledNanos = new LongAdder();
+
+    private long exportedBytesInFlight;
+
+    private long exportedTotalBytes;
+
+    private long exportedStalledNanos;
+
+    static {
+        ScheduledExecutorService exporter = Executors.newSingleThreadScheduledExecutor(SoulThreadFactory.create("streaming-metrics-exporter", true));
+        exporter.scheduleWithFixedDelay(INSTANCE::export, EXPORT_PERIOD_MILLIS, EXPORT_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Instantiates a new Streaming metrics, which is exported only by {@link #export()}.
+     */
+    StreamingMetrics() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static StreamingMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets the bytes buffered by the gateway, which have been read but not written yet.
+     *
+     * @return the bytes in flight
+     */
+    public long getBytesInFlight() {
+        return bytesInFlight.sum();
+    }
+
+    /**
+     * Gets the bytes streamed.
+     *
+     * @return the total bytes
+     */
+    public long getTotalBytes() {
+        return totalBytes.sum();
+    }
+
+    /**
+     * Gets the time in millis the streams waited for the demand of the slow side.
+     *
+     * @return the stalled millis
+     */
+    public long getStalledMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(stalledNanos.sum());
+    }
+
+    /**
+     * Export the changes since the last export to the metrics tracker facade, nothing is exported until the facade is started.
+     */
+    synchronized void export() {
+        MetricsTrackerFacade facade = MetricsTrackerFacade.getInstance();
+        if (!facade.isStarted()) {
+            return;
+        }
+        try {
+            long inFlight = bytesInFlight.sum();
+            long total = totalBytes.sum();
+            long stalled = stalledNanos.sum();
+            if (inFlight > exportedBytesInFlight) {
+                facade.gaugeInc(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), inFlight - exportedBytesInFlight);
+            } else if (inFlight < exportedBytesInFlight) {
+                facade.gaugeDec(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName(), exportedBytesInFlight - inFlight);
+            }
+            if (total > exportedTotalBytes) {
+                facade.counterInc(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName(), total - exportedTotalBytes);
+            }
+            if (stalled > exportedStalledNanos) {
+                facade.counterInc(MetricsLabelEnum.STREAMING_STALLED_SECONDS.getName(), (stalled - exportedStalledNanos) / NANOS_PER_SECOND);
+            }
+            exportedBytesInFlight = inFlight;
+            exportedTotalBytes = total;
+            exportedStalledNanos = stalled;
+        } catch (RuntimeException e) {
+            // the failed export is retried by the next one, and the periodic export is kept
+            log.warn("export the streaming metrics failed: {}", e.getMessage());
+        }
+    }
+
+    void read(final int bytes) {
+        bytesInFlight.add(bytes);
+    }
+
+    void written(final int bytes) {
+        bytesInFlight.add(-bytes);
+        totalBytes.add(bytes);
+    }
+
+    void discarded(final int bytes) {
+        bytesInFlight.add(-bytes);
+    }
+
+    void stalled(final long nanos) {
+        stalledNanos.add(nanos);
+    }
+}
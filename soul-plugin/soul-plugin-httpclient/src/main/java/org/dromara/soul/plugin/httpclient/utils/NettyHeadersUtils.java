@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.utils;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.util.AsciiString;
+import org.springframework.http.server.reactive.AbstractServerHttpRequest;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.util.ClassUtils;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Forward the headers between the native netty headers of the server and client,
+ * without copying them into the intermediate maps, and strip the hop-by-hop headers.
+ *
+ * @author xiaoyu
+ */
+public final class NettyHeadersUtils {
+
+    private static final AsciiString[] HOP_BY_HOP_HEADERS = {
+        HttpHeaderNames.CONNECTION,
+        HttpHeaderNames.KEEP_ALIVE,
+        HttpHeaderNames.PROXY_AUTHENTICATE,
+        HttpHeaderNames.PROXY_AUTHORIZATION,
+        HttpHeaderNames.PROXY_CONNECTION,
+        HttpHeaderNames.TE,
+        HttpHeaderNames.TRAILER,
+        HttpHeaderNames.TRANSFER_ENCODING,
+        HttpHeaderNames.UPGRADE,
+    };
+
+    /**
+     * The request of the reactor netty server, it is package private in spring so it is resolved by the full name.
+     */
+    private static final Class<?> REACTOR_REQUEST = ClassUtils.resolveClassName(
+            "org.springframework.http.server.reactive.ReactorServerHttpRequest", NettyHeadersUtils.class.getClassLoader());
+
+    /**
+     * The response of the reactor netty server.
+     */
+    private static final Class<?> REACTOR_RESPONSE = ClassUtils.resolveClassName(
+            "org.springframework.http.server.reactive.ReactorServerHttpResponse", NettyHeadersUtils.class.getClassLoader());
+
+    private NettyHeadersUtils() {
+    }
+
+    /**
+     * Copy the headers of the inbound request into the headers of the client request.
+     *
+     * @param request the inbound request
+     * @param target  the headers of the client request
+     */
+    public static void copyRequestHeaders(final ServerHttpRequest request, final HttpHeaders target) {
+        HttpHeaders source = nativeHeaders(request);
+        if (Objects.nonNull(source)) {
+            copy(source, target);
+            return;
+        }
+        request.getHeaders().forEach((name, values) -> {
+            if (!isHopByHop(name)) {
+                target.set(name, values);
+            }
+        });
+    }
+
+    /**
+     * Copy the headers of the client response into the headers of the outbound response.
+     *
+     * @param source   the headers of the client response
+     * @param response the outbound response
+     */
+    public static void copyResponseHeaders(final HttpHeaders source, final ServerHttpResponse response) {
+        HttpHeaders target = nativeHeaders(response);
+        if (Objects.nonNull(target)) {
+            copy(source, target);
+            return;
+        }
+        org.springframework.http.HttpHeaders headers = response.getHeaders();
+        source.names().stream().filter(name -> !isHopByHop(name)).forEach(name -> headers.put(name, source.getAll(name)));
+    }
+
+    /**
+     * Whether the header is only meaningful for a single connection, it is compared ignoring case.
+     *
+     * @param name the name of header
+     * @return true if it is a hop-by-hop header
+     */
+    public static boolean isHopByHop(final CharSequence name) {
+        for (AsciiString each : HOP_BY_HOP_HEADERS) {
+            if (each.contentEqualsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void copy(final HttpHeaders source, final HttpHeaders target) {
+        // the copied headers replace the existing ones, the hop-by-hop headers of target are kept for its own connection
+        if (!target.isEmpty()) {
+            target.names().stream().filter(name -> !isHopByHop(name) && source.contains(name)).forEach(target::remove);
+        }
+        // the headers listed in the connection header are hop-by-hop too
+        String connection = source.get(HttpHeaderNames.CONNECTION);
+        String[] nominated = Objects.isNull(connection) ? null : connection.split(",");
+        Iterator<Map.Entry<CharSequence, CharSequence>> iterator = source.iteratorCharSequence();
+        while (iterator.hasNext()) {
+            Map.Entry<CharSequence, CharSequence> entry = iterator.next();
+            CharSequence name = entry.getKey();
+            if (!isHopByHop(name) && !isNominated(nominated, name)) {
+                target.add(name, entry.getValue());
+            }
+        }
+    }
+
+    private static boolean isNominated(final String[] nominated, final CharSequence name) {
+        if (Objects.isNull(nominated)) {
+            return false;
+        }
+        for (String each : nominated) {
+            if (AsciiString.contentEqualsIgnoreCase(each.trim(), name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static HttpHeaders nativeHeaders(final ServerHttpRequest request) {
+        // only the request of the server itself is backed by the native headers, a decorated or mutated request may
+        // have its own headers
+        if (request.getClass() != REACTOR_REQUEST) {
+            return null;
+        }
+        return ((HttpServerRequest) ((AbstractServerHttpRequest) request).getNativeRequest()).requestHeaders();
+    }
+
+    private static HttpHeaders nativeHeaders(final ServerHttpResponse response) {
+        if (response.getClass() != REACTOR_RESPONSE) {
+            return null;
+        }
+        return ((HttpServerResponse) ((AbstractServerHttpResponse) response).getNativeResponse()).responseHeaders();
+    }
+}
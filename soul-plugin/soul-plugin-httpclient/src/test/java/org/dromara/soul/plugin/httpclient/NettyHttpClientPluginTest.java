@@ -20,27 +20,48 @@ package org.dromara.soul.plugin.httpclient;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import org.dromara.soul.common.constant.Constants;
+import org.dromara.soul.common.dto.convert.HttpTarget;
+import org.dromara.soul.common.dto.convert.HttpTimeouts;
+import org.dromara.soul.common.dto.convert.UpstreamUri;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.common.enums.RpcTypeEnum;
+import org.dromara.soul.common.exception.UpstreamTimeoutException;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.api.result.SoulResult;
 import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.HttpProtocol;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
 import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -88,6 +109,136 @@ public final class NettyHttpClientPluginTest {
         StepVerifier.create(nettyHttpClientPlugin.execute(exchange, chain)).expectSubscription().verifyError();
     }
 
+    /**
+     * The upstream which does not answer is limited by the response timeout of the whole exchange.
+     */
+    @Test
+    public void testResponseTimeout() {
+        DisposableServer server = slowServer();
+        try {
+            ServerWebExchange exchange = generateServerWebExchange("http://127.0.0.1:" + server.port() + "/slowHeaders", HttpTimeouts.of(200, 0, 0));
+            StepVerifier.create(nettyHttpClientPlugin.execute(exchange, chain))
+                    .expectError(UpstreamTimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * The upstream which stops sending the body is limited by the read idle timeout handler, and it is the upstream timeout too.
+     */
+    @Test
+    public void testReadIdleTimeout() {
+        DisposableServer server = slowServer();
+        try {
+            ServerWebExchange exchange = generateServerWebExchange("http://127.0.0.1:" + server.port() + "/slowBody", HttpTimeouts.of(5000, 200, 0));
+            SoulPluginChain bodyChain = ex -> ((Connection) ex.getAttribute(Constants.CLIENT_RESPONSE_CONN_ATTR)).inbound().receive().then();
+            StepVerifier.create(nettyHttpClientPlugin.execute(exchange, bodyChain))
+                    .expectError(UpstreamTimeoutException.class)
+                    .verify(Duration.ofSeconds(5));
+            assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * The concurrent requests to a h2c upstream are routed through the http/2 client, and none of them waits for another.
+     */
+    @Test
+    public void testHttp2Concurrency() {
+        int concurrency = 6;
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        DisposableServer server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .protocol(HttpProtocol.H2C)
+                .route(routes -> routes.get("/slow", (request, response) -> Mono.fromRunnable(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(300)))
+                        .doFinally(signal -> active.decrementAndGet())
+                        .then(response.sendString(Mono.just("ok")).then())))
+                .bindNow();
+        try {
+            SoulPluginChain bodyChain = ex -> ((Connection) ex.getAttribute(Constants.CLIENT_RESPONSE_CONN_ATTR)).inbound().receive().then();
+            HttpTarget target = new HttpTarget(UpstreamUri.of("h2c://", "127.0.0.1:" + server.port()), "/slow", null);
+            StepVerifier.create(Flux.range(0, concurrency).flatMap(i -> {
+                ServerWebExchange exchange = generateServerWebExchange(target.toUriString(), HttpTimeouts.of(5000, 0, 0));
+                exchange.getAttributes().put(Constants.HTTP_TARGET, target);
+                return nettyHttpClientPlugin.execute(exchange, bodyChain).thenReturn(i);
+            }, concurrency))
+                    .expectNextCount(concurrency)
+                    .expectComplete()
+                    .verify(Duration.ofSeconds(10));
+            assertEquals(concurrency, maxActive.get());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * The request which fails to connect is retried on the reselected upstream, and the http target is updated to that upstream.
+     */
+    @Test
+    public void testRetryUpdatesTarget() throws IOException {
+        DisposableServer server = okServer();
+        try {
+            HttpTarget refused = new HttpTarget(UpstreamUri.of("http://", "127.0.0.1:" + unusedPort()), "/ok", null);
+            HttpTarget next = new HttpTarget(UpstreamUri.of("http://", "127.0.0.1:" + server.port()), "/ok", null);
+            ServerWebExchange exchange = generateServerWebExchange(refused.toUriString(), HttpTimeouts.of(5000, 0, 0));
+            exchange.getAttributes().put(Constants.HTTP_TARGET, refused);
+            exchange.getAttributes().put(Constants.HTTP_RETRY, 1);
+            exchange.getAttributes().put(Constants.HTTP_TARGET_RESELECTOR, (Supplier<HttpTarget>) () -> next);
+            StepVerifier.create(nettyHttpClientPlugin.execute(exchange, drainChain())).expectComplete().verify(Duration.ofSeconds(5));
+            assertSame(next, exchange.getAttribute(Constants.HTTP_TARGET));
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * The hedged request which wins the race is used, and the http target is updated to its upstream.
+     */
+    @Test
+    public void testHedgeUpdatesTarget() {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getHedge().setEnabled(true);
+        properties.getHedge().setDelay(Duration.ofMillis(50));
+        NettyHttpClientPlugin hedgedPlugin = new NettyHttpClientPlugin(HttpClient.create(), properties);
+        DisposableServer server = okServer();
+        try {
+            HttpTarget slow = new HttpTarget(UpstreamUri.of("http://", "127.0.0.1:" + server.port()), "/slow", null);
+            HttpTarget next = new HttpTarget(UpstreamUri.of("http://", "127.0.0.1:" + server.port()), "/ok", null);
+            ServerWebExchange exchange = generateServerWebExchange(slow.toUriString(), HttpTimeouts.of(5000, 0, 0));
+            exchange.getAttributes().put(Constants.HTTP_TARGET, slow);
+            exchange.getAttributes().put(Constants.HTTP_TARGET_RESELECTOR, (Supplier<HttpTarget>) () -> next);
+            StepVerifier.create(hedgedPlugin.execute(exchange, drainChain())).expectComplete().verify(Duration.ofSeconds(1));
+            assertSame(next, exchange.getAttribute(Constants.HTTP_TARGET));
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * The released response is drained, so its connection goes back to the pool of a single connection.
+     */
+    @Test
+    public void testRelease() {
+        DisposableServer server = okServer();
+        try {
+            NettyHttpClientPlugin pooledPlugin = new NettyHttpClientPlugin(HttpClient.create(ConnectionProvider.fixed("soul-release-test", 1)));
+            ServerWebExchange exchange = generateServerWebExchange("http://127.0.0.1:" + server.port() + "/ok", HttpTimeouts.of(5000, 0, 0));
+            String url = exchange.getAttribute(Constants.HTTP_URL);
+            pooledPlugin.release(pooledPlugin.doRequest(exchange, null, url).block(Duration.ofSeconds(2)));
+            Tuple2<HttpClientResponse, Connection> response = pooledPlugin.doRequest(exchange, null, url).block(Duration.ofSeconds(2));
+            assertEquals(200, response.getT1().status().code());
+            pooledPlugin.release(response);
+        } finally {
+            server.disposeNow();
+        }
+    }
+
     /**
      * test case for NettyHttpClientPlugin {@link NettyHttpClientPlugin#skip(ServerWebExchange)}.
      */
@@ -123,6 +274,44 @@ public final class NettyHttpClientPluginTest {
         assertEquals("NettyHttpClient", nettyHttpClientPlugin.named());
     }
 
+    private DisposableServer slowServer() {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/slowHeaders", (request, response) -> Mono.never())
+                        .get("/slowBody", (request, response) -> response.header(HttpHeaderNames.CONTENT_LENGTH, "16").sendHeaders().then(Mono.never())))
+                .bindNow();
+    }
+
+    private DisposableServer okServer() {
+        return HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .get("/ok", (request, response) -> response.sendString(Mono.just("ok")))
+                        .get("/slow", (request, response) -> response.sendString(Mono.delay(Duration.ofSeconds(3)).thenReturn("slow"))))
+                .bindNow();
+    }
+
+    private SoulPluginChain drainChain() {
+        return ex -> ((Connection) ex.getAttribute(Constants.CLIENT_RESPONSE_CONN_ATTR)).inbound().receive().then();
+    }
+
+    private int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private ServerWebExchange generateServerWebExchange(final String url, final HttpTimeouts timeouts) {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
+        exchange.getAttributes().put(Constants.CONTEXT, mock(SoulContext.class));
+        exchange.getAttributes().put(Constants.HTTP_URL, url);
+        exchange.getAttributes().put(Constants.HTTP_TIMEOUTS, timeouts);
+        return exchange;
+    }
+
     private ServerWebExchange generateServerWebExchange() {
         ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/test").build());
         exchange.getAttributes().put(Constants.CONTEXT, mock(SoulContext.class));
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.compression;
+
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link Compression}.
+ *
+ * @author xiaoyu
+ */
+public final class CompressionTest {
+
+    private static final byte[] JSON = ("[" + StringUtils.repeat("{\"name\":\"soul\",\"value\":1},", 200) + "{}]").getBytes(StandardCharsets.UTF_8);
+
+    private HttpClientProperties.Compression properties;
+
+    @Before
+    public void setUp() {
+        properties = new HttpClientProperties.Compression();
+        properties.setEnabled(true);
+    }
+
+    @Test
+    public void testCompressWithGzip() throws IOException {
+        MockServerWebExchange exchange = exchange("gzip, deflate");
+        exchange.getResponse().getHeaders().setETag("\"v1\"");
+        byte[] compressed = join(new Compression(properties).responseBody(exchange, body(JSON)));
+        HttpHeaders headers = exchange.getResponse().getHeaders();
+        assertEquals("gzip", headers.getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(-1, headers.getContentLength());
+        assertThat(headers.getVary(), hasItem(HttpHeaders.ACCEPT_ENCODING));
+        assertEquals("W/\"v1\"", headers.getETag());
+        assertTrue(compressed.length < JSON.length);
+        assertArrayEquals(JSON, read(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void testCompressWithDeflateWhenGzipIsRefused() throws IOException {
+        MockServerWebExchange exchange = exchange("gzip;q=0, *");
+        byte[] compressed = join(new Compression(properties).responseBody(exchange, body(JSON)));
+        assertEquals("deflate", exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(JSON, read(new InflaterInputStream(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void testNotCompressed() {
+        Compression compression = new Compression(properties);
+        MockServerWebExchange notAccepted = exchange(null);
+        Flux<DataBuffer> body = body(JSON);
+        assertSame(body, compression.responseBody(notAccepted, body));
+        MockServerWebExchange small = exchange("gzip");
+        small.getResponse().getHeaders().setContentLength(100);
+        assertSame(body, compression.responseBody(small, body));
+        MockServerWebExchange image = exchange("gzip");
+        image.getResponse().getHeaders().setContentType(MediaType.IMAGE_PNG);
+        assertSame(body, compression.responseBody(image, body));
+        assertNull(image.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testPassThroughCompressedResponse() throws IOException {
+        MockServerWebExchange exchange = exchange("deflate");
+        exchange.getResponse().getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        Flux<DataBuffer> body = body(gzip(JSON));
+        assertSame(body, new Compression(properties).responseBody(exchange, body));
+        properties.setPassThrough(false);
+        byte[] recompressed = join(new Compression(properties).responseBody(exchange, body));
+        assertEquals("deflate", exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(JSON, read(new InflaterInputStream(new ByteArrayInputStream(recompressed))));
+    }
+
+    @Test
+    public void testRequestDecompression() throws IOException {
+        ServerHttpRequest request = MockServerHttpRequest.post("/test")
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip").header(HttpHeaders.ACCEPT_ENCODING, "gzip").build();
+        Compression disabled = new Compression(properties);
+        assertEquals(1, disabled.removedRequestHeaders(request).size());
+        properties.setRequestDecompression(true);
+        properties.setOffload(false);
+        Compression compression = new Compression(properties);
+        assertThat(compression.removedRequestHeaders(request), hasItem(HttpHeaders.CONTENT_ENCODING));
+        assertFalse(compression.removedRequestHeaders(request).contains(HttpHeaders.ACCEPT_ENCODING));
+        assertArrayEquals(JSON, join(compression.requestBody(request, body(gzip(JSON)))));
+    }
+
+    private MockServerWebExchange exchange(final String acceptEncoding) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/test");
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockServerWebExchange exchange = MockServerWebExchange.from(request.build());
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return exchange;
+    }
+
+    private Flux<DataBuffer> body(final byte[] bytes) {
+        DefaultDataBufferFactory factory = new DefaultDataBufferFactory();
+        int half = bytes.length / 2;
+        return Flux.defer(() -> Flux.just(factory.wrap(Arrays.copyOfRange(bytes, 0, half)),
+                factory.wrap(Arrays.copyOfRange(bytes, half, bytes.length))));
+    }
+
+    private byte[] join(final Flux<? extends DataBuffer> body) {
+        DataBuffer joined = DataBufferUtils.join(body).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        DataBufferUtils.release(joined);
+        return bytes;
+    }
+
+    private byte[] gzip(final byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] read(final InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int n;
+        while ((n = in.read(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
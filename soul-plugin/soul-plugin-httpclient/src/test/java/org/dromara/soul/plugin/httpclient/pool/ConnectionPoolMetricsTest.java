@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test case for ConnectionPoolMetrics.
+ *
+ * @author xiaoyu
+ */
+public final class ConnectionPoolMetricsTest {
+
+    /**
+     * The remote addresses beyond the limit share one label.
+     */
+    @Test
+    public void testLabel() {
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(1);
+        assertEquals("localhost:8080", metrics.label(InetSocketAddress.createUnresolved("localhost", 8080)));
+        assertEquals("localhost:8080", metrics.label(InetSocketAddress.createUnresolved("localhost", 8080)));
+        assertEquals("other", metrics.label(InetSocketAddress.createUnresolved("localhost", 8081)));
+        assertEquals("unknown", metrics.label(null));
+    }
+
+    /**
+     * The resolved address of a connection has the label of the unresolved address of the request.
+     *
+     * @throws UnknownHostException the unknown host exception
+     */
+    @Test
+    public void testLabelResolved() throws UnknownHostException {
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(1);
+        assertEquals(metrics.label(InetSocketAddress.createUnresolved("localhost", 8080)),
+                metrics.label(new InetSocketAddress(InetAddress.getByName("localhost"), 8080)));
+    }
+
+    /**
+     * A connection is created once, reused when it is acquired from the pool again and closed once.
+     */
+    @Test
+    public void testOnStateChange() {
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(1);
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Connection connection = Connection.from(channel);
+        metrics.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        metrics.onStateChange(connection, ConnectionObserver.State.ACQUIRED);
+        assertEquals(1, metrics.getCreatedConnections());
+        assertEquals(0, metrics.getReusedConnections());
+        metrics.onStateChange(connection, ConnectionObserver.State.RELEASED);
+        metrics.onStateChange(connection, ConnectionObserver.State.ACQUIRED);
+        assertEquals(1, metrics.getReusedConnections());
+        channel.close();
+        metrics.onStateChange(connection, ConnectionObserver.State.RELEASED);
+        assertEquals(1, metrics.getCreatedConnections());
+        assertEquals(1, metrics.getClosedConnections());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.httpclient.pool;
+
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * The test case for UpstreamConnectionPoolManager.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamConnectionPoolManagerTest {
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final AtomicInteger requests = new AtomicInteger();
+
+    private DisposableServer server;
+
+    @Before
+    public void setUp() {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .tcpConfiguration(tcpServer -> tcpServer.doOnConnection(connection -> connections.incrementAndGet()))
+                .handle((request, response) -> {
+                    requests.incrementAndGet();
+                    return response.sendString(Mono.just("ok"));
+                })
+                .bindNow();
+    }
+
+    @After
+    public void tearDown() {
+        server.disposeNow();
+    }
+
+    /**
+     * The prewarmed connections stay idle in the dedicated pool without any request, and serve the first requests.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testPrewarm() throws InterruptedException {
+        String key = "localhost:" + server.port();
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getPool().setPrewarmConnections(2);
+        properties.getPool().getUpstreams().put(key, new HttpClientProperties.UpstreamPool());
+        UpstreamConnectionPoolManager manager = new UpstreamConnectionPoolManager(properties, HttpClient::create);
+        UpstreamConnectionPool pool = manager.getPools().iterator().next();
+        List<DivideUpstream> upstreamList = Collections.singletonList(DivideUpstream.builder().protocol("http://").upstreamUrl(key).build());
+        manager.onSubscribe("selector", upstreamList);
+        await(pool::getIdleConnections, 2);
+        assertEquals(2, pool.getTotalConnections());
+        assertEquals(0, pool.getActiveConnections());
+        assertEquals(2, connections.get());
+        assertEquals(0, requests.get());
+        String body = pool.getHttpClient().get().uri("http://" + key + "/").responseContent().aggregate().asString().block();
+        assertEquals("ok", body);
+        assertEquals(1, requests.get());
+        assertEquals(2, connections.get());
+        manager.unSubscribe("selector");
+        manager.onSubscribe("selector", upstreamList);
+        Thread.sleep(200);
+        assertEquals(2, connections.get());
+        assertEquals(2, pool.getIdleConnections());
+    }
+
+    /**
+     * The upstream without a dedicated pool is not prewarmed.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void testPrewarmSharedPool() throws InterruptedException {
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getPool().setPrewarmConnections(2);
+        UpstreamConnectionPoolManager manager = new UpstreamConnectionPoolManager(properties, HttpClient::create);
+        manager.onSubscribe("selector", Collections.singletonList(DivideUpstream.builder().protocol("http://").upstreamUrl("localhost:" + server.port()).build()));
+        Thread.sleep(200);
+        assertEquals(0, connections.get());
+    }
+
+    private void await(final IntSupplier supplier, final int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 3000;
+        while (supplier.getAsInt() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, supplier.getAsInt());
+    }
+}
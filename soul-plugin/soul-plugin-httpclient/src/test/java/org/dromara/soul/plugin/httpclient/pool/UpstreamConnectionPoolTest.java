@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.pool;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The test case for UpstreamConnectionPool.
+ *
+ * @author xiaoyu
+ */
+public final class UpstreamConnectionPoolTest {
+
+    /**
+     * The utilization follows the state of the connections.
+     */
+    @Test
+    public void testOnStateChange() {
+        HttpClientProperties.UpstreamPool config = new HttpClientProperties.UpstreamPool();
+        config.setMaxConnections(2);
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("localhost:8080", config, 0, HttpClient.create());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Connection connection = Connection.from(channel);
+        pool.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        assertEquals(1, pool.getTotalConnections());
+        assertEquals(1, pool.getActiveConnections());
+        assertEquals(0.5, pool.getUtilization(), 0.001);
+        pool.onStateChange(connection, ConnectionObserver.State.RELEASED);
+        assertEquals(0, pool.getActiveConnections());
+        assertEquals(1, pool.getIdleConnections());
+        pool.onStateChange(connection, ConnectionObserver.State.ACQUIRED);
+        assertEquals(1, pool.getActiveConnections());
+        assertEquals(2, pool.getAcquiredCount());
+        channel.close();
+        assertEquals(0, pool.getTotalConnections());
+        assertEquals(0, pool.getActiveConnections());
+    }
+
+    /**
+     * The expired connection is closed when it is released.
+     */
+    @Test
+    public void testMaxLifeTime() {
+        HttpClientProperties.UpstreamPool config = new HttpClientProperties.UpstreamPool();
+        config.setMaxLifeTime(Duration.ofNanos(1));
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("localhost:8080", config, 0, HttpClient.create());
+        EmbeddedChannel channel = new EmbeddedChannel();
+        Connection connection = Connection.from(channel);
+        pool.onStateChange(connection, ConnectionObserver.State.CONNECTED);
+        assertTrue(channel.isOpen());
+        pool.onStateChange(connection, ConnectionObserver.State.RELEASED);
+        assertFalse(channel.isOpen());
+    }
+
+    /**
+     * The idle connection is closed by the sweep of the pool, and nothing is scheduled when a connection is released.
+     */
+    @Test
+    public void testMaxIdleTime() {
+        HttpClientProperties.UpstreamPool config = new HttpClientProperties.UpstreamPool();
+        config.setMaxIdleTime(Duration.ofNanos(1));
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("localhost:8080", config, 0, HttpClient.create());
+        EmbeddedChannel idle = new EmbeddedChannel();
+        EmbeddedChannel active = new EmbeddedChannel();
+        pool.onStateChange(Connection.from(idle), ConnectionObserver.State.CONNECTED);
+        pool.onStateChange(Connection.from(active), ConnectionObserver.State.CONNECTED);
+        pool.onStateChange(Connection.from(idle), ConnectionObserver.State.RELEASED);
+        assertEquals(-1, idle.runScheduledPendingTasks());
+        pool.evictIdle();
+        idle.runPendingTasks();
+        active.runPendingTasks();
+        assertFalse(idle.isOpen());
+        assertTrue(active.isOpen());
+        assertEquals(1, pool.getTotalConnections());
+    }
+
+    /**
+     * The request is rejected when too many requests are pending.
+     */
+    @Test
+    public void testLimit() {
+        HttpClientProperties.UpstreamPool config = new HttpClientProperties.UpstreamPool();
+        config.setMaxConnections(1);
+        config.setPendingAcquireMaxCount(0);
+        UpstreamConnectionPool pool = new UpstreamConnectionPool("localhost:8080", config, 0, HttpClient.create());
+        pool.limit(Mono.never()).subscribe();
+        StepVerifier.create(pool.limit(Mono.just("ok"))).expectError().verify();
+        assertEquals(1, pool.getRejectedCount());
+    }
+}
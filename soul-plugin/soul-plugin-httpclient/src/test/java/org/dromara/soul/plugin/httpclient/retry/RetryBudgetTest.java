@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.retry;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * The type Retry budget test.
+ *
+ * @author xiaoyu
+ */
+public final class RetryBudgetTest {
+
+    /**
+     * The saved up retries are capped by the max budget.
+     */
+    @Test
+    public void maxBudgetTest() {
+        RetryBudget retryBudget = new RetryBudget(20, 2);
+        for (int i = 0; i < 100; i++) {
+            retryBudget.deposit();
+        }
+        Assert.assertTrue(retryBudget.tryWithdraw());
+        Assert.assertTrue(retryBudget.tryWithdraw());
+        Assert.assertFalse(retryBudget.tryWithdraw());
+    }
+
+    /**
+     * Every five requests earn one retry at 20 percentage.
+     */
+    @Test
+    public void depositTest() {
+        RetryBudget retryBudget = new RetryBudget(20, 0);
+        Assert.assertFalse(retryBudget.tryWithdraw());
+        retryBudget = new RetryBudget(20, 1);
+        Assert.assertTrue(retryBudget.tryWithdraw());
+        for (int i = 0; i < 4; i++) {
+            retryBudget.deposit();
+            Assert.assertFalse(retryBudget.tryWithdraw());
+        }
+        retryBudget.deposit();
+        Assert.assertTrue(retryBudget.tryWithdraw());
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.ssl;
+
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.junit.Test;
+import reactor.netty.tcp.SslProvider;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test case for {@link SslContextCache}.
+ *
+ * @author xiaoyu
+ */
+public final class SslContextCacheTest {
+
+    @Test
+    public void testSharedBySameSettings() {
+        HttpClientProperties properties = new HttpClientProperties();
+        SslProvider provider = SslContextCache.getInstance().obtain(properties.getSsl(), false);
+        assertTrue(provider.getSslContext().isClient());
+        assertSame(provider, SslContextCache.getInstance().obtain(new HttpClientProperties().getSsl(), false));
+    }
+
+    @Test
+    public void testBuiltForDifferentSettings() {
+        HttpClientProperties properties = new HttpClientProperties();
+        SslProvider provider = SslContextCache.getInstance().obtain(properties.getSsl(), false);
+        properties.getSsl().setUseInsecureTrustManager(true);
+        properties.getSsl().setSessionTimeout(Duration.ofMinutes(10));
+        SslProvider insecure = SslContextCache.getInstance().obtain(properties.getSsl(), false);
+        assertNotSame(provider, insecure);
+        assertSame(insecure, SslContextCache.getInstance().obtain(properties.getSsl(), false));
+        HttpClientProperties.Ssl upstreamSsl = new HttpClientProperties.Ssl();
+        upstreamSsl.setServerName("upstream.example.com");
+        assertNotSame(provider, SslContextCache.getInstance().obtain(upstreamSsl, false));
+        upstreamSsl.setServerName(null);
+        upstreamSsl.setDefaultConfigurationType(SslProvider.DefaultConfigurationType.NONE);
+        assertNotSame(provider, SslContextCache.getInstance().obtain(upstreamSsl, false));
+        assertTrue(SslContextCache.getInstance().size() >= 4);
+    }
+
+    @Test
+    public void testDefaultConfigurationType() {
+        HttpClientProperties.Ssl ssl = new HttpClientProperties.Ssl();
+        assertSame(SslProvider.DefaultConfigurationType.TCP, SslContextCache.getInstance().obtain(ssl, false).getDefaultConfigurationType());
+        SslProvider h2 = SslContextCache.getInstance().obtain(ssl, true);
+        assertSame(SslProvider.DefaultConfigurationType.H2, h2.getDefaultConfigurationType());
+        assertTrue(h2.getSslContext().applicationProtocolNegotiator().protocols().contains(ApplicationProtocolNames.HTTP_2));
+    }
+
+    @Test
+    public void testCustomized() {
+        HttpClientProperties.Ssl ssl = new HttpClientProperties.Ssl();
+        assertFalse(ssl.isCustomized());
+        ssl.setUseInsecureTrustManager(true);
+        assertTrue(ssl.isCustomized());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.streaming;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.dromara.soul.metrics.enums.MetricsLabelEnum;
+import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
+import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The test case for StreamingBody.
+ *
+ * @author xiaoyu
+ */
+public final class StreamingBodyTest {
+
+    private final NettyDataBufferFactory factory = new NettyDataBufferFactory(Unpooled.buffer().alloc());
+
+    /**
+     * The body is untouched if streaming is disabled.
+     */
+    @Test
+    public void testDisabled() {
+        Flux<NettyDataBuffer> body = Flux.empty();
+        assertSame(body, new StreamingBody(new HttpClientProperties.Streaming()).stream(body));
+    }
+
+    /**
+     * The streamed bytes are recorded, and the buffers dropped on cancel are released.
+     */
+    @Test
+    public void testStream() {
+        HttpClientProperties.Streaming streaming = new HttpClientProperties.Streaming();
+        streaming.setEnabled(true);
+        streaming.setPrefetch(2);
+        StreamingBody streamingBody = new StreamingBody(streaming);
+        StreamingMetrics metrics = StreamingMetrics.getInstance();
+        long totalBytes = metrics.getTotalBytes();
+        long bytesInFlight = metrics.getBytesInFlight();
+        ByteBuf first = Unpooled.copiedBuffer("test", StandardCharsets.UTF_8);
+        ByteBuf second = Unpooled.copiedBuffer("test", StandardCharsets.UTF_8);
+        StepVerifier.create(streamingBody.stream(Flux.just(factory.wrap(first), factory.wrap(second)).hide()), 1)
+                .expectNextCount(1)
+                .thenCancel()
+                .verify();
+        assertEquals(totalBytes + 4, metrics.getTotalBytes());
+        assertEquals(bytesInFlight, metrics.getBytesInFlight());
+        assertEquals(0, second.refCnt());
+        assertTrue(metrics.getStalledMillis() >= 0);
+    }
+
+    /**
+     * The streamed bytes are exported by the metrics tracker facade as the changes since the last export.
+     */
+    @Test
+    public void testExport() {
+        StreamingMetrics metrics = new StreamingMetrics();
+        metrics.read(8);
+        metrics.written(4);
+        metrics.stalled(500_000_000L);
+        MetricsTrackerFacade facade = mock(MetricsTrackerFacade.class);
+        when(facade.isStarted()).thenReturn(true);
+        try (MockedStatic<MetricsTrackerFacade> mocked = mockStatic(MetricsTrackerFacade.class)) {
+            mocked.when(MetricsTrackerFacade::getInstance).thenReturn(facade);
+            metrics.export();
+            verify(facade).gaugeInc(eq(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName()), eq(4.0d));
+            verify(facade).counterInc(eq(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName()), eq(4.0d));
+            verify(facade).counterInc(eq(MetricsLabelEnum.STREAMING_STALLED_SECONDS.getName()), eq(0.5d));
+            metrics.written(4);
+            metrics.export();
+            metrics.export();
+        }
+        verify(facade).gaugeDec(eq(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName()), eq(4.0d));
+        verify(facade, times(2)).counterInc(eq(MetricsLabelEnum.STREAMING_BYTES_TOTAL.getName()), eq(4.0d));
+        verify(facade, times(1)).counterInc(eq(MetricsLabelEnum.STREAMING_STALLED_SECONDS.getName()), anyDouble());
+        verify(facade, times(1)).gaugeInc(eq(MetricsLabelEnum.STREAMING_BYTES_IN_FLIGHT.getName()), anyDouble());
+    }
+
+    /**
+     * Nothing is exported before the metrics tracker facade is started.
+     */
+    @Test
+    public void testExportNotStarted() {
+        StreamingMetrics metrics = new StreamingMetrics();
+        metrics.read(4);
+        MetricsTrackerFacade facade = mock(MetricsTrackerFacade.class);
+        try (MockedStatic<MetricsTrackerFacade> mocked = mockStatic(MetricsTrackerFacade.class)) {
+            mocked.when(MetricsTrackerFacade::getInstance).thenReturn(facade);
+            metrics.export();
+        }
+        verify(facade, never()).gaugeInc(anyString(), anyDouble());
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.httpclient.utils;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import org.junit.Test;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The test case for NettyHeadersUtils.
+ *
+ * @author xiaoyu
+ */
+public final class NettyHeadersUtilsTest {
+
+    /**
+     * The request headers are copied without the hop-by-hop ones.
+     */
+    @Test
+    public void testCopyRequestHeaders() {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.get("/test")
+                .header("Host", "gateway")
+                .header("Connection", "keep-alive")
+                .header("Keep-Alive", "timeout=5")
+                .header("Transfer-Encoding", "chunked");
+        for (int i = 0; i < 30; i++) {
+            builder.header("X-Header-" + i, "value-" + i);
+        }
+        HttpHeaders target = new DefaultHttpHeaders().set(HttpHeaderNames.HOST, "upstream");
+        NettyHeadersUtils.copyRequestHeaders(builder.build(), target);
+        assertEquals("gateway", target.get(HttpHeaderNames.HOST));
+        assertEquals("value-29", target.get("x-header-29"));
+        assertFalse(target.contains(HttpHeaderNames.CONNECTION));
+        assertFalse(target.contains(HttpHeaderNames.KEEP_ALIVE));
+        assertFalse(target.contains(HttpHeaderNames.TRANSFER_ENCODING));
+        assertEquals(31, target.size());
+    }
+
+    /**
+     * The response headers are copied without the hop-by-hop ones.
+     */
+    @Test
+    public void testCopyResponseHeaders() {
+        HttpHeaders source = new DefaultHttpHeaders()
+                .add(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                .add(HttpHeaderNames.SET_COOKIE, "a=1")
+                .add(HttpHeaderNames.SET_COOKIE, "b=2")
+                .add(HttpHeaderNames.CONNECTION, "close");
+        MockServerHttpResponse response = new MockServerHttpResponse();
+        NettyHeadersUtils.copyResponseHeaders(source, response);
+        assertEquals("application/json", response.getHeaders().getFirst("Content-Type"));
+        assertEquals(2, response.getHeaders().get("Set-Cookie").size());
+        assertFalse(response.getHeaders().containsKey("Connection"));
+    }
+
+    /**
+     * The headers of the reactor netty server are copied on the native headers, and the decorators keep their own headers.
+     *
+     * @throws IOException the io exception
+     */
+    @Test
+    public void testCopyNativeHeaders() throws IOException {
+        HttpHeaders nativeTarget = new DefaultHttpHeaders();
+        HttpHeaders decoratedTarget = new DefaultHttpHeaders();
+        org.springframework.http.HttpHeaders decoratedResponseHeaders = new org.springframework.http.HttpHeaders();
+        HttpHandler handler = (request, response) -> {
+            NettyHeadersUtils.copyRequestHeaders(request, nativeTarget);
+            NettyHeadersUtils.copyRequestHeaders(new ServerHttpRequestDecorator(request) {
+                @Override
+                public org.springframework.http.HttpHeaders getHeaders() {
+                    org.springframework.http.HttpHeaders headers = new org.springframework.http.HttpHeaders();
+                    headers.add("X-Decorated", "true");
+                    return headers;
+                }
+            }, decoratedTarget);
+            NettyHeadersUtils.copyResponseHeaders(new DefaultHttpHeaders().add("X-Upstream", "a").add(HttpHeaderNames.CONNECTION, "close"), response);
+            NettyHeadersUtils.copyResponseHeaders(new DefaultHttpHeaders().add("X-Upstream", "b"), new ServerHttpResponseDecorator(response) {
+                @Override
+                public org.springframework.http.HttpHeaders getHeaders() {
+                    return decoratedResponseHeaders;
+                }
+            });
+            return response.setComplete();
+        };
+        DisposableServer server = HttpServer.create().host("127.0.0.1").port(0).handle(new ReactorHttpHandlerAdapter(handler)).bindNow();
+        List<String> responseHeaders = new ArrayList<>();
+        try (Socket socket = new Socket("127.0.0.1", server.port())) {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write("GET /test HTTP/1.1\r\nHost: gateway\r\nConnection: X-Hop\r\nX-Hop: b\r\nX-Test: a\r\n\r\n"
+                    .getBytes(StandardCharsets.US_ASCII));
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            for (String line = reader.readLine(); Objects.nonNull(line) && !line.isEmpty(); line = reader.readLine()) {
+                responseHeaders.add(line.toLowerCase());
+            }
+        } finally {
+            server.disposeNow();
+        }
+        assertEquals("a", nativeTarget.get("X-Test"));
+        assertEquals("gateway", nativeTarget.get(HttpHeaderNames.HOST));
+        // the header nominated by the connection header is only stripped on the native path
+        assertFalse(nativeTarget.contains("X-Hop"));
+        assertFalse(nativeTarget.contains(HttpHeaderNames.CONNECTION));
+        assertEquals("true", decoratedTarget.get("X-Decorated"));
+        assertFalse(decoratedTarget.contains("X-Test"));
+        assertTrue(responseHeaders.contains("x-upstream: a"));
+        assertEquals("b", decoratedResponseHeaders.getFirst("X-Upstream"));
+    }
+
+    /**
+     * The hop-by-hop headers are matched ignoring case.
+     */
+    @Test
+    public void testIsHopByHop() {
+        assertTrue(NettyHeadersUtils.isHopByHop("Transfer-Encoding"));
+        assertTrue(NettyHeadersUtils.isHopByHop("UPGRADE"));
+        assertFalse(NettyHeadersUtils.isHopByHop("Content-Length"));
+    }
+}
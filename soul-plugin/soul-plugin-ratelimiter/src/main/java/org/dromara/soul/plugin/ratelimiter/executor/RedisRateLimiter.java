@@ -83,7 +83,7 @@ public class RedisRateLimiter {
                     boolean allowed = results.get(0) == 1L;
                     Long tokensLeft = results.get(1);
                     RateLimiterResponse rateLimiterResponse = new RateLimiterResponse(allowed, tokensLeft);
-                    log.info("RateLimiter response:{}", rateLimiterResponse.toString());
+                    log.debug("RateLimiter response:{}", rateLimiterResponse);
                     return rateLimiterResponse;
                 }).doOnError(throwable -> log.error("Error determining if user allowed from redis:{}", throwable.getMessage()));
     }
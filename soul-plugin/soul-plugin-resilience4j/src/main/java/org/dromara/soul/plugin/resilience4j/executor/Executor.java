@@ -21,6 +21,7 @@ import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import java.util.Objects;
 import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.exception.UpstreamTimeoutException;
 import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
 import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
@@ -82,7 +83,7 @@ public interface Executor {
      */
     default Mono<Void> withoutFallback(ServerWebExchange exchange, Throwable throwable) {
         Object error;
-        if (throwable instanceof TimeoutException) {
+        if (throwable instanceof TimeoutException || throwable instanceof UpstreamTimeoutException) {
             exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
             error = SoulResultWrap.error(SoulResultEnum.SERVICE_TIMEOUT.getCode(), SoulResultEnum.SERVICE_TIMEOUT.getMsg(), null);
         } else if (throwable instanceof Resilience4JPlugin.CircuitBreakerStatusCodeException) {
@@ -25,7 +25,7 @@ import com.alipay.sofa.rpc.config.RegistryConfig;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
+import com.google.common.cache.RemovalListener;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -34,10 +34,13 @@ import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.LoadBalanceEnum;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.base.cache.DelayedDestroyer;
+import org.dromara.soul.plugin.base.cache.RpcCacheStats;
 
-import java.lang.reflect.Field;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -46,29 +49,23 @@ import java.util.concurrent.ExecutionException;
 @Slf4j
 public final class ApplicationConfigCache {
 
+    private static final int MAX_COUNT = 50000;
+
     private ApplicationConfig applicationConfig;
 
     private RegistryConfig registryConfig;
 
-    private final int maxCount = 50000;
+    private final Map<String, GenericService> genericServices = new ConcurrentHashMap<>();
+
+    private final DelayedDestroyer destroyer = new DelayedDestroyer("sofa", DelayedDestroyer.DEFAULT_GRACE_MILLIS);
 
+    // a replaced reference may still be used by the requests in flight, it is unreferred after the grace period
     private final LoadingCache<String, ConsumerConfig<GenericService>> cache = CacheBuilder.newBuilder()
-            .maximumWeight(maxCount)
-            .weigher((Weigher<String, ConsumerConfig<GenericService>>) (string, referenceConfig) -> getSize())
-            .removalListener(notification -> {
-                ConsumerConfig<GenericService> config = notification.getValue();
-                if (config != null) {
-                    try {
-                        Class<?> cz = config.getClass();
-                        Field field = cz.getDeclaredField("consumerBootstrap");
-                        field.setAccessible(true);
-                        field.set(config, null);
-                        // After the configuration change, sofa destroys the instance, but does not empty it. If it is not handled,
-                        // it will get NULL when reinitializing and cause a NULL pointer problem.
-                    } catch (NoSuchFieldException | IllegalAccessException e) {
-                        log.error("modify ref have exception", e);
-                    }
-                }
+            .maximumSize(MAX_COUNT)
+            .recordStats()
+            .removalListener((RemovalListener<String, ConsumerConfig<GenericService>>) notification -> {
+                genericServices.remove(notification.getKey());
+                destroyer.destroy(notification.getValue(), ApplicationConfigCache::unRefer);
             })
             .build(new CacheLoader<String, ConsumerConfig<GenericService>>() {
                 @Override
@@ -77,11 +74,9 @@ public final class ApplicationConfigCache {
                 }
             });
 
-    private ApplicationConfigCache() {
-    }
+    private final RpcCacheStats stats = RpcCacheStats.register("sofa", cache);
 
-    private int getSize() {
-        return (int) cache.size();
+    private ApplicationConfigCache() {
     }
 
     /**
@@ -139,6 +134,7 @@ public final class ApplicationConfigCache {
      * @return the reference config
      */
     public ConsumerConfig<GenericService> build(final MetaData metaData) {
+        long start = System.nanoTime();
         ConsumerConfig<GenericService> reference = new ConsumerConfig<>();
         reference.setGeneric(true);
         reference.setApplication(applicationConfig);
@@ -157,14 +153,65 @@ public final class ApplicationConfigCache {
             Optional.ofNullable(sofaParamExtInfo.getTimeout()).ifPresent(reference::setTimeout);
             Optional.ofNullable(sofaParamExtInfo.getRetries()).ifPresent(reference::setRetries);
         }
-        Object obj = reference.refer();
-        if (obj != null) {
-            log.info("init sofa reference success there meteData is :{}", metaData.toString());
-            cache.put(metaData.getPath(), reference);
+        try {
+            Object obj = reference.refer();
+            if (obj != null) {
+                log.info("init sofa reference success there meteData is :{}", metaData.toString());
+                cache.put(metaData.getPath(), reference);
+            }
+        } finally {
+            stats.recordLoad(System.nanoTime() - start);
         }
         return reference;
     }
 
+    /**
+     * Get the referred generic service of path, the consumer config is referred once and its proxy is cached until the config is removed.
+     *
+     * @param metaData the meta data
+     * @return the generic service
+     */
+    public GenericService getGenericService(final MetaData metaData) {
+        String path = metaData.getPath();
+        GenericService genericService = genericServices.get(path);
+        if (Objects.nonNull(genericService)) {
+            return genericService;
+        }
+        ConsumerConfig<GenericService> reference = get(path);
+        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterfaceId())) {
+            invalidate(path);
+            reference = initRef(metaData);
+        }
+        genericService = reference.refer();
+        genericServices.put(path, genericService);
+        if (cache.getIfPresent(path) != reference) {
+            // the config was replaced while it was referred
+            genericServices.remove(path, genericService);
+        }
+        return genericService;
+    }
+
+    /**
+     * Gets the statistics of cache.
+     *
+     * @return the stats
+     */
+    public RpcCacheStats getStats() {
+        return stats;
+    }
+
+    private static void unRefer(final ConsumerConfig<GenericService> reference) {
+        // the placeholder created by the cache loader was never referred
+        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterfaceId())) {
+            return;
+        }
+        try {
+            reference.unRefer();
+        } catch (RuntimeException e) {
+            log.error("unRefer sofa reference have exception", e);
+        }
+    }
+
     private String buildLoadBalanceName(final String loadBalance) {
         if (LoadBalanceEnum.HASH.getName().equals(loadBalance) || StringUtils.equalsIgnoreCase("consistenthash", loadBalance)) {
             return "consistentHash";
@@ -17,15 +17,12 @@
 
 package org.dromara.soul.plugin.sofa.proxy;
 
-import com.alipay.hessian.generic.model.GenericObject;
 import com.alipay.sofa.rpc.api.GenericService;
-import com.alipay.sofa.rpc.config.ConsumerConfig;
 import com.alipay.sofa.rpc.context.RpcInvokeContext;
 import com.alipay.sofa.rpc.core.exception.SofaRpcException;
 import com.alipay.sofa.rpc.core.invoke.SofaResponseCallback;
 import com.alipay.sofa.rpc.core.request.RequestBase;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.dromara.soul.common.constant.Constants;
@@ -34,10 +31,11 @@ import org.dromara.soul.common.enums.ResultEnum;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.plugin.api.sofa.SofaParamResolveService;
 import org.dromara.soul.plugin.sofa.cache.ApplicationConfigCache;
+import org.dromara.soul.plugin.sofa.util.GenericObjectConverter;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -48,6 +46,8 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class SofaProxyService {
 
+    private static final int LARGE_RESULT_NODES = 1024;
+
     private final SofaParamResolveService sofaParamResolveService;
 
     /**
@@ -69,45 +69,55 @@ public class SofaProxyService {
      * @throws SoulException the soul exception
      */
     public Mono<Object> genericInvoker(final String body, final MetaData metaData, final ServerWebExchange exchange) throws SoulException {
-        ConsumerConfig<GenericService> reference = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        if (Objects.isNull(reference) || StringUtils.isEmpty(reference.getInterfaceId())) {
-            ApplicationConfigCache.getInstance().invalidate(metaData.getServiceName());
-            reference = ApplicationConfigCache.getInstance().initRef(metaData);
-        }
-        GenericService genericService = reference.refer();
+        GenericService genericService = ApplicationConfigCache.getInstance().getGenericService(metaData);
         Pair<String[], Object[]> pair;
         if (null == body || "".equals(body) || "{}".equals(body) || "null".equals(body)) {
             pair = new ImmutablePair<>(new String[]{}, new Object[]{});
         } else {
             pair = sofaParamResolveService.buildParameter(body, metaData.getParameterTypes());
         }
-        CompletableFuture<Object> future = new CompletableFuture<>();
-        RpcInvokeContext.getContext().setResponseCallback(new SofaResponseCallback<Object>() {
-            @Override
-            public void onAppResponse(final Object o, final String s, final RequestBase requestBase) {
-                future.complete(o);
-            }
+        ResponseFuture future = new ResponseFuture();
+        RpcInvokeContext.getContext().setResponseCallback(future);
+        try {
+            genericService.$genericInvoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
+        } finally {
+            // the callback is taken by the invocation, it must not be left to the next invocation of this thread
+            RpcInvokeContext.getContext().setResponseCallback(null);
+        }
+        return Mono.fromFuture(future)
+                .flatMap(ret -> {
+                    // a large result is converted on the parallel scheduler instead of the callback thread of sofa
+                    if (GenericObjectConverter.isLarge(ret, LARGE_RESULT_NODES)) {
+                        return Mono.fromCallable(() -> GenericObjectConverter.convert(ret)).subscribeOn(Schedulers.parallel());
+                    }
+                    return Mono.just(GenericObjectConverter.convert(ret));
+                })
+                .defaultIfEmpty(Constants.SOFA_RPC_RESULT_EMPTY)
+                .doOnNext(ret -> {
+                    exchange.getAttributes().put(Constants.SOFA_RPC_RESULT, ret);
+                    exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
+                })
+                .onErrorMap(SoulException::new);
+    }
+
+    /**
+     * The future of one invocation, it is completed by sofa as the response callback.
+     */
+    private static final class ResponseFuture extends CompletableFuture<Object> implements SofaResponseCallback<Object> {
 
-            @Override
-            public void onAppException(final Throwable throwable, final String s, final RequestBase requestBase) {
-                future.completeExceptionally(throwable);
-            }
+        @Override
+        public void onAppResponse(final Object appResponse, final String methodName, final RequestBase request) {
+            complete(appResponse);
+        }
 
-            @Override
-            public void onSofaException(final SofaRpcException e, final String s, final RequestBase requestBase) {
-                future.completeExceptionally(e);
-            }
-        });
-        genericService.$genericInvoke(metaData.getMethodName(), pair.getLeft(), pair.getRight());
-        return Mono.fromFuture(future.thenApply(ret -> {
-            if (Objects.isNull(ret)) {
-                ret = Constants.SOFA_RPC_RESULT_EMPTY;
-            }
+        @Override
+        public void onAppException(final Throwable throwable, final String methodName, final RequestBase request) {
+            completeExceptionally(throwable);
+        }
 
-            GenericObject genericObject = (GenericObject) ret;
-            exchange.getAttributes().put(Constants.SOFA_RPC_RESULT, genericObject.getFields());
-            exchange.getAttributes().put(Constants.CLIENT_RESPONSE_RESULT_TYPE, ResultEnum.SUCCESS.getName());
-            return ret;
-        })).onErrorMap(SoulException::new);
+        @Override
+        public void onSofaException(final SofaRpcException sofaException, final String methodName, final RequestBase request) {
+            completeExceptionally(sofaException);
+        }
     }
 }
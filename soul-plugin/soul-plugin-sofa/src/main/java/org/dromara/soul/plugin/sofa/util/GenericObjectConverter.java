@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.sofa.util;
+
+import com.alipay.hessian.generic.model.GenericObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Convert the generic result of sofa into maps and lists, so that it is serialized as the object of the provider.
+ *
+ * @author xiaoyu
+ */
+public final class GenericObjectConverter {
+
+    private GenericObjectConverter() {
+    }
+
+    /**
+     * Convert the generic objects in the value deeply.
+     *
+     * @param value the value
+     * @return the converted value, a {@link GenericObject} is converted into a map of its fields
+     */
+    public static Object convert(final Object value) {
+        if (value instanceof GenericObject) {
+            return convertMap(((GenericObject) value).getFields());
+        }
+        if (value instanceof Map) {
+            return convertMap((Map<?, ?>) value);
+        }
+        if (value instanceof Collection) {
+            return convertList((Collection<?>) value);
+        }
+        if (value instanceof Object[]) {
+            return convertList(Arrays.asList((Object[]) value));
+        }
+        return value;
+    }
+
+    /**
+     * Whether the value has more nodes than the threshold, the nodes are counted until the threshold is reached.
+     *
+     * @param value     the value
+     * @param threshold the threshold of nodes
+     * @return true if the value is large
+     */
+    public static boolean isLarge(final Object value, final int threshold) {
+        Deque<Object> pending = new ArrayDeque<>();
+        pending.push(value);
+        int nodes = 0;
+        while (!pending.isEmpty()) {
+            Collection<?> children = children(pending.pop());
+            nodes += children.size();
+            if (nodes > threshold) {
+                return true;
+            }
+            for (Object child : children) {
+                if (child != null) {
+                    pending.push(child);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static Map<Object, Object> convertMap(final Map<?, ?> fields) {
+        Map<Object, Object> map = new LinkedHashMap<>(Math.max(16, fields.size() * 4 / 3 + 1));
+        for (Map.Entry<?, ?> entry : fields.entrySet()) {
+            map.put(entry.getKey(), convert(entry.getValue()));
+        }
+        return map;
+    }
+
+    private static List<Object> convertList(final Collection<?> values) {
+        List<Object> list = new ArrayList<>(values.size());
+        for (Object each : values) {
+            list.add(convert(each));
+        }
+        return list;
+    }
+
+    private static Collection<?> children(final Object value) {
+        if (value instanceof GenericObject) {
+            return ((GenericObject) value).getFields().values();
+        }
+        if (value instanceof Map) {
+            return ((Map<?, ?>) value).values();
+        }
+        if (value instanceof Collection) {
+            return (Collection<?>) value;
+        }
+        if (value instanceof Object[]) {
+            return Arrays.asList((Object[]) value);
+        }
+        return Collections.emptyList();
+    }
+}
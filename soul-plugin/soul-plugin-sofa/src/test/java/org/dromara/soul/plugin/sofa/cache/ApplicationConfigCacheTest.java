@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.sofa.cache;
+
+import com.alipay.sofa.rpc.api.GenericService;
+import com.alipay.sofa.rpc.config.ConsumerConfig;
+import com.google.common.cache.LoadingCache;
+import org.dromara.soul.plugin.base.cache.DelayedDestroyer;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Test Case For ApplicationConfigCache.
+ *
+ * @author xiaoyu
+ */
+public final class ApplicationConfigCacheTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testReplaceWhileInFlight() {
+        ApplicationConfigCache applicationConfigCache = ApplicationConfigCache.getInstance();
+        LoadingCache<String, ConsumerConfig<GenericService>> cache = (LoadingCache<String, ConsumerConfig<GenericService>>) ReflectionTestUtils.getField(applicationConfigCache, "cache");
+        DelayedDestroyer destroyer = (DelayedDestroyer) ReflectionTestUtils.getField(applicationConfigCache, "destroyer");
+        destroyer.setGraceMillis(200L);
+        try {
+            ConsumerConfig<GenericService> inFlight = mock(ConsumerConfig.class);
+            when(inFlight.getInterfaceId()).thenReturn("org.dromara.soul.test.sofa.api.service.SofaTestService");
+            cache.put("/replace", inFlight);
+            cache.put("/replace", new ConsumerConfig<>());
+            // the request in flight still uses the replaced reference, it is unreferred after the grace period
+            verify(inFlight, never()).unRefer();
+            verify(inFlight, timeout(5000)).unRefer();
+        } finally {
+            destroyer.setGraceMillis(DelayedDestroyer.DEFAULT_GRACE_MILLIS);
+            applicationConfigCache.invalidate("/replace");
+        }
+    }
+}
@@ -17,12 +17,14 @@
 
 package org.dromara.soul.plugin.sofa.proxy;
 
+import com.alipay.hessian.generic.model.GenericObject;
 import com.alipay.sofa.rpc.api.GenericService;
 import com.alipay.sofa.rpc.config.ConsumerConfig;
 import com.alipay.sofa.rpc.context.RpcInvokeContext;
 import com.google.common.cache.LoadingCache;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
+import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.enums.RpcTypeEnum;
 import org.dromara.soul.plugin.api.sofa.SofaParamResolveService;
@@ -35,10 +37,16 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -83,14 +91,22 @@ public final class SofaProxyServiceTest {
         GenericService genericService = mock(GenericService.class);
         when(consumerConfig.refer()).thenReturn(genericService);
         when(consumerConfig.getInterfaceId()).thenReturn(PATH);
-        when(genericService.$genericInvoke(METHOD_NAME, LEFT, RIGHT)).thenReturn(null);
+        GenericObject genericObject = new GenericObject("org.dromara.soul.test.sofa.api.entity.SofaSimpleTypeBean");
+        genericObject.putField("id", "1");
+        when(genericService.$genericInvoke(METHOD_NAME, LEFT, RIGHT)).thenAnswer(invocation -> {
+            RpcInvokeContext.getContext().getResponseCallback().onAppResponse(genericObject, METHOD_NAME, null);
+            return null;
+        });
         ApplicationConfigCache applicationConfigCache = ApplicationConfigCache.getInstance();
         Field field = ApplicationConfigCache.class.getDeclaredField("cache");
         field.setAccessible(true);
         ((LoadingCache) field.get(applicationConfigCache)).put(PATH, consumerConfig);
         SofaProxyService sofaProxyService = new SofaProxyService(new SofaParamResolveServiceImpl());
-        sofaProxyService.genericInvoker("", metaData, exchange);
-        RpcInvokeContext.getContext().getResponseCallback().onAppResponse("success", null, null);
+        StepVerifier.create(sofaProxyService.genericInvoker("", metaData, exchange)).expectNext(Collections.singletonMap("id", "1")).verifyComplete();
+        assertNull(RpcInvokeContext.getContext().getResponseCallback());
+        assertEquals(Collections.singletonMap("id", "1"), exchange.getAttribute(Constants.SOFA_RPC_RESULT));
+        sofaProxyService.genericInvoker("", metaData, exchange).block();
+        verify(consumerConfig, times(1)).refer();
     }
 
     static class SofaParamResolveServiceImpl implements SofaParamResolveService {
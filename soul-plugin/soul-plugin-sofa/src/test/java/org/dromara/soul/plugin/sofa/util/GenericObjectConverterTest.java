@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.sofa.util;
+
+import com.alipay.hessian.generic.model.GenericObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test cases for GenericObjectConverter.
+ *
+ * @author xiaoyu
+ */
+public final class GenericObjectConverterTest {
+
+    @Test
+    public void testConvert() {
+        GenericObject child = new GenericObject("org.dromara.soul.test.Child");
+        child.putField("name", "soul");
+        GenericObject parent = new GenericObject("org.dromara.soul.test.Parent");
+        parent.putField("id", 1);
+        parent.putField("children", Arrays.asList(child, null));
+        parent.putField("tags", new Object[]{"a", child});
+        Map<?, ?> result = (Map<?, ?>) GenericObjectConverter.convert(parent);
+        assertEquals(1, result.get("id"));
+        assertEquals(Arrays.asList(Collections.singletonMap("name", "soul"), null), result.get("children"));
+        assertEquals(Arrays.asList("a", Collections.singletonMap("name", "soul")), result.get("tags"));
+        assertEquals("soul", GenericObjectConverter.convert("soul"));
+    }
+
+    @Test
+    public void testIsLarge() {
+        List<Object> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GenericObject item = new GenericObject("org.dromara.soul.test.Item");
+            item.putField("id", i);
+            items.add(item);
+        }
+        GenericObject result = new GenericObject("org.dromara.soul.test.Page");
+        result.putField("items", items);
+        assertFalse(GenericObjectConverter.isLarge(result, 201));
+        assertTrue(GenericObjectConverter.isLarge(result, 200));
+        assertFalse(GenericObjectConverter.isLarge("soul", 0));
+    }
+}
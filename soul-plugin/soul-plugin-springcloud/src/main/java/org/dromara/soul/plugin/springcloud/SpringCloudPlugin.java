@@ -21,11 +21,12 @@ import org.apache.commons.lang3.StringUtils;
 import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.RuleData;
 import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.HttpTarget;
 import org.dromara.soul.common.dto.convert.rule.impl.SpringCloudRuleHandle;
 import org.dromara.soul.common.dto.convert.selector.SpringCloudSelectorHandle;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.common.enums.RpcTypeEnum;
-import org.dromara.soul.common.utils.GsonUtils;
 import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.utils.FallbackUtils;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
@@ -33,9 +34,14 @@ import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.base.AbstractSoulPlugin;
 import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
+import org.dromara.soul.plugin.divide.balance.utils.LoadBalanceUtils;
+import org.dromara.soul.plugin.springcloud.cache.ServiceInstanceCache;
+import org.dromara.soul.plugin.springcloud.cache.ServiceInstances;
+import org.dromara.soul.plugin.springcloud.cache.SpringCloudHandleCache;
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
@@ -44,6 +50,8 @@ import java.util.Objects;
 
 /**
  * this is springCloud proxy impl.
+ * if the {@link ServiceInstanceCache} is present, the cached instances are balanced locally with the divide load balance,
+ * otherwise every request goes through the {@link LoadBalancerClient}.
  *
  * @author xiaoyu(myth)
  */
@@ -51,13 +59,26 @@ public class SpringCloudPlugin extends AbstractSoulPlugin {
 
     private final LoadBalancerClient loadBalancer;
 
+    private final ServiceInstanceCache serviceInstanceCache;
+
     /**
      * Instantiates a new Spring cloud plugin.
      *
      * @param loadBalancer      the load balancer
      */
     public SpringCloudPlugin(final LoadBalancerClient loadBalancer) {
+        this(loadBalancer, null);
+    }
+
+    /**
+     * Instantiates a new Spring cloud plugin.
+     *
+     * @param loadBalancer         the load balancer
+     * @param serviceInstanceCache the service instance cache, null if the cached instances are disabled
+     */
+    public SpringCloudPlugin(final LoadBalancerClient loadBalancer, final ServiceInstanceCache serviceInstanceCache) {
         this.loadBalancer = loadBalancer;
+        this.serviceInstanceCache = serviceInstanceCache;
     }
 
     @Override
@@ -67,12 +88,15 @@ public class SpringCloudPlugin extends AbstractSoulPlugin {
         }
         final SoulContext soulContext = exchange.getAttribute(Constants.CONTEXT);
         assert soulContext != null;
-        final SpringCloudRuleHandle ruleHandle = GsonUtils.getInstance().fromJson(rule.getHandle(), SpringCloudRuleHandle.class);
-        final SpringCloudSelectorHandle selectorHandle = GsonUtils.getInstance().fromJson(selector.getHandle(), SpringCloudSelectorHandle.class);
+        final SpringCloudRuleHandle ruleHandle = SpringCloudHandleCache.getInstance().obtainRuleHandle(rule);
+        final SpringCloudSelectorHandle selectorHandle = SpringCloudHandleCache.getInstance().obtainSelectorHandle(selector);
         if (StringUtils.isBlank(selectorHandle.getServiceId()) || StringUtils.isBlank(ruleHandle.getPath())) {
             Object error = SoulResultWrap.error(SoulResultEnum.CANNOT_CONFIG_SPRINGCLOUD_SERVICEID.getCode(), SoulResultEnum.CANNOT_CONFIG_SPRINGCLOUD_SERVICEID.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
         }
+        if (Objects.nonNull(serviceInstanceCache)) {
+            return executeCached(exchange, chain, soulContext, selectorHandle, ruleHandle);
+        }
 
         final ServiceInstance serviceInstance = loadBalancer.choose(selectorHandle.getServiceId());
         if (Objects.isNull(serviceInstance)) {
@@ -121,6 +145,33 @@ public class SpringCloudPlugin extends AbstractSoulPlugin {
         return FallbackUtils.getNoRuleResult(pluginName, exchange);
     }
 
+    private Mono<Void> executeCached(final ServerWebExchange exchange, final SoulPluginChain chain, final SoulContext soulContext,
+                                     final SpringCloudSelectorHandle selectorHandle, final SpringCloudRuleHandle ruleHandle) {
+        final ServiceInstances instances = serviceInstanceCache.get(selectorHandle.getServiceId());
+        final String ip = Objects.requireNonNull(exchange.getRequest().getRemoteAddress()).getAddress().getHostAddress();
+        final DivideUpstream upstream = LoadBalanceUtils.selector(instances.getAvailableList(), ruleHandle.getLoadBalance(), ip);
+        if (Objects.isNull(upstream)) {
+            Object error = SoulResultWrap.error(SoulResultEnum.SPRINGCLOUD_SERVICEID_IS_ERROR.getCode(), SoulResultEnum.SPRINGCLOUD_SERVICEID_IS_ERROR.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        final String query = soulContext.getHttpMethod().equals(HttpMethod.GET.name()) ? exchange.getRequest().getURI().getRawQuery() : null;
+        exchange.getAttributes().put(Constants.HTTP_TARGET, new HttpTarget(upstream.getUpstreamUri(), soulContext.getRealUrl(), query));
+        exchange.getAttributes().put(Constants.HTTP_TIME_OUT, ruleHandle.getTimeout());
+        return chain.execute(exchange)
+                .doOnSuccess(v -> {
+                    if (isUpstreamError(exchange.getResponse().getStatusCode())) {
+                        instances.onFailure(upstream);
+                    } else {
+                        instances.onSuccess(upstream);
+                    }
+                })
+                .doOnError(e -> instances.onFailure(upstream));
+    }
+
+    private boolean isUpstreamError(final HttpStatus status) {
+        return status == HttpStatus.BAD_GATEWAY || status == HttpStatus.SERVICE_UNAVAILABLE || status == HttpStatus.GATEWAY_TIMEOUT;
+    }
+
     private String buildRealURL(final String url, final String httpMethod, final String query) {
         if (httpMethod.equals(HttpMethod.GET.name()) && StringUtils.isNotBlank(query)) {
             return url + "?" + query;
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.cache;
+
+import com.google.common.collect.Maps;
+import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.context.ApplicationListener;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The cached instances of the service ids routed by the gateway, they are loaded on the first request
+ * and refreshed when the discovery client publishes a {@link HeartbeatEvent}.
+ *
+ * @author xiaoyu
+ */
+@Slf4j
+public final class ServiceInstanceCache implements ApplicationListener<HeartbeatEvent> {
+
+    private final Map<String, ServiceInstances> instancesMap = Maps.newConcurrentMap();
+
+    private final DiscoveryClient discoveryClient;
+
+    private final SpringCloudConfig.CachedInstances config;
+
+    /**
+     * Instantiates a new Service instance cache.
+     *
+     * @param discoveryClient the discovery client
+     * @param config          the cached instances config
+     */
+    public ServiceInstanceCache(final DiscoveryClient discoveryClient, final SpringCloudConfig.CachedInstances config) {
+        this.discoveryClient = discoveryClient;
+        this.config = config;
+    }
+
+    /**
+     * Gets the instances of service id, load them from the discovery client if they are not cached.
+     *
+     * @param serviceId the service id
+     * @return the service instances
+     */
+    public ServiceInstances get(final String serviceId) {
+        ServiceInstances instances = instancesMap.get(serviceId);
+        if (Objects.nonNull(instances)) {
+            return instances;
+        }
+        return instancesMap.computeIfAbsent(serviceId, key -> ServiceInstances.build(discoveryClient.getInstances(key), config, null));
+    }
+
+    /**
+     * Reload the instances of all the cached service ids, the instances stay the same if loading fails.
+     */
+    public void refresh() {
+        instancesMap.forEach((serviceId, previous) -> {
+            try {
+                ServiceInstances instances = ServiceInstances.build(discoveryClient.getInstances(serviceId), config, previous);
+                if (instances != previous) {
+                    instancesMap.put(serviceId, instances);
+                    log.info("the instances of service {} are refreshed: {}", serviceId, instances.getUpstreamList().size());
+                }
+            } catch (RuntimeException e) {
+                log.warn("refresh the instances of service {} failed", serviceId, e);
+            }
+        });
+    }
+
+    /**
+     * Remove the cached instances of service id.
+     *
+     * @param serviceId the service id
+     */
+    public void remove(final String serviceId) {
+        instancesMap.remove(serviceId);
+    }
+
+    @Override
+    public void onApplicationEvent(final HeartbeatEvent event) {
+        refresh();
+    }
+}
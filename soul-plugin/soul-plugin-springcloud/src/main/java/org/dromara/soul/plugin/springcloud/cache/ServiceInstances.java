@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.cache;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.common.dto.convert.UpstreamUri;
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The immutable instance list of one service id, with the base uri of each instance built once,
+ * and the instances failing consecutively are ejected from balancing for a while.
+ *
+ * @author xiaoyu
+ */
+public final class ServiceInstances {
+
+    private static final int DEFAULT_WEIGHT = 50;
+
+    private static final int MAX_EJECTION_MULTIPLIER = 10;
+
+    private static final int FULL_PERCENTAGE = 100;
+
+    private static final String WEIGHT = "weight";
+
+    private static final String ZONE = "zone";
+
+    private final List<DivideUpstream> upstreamList;
+
+    private final Map<String, Outlier> outlierMap;
+
+    private final SpringCloudConfig.CachedInstances config;
+
+    private volatile List<DivideUpstream> availableList;
+
+    private volatile long recoveryTime = Long.MAX_VALUE;
+
+    private ServiceInstances(final List<DivideUpstream> upstreamList, final Map<String, Outlier> outlierMap, final SpringCloudConfig.CachedInstances config) {
+        this.upstreamList = upstreamList;
+        this.outlierMap = outlierMap;
+        this.config = config;
+        refreshAvailable(System.currentTimeMillis());
+    }
+
+    /**
+     * Build the instances of a service, the previous one is kept if the instances do not change,
+     * otherwise the outlier state of the remaining instances is carried over.
+     *
+     * @param instances the instances from discovery
+     * @param config    the cached instances config
+     * @param previous  the previous instances, maybe null
+     * @return the service instances
+     */
+    public static ServiceInstances build(final List<ServiceInstance> instances, final SpringCloudConfig.CachedInstances config, final ServiceInstances previous) {
+        List<DivideUpstream> upstreamList = new ArrayList<>(Objects.isNull(instances) ? 0 : instances.size());
+        if (Objects.nonNull(instances)) {
+            instances.forEach(instance -> upstreamList.add(buildUpstream(instance)));
+        }
+        if (Objects.nonNull(previous) && previous.upstreamList.equals(upstreamList)) {
+            return previous;
+        }
+        Map<String, Outlier> outlierMap = new HashMap<>(upstreamList.size());
+        for (DivideUpstream upstream : upstreamList) {
+            Outlier outlier = Objects.isNull(previous) ? null : previous.outlierMap.get(upstream.getUpstreamUrl());
+            outlierMap.put(upstream.getUpstreamUrl(), Objects.isNull(outlier) ? new Outlier() : outlier);
+        }
+        return new ServiceInstances(Collections.unmodifiableList(upstreamList), outlierMap, config);
+    }
+
+    /**
+     * Gets all the instances.
+     *
+     * @return the upstream list
+     */
+    public List<DivideUpstream> getUpstreamList() {
+        return upstreamList;
+    }
+
+    /**
+     * Gets the instances which are not ejected, the same list is returned until an instance is ejected or recovers.
+     *
+     * @return the available upstream list
+     */
+    public List<DivideUpstream> getAvailableList() {
+        if (System.currentTimeMillis() >= recoveryTime) {
+            synchronized (this) {
+                long now = System.currentTimeMillis();
+                if (now >= recoveryTime) {
+                    refreshAvailable(now);
+                }
+            }
+        }
+        return availableList;
+    }
+
+    /**
+     * Record a successful request to the instance.
+     *
+     * @param upstream the upstream of instance
+     */
+    public void onSuccess(final DivideUpstream upstream) {
+        Outlier outlier = outlierMap.get(upstream.getUpstreamUrl());
+        if (Objects.isNull(outlier)) {
+            return;
+        }
+        if (outlier.consecutiveFailures.get() != 0) {
+            outlier.consecutiveFailures.set(0);
+        }
+        if (outlier.ejections != 0 && outlier.ejectedUntil <= System.currentTimeMillis()) {
+            outlier.ejections = 0;
+        }
+    }
+
+    /**
+     * Record a failed request to the instance, it is ejected if it fails too many times in a row.
+     *
+     * @param upstream the upstream of instance
+     */
+    public void onFailure(final DivideUpstream upstream) {
+        Outlier outlier = outlierMap.get(upstream.getUpstreamUrl());
+        if (Objects.isNull(outlier) || config.getConsecutiveFailures() <= 0) {
+            return;
+        }
+        if (outlier.consecutiveFailures.incrementAndGet() >= config.getConsecutiveFailures()) {
+            eject(outlier);
+        }
+    }
+
+    private synchronized void eject(final Outlier outlier) {
+        long now = System.currentTimeMillis();
+        if (outlier.ejectedUntil > now) {
+            return;
+        }
+        long ejected = outlierMap.values().stream().filter(each -> each.ejectedUntil > now).count();
+        if ((ejected + 1) * FULL_PERCENTAGE > (long) upstreamList.size() * config.getMaxEjectionPercent()) {
+            return;
+        }
+        outlier.ejections = Math.min(outlier.ejections + 1, MAX_EJECTION_MULTIPLIER);
+        outlier.ejectedUntil = now + config.getBaseEjectionTime() * outlier.ejections;
+        outlier.consecutiveFailures.set(0);
+        refreshAvailable(now);
+    }
+
+    private void refreshAvailable(final long now) {
+        List<DivideUpstream> available = new ArrayList<>(upstreamList.size());
+        long next = Long.MAX_VALUE;
+        for (DivideUpstream upstream : upstreamList) {
+            long ejectedUntil = outlierMap.get(upstream.getUpstreamUrl()).ejectedUntil;
+            if (ejectedUntil > now) {
+                next = Math.min(next, ejectedUntil);
+            } else {
+                available.add(upstream);
+            }
+        }
+        availableList = available.size() == upstreamList.size() ? upstreamList : Collections.unmodifiableList(available);
+        recoveryTime = next;
+    }
+
+    private static DivideUpstream buildUpstream(final ServiceInstance instance) {
+        Map<String, String> metadata = Objects.isNull(instance.getMetadata()) ? Collections.emptyMap() : instance.getMetadata();
+        String protocol = instance.isSecure() ? "https://" : "http://";
+        String host = instance.getHost().indexOf(':') >= 0 ? "[" + instance.getHost() + "]" : instance.getHost();
+        String upstreamUrl = host + ":" + instance.getPort();
+        DivideUpstream upstream = DivideUpstream.builder()
+                .upstreamHost(instance.getHost())
+                .protocol(protocol)
+                .upstreamUrl(upstreamUrl)
+                .weight(NumberUtils.toInt(metadata.get(WEIGHT), DEFAULT_WEIGHT))
+                .zone(metadata.get(ZONE))
+                .build();
+        upstream.setUpstreamUri(UpstreamUri.of(protocol, upstreamUrl));
+        return upstream;
+    }
+
+    private static final class Outlier {
+
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+        private volatile long ejectedUntil;
+
+        private volatile int ejections;
+    }
+}
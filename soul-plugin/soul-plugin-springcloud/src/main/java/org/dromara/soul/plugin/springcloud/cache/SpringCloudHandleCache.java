@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.cache;
+
+import com.google.common.collect.Maps;
+import org.dromara.soul.common.dto.RuleData;
+import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.dto.convert.rule.impl.SpringCloudRuleHandle;
+import org.dromara.soul.common.dto.convert.selector.SpringCloudSelectorHandle;
+import org.dromara.soul.common.utils.GsonUtils;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The parsed spring cloud selector and rule handles by id, they are parsed again only if the handle changes.
+ *
+ * @author xiaoyu
+ */
+public final class SpringCloudHandleCache {
+
+    private static final SpringCloudHandleCache INSTANCE = new SpringCloudHandleCache();
+
+    private static final Map<String, CachedHandle<SpringCloudSelectorHandle>> SELECTOR_HANDLE_MAP = Maps.newConcurrentMap();
+
+    private static final Map<String, CachedHandle<SpringCloudRuleHandle>> RULE_HANDLE_MAP = Maps.newConcurrentMap();
+
+    private SpringCloudHandleCache() {
+    }
+
+    /**
+     * Gets instance.
+     *
+     * @return the instance
+     */
+    public static SpringCloudHandleCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Obtain the parsed handle of selector.
+     *
+     * @param selector the selector
+     * @return the spring cloud selector handle
+     */
+    public SpringCloudSelectorHandle obtainSelectorHandle(final SelectorData selector) {
+        return obtain(SELECTOR_HANDLE_MAP, selector.getId(), selector.getHandle(), SpringCloudSelectorHandle.class);
+    }
+
+    /**
+     * Obtain the parsed handle of rule.
+     *
+     * @param rule the rule
+     * @return the spring cloud rule handle
+     */
+    public SpringCloudRuleHandle obtainRuleHandle(final RuleData rule) {
+        return obtain(RULE_HANDLE_MAP, rule.getId(), rule.getHandle(), SpringCloudRuleHandle.class);
+    }
+
+    /**
+     * Remove the handle of selector.
+     *
+     * @param selector the selector
+     */
+    public void removeSelectorHandle(final SelectorData selector) {
+        if (Objects.nonNull(selector.getId())) {
+            SELECTOR_HANDLE_MAP.remove(selector.getId());
+        }
+    }
+
+    /**
+     * Remove the handle of rule.
+     *
+     * @param rule the rule
+     */
+    public void removeRuleHandle(final RuleData rule) {
+        if (Objects.nonNull(rule.getId())) {
+            RULE_HANDLE_MAP.remove(rule.getId());
+        }
+    }
+
+    private static <T> T obtain(final Map<String, CachedHandle<T>> handleMap, final String id, final String handle, final Class<T> type) {
+        if (Objects.isNull(id)) {
+            return GsonUtils.getInstance().fromJson(handle, type);
+        }
+        CachedHandle<T> cached = handleMap.get(id);
+        if (Objects.nonNull(cached) && Objects.equals(cached.source, handle)) {
+            return cached.handle;
+        }
+        T parsed = GsonUtils.getInstance().fromJson(handle, type);
+        handleMap.put(id, new CachedHandle<>(handle, parsed));
+        return parsed;
+    }
+
+    private static final class CachedHandle<T> {
+
+        private final String source;
+
+        private final T handle;
+
+        CachedHandle(final String source, final T handle) {
+            this.source = source;
+            this.handle = handle;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.config;
+
+import lombok.Data;
+
+/**
+ * The spring cloud plugin config of this gateway instance.
+ *
+ * @author xiaoyu
+ */
+@Data
+public class SpringCloudConfig {
+
+    /**
+     * Balance the cached service instances locally instead of the {@code LoadBalancerClient}.
+     */
+    private CachedInstances cachedInstances = new CachedInstances();
+
+    /**
+     * The type Cached instances.
+     */
+    @Data
+    public static class CachedInstances {
+
+        /**
+         * Keep the instances of each service id and refresh them on the discovery heartbeat, defaults to false.
+         */
+        private boolean enabled;
+
+        /**
+         * The consecutive failures which eject an instance, 0 means the outlier detection is disabled.
+         */
+        private int consecutiveFailures = 5;
+
+        /**
+         * The base time an instance is ejected for in millis, it grows with the times the instance has been ejected.
+         */
+        private long baseEjectionTime = 30000L;
+
+        /**
+         * The max percentage of the instances of a service which can be ejected at the same time.
+         */
+        private int maxEjectionPercent = 50;
+    }
+}
@@ -21,6 +21,7 @@ import com.google.common.collect.Lists;
 import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.dto.RuleData;
 import org.dromara.soul.common.dto.SelectorData;
+import org.dromara.soul.common.dto.convert.HttpTarget;
 import org.dromara.soul.common.dto.convert.rule.impl.SpringCloudRuleHandle;
 import org.dromara.soul.common.dto.convert.selector.SpringCloudSelectorHandle;
 import org.dromara.soul.common.enums.PluginEnum;
@@ -31,6 +32,8 @@ import org.dromara.soul.plugin.api.context.SoulContext;
 import org.dromara.soul.plugin.api.result.DefaultSoulResult;
 import org.dromara.soul.plugin.api.result.SoulResult;
 import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
+import org.dromara.soul.plugin.springcloud.cache.ServiceInstanceCache;
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -38,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.cloud.client.DefaultServiceInstance;
 import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.http.HttpMethod;
@@ -49,11 +53,17 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -181,4 +191,62 @@ public class SpringCloudPluginTest {
         Mono<Void> execute = springCloudPlugin.doExecute(exchange, chain, selector, rule);
         StepVerifier.create(execute).expectSubscription().verifyComplete();
     }
+
+    @Test
+    public void testSpringCloudPluginCachedInstances() {
+        final ServerWebExchange exchange = cachedExchange();
+        final SoulPluginChain chain = mock(SoulPluginChain.class);
+        when(chain.execute(exchange)).thenReturn(Mono.empty());
+        final SpringCloudPlugin plugin = new SpringCloudPlugin(loadBalancerClient, serviceInstanceCache("127.0.0.1"));
+        StepVerifier.create(plugin.doExecute(exchange, chain, selector, rule)).expectSubscription().verifyComplete();
+        final HttpTarget target = exchange.getAttribute(Constants.HTTP_TARGET);
+        assertNotNull(target);
+        assertEquals("http://127.0.0.1:8080/service1/findById?type=cloud", target.toUriString());
+        assertEquals(Long.valueOf(3000L), exchange.getAttribute(Constants.HTTP_TIME_OUT));
+    }
+
+    @Test
+    public void testSpringCloudPluginCachedInstancesOutlier() {
+        final ServiceInstanceCache serviceInstanceCache = serviceInstanceCache("127.0.0.1", "127.0.0.2");
+        final SpringCloudPlugin plugin = new SpringCloudPlugin(loadBalancerClient, serviceInstanceCache);
+        for (int i = 0; i < 4; i++) {
+            final ServerWebExchange exchange = cachedExchange();
+            final SoulPluginChain chain = mock(SoulPluginChain.class);
+            when(chain.execute(exchange)).thenReturn(Mono.error(new ConnectException("connection refused")));
+            StepVerifier.create(plugin.doExecute(exchange, chain, selector, rule)).expectError(ConnectException.class).verify();
+        }
+        assertEquals(1, serviceInstanceCache.get("service1").getAvailableList().size());
+    }
+
+    @Test
+    public void testSpringCloudPluginCachedInstancesEmpty() {
+        final ServerWebExchange exchange = cachedExchange();
+        final SpringCloudPlugin plugin = new SpringCloudPlugin(loadBalancerClient, serviceInstanceCache());
+        StepVerifier.create(plugin.doExecute(exchange, chain, selector, rule)).expectSubscription().verifyComplete();
+        assertNull(exchange.getAttribute(Constants.HTTP_TARGET));
+    }
+
+    private ServerWebExchange cachedExchange() {
+        final ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("http://localhost/springcloud?type=cloud")
+                .remoteAddress(new InetSocketAddress("127.0.0.1", 8090)).build());
+        final SoulContext soulContext = new SoulContext();
+        soulContext.setRpcType(RpcTypeEnum.SPRING_CLOUD.getName());
+        soulContext.setRealUrl("/service1/findById");
+        soulContext.setHttpMethod(HttpMethod.GET.name());
+        exchange.getAttributes().put(Constants.CONTEXT, soulContext);
+        when(selector.getHandle()).thenReturn("{\"serviceId\":\"service1\"}");
+        when(rule.getHandle()).thenReturn("{\"path\":\"service1/\",\"loadBalance\":\"roundRobin\"}");
+        return exchange;
+    }
+
+    private ServiceInstanceCache serviceInstanceCache(final String... hosts) {
+        final DiscoveryClient discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getInstances("service1")).thenReturn(Arrays.stream(hosts)
+                .map(host -> (ServiceInstance) new DefaultServiceInstance(host, "service1", host, 8080, false))
+                .collect(Collectors.toList()));
+        final SpringCloudConfig.CachedInstances config = new SpringCloudConfig.CachedInstances();
+        config.setEnabled(true);
+        config.setConsecutiveFailures(2);
+        return new ServiceInstanceCache(discoveryClient, config);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.cache;
+
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The Test Case For {@link ServiceInstanceCache}.
+ *
+ * @author xiaoyu
+ */
+public final class ServiceInstanceCacheTest {
+
+    private DiscoveryClient discoveryClient;
+
+    private ServiceInstanceCache serviceInstanceCache;
+
+    @Before
+    public void setUp() {
+        discoveryClient = mock(DiscoveryClient.class);
+        when(discoveryClient.getInstances("service1"))
+                .thenReturn(Collections.singletonList(new DefaultServiceInstance("id1", "service1", "127.0.0.1", 8080, false)));
+        serviceInstanceCache = new ServiceInstanceCache(discoveryClient, new SpringCloudConfig.CachedInstances());
+    }
+
+    @Test
+    public void testGet() {
+        ServiceInstances instances = serviceInstanceCache.get("service1");
+        assertEquals(1, instances.getUpstreamList().size());
+        assertSame(instances, serviceInstanceCache.get("service1"));
+        verify(discoveryClient, times(1)).getInstances("service1");
+    }
+
+    @Test
+    public void testRefreshOnHeartbeat() {
+        ServiceInstances instances = serviceInstanceCache.get("service1");
+        serviceInstanceCache.onApplicationEvent(new HeartbeatEvent(this, 1L));
+        assertSame(instances, serviceInstanceCache.get("service1"));
+        when(discoveryClient.getInstances("service1")).thenReturn(Arrays.asList(
+                new DefaultServiceInstance("id1", "service1", "127.0.0.1", 8080, false),
+                new DefaultServiceInstance("id2", "service1", "127.0.0.2", 8080, false)));
+        serviceInstanceCache.onApplicationEvent(new HeartbeatEvent(this, 2L));
+        assertNotSame(instances, serviceInstanceCache.get("service1"));
+        assertEquals(2, serviceInstanceCache.get("service1").getUpstreamList().size());
+    }
+
+    @Test
+    public void testRefreshFailed() {
+        ServiceInstances instances = serviceInstanceCache.get("service1");
+        when(discoveryClient.getInstances("service1")).thenThrow(new IllegalStateException("discovery is down"));
+        serviceInstanceCache.refresh();
+        assertSame(instances, serviceInstanceCache.get("service1"));
+    }
+
+    @Test
+    public void testRemove() {
+        ServiceInstances instances = serviceInstanceCache.get("service1");
+        serviceInstanceCache.remove("service1");
+        assertNotSame(instances, serviceInstanceCache.get("service1"));
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.plugin.springcloud.cache;
+
+import com.google.common.collect.ImmutableMap;
+import org.dromara.soul.common.dto.convert.DivideUpstream;
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The Test Case For {@link ServiceInstances}.
+ *
+ * @author xiaoyu
+ */
+public final class ServiceInstancesTest {
+
+    private SpringCloudConfig.CachedInstances config;
+
+    @Before
+    public void setUp() {
+        config = new SpringCloudConfig.CachedInstances();
+        config.setEnabled(true);
+        config.setConsecutiveFailures(2);
+        config.setBaseEjectionTime(100L);
+        config.setMaxEjectionPercent(50);
+    }
+
+    @Test
+    public void testBuild() {
+        DefaultServiceInstance secure = new DefaultServiceInstance("id2", "service1", "127.0.0.2", 8443, true);
+        secure.getMetadata().putAll(ImmutableMap.of("weight", "20", "zone", "zone1"));
+        ServiceInstances instances = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), secure), config, null);
+        List<DivideUpstream> upstreamList = instances.getUpstreamList();
+        assertEquals(2, upstreamList.size());
+        assertEquals("http://127.0.0.1:8080", upstreamList.get(0).getUpstreamUri().getBaseUri());
+        assertEquals(50, upstreamList.get(0).getWeight());
+        assertEquals("https://127.0.0.2:8443", upstreamList.get(1).getUpstreamUri().getBaseUri());
+        assertEquals(20, upstreamList.get(1).getWeight());
+        assertEquals("zone1", upstreamList.get(1).getZone());
+        assertSame(upstreamList, instances.getAvailableList());
+    }
+
+    @Test
+    public void testBuildIpv6() {
+        ServiceInstances instances = ServiceInstances.build(Collections.singletonList(instance("::1")), config, null);
+        assertEquals("http://[::1]:8080", instances.getUpstreamList().get(0).getUpstreamUri().getBaseUri());
+    }
+
+    @Test
+    public void testBuildKeepsPrevious() {
+        ServiceInstances previous = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, null);
+        assertSame(previous, ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, previous));
+        assertNotSame(previous, ServiceInstances.build(Collections.singletonList(instance("127.0.0.1")), config, previous));
+        assertTrue(ServiceInstances.build(null, config, null).getAvailableList().isEmpty());
+    }
+
+    @Test
+    public void testEjectAndRecover() throws InterruptedException {
+        ServiceInstances instances = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, null);
+        DivideUpstream first = instances.getUpstreamList().get(0);
+        instances.onFailure(first);
+        assertEquals(2, instances.getAvailableList().size());
+        instances.onFailure(first);
+        List<DivideUpstream> available = instances.getAvailableList();
+        assertEquals(1, available.size());
+        assertEquals("127.0.0.2:8080", available.get(0).getUpstreamUrl());
+        assertSame(available, instances.getAvailableList());
+        Thread.sleep(150L);
+        assertSame(instances.getUpstreamList(), instances.getAvailableList());
+    }
+
+    @Test
+    public void testSuccessResetsFailures() {
+        ServiceInstances instances = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, null);
+        DivideUpstream first = instances.getUpstreamList().get(0);
+        instances.onFailure(first);
+        instances.onSuccess(first);
+        instances.onFailure(first);
+        assertEquals(2, instances.getAvailableList().size());
+    }
+
+    @Test
+    public void testMaxEjectionPercent() {
+        ServiceInstances instances = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, null);
+        instances.getUpstreamList().forEach(upstream -> {
+            instances.onFailure(upstream);
+            instances.onFailure(upstream);
+        });
+        assertEquals(1, instances.getAvailableList().size());
+        ServiceInstances single = ServiceInstances.build(Collections.singletonList(instance("127.0.0.1")), config, null);
+        single.onFailure(single.getUpstreamList().get(0));
+        single.onFailure(single.getUpstreamList().get(0));
+        assertEquals(1, single.getAvailableList().size());
+    }
+
+    @Test
+    public void testOutlierDetectionDisabled() {
+        config.setConsecutiveFailures(0);
+        ServiceInstances instances = ServiceInstances.build(Arrays.asList(instance("127.0.0.1"), instance("127.0.0.2")), config, null);
+        DivideUpstream first = instances.getUpstreamList().get(0);
+        for (int i = 0; i < 10; i++) {
+            instances.onFailure(first);
+        }
+        assertEquals(2, instances.getAvailableList().size());
+    }
+
+    private static ServiceInstance instance(final String host) {
+        return new DefaultServiceInstance(host, "service1", host, 8080, false);
+    }
+}
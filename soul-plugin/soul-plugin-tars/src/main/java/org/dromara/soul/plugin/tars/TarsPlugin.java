@@ -34,16 +34,16 @@ import org.dromara.soul.plugin.base.AbstractSoulPlugin;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
 import org.dromara.soul.plugin.tars.cache.ApplicationConfigCache;
+import org.dromara.soul.plugin.tars.proxy.TarsInvokePrx;
 import org.dromara.soul.plugin.tars.proxy.TarsInvokePrxList;
-import org.dromara.soul.plugin.tars.util.PrxInfoUtil;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Objects;
-import java.util.Random;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The tars plugin.
@@ -53,8 +53,6 @@ import java.util.concurrent.CompletableFuture;
 @Slf4j
 public class TarsPlugin extends AbstractSoulPlugin {
 
-    private static final Random RANDOM = new Random();
-
     @Override
     @SuppressWarnings("unchecked")
     protected Mono<Void> doExecute(final ServerWebExchange exchange, final SoulPluginChain chain, final SelectorData selector, final RuleData rule) {
@@ -75,14 +73,13 @@ public class TarsPlugin extends AbstractSoulPlugin {
             return WebFluxResultUtils.result(exchange, error);
         }
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        int index = RANDOM.nextInt(tarsInvokePrxList.getTarsInvokePrxList().size());
-        Object prx = tarsInvokePrxList.getTarsInvokePrxList().get(index).getInvokePrx();
-        Method method = tarsInvokePrxList.getMethod();
+        List<TarsInvokePrx> prxList = tarsInvokePrxList.getTarsInvokePrxList();
         CompletableFuture future;
         try {
-            future = (CompletableFuture) method
-                    .invoke(prx, PrxInfoUtil.getParamArray(tarsInvokePrxList.getParamTypes(), tarsInvokePrxList.getParamNames(), body));
+            Object prx = prxList.get(ThreadLocalRandom.current().nextInt(prxList.size())).getInvokePrx();
+            future = tarsInvokePrxList.getInvoker().invoke(prx, body);
         } catch (Exception e) {
+            log.error("tars invoker have exception, path is :{}", metaData.getPath(), e);
             exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
             Object error = SoulResultWrap.error(SoulResultEnum.TARS_INVOKE.getCode(), SoulResultEnum.TARS_INVOKE.getMsg(), null);
             return WebFluxResultUtils.result(exchange, error);
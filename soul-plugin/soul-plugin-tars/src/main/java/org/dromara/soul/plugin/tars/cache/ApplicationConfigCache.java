@@ -20,7 +20,6 @@ package org.dromara.soul.plugin.tars.cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
-import com.google.common.cache.Weigher;
 import com.qq.tars.client.Communicator;
 import com.qq.tars.client.CommunicatorConfig;
 import com.qq.tars.client.CommunicatorFactory;
@@ -39,8 +38,10 @@ import org.assertj.core.internal.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import org.dromara.soul.common.dto.MetaData;
 import org.dromara.soul.common.exception.SoulException;
 import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.base.cache.RpcCacheStats;
 import org.dromara.soul.plugin.tars.proxy.TarsInvokePrx;
 import org.dromara.soul.plugin.tars.proxy.TarsInvokePrxList;
+import org.dromara.soul.plugin.tars.proxy.TarsMethodInvoker;
 import org.dromara.soul.plugin.tars.util.PrxInfoUtil;
 import org.dromara.soul.plugin.tars.util.ReturnValueResolver;
 
@@ -62,15 +63,15 @@ public final class ApplicationConfigCache {
 
     private static final ReentrantLock LOCK = new ReentrantLock();
 
-    private final int maxCount = 50000;
+    private static final int MAX_COUNT = 50000;
 
     private final LoadingCache<String, TarsInvokePrxList> cache = CacheBuilder.newBuilder()
-            .maximumWeight(maxCount)
-            .weigher((Weigher<String, TarsInvokePrxList>) (string, referenceConfig) -> getSize())
+            .maximumSize(MAX_COUNT)
+            .recordStats()
             .build(new CacheLoader<String, TarsInvokePrxList>() {
                 @Override
                 public TarsInvokePrxList load(final String key) {
-                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null);
+                    return new TarsInvokePrxList(new CopyOnWriteArrayList<>(), null, null, null, null);
                 }
             });
 
@@ -78,16 +79,16 @@ public final class ApplicationConfigCache {
 
     private final ConcurrentHashMap<String, TarsParamInfo> prxParamCache = new ConcurrentHashMap<>();
 
+    private final ConcurrentHashMap<String, TarsMethodInvoker> prxInvokerCache = new ConcurrentHashMap<>();
+
     private final Communicator communicator;
 
+    private final RpcCacheStats stats = RpcCacheStats.register("tars", cache);
+
     private ApplicationConfigCache() {
         communicator = CommunicatorFactory.getInstance().getCommunicator(CommunicatorConfig.getDefault());
     }
 
-    private int getSize() {
-        return (int) cache.size();
-    }
-
     /**
      * Get reference config.
      *
@@ -109,6 +110,7 @@ public final class ApplicationConfigCache {
      */
     @SuppressWarnings("all")
     public void initPrx(final MetaData metaData) {
+        long start = System.nanoTime();
         for (; ;) {
             Class<?> prxClass = prxClassCache.get(metaData.getServiceName());
             try {
@@ -160,9 +162,15 @@ public final class ApplicationConfigCache {
                         TarsParamInfo tarsParamInfo = prxParamCache.get(getClassMethodKey(prxClass.getName(), metaData.getMethodName()));
                         Method method = prx.getClass().getDeclaredMethod(
                                 PrxInfoUtil.getMethodName(metaData.getMethodName()), tarsParamInfo.getParamTypes());
+                        TarsMethodInvoker invoker = prxInvokerCache.get(getClassMethodKey(prxClass.getName(), metaData.getMethodName()));
+                        if (Objects.isNull(invoker)) {
+                            invoker = TarsMethodInvoker.create(method, tarsParamInfo.getParamTypes(), tarsParamInfo.getParamNames());
+                            prxInvokerCache.put(getClassMethodKey(prxClass.getName(), metaData.getMethodName()), invoker);
+                        }
                         tarsInvokePrxList.setMethod(method);
                         tarsInvokePrxList.setParamTypes(tarsParamInfo.getParamTypes());
                         tarsInvokePrxList.setParamNames(tarsParamInfo.getParamNames());
+                        tarsInvokePrxList.setInvoker(invoker);
                     }
                     tarsInvokePrxList.getTarsInvokePrxList().add(new TarsInvokePrx(prx, metaData.getAppName()));
                     break;
@@ -172,6 +180,16 @@ public final class ApplicationConfigCache {
                 break;
             }
         }
+        stats.recordLoad(System.nanoTime() - start);
+    }
+
+    /**
+     * Gets the statistics of cache.
+     *
+     * @return the stats
+     */
+    public RpcCacheStats getStats() {
+        return stats;
     }
 
     /**
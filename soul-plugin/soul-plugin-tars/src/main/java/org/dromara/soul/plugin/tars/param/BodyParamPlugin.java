@@ -17,6 +17,7 @@
 
 package org.dromara.soul.plugin.tars.param;
 
+import org.dromara.soul.common.config.RpcBodyConfig;
 import org.dromara.soul.common.constant.Constants;
 import org.dromara.soul.common.enums.PluginEnum;
 import org.dromara.soul.common.enums.RpcTypeEnum;
@@ -24,6 +25,8 @@ import org.dromara.soul.common.utils.HttpParamConverter;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
 import org.dromara.soul.plugin.api.context.SoulContext;
+import org.dromara.soul.plugin.base.utils.RpcBodyReader;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageReader;
 import org.springframework.http.server.reactive.ServerHttpRequest;
@@ -81,7 +84,7 @@ public class BodyParamPlugin implements SoulPlugin {
     }
 
     private Mono<Void> body(final ServerWebExchange exchange, final ServerRequest serverRequest, final SoulPluginChain chain) {
-        return serverRequest.bodyToMono(String.class)
+        return bodyToString(exchange, serverRequest, Singleton.INST.get(RpcBodyConfig.class))
                 .switchIfEmpty(Mono.defer(() -> Mono.just("")))
                 .flatMap(body -> {
                     exchange.getAttributes().put(Constants.TARS_PARAMS, body);
@@ -103,4 +106,11 @@ public class BodyParamPlugin implements SoulPlugin {
                 HttpParamConverter.ofString(() -> serverRequest.uri().getQuery()));
         return chain.execute(exchange);
     }
+
+    private Mono<String> bodyToString(final ServerWebExchange exchange, final ServerRequest serverRequest, final RpcBodyConfig rpcBodyConfig) {
+        if (Objects.nonNull(rpcBodyConfig) && rpcBodyConfig.isStreaming()) {
+            return RpcBodyReader.readString(exchange.getRequest().getBody(), rpcBodyConfig.getMaxSize());
+        }
+        return serverRequest.bodyToMono(String.class);
+    }
 }
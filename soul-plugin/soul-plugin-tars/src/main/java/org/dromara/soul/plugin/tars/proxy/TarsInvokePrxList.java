@@ -43,4 +43,6 @@ public class TarsInvokePrxList {
     private Class<?>[] paramTypes;
 
     private String[] paramNames;
+
+    private TarsMethodInvoker invoker;
 }
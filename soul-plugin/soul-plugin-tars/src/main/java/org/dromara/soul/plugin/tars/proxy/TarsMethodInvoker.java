@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.tars.proxy;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.dromara.soul.common.exception.SoulException;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The precompiled invoker of one tars prx method, the method is bound to a method handle and the body is bound to the arguments by name
+ * in one pass of json parser.
+ *
+ * @author xiaoyu
+ */
+public final class TarsMethodInvoker {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final Map<Class<?>, ParamReader> SCALAR_READERS = new HashMap<>();
+
+    static {
+        register(int.class, Integer.class, text -> Integer.valueOf(text.trim()));
+        register(long.class, Long.class, text -> Long.valueOf(text.trim()));
+        register(double.class, Double.class, text -> Double.valueOf(text.trim()));
+        register(float.class, Float.class, text -> Float.valueOf(text.trim()));
+        register(short.class, Short.class, text -> Short.valueOf(text.trim()));
+        register(byte.class, Byte.class, text -> Byte.valueOf(text.trim()));
+        register(boolean.class, Boolean.class, text -> Boolean.valueOf(text.trim()));
+        register(char.class, Character.class, text -> text.charAt(0));
+        SCALAR_READERS.put(String.class, JsonParser::getText);
+    }
+
+    private final MethodHandle handle;
+
+    private final Map<String, Integer> indexes;
+
+    private final ParamReader[] readers;
+
+    private TarsMethodInvoker(final MethodHandle handle, final Map<String, Integer> indexes, final ParamReader[] readers) {
+        this.handle = handle;
+        this.indexes = indexes;
+        this.readers = readers;
+    }
+
+    /**
+     * Compile the invoker of the prx method.
+     *
+     * @param method     the prx method which returns a future
+     * @param paramTypes the param types
+     * @param paramNames the param names
+     * @return the tars method invoker
+     * @throws IllegalAccessException if the method is not accessible
+     */
+    public static TarsMethodInvoker create(final Method method, final Class<?>[] paramTypes, final String[] paramNames) throws IllegalAccessException {
+        MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                .asSpreader(Object[].class, paramTypes.length)
+                .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        Map<String, Integer> indexes = new HashMap<>(paramNames.length * 2);
+        ParamReader[] readers = new ParamReader[paramTypes.length];
+        for (int i = 0; i < paramTypes.length; i++) {
+            indexes.put(paramNames[i], i);
+            Class<?> paramType = paramTypes[i];
+            readers[i] = SCALAR_READERS.getOrDefault(paramType, parser -> OBJECT_MAPPER.readValue(parser, paramType));
+        }
+        return new TarsMethodInvoker(handle, indexes, readers);
+    }
+
+    /**
+     * Invoke the prx with the json body.
+     *
+     * @param prx  the prx
+     * @param body the json body, the fields are bound to the params by name
+     * @return the future of result
+     */
+    public CompletableFuture<?> invoke(final Object prx, final String body) {
+        Object[] args = bind(body);
+        Object future;
+        // CHECKSTYLE:OFF
+        try {
+            future = handle.invokeExact(prx, args);
+        } catch (SoulException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new SoulException(e);
+        }
+        // CHECKSTYLE:ON
+        return (CompletableFuture<?>) future;
+    }
+
+    /**
+     * Bind the json body to the arguments, the param which is absent in the body is null.
+     *
+     * @param body the json body
+     * @return the arguments
+     */
+    Object[] bind(final String body) {
+        Object[] args = new Object[readers.length];
+        if (StringUtils.isBlank(body)) {
+            return args;
+        }
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SoulException("the body of tars invocation must be a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer index = indexes.get(parser.getCurrentName());
+                JsonToken token = parser.nextToken();
+                if (Objects.isNull(index)) {
+                    parser.skipChildren();
+                } else if (token != JsonToken.VALUE_NULL) {
+                    args[index] = readers[index].read(parser);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new SoulException("the body can not be bound to the tars params: " + e.getMessage(), e);
+        }
+        return args;
+    }
+
+    private static void register(final Class<?> primitiveType, final Class<?> wrapperType, final TextParser textParser) {
+        ParamReader reader = parser -> {
+            if (parser.currentToken() == JsonToken.START_OBJECT || parser.currentToken() == JsonToken.START_ARRAY) {
+                throw new SoulException("the param of " + primitiveType.getName() + " can not be a json " + parser.currentToken().asString());
+            }
+            return textParser.parse(parser.getText());
+        };
+        SCALAR_READERS.put(primitiveType, reader);
+        SCALAR_READERS.put(wrapperType, reader);
+    }
+
+    @FunctionalInterface
+    private interface ParamReader {
+
+        Object read(JsonParser parser) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface TextParser {
+
+        Object parse(String text);
+    }
+}
@@ -17,14 +17,10 @@
 
 package org.dromara.soul.plugin.tars.util;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import org.dromara.soul.common.dto.MetaData;
-import org.dromara.soul.common.utils.GsonUtils;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
 
 /**
  * Proxy info util.
@@ -33,18 +29,18 @@ import java.util.function.Function;
  */
 public class PrxInfoUtil {
 
-    private static final Map<String, PrimitiveType> PRIMITIVE_TYPE;
+    private static final Map<String, Class<?>> PRIMITIVE_TYPE;
 
     static {
         PRIMITIVE_TYPE = new HashMap<>();
-        PRIMITIVE_TYPE.put("int", new PrimitiveType(int.class, Integer::valueOf));
-        PRIMITIVE_TYPE.put("double", new PrimitiveType(double.class, Double::valueOf));
-        PRIMITIVE_TYPE.put("long", new PrimitiveType(long.class, Long::valueOf));
-        PRIMITIVE_TYPE.put("short", new PrimitiveType(short.class, Short::valueOf));
-        PRIMITIVE_TYPE.put("byte", new PrimitiveType(byte.class, Byte::valueOf));
-        PRIMITIVE_TYPE.put("boolean", new PrimitiveType(boolean.class, Boolean::valueOf));
-        PRIMITIVE_TYPE.put("char", new PrimitiveType(char.class, o -> o.charAt(0)));
-        PRIMITIVE_TYPE.put("float", new PrimitiveType(float.class, Float::valueOf));
+        PRIMITIVE_TYPE.put("int", int.class);
+        PRIMITIVE_TYPE.put("double", double.class);
+        PRIMITIVE_TYPE.put("long", long.class);
+        PRIMITIVE_TYPE.put("short", short.class);
+        PRIMITIVE_TYPE.put("byte", byte.class);
+        PRIMITIVE_TYPE.put("boolean", boolean.class);
+        PRIMITIVE_TYPE.put("char", char.class);
+        PRIMITIVE_TYPE.put("float", float.class);
     }
 
     /**
@@ -56,7 +52,7 @@ public class PrxInfoUtil {
      */
     public static Class<?> getParamClass(final String className) throws ClassNotFoundException {
         if (PRIMITIVE_TYPE.containsKey(className)) {
-            return PRIMITIVE_TYPE.get(className).getClazz();
+            return PRIMITIVE_TYPE.get(className);
         } else {
             return Class.forName(className);
         }
@@ -92,36 +88,4 @@ public class PrxInfoUtil {
         String[] ipAndPort = metaData.getAppName().split(":");
         return metaData.getServiceName() + "@tcp -h " + ipAndPort[0] + " -p " + ipAndPort[1];
     }
-
-    /**
-     * Get param to invoke tars server.
-     *
-     * @param paramTypes paramTypes
-     * @param paramNames paramNames
-     * @param body body
-     * @return the param to invoke
-     */
-    public static Object[] getParamArray(final Class<?>[] paramTypes, final String[] paramNames, final String body) {
-        Map<String, Object> bodyMap = GsonUtils.getInstance().convertToMap(body);
-        Object[] param = new Object[paramNames.length];
-        for (int i = 0; i < paramNames.length; i++) {
-            String paramName = paramNames[i];
-            Class<?> paramType = paramTypes[i];
-            if (PRIMITIVE_TYPE.containsKey(paramType.getName())) {
-                param[i] = PRIMITIVE_TYPE.get(paramType.getName()).getFunc().apply((String) bodyMap.get(paramName));
-            } else {
-                param[i] = bodyMap.get(paramName);
-            }
-        }
-        return param;
-    }
-
-    @AllArgsConstructor
-    @Getter
-    static class PrimitiveType {
-        
-        private final Class<?> clazz;
-
-        private final Function<String, Object> func;
-    }
 }
@@ -30,7 +30,9 @@ import org.dromara.soul.plugin.api.result.DefaultSoulResult;
 import org.dromara.soul.plugin.api.result.SoulResult;
 import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
 import org.dromara.soul.plugin.tars.cache.ApplicationConfigCache;
+import org.dromara.soul.plugin.tars.proxy.TarsInvokePrx;
 import org.dromara.soul.plugin.tars.proxy.TarsInvokePrxList;
+import org.dromara.soul.plugin.tars.proxy.TarsMethodInvoker;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -43,7 +45,6 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
@@ -51,7 +52,6 @@ import java.util.concurrent.Executors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -124,7 +124,7 @@ public class TarsPluginTest {
     }
 
     @Test
-    public void testTarsPluginNormal() throws InvocationTargetException, IllegalAccessException {
+    public void testTarsPluginNormal() throws NoSuchMethodException, IllegalAccessException {
         SoulContext context = mock(SoulContext.class);
         exchange.getAttributes().put(Constants.CONTEXT, context);
         exchange.getAttributes().put(Constants.META_DATA, metaData);
@@ -133,15 +133,16 @@ public class TarsPluginTest {
         RuleData data = mock(RuleData.class);
         SelectorData selectorData = mock(SelectorData.class);
         TarsInvokePrxList tarsInvokePrxList = ApplicationConfigCache.getInstance().get(metaData.getPath());
-        Method method = mock(Method.class);
         ExecutorService executorService = Executors.newFixedThreadPool(1,
                 SoulThreadFactory.create("long-polling", true));
-        CompletableFuture<String> stringCompletableFuture = CompletableFuture.supplyAsync(() -> {
-            return "";
-        }, executorService);
-        when(method.invoke(any(), any())).thenReturn(stringCompletableFuture);
+        TestPrx prx = (param1, param2) -> CompletableFuture.supplyAsync(() -> param1 + param2, executorService);
+        Method method = TestPrx.class.getMethod("promiseMethod1", String.class, String.class);
+        tarsInvokePrxList.getTarsInvokePrxList().clear();
+        tarsInvokePrxList.getTarsInvokePrxList().add(new TarsInvokePrx(prx, "127.0.0.1:8080"));
         tarsInvokePrxList.setMethod(method);
+        tarsInvokePrxList.setInvoker(TarsMethodInvoker.create(method, new Class<?>[]{String.class, String.class}, new String[]{"param1", "param2"}));
         StepVerifier.create(tarsPluginUnderTest.doExecute(exchange, chain, selectorData, data)).expectSubscription().verifyComplete();
+        assertEquals("11", exchange.getAttribute(Constants.TARS_RPC_RESULT));
     }
 
     @Test
@@ -164,4 +165,19 @@ public class TarsPluginTest {
         final Boolean result = tarsPluginUnderTest.skip(exchange);
         assertFalse(result);
     }
+
+    /**
+     * The prx of test.
+     */
+    public interface TestPrx {
+
+        /**
+         * Promise method1.
+         *
+         * @param param1 the param1
+         * @param param2 the param2
+         * @return the future
+         */
+        CompletableFuture<String> promiseMethod1(String param1, String param2);
+    }
 }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.plugin.tars.proxy;
+
+import org.dromara.soul.common.exception.SoulException;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test case for {@link TarsMethodInvoker}.
+ *
+ * @author xiaoyu
+ */
+public final class TarsMethodInvokerTest {
+
+    @Test
+    public void testBind() throws Exception {
+        TarsMethodInvoker invoker = create();
+        Object[] args = invoker.bind("{\"unknown\":{\"a\":[1,2]},\"count\":\"3\",\"name\":\"soul\",\"tags\":[\"a\",\"b\"]}");
+        assertArrayEquals(new Object[]{"soul", 3, Arrays.asList("a", "b")}, args);
+        assertArrayEquals(new Object[]{null, 3, null}, invoker.bind("{\"count\":3}"));
+        assertArrayEquals(new Object[3], invoker.bind(""));
+    }
+
+    @Test(expected = SoulException.class)
+    public void testBindIllegalBody() throws Exception {
+        create().bind("[\"soul\"]");
+    }
+
+    @Test(expected = SoulException.class)
+    public void testBindIllegalParam() throws Exception {
+        create().bind("{\"count\":\"three\"}");
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        TestPrx prx = (name, count, tags) -> CompletableFuture.completedFuture(name + count + tags.size());
+        CompletableFuture<?> future = create().invoke(prx, "{\"name\":\"soul\",\"count\":1,\"tags\":[\"a\"]}");
+        assertEquals("soul11", future.get());
+    }
+
+    @Test(expected = SoulException.class)
+    public void testInvokeError() throws Exception {
+        TestPrx prx = (name, count, tags) -> {
+            throw new IllegalStateException("the prx is closed");
+        };
+        create().invoke(prx, "{\"name\":\"soul\"}");
+    }
+
+    private TarsMethodInvoker create() throws Exception {
+        Class<?>[] paramTypes = {String.class, int.class, List.class};
+        return TarsMethodInvoker.create(TestPrx.class.getMethod("promiseTest", paramTypes), paramTypes, new String[]{"name", "count", "tags"});
+    }
+
+    /**
+     * The prx of test.
+     */
+    public interface TestPrx {
+
+        /**
+         * Promise test.
+         *
+         * @param name  the name
+         * @param count the count
+         * @param tags  the tags
+         * @return the future
+         */
+        CompletableFuture<String> promiseTest(String name, int count, List<String> tags);
+    }
+}
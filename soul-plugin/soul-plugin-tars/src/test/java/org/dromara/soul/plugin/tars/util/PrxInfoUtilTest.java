@@ -22,7 +22,6 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -73,11 +72,4 @@ public class PrxInfoUtilTest {
         final String result = PrxInfoUtil.getObjectName(metaData);
         assertEquals("serviceName@tcp -h 127.0.0.1 -p 8080", result);
     }
-
-    @Test
-    public void testGetParamArray() {
-        assertArrayEquals(new Object[]{Integer.valueOf(1), "1"},
-                PrxInfoUtil.getParamArray(new Class<?>[]{int.class, Integer.class}, new String[]{"param1", "param2"},
-                        "{\"param1\":\"1\",\"param2\":\"1\"}"));
-    }
 }
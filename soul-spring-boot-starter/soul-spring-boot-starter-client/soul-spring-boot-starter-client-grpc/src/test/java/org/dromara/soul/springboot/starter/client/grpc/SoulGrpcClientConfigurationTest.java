@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.springboot.starter.client.grpc;
+
+import org.dromara.soul.client.grpc.common.config.GrpcConfig;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Test case for {@link SoulGrpcClientConfiguration}.
+ *
+ * @author xiaoyu
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(
+        classes = {
+                SoulGrpcClientConfiguration.class,
+                SoulGrpcClientConfigurationTest.class
+        },
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.application.name=grpc-server",
+                "soul.grpc.adminUrl=http://localhost:59095",
+                "soul.grpc.contextPath=/grpc",
+                "soul.grpc.appName=grpc",
+                "soul.grpc.ipAndPort=localhost:59090"
+        }
+)
+@EnableAutoConfiguration
+public final class SoulGrpcClientConfigurationTest {
+    @Autowired
+    private GrpcConfig grpcConfig;
+
+    @Test
+    public void testGrpcConfig() {
+        assertThat(grpcConfig.getAppName(), is("grpc"));
+        assertThat(grpcConfig.getContextPath(), is("/grpc"));
+        assertThat(grpcConfig.getAdminUrl(), is("http://localhost:59095"));
+        assertThat(grpcConfig.getIpAndPort(), is("localhost:59090"));
+    }
+}
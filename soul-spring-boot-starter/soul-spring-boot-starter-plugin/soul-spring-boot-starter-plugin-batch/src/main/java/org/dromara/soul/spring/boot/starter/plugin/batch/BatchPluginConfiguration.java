@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.spring.boot.starter.plugin.batch;
+
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.batch.BatchPlugin;
+import org.dromara.soul.plugin.batch.config.BatchConfig;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebHandler;
+import org.springframework.web.server.handler.FilteringWebHandler;
+
+import java.util.stream.Collectors;
+
+/**
+ * The type batch plugin configuration.
+ *
+ * @author xiaoyu
+ */
+@Configuration
+@ConditionalOnClass(BatchPlugin.class)
+public class BatchPluginConfiguration {
+
+    /**
+     * Batch config.
+     *
+     * @return the batch config
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "soul.batch")
+    public BatchConfig batchConfig() {
+        return new BatchConfig();
+    }
+
+    /**
+     * Batch plugin soul plugin, the sub requests pass the web filters and then the web handler of gateway as if they were sent alone,
+     * the web handler is looked up lazily because it is built from all the plugins.
+     *
+     * @param batchConfig the batch config
+     * @param beanFactory the bean factory
+     * @param webFilters  the web filters
+     * @return the batch plugin
+     */
+    @Bean
+    public SoulPlugin batchPlugin(final BatchConfig batchConfig, final BeanFactory beanFactory, final ObjectProvider<WebFilter> webFilters) {
+        return new BatchPlugin(batchConfig, () -> new FilteringWebHandler(beanFactory.getBean("webHandler", WebHandler.class),
+                webFilters.orderedStream().collect(Collectors.toList())));
+    }
+}
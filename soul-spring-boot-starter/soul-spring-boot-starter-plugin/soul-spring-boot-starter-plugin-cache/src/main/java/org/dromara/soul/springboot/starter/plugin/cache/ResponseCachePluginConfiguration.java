@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dromara.soul.springboot.starter.plugin.cache;
+
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.base.handler.PluginDataHandler;
+import org.dromara.soul.plugin.cache.ResponseCachePlugin;
+import org.dromara.soul.plugin.cache.config.ResponseCacheProperties;
+import org.dromara.soul.plugin.cache.handler.CachePluginDataHandler;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The type Response cache plugin configuration.
+ *
+ * @author xiaoyu
+ */
+@Configuration
+public class ResponseCachePluginConfiguration {
+
+    /**
+     * Response cache properties.
+     *
+     * @return the response cache properties
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "soul.cache")
+    public ResponseCacheProperties responseCacheProperties() {
+        return new ResponseCacheProperties();
+    }
+
+    /**
+     * Response cache plugin.
+     *
+     * @param properties the properties
+     * @return the soul plugin
+     */
+    @Bean
+    public SoulPlugin responseCachePlugin(final ResponseCacheProperties properties) {
+        return new ResponseCachePlugin(properties);
+    }
+
+    /**
+     * Cache plugin data handler.
+     *
+     * @return the plugin data handler
+     */
+    @Bean
+    public PluginDataHandler cachePluginDataHandler() {
+        return new CachePluginDataHandler();
+    }
+}
@@ -20,8 +20,11 @@ package org.dromara.soul.spring.boot.plugin.divide;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.base.handler.PluginDataHandler;
 import org.dromara.soul.plugin.divide.DividePlugin;
+import org.dromara.soul.plugin.divide.cache.UpstreamCacheManager;
+import org.dromara.soul.plugin.divide.config.DivideConfig;
 import org.dromara.soul.plugin.divide.handler.DividePluginDataHandler;
 import org.dromara.soul.plugin.divide.websocket.WebSocketPlugin;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
@@ -37,13 +40,26 @@ import org.springframework.web.reactive.socket.server.support.HandshakeWebSocket
 @Configuration
 public class DividePluginConfiguration {
 
+    /**
+     * Divide config.
+     *
+     * @return the divide config
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "soul.divide")
+    public DivideConfig divideConfig() {
+        return new DivideConfig();
+    }
+
     /**
      * init dividePlugin.
      *
+     * @param divideConfig the divide config
      * @return {@linkplain DividePlugin}
      */
     @Bean
-    public SoulPlugin dividePlugin() {
+    public SoulPlugin dividePlugin(final DivideConfig divideConfig) {
+        UpstreamCacheManager.getInstance().init(divideConfig);
         return new DividePlugin();
     }
 
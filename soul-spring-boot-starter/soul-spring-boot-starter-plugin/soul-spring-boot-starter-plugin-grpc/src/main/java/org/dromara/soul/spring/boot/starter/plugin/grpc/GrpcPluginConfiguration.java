@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.spring.boot.starter.plugin.grpc;
+
+import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.base.handler.PluginDataHandler;
+import org.dromara.soul.plugin.grpc.GrpcPlugin;
+import org.dromara.soul.plugin.grpc.handler.GrpcPluginDataHandler;
+import org.dromara.soul.plugin.grpc.param.BodyParamPlugin;
+import org.dromara.soul.plugin.grpc.proxy.GrpcProxyService;
+import org.dromara.soul.plugin.grpc.response.GrpcResponsePlugin;
+import org.dromara.soul.plugin.grpc.subscriber.GrpcMetaDataSubscriber;
+import org.dromara.soul.sync.data.api.MetaDataSubscriber;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The type grpc plugin configuration.
+ *
+ * @author xiaoyu
+ */
+@Configuration
+@ConditionalOnClass(GrpcPlugin.class)
+public class GrpcPluginConfiguration {
+
+    /**
+     * Grpc plugin soul plugin.
+     *
+     * @return the grpc plugin
+     */
+    @Bean
+    public SoulPlugin grpcPlugin() {
+        return new GrpcPlugin(new GrpcProxyService());
+    }
+
+    /**
+     * Body param plugin soul plugin.
+     *
+     * @return the soul plugin
+     */
+    @Bean
+    public SoulPlugin grpcBodyParamPlugin() {
+        return new BodyParamPlugin();
+    }
+
+    /**
+     * Grpc response plugin soul plugin.
+     *
+     * @return the soul plugin
+     */
+    @Bean
+    public SoulPlugin grpcResponsePlugin() {
+        return new GrpcResponsePlugin();
+    }
+
+    /**
+     * Grpc meta data subscriber meta data subscriber.
+     *
+     * @return the meta data subscriber
+     */
+    @Bean
+    public MetaDataSubscriber grpcMetaDataSubscriber() {
+        return new GrpcMetaDataSubscriber();
+    }
+
+    /**
+     * Grpc plugin data handler.
+     *
+     * @return the plugin data handler
+     */
+    @Bean
+    public PluginDataHandler grpcPluginDataHandler() {
+        return new GrpcPluginDataHandler();
+    }
+}
@@ -18,14 +18,18 @@
 package org.dromara.soul.springboot.starter.plugin.httpclient;
 
 import io.netty.channel.ChannelOption;
-import io.netty.handler.ssl.SslContextBuilder;
-import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.base.cache.UpstreamSubscriber;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.dromara.soul.plugin.httpclient.NettyHttpClientPlugin;
 import org.dromara.soul.plugin.httpclient.WebClientPlugin;
 import org.dromara.soul.plugin.httpclient.config.HttpClientProperties;
+import org.dromara.soul.plugin.httpclient.pool.ConnectionPoolMetrics;
+import org.dromara.soul.plugin.httpclient.pool.UpstreamConnectionPoolManager;
 import org.dromara.soul.plugin.httpclient.response.NettyClientResponsePlugin;
 import org.dromara.soul.plugin.httpclient.response.WebClientResponsePlugin;
+import org.dromara.soul.plugin.httpclient.ssl.SslContextCache;
+import org.dromara.soul.plugin.httpclient.ssl.TlsHandshakeMetrics;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -39,7 +43,6 @@ import reactor.netty.http.client.HttpClient;
 import reactor.netty.resources.ConnectionProvider;
 import reactor.netty.tcp.ProxyProvider;
 
-import java.security.cert.X509Certificate;
 import java.util.Objects;
 
 /**
@@ -80,7 +83,26 @@ public class HttpClientPluginConfiguration {
         } else {
             connectionProvider = ConnectionProvider.elastic(pool.getName());
         }
-        HttpClient httpClient = HttpClient.create(connectionProvider)
+        return createHttpClient(connectionProvider, properties);
+    }
+    
+    /**
+     * Upstream connection pool manager, it is subscribed to the upstream of divide plugin to prewarm the connections.
+     *
+     * @param properties the properties
+     * @return the upstream connection pool manager
+     */
+    @Bean
+    public UpstreamConnectionPoolManager upstreamConnectionPoolManager(final HttpClientProperties properties) {
+        UpstreamConnectionPoolManager poolManager = new UpstreamConnectionPoolManager(properties,
+                connectionProvider -> createHttpClient(connectionProvider, properties));
+        Singleton.INST.single(UpstreamSubscriber.class, poolManager);
+        return poolManager;
+    }
+    
+    private static HttpClient createHttpClient(final ConnectionProvider connectionProvider, final HttpClientProperties properties) {
+        // the acquire latency, pending acquires and the reuse of the connections are reported per remote address
+        HttpClient httpClient = ConnectionPoolMetrics.observe(HttpClient.create(ConnectionPoolMetrics.instrument(connectionProvider)))
                 .tcpConfiguration(tcpClient -> {
                     if (properties.getConnectTimeout() != null) {
                         tcpClient = tcpClient.option(
@@ -108,27 +130,13 @@ public class HttpClientPluginConfiguration {
                     return tcpClient;
                 });
 
+        // the ssl provider of the settings is shared by all the clients, so that the new connections resume the cached sessions,
+        // without any ssl setting the https upstreams use the default ssl provider of reactor netty
         HttpClientProperties.Ssl ssl = properties.getSsl();
-        if (ssl.getTrustedX509CertificatesForTrustManager().length > 0
-                || ssl.isUseInsecureTrustManager()) {
-            httpClient = httpClient.secure(sslContextSpec -> {
-                // configure ssl
-                SslContextBuilder sslContextBuilder = SslContextBuilder.forClient();
-                X509Certificate[] trustedX509Certificates = ssl
-                        .getTrustedX509CertificatesForTrustManager();
-                if (trustedX509Certificates.length > 0) {
-                    sslContextBuilder.trustManager(trustedX509Certificates);
-                } else if (ssl.isUseInsecureTrustManager()) {
-                    sslContextBuilder
-                            .trustManager(InsecureTrustManagerFactory.INSTANCE);
-                }
-                sslContextSpec.sslContext(sslContextBuilder)
-                        .defaultConfiguration(ssl.getDefaultConfigurationType())
-                        .handshakeTimeout(ssl.getHandshakeTimeout())
-                        .closeNotifyFlushTimeout(ssl.getCloseNotifyFlushTimeout())
-                        .closeNotifyReadTimeout(ssl.getCloseNotifyReadTimeout());
-            });
+        if (ssl.isCustomized()) {
+            httpClient = httpClient.secure(SslContextCache.getInstance().obtain(ssl, false));
         }
+        httpClient = TlsHandshakeMetrics.observe(httpClient);
 
         if (properties.isWiretap()) {
             httpClient = httpClient.wiretap(true);
@@ -147,25 +155,29 @@ public class HttpClientPluginConfiguration {
         /**
          * Web client plugin soul plugin.
          *
-         * @param httpClient the http client
+         * @param httpClient  the http client
+         * @param properties  the properties
+         * @param poolManager the upstream connection pool manager
          * @return the soul plugin
          */
         @Bean
-        public SoulPlugin webClientPlugin(final ObjectProvider<HttpClient> httpClient) {
+        public SoulPlugin webClientPlugin(final ObjectProvider<HttpClient> httpClient, final HttpClientProperties properties,
+                                          final UpstreamConnectionPoolManager poolManager) {
             WebClient webClient = WebClient.builder()
                     .clientConnector(new ReactorClientHttpConnector(Objects.requireNonNull(httpClient.getIfAvailable())))
                     .build();
-            return new WebClientPlugin(webClient);
+            return new WebClientPlugin(webClient, properties, poolManager);
         }
     
         /**
          * Web client response plugin soul plugin.
          *
+         * @param properties the properties
          * @return the soul plugin
          */
         @Bean
-        public SoulPlugin webClientResponsePlugin() {
-            return new WebClientResponsePlugin();
+        public SoulPlugin webClientResponsePlugin(final HttpClientProperties properties) {
+            return new WebClientResponsePlugin(properties);
         }
 
     }
@@ -180,22 +192,26 @@ public class HttpClientPluginConfiguration {
         /**
          * Netty http client plugin soul plugin.
          *
-         * @param httpClient the http client
+         * @param httpClient  the http client
+         * @param properties  the properties
+         * @param poolManager the upstream connection pool manager
          * @return the soul plugin
          */
         @Bean
-        public SoulPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient) {
-            return new NettyHttpClientPlugin(httpClient.getIfAvailable());
+        public SoulPlugin nettyHttpClientPlugin(final ObjectProvider<HttpClient> httpClient, final HttpClientProperties properties,
+                                                final UpstreamConnectionPoolManager poolManager) {
+            return new NettyHttpClientPlugin(httpClient.getIfAvailable(), properties, poolManager);
         }
     
         /**
          * Netty client response plugin soul plugin.
          *
+         * @param properties the properties
          * @return the soul plugin
          */
         @Bean
-        public SoulPlugin nettyClientResponsePlugin() {
-            return new NettyClientResponsePlugin();
+        public SoulPlugin nettyClientResponsePlugin(final HttpClientProperties properties) {
+            return new NettyClientResponsePlugin(properties);
         }
 
     }
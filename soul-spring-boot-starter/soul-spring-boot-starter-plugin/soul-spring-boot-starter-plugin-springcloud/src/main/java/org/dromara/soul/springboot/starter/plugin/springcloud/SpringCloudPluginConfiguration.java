@@ -18,11 +18,18 @@
 package org.dromara.soul.springboot.starter.plugin.springcloud;
 
 import org.dromara.soul.plugin.api.SoulPlugin;
+import org.dromara.soul.plugin.base.handler.PluginDataHandler;
 import org.dromara.soul.plugin.springcloud.SpringCloudPlugin;
+import org.dromara.soul.plugin.springcloud.cache.ServiceInstanceCache;
+import org.dromara.soul.plugin.springcloud.config.SpringCloudConfig;
+import org.dromara.soul.plugin.springcloud.handler.SpringCloudPluginDataHandler;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.client.loadbalancer.LoadBalancerClient;
 import org.springframework.cloud.netflix.ribbon.RibbonAutoConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -40,14 +47,51 @@ import org.springframework.web.reactive.DispatcherHandler;
 @Configuration
 public class SpringCloudPluginConfiguration {
 
+    /**
+     * Spring cloud config.
+     *
+     * @return the spring cloud config
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "soul.springcloud")
+    public SpringCloudConfig springCloudConfig() {
+        return new SpringCloudConfig();
+    }
+
+    /**
+     * The cached service instances, it is refreshed on the heartbeat of discovery.
+     *
+     * @param discoveryClient   the discovery client
+     * @param springCloudConfig the spring cloud config
+     * @return the service instance cache
+     */
+    @Bean
+    @ConditionalOnBean(DiscoveryClient.class)
+    @ConditionalOnProperty(name = "soul.springcloud.cached-instances.enabled", havingValue = "true")
+    public ServiceInstanceCache serviceInstanceCache(final DiscoveryClient discoveryClient, final SpringCloudConfig springCloudConfig) {
+        return new ServiceInstanceCache(discoveryClient, springCloudConfig.getCachedInstances());
+    }
+
     /**
      * init springCloud plugin.
      *
-     * @param loadBalancerClient the load balancer client
+     * @param loadBalancerClient   the load balancer client
+     * @param serviceInstanceCache the service instance cache
      * @return {@linkplain SpringCloudPlugin}
      */
     @Bean
-    public SoulPlugin springCloudPlugin(final ObjectProvider<LoadBalancerClient> loadBalancerClient) {
-        return new SpringCloudPlugin(loadBalancerClient.getIfAvailable());
+    public SoulPlugin springCloudPlugin(final ObjectProvider<LoadBalancerClient> loadBalancerClient,
+                                        final ObjectProvider<ServiceInstanceCache> serviceInstanceCache) {
+        return new SpringCloudPlugin(loadBalancerClient.getIfAvailable(), serviceInstanceCache.getIfAvailable());
+    }
+
+    /**
+     * Spring cloud plugin data handler.
+     *
+     * @return the plugin data handler
+     */
+    @Bean
+    public PluginDataHandler springCloudPluginDataHandler() {
+        return new SpringCloudPluginDataHandler();
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dromara.soul.web.configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The sampled access log.
+ *
+ * @author xiaoyu
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "soul.accesslog")
+public class AccessLogProperties {
+
+    /**
+     * Write the access log of the loged selectors and rules and the sampled requests, defaults to true.
+     */
+    private boolean enabled = true;
+
+    /**
+     * The count of records buffered for the writer thread, the record is dropped when it is full, defaults to 8192.
+     */
+    private int bufferSize = 8192;
+
+    /**
+     * The rate from 0 to 1 of all requests which are logged, defaults to 0.
+     */
+    private double sampleRate;
+
+    /**
+     * The rates of the rules, the key is the id or name of rule.
+     */
+    private Map<String, Double> ruleSampleRates = new HashMap<>();
+}
@@ -22,12 +22,15 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.config.RpcBodyConfig;
 import org.dromara.soul.plugin.api.RemoteAddressResolver;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.dubbo.DubboParamResolveService;
 import org.dromara.soul.plugin.api.sofa.SofaParamResolveService;
+import org.dromara.soul.plugin.base.accesslog.AccessLogger;
 import org.dromara.soul.plugin.base.cache.CommonPluginDataSubscriber;
 import org.dromara.soul.plugin.base.handler.PluginDataHandler;
+import org.dromara.soul.plugin.base.utils.Singleton;
 import org.dromara.soul.sync.data.api.PluginDataSubscriber;
 import org.dromara.soul.web.config.SoulConfig;
 import org.dromara.soul.web.filter.ExcludeFilter;
@@ -67,15 +70,19 @@ public class SoulConfiguration {
     /**
      * Init SoulWebHandler.
      *
-     * @param plugins this plugins is All impl SoulPlugin.
+     * @param plugins             this plugins is All impl SoulPlugin.
+     * @param accessLogProperties the access log properties
      * @return {@linkplain SoulWebHandler}
      */
     @Bean("webHandler")
-    public SoulWebHandler soulWebHandler(final ObjectProvider<List<SoulPlugin>> plugins) {
+    public SoulWebHandler soulWebHandler(final ObjectProvider<List<SoulPlugin>> plugins, final AccessLogProperties accessLogProperties) {
         List<SoulPlugin> pluginList = plugins.getIfAvailable(Collections::emptyList);
         final List<SoulPlugin> soulPlugins = pluginList.stream()
                 .sorted(Comparator.comparingInt(SoulPlugin::getOrder)).collect(Collectors.toList());
         soulPlugins.forEach(soulPlugin -> log.info("load plugin:[{}] [{}]", soulPlugin.named(), soulPlugin.getClass().getName()));
+        if (accessLogProperties.isEnabled()) {
+            AccessLogger.getInstance().start(accessLogProperties.getBufferSize(), accessLogProperties.getSampleRate(), accessLogProperties.getRuleSampleRates());
+        }
         return new SoulWebHandler(soulPlugins);
     }
 
@@ -186,6 +193,19 @@ public class SoulConfiguration {
         return new SoulConfig();
     }
 
+    /**
+     * Rpc body config, it is shared with the body param plugins of rpc.
+     *
+     * @return the rpc body config
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "soul.rpc-body")
+    public RpcBodyConfig rpcBodyConfig() {
+        RpcBodyConfig rpcBodyConfig = new RpcBodyConfig();
+        Singleton.INST.single(RpcBodyConfig.class, rpcBodyConfig);
+        return rpcBodyConfig;
+    }
+
     /**
      * Init time web filter.
      *
@@ -17,26 +17,18 @@
 
 package org.dromara.soul.web.filter;
 
-import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
 import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
-import org.dromara.soul.web.filter.support.BodyInserterContext;
-import org.dromara.soul.web.filter.support.CachedBodyOutputMessage;
 import org.springframework.core.io.buffer.DataBuffer;
-import org.springframework.http.HttpHeaders;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
-import org.springframework.http.ReactiveHttpOutputMessage;
-import org.springframework.http.codec.HttpMessageReader;
-import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.lang.NonNull;
-import org.springframework.web.reactive.function.BodyInserter;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.server.HandlerStrategies;
-import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilter;
 import org.springframework.web.server.WebFilterChain;
@@ -44,7 +36,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
- * The type File size filter.
+ * The type File size filter, the file is streamed and never aggregated in memory.
+ * A file larger than the max size is answered with 413, whether its size is known by the content length or only while it is streamed.
  *
  * @author xiaoyu(Myth)
  */
@@ -52,54 +45,65 @@ public class FileSizeFilter implements WebFilter {
 
     private static final int BYTES_PER_MB = 1024 * 1024;
     
-    private final int fileMaxSize;
-
-    private final List<HttpMessageReader<?>> messageReaders;
+    private final long fileMaxBytes;
 
     public FileSizeFilter(final int fileMaxSize) {
-        HandlerStrategies.builder().codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(fileMaxSize * BYTES_PER_MB));
-        this.messageReaders = HandlerStrategies.withDefaults().messageReaders();
-        this.fileMaxSize = fileMaxSize;
+        this.fileMaxBytes = (long) fileMaxSize * BYTES_PER_MB;
     }
 
     @Override
     public Mono<Void> filter(@NonNull final ServerWebExchange exchange, @NonNull final WebFilterChain chain) {
         MediaType mediaType = exchange.getRequest().getHeaders().getContentType();
-        if (MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType)) {
-            ServerRequest serverRequest = ServerRequest.create(exchange,
-                    messageReaders);
-            return serverRequest.bodyToMono(DataBuffer.class)
-                    .flatMap(size -> {
-                        if (size.capacity() > BYTES_PER_MB * fileMaxSize) {
-                            ServerHttpResponse response = exchange.getResponse();
-                            response.setStatusCode(HttpStatus.BAD_REQUEST);
-                            Object error = SoulResultWrap.error(SoulResultEnum.PAYLOAD_TOO_LARGE.getCode(), SoulResultEnum.PAYLOAD_TOO_LARGE.getMsg(), null);
-                            return WebFluxResultUtils.result(exchange, error);
-                        }
-                        BodyInserter<Mono<DataBuffer>, ReactiveHttpOutputMessage> bodyInsert = BodyInserters.fromPublisher(Mono.just(size), DataBuffer.class);
-                        HttpHeaders headers = new HttpHeaders();
-                        headers.putAll(exchange.getRequest().getHeaders());
-                        headers.remove(HttpHeaders.CONTENT_LENGTH);
-                        CachedBodyOutputMessage outputMessage = new CachedBodyOutputMessage(
-                                exchange, headers);
-                        return bodyInsert.insert(outputMessage, new BodyInserterContext())
-                                .then(Mono.defer(() -> {
-                                    ServerHttpRequest decorator = decorate(exchange, outputMessage);
-                                    return chain.filter(exchange.mutate().request(decorator).build());
-
-                                }));
-                    });
+        if (!MediaType.MULTIPART_FORM_DATA.isCompatibleWith(mediaType)) {
+            return chain.filter(exchange);
         }
-        return chain.filter(exchange);
+        long contentLength = exchange.getRequest().getHeaders().getContentLength();
+        if (contentLength > fileMaxBytes) {
+            return tooLarge(exchange);
+        }
+        if (contentLength >= 0) {
+            return chain.filter(exchange);
+        }
+        // the size of a chunked body is unknown until it is streamed, it is too large only if nothing has been answered yet
+        return chain.filter(exchange.mutate().request(decorate(exchange)).build())
+                .onErrorResume(PayloadTooLargeException.class, e -> exchange.getResponse().isCommitted() ? Mono.error(e) : tooLarge(exchange));
+    }
 
+    private Mono<Void> tooLarge(final ServerWebExchange exchange) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.PAYLOAD_TOO_LARGE);
+        Object error = SoulResultWrap.error(SoulResultEnum.PAYLOAD_TOO_LARGE.getCode(), SoulResultEnum.PAYLOAD_TOO_LARGE.getMsg(), null);
+        return WebFluxResultUtils.result(exchange, error);
     }
 
-    private ServerHttpRequestDecorator decorate(final ServerWebExchange exchange, final CachedBodyOutputMessage outputMessage) {
+    private ServerHttpRequestDecorator decorate(final ServerWebExchange exchange) {
         return new ServerHttpRequestDecorator(exchange.getRequest()) {
             @Override
             public Flux<DataBuffer> getBody() {
-                return outputMessage.getBody();
+                return Flux.defer(() -> {
+                    AtomicLong size = new AtomicLong();
+                    return super.getBody().handle((buffer, sink) -> {
+                        if (size.addAndGet(buffer.readableByteCount()) > fileMaxBytes) {
+                            DataBufferUtils.release(buffer);
+                            sink.error(new PayloadTooLargeException());
+                        } else {
+                            sink.next(buffer);
+                        }
+                    });
+                });
             }
         };
     }
+
+    /**
+     * The file is found too large while it is streamed, it is still a 413 if it is not handled by this filter.
+     */
+    private static final class PayloadTooLargeException extends ResponseStatusException {
+
+        private static final long serialVersionUID = 4455204432101361484L;
+
+        PayloadTooLargeException() {
+            super(HttpStatus.PAYLOAD_TOO_LARGE, SoulResultEnum.PAYLOAD_TOO_LARGE.getMsg());
+        }
+    }
 }
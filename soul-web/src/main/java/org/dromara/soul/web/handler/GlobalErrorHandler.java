@@ -18,8 +18,11 @@
 package org.dromara.soul.web.handler;
 
 import lombok.extern.slf4j.Slf4j;
+import org.dromara.soul.common.exception.UpstreamTimeoutException;
 import org.dromara.soul.common.utils.GsonUtils;
+import org.dromara.soul.plugin.api.result.SoulResultEnum;
 import org.dromara.soul.plugin.base.utils.SoulResultWrap;
+import org.dromara.soul.plugin.base.utils.WebFluxResultUtils;
 import org.springframework.boot.autoconfigure.web.ErrorProperties;
 import org.springframework.boot.autoconfigure.web.ResourceProperties;
 import org.springframework.boot.autoconfigure.web.reactive.error.DefaultErrorWebExceptionHandler;
@@ -31,6 +34,8 @@ import org.springframework.web.reactive.function.server.RouterFunction;
 import org.springframework.web.reactive.function.server.RouterFunctions;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
@@ -57,6 +62,17 @@ public class GlobalErrorHandler extends DefaultErrorWebExceptionHandler {
         super(errorAttributes, resourceProperties, errorProperties, applicationContext);
     }
 
+    @Override
+    public Mono<Void> handle(final ServerWebExchange exchange, final Throwable throwable) {
+        // an upstream timeout is an expected outcome, answer it without the error page rendering and logging
+        if (throwable instanceof UpstreamTimeoutException && !exchange.getResponse().isCommitted()) {
+            exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+            Object error = SoulResultWrap.error(SoulResultEnum.SERVICE_TIMEOUT.getCode(), SoulResultEnum.SERVICE_TIMEOUT.getMsg(), null);
+            return WebFluxResultUtils.result(exchange, error);
+        }
+        return super.handle(exchange, throwable);
+    }
+
     @Override
     protected Map<String, Object> getErrorAttributes(final ServerRequest request, final boolean includeStackTrace) {
         logError(request);
@@ -25,6 +25,7 @@ import org.dromara.soul.metrics.enums.MetricsLabelEnum;
 import org.dromara.soul.metrics.facade.MetricsTrackerFacade;
 import org.dromara.soul.plugin.api.SoulPlugin;
 import org.dromara.soul.plugin.api.SoulPluginChain;
+import org.dromara.soul.plugin.base.accesslog.AccessLogger;
 import org.springframework.lang.NonNull;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebHandler;
@@ -68,10 +69,12 @@ public final class SoulWebHandler implements WebHandler {
      */
     @Override
     public Mono<Void> handle(@NonNull final ServerWebExchange exchange) {
+        long startNanos = System.nanoTime();
         MetricsTrackerFacade.getInstance().counterInc(MetricsLabelEnum.REQUEST_TOTAL.getName());
         Optional<HistogramMetricsTrackerDelegate> startTimer = MetricsTrackerFacade.getInstance().histogramStartTimer(MetricsLabelEnum.REQUEST_LATENCY.getName());
         return new DefaultSoulPluginChain(plugins).execute(exchange).subscribeOn(scheduler)
-                .doOnSuccess(t -> startTimer.ifPresent(time -> MetricsTrackerFacade.getInstance().histogramObserveDuration(time)));
+                .doOnSuccess(t -> startTimer.ifPresent(time -> MetricsTrackerFacade.getInstance().histogramObserveDuration(time)))
+                .doFinally(signal -> AccessLogger.getInstance().complete(exchange, startNanos));
     }
 
     private static class DefaultSoulPluginChain implements SoulPluginChain {
@@ -22,15 +22,23 @@ import org.dromara.soul.plugin.base.utils.SpringBeanUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -76,4 +84,44 @@ public class FileSizeFilterTest {
         voidMono = fileSizeFilter.filter(webExchange, webFilterChain);
         StepVerifier.create(voidMono).expectSubscription().verifyComplete();
     }
+
+    @Test
+    public void testFilterTooLarge() {
+        MockServerWebExchange webExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .contentLength(4)
+                .body("test"));
+        WebFilterChain webFilterChain = mock(WebFilterChain.class);
+        StepVerifier.create(new FileSizeFilter(0).filter(webExchange, webFilterChain)).verifyComplete();
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, webExchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    public void testFilterChunked() {
+        MockServerWebExchange webExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .body(Flux.just(buffer("te"), buffer("st"))));
+        StepVerifier.create(new FileSizeFilter(1).filter(webExchange, this::readBody)).verifyComplete();
+        assertNull(webExchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    public void testFilterChunkedTooLarge() {
+        MockServerWebExchange webExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .post("http://localhost:8080")
+                .contentType(MULTIPART_FORM_DATA)
+                .body(Flux.just(buffer("te"), buffer("st"))));
+        StepVerifier.create(new FileSizeFilter(0).filter(webExchange, this::readBody)).verifyComplete();
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, webExchange.getResponse().getStatusCode());
+    }
+
+    private Mono<Void> readBody(final ServerWebExchange exchange) {
+        return exchange.getRequest().getBody().then();
+    }
+
+    private DataBuffer buffer(final String content) {
+        return new DefaultDataBufferFactory().wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
 }